@@ -30,6 +30,8 @@ import eu.europa.esig.dss.enumerations.MimeType;
 import eu.europa.esig.dss.enumerations.MimeTypeEnum;
 import eu.europa.esig.dss.model.DSSDocument;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * This class is used to generate the ASiCArchiveManifest.xml content (ASiC-E)
  *
@@ -94,6 +96,11 @@ public class ASiCEWithCAdESArchiveManifestBuilder extends AbstractASiCManifestBu
 		return (ASiCEWithCAdESArchiveManifestBuilder) super.setAsicContentDocumentFilter(asicContentDocumentFilter);
 	}
 
+	@Override
+	public ASiCEWithCAdESArchiveManifestBuilder setExecutorService(ExecutorService executorService) {
+		return (ASiCEWithCAdESArchiveManifestBuilder) super.setExecutorService(executorService);
+	}
+
 	@Override
 	protected String getManifestFilename() {
 		return ASiCWithCAdESUtils.DEFAULT_ARCHIVE_MANIFEST_FILENAME;
@@ -279,7 +279,7 @@ public class ASiCContainerWithCAdESAnalyzer extends AbstractASiCContainerAnalyze
 		for (DSSDocument manifestDocument : manifestDocuments) {
 			ManifestFile manifestFile = ASiCManifestParser.getManifestFile(manifestDocument);
 			if (manifestFile != null) {
-				ASiCManifestValidator asiceWithCAdESManifestValidator = new ASiCManifestValidator(manifestFile, getAllDocuments());
+				ASiCManifestValidator asiceWithCAdESManifestValidator = createManifestValidator(manifestFile);
 				asiceWithCAdESManifestValidator.validateEntries();
 				descriptions.add(manifestFile);
 			}
@@ -290,7 +290,7 @@ public class ASiCContainerWithCAdESAnalyzer extends AbstractASiCContainerAnalyze
 			ManifestFile manifestFile = ASiCManifestParser.getManifestFile(manifestDocument);
 			if (manifestFile != null) {
 				manifestFile.setManifestType(ASiCManifestTypeEnum.ARCHIVE_MANIFEST);
-				ASiCManifestValidator asiceWithCAdESManifestValidator = new ASiCManifestValidator(manifestFile, getAllDocuments());
+				ASiCManifestValidator asiceWithCAdESManifestValidator = createManifestValidator(manifestFile);
 				asiceWithCAdESManifestValidator.validateEntries();
 				descriptions.add(manifestFile);
 			}
@@ -301,7 +301,7 @@ public class ASiCContainerWithCAdESAnalyzer extends AbstractASiCContainerAnalyze
 			ManifestFile manifestFile = ASiCManifestParser.getManifestFile(manifestDocument);
 			if (manifestFile != null) {
 				manifestFile.setManifestType(ASiCManifestTypeEnum.EVIDENCE_RECORD);
-				ASiCManifestValidator asiceWithCAdESManifestValidator = new ASiCManifestValidator(manifestFile, getAllDocuments());
+				ASiCManifestValidator asiceWithCAdESManifestValidator = createManifestValidator(manifestFile);
 				asiceWithCAdESManifestValidator.validateEntries();
 				descriptions.add(manifestFile);
 			}
@@ -24,6 +24,7 @@ import eu.europa.esig.dss.asic.common.ASiCContent;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzer;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzerFactory;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 
 /**
  * This class returns a relevant validator for an ASiC with CAdES container validation
@@ -43,6 +44,12 @@ public class ASiCContainerWithCAdESAnalyzerFactory implements DocumentAnalyzerFa
 		return validator.isSupported(document);
 	}
 
+	@Override
+	public boolean isSupported(DSSDocument document, DocumentFormat format) {
+		ASiCContainerWithCAdESAnalyzer validator = new ASiCContainerWithCAdESAnalyzer();
+		return validator.isSupported(document, format);
+	}
+
 	/**
 	 * Verifies whether the provided {@code ASiCContent} is supported by the underlying validator's class
 	 *
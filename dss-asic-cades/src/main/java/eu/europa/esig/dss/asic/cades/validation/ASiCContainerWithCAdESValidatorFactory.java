@@ -22,6 +22,7 @@ package eu.europa.esig.dss.asic.cades.validation;
 
 import eu.europa.esig.dss.asic.common.ASiCContent;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.validation.DocumentValidatorFactory;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 
@@ -43,6 +44,12 @@ public class ASiCContainerWithCAdESValidatorFactory implements DocumentValidator
         return validator.isSupported(document);
     }
 
+    @Override
+    public boolean isSupported(DSSDocument document, DocumentFormat format) {
+        ASiCContainerWithCAdESValidator validator = new ASiCContainerWithCAdESValidator();
+        return validator.isSupported(document, format);
+    }
+
     /**
      * Verifies whether the provided {@code ASiCContent} is supported by the underlying validator's class
      *
@@ -38,7 +38,9 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Text;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * The abstract class to build a Manifest for ASiC
@@ -57,6 +59,9 @@ public abstract class AbstractASiCManifestBuilder {
 	/** This object is used to filter the documents to compute hashes for */
 	private ASiCContentDocumentFilter asicContentDocumentFilter;
 
+	/** Executor used to compute digests of the referenced documents in parallel (sequential, when null) */
+	private ExecutorService executorService;
+
 	/**
 	 * Constructor to instantiate AbstractASiCManifestBuilder with a default SHA-256 digest algorithm
 	 *
@@ -149,7 +154,12 @@ public abstract class AbstractASiCManifestBuilder {
 		ASiCContentDocumentFilter documentFilter = getAsicContentDocumentFilter();
 		Objects.requireNonNull(documentFilter, "ASiCContentDocumentFilter cannot be null!");
 
-		for (DSSDocument document : documentFilter.filter(asicContent)) {
+		final List<DSSDocument> documents = documentFilter.filter(asicContent);
+		if (executorService != null) {
+			// the references are still added in the order of the documents
+			new DocumentDigestExecutor(executorService).computeDigests(documents, digestAlgorithm);
+		}
+		for (DSSDocument document : documents) {
 			addDataObjectReference(documentDom, asicManifestDom, document, digestAlgorithm);
 		}
 	}
@@ -178,6 +188,18 @@ public abstract class AbstractASiCManifestBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets an {@code ExecutorService} used to compute digests of the referenced documents in parallel.
+	 * NOTE: the executor is not shut down by the builder. When not defined, the digests are computed sequentially.
+	 *
+	 * @param executorService {@link ExecutorService}
+	 * @return this {@link AbstractASiCManifestBuilder}
+	 */
+	public AbstractASiCManifestBuilder setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+		return this;
+	}
+
 	/**
 	 * Gets an {@code ASiCContentDocumentFilter} used to filter the documents to be referenced within ASiC Manifest
 	 *
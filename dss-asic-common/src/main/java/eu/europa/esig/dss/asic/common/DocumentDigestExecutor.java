@@ -0,0 +1,154 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.common;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * This class is used to process documents of an ASiC container (e.g. to compute their digests)
+ * either sequentially or in parallel using the defined {@code ExecutorService}.
+ * <p>
+ * The results are always returned in the order of the provided documents. The same document instance is processed
+ * only once, in order to avoid concurrent access to its cached digests.
+ * Each document is read as a stream, thus the memory consumption is limited to one read buffer per running task.
+ *
+ */
+public class DocumentDigestExecutor {
+
+	/**
+	 * The executor used to process the documents in parallel.
+	 * When null, the documents are processed sequentially within the current thread.
+	 */
+	private final ExecutorService executorService;
+
+	/**
+	 * Default constructor processing the documents sequentially
+	 */
+	public DocumentDigestExecutor() {
+		this(null);
+	}
+
+	/**
+	 * Constructor with an {@code ExecutorService} used to process the documents in parallel
+	 * NOTE: the executor is not shut down by this class. It is recommended to provide a bounded executor
+	 *       (e.g. {@code Executors.newFixedThreadPool(...)}).
+	 *
+	 * @param executorService {@link ExecutorService}, when null the documents are processed sequentially
+	 */
+	public DocumentDigestExecutor(final ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
+	/**
+	 * Computes the digests of the given {@code documents} with the {@code digestAlgorithm}, and caches them within
+	 * the documents, to be returned on the subsequent calls of {@code DSSDocument#getDigestValue} method
+	 *
+	 * @param documents a list of {@link DSSDocument}s to compute digests for
+	 * @param digestAlgorithm {@link DigestAlgorithm} to be used
+	 */
+	public void computeDigests(final List<DSSDocument> documents, final DigestAlgorithm digestAlgorithm) {
+		Objects.requireNonNull(digestAlgorithm, "DigestAlgorithm cannot be null!");
+		execute(documents, document -> document.getDigestValue(digestAlgorithm));
+	}
+
+	/**
+	 * Computes the digests of the documents with the associated digest algorithms, and caches them within
+	 * the documents, to be returned on the subsequent calls of {@code DSSDocument#getDigestValue} method.
+	 * All digests of a document are computed within a single read of its content.
+	 *
+	 * @param digestAlgorithmsMap a map between {@link DSSDocument}s and {@link DigestAlgorithm}s to compute digests with
+	 */
+	public void computeDigests(final Map<DSSDocument, ? extends Collection<DigestAlgorithm>> digestAlgorithmsMap) {
+		Objects.requireNonNull(digestAlgorithmsMap, "Map of DigestAlgorithms cannot be null!");
+		execute(new ArrayList<>(digestAlgorithmsMap.keySet()), document -> {
+			document.computeDigests(digestAlgorithmsMap.get(document));
+			return document;
+		});
+	}
+
+	/**
+	 * Executes the {@code function} for each of the given {@code documents} and returns the results
+	 * in the order of the documents
+	 *
+	 * @param documents a list of {@link DSSDocument}s to be processed
+	 * @param function {@link Function} to be executed for each document
+	 * @param <R> the result type
+	 * @return a list of results, in the same order as the provided documents
+	 */
+	public <R> List<R> execute(final List<DSSDocument> documents, final Function<DSSDocument, R> function) {
+		Objects.requireNonNull(function, "Function cannot be null!");
+		final List<R> result = new ArrayList<>();
+		if (documents == null || documents.isEmpty()) {
+			return result;
+		}
+
+		if (executorService == null || documents.size() == 1) {
+			for (DSSDocument document : documents) {
+				result.add(function.apply(document));
+			}
+			return result;
+		}
+
+		// process the same document instance only once
+		final Set<DSSDocument> distinctDocuments = Collections.newSetFromMap(new IdentityHashMap<>());
+		distinctDocuments.addAll(documents);
+
+		final Map<DSSDocument, Future<R>> futures = new IdentityHashMap<>();
+		try {
+			for (DSSDocument document : distinctDocuments) {
+				futures.put(document, executorService.submit(() -> function.apply(document)));
+			}
+			for (DSSDocument document : documents) {
+				result.add(futures.get(document).get());
+			}
+			return result;
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException(String.format("The digest computation has been interrupted : %s", e.getMessage()), e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new DSSException(String.format("Unable to compute digest : %s", e.getMessage()), e);
+		} finally {
+			for (Future<R> future : futures.values()) {
+				future.cancel(true);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,142 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes a ZIP archive by copying raw entries (local file header, compressed data and data descriptor)
+ * from existing archives, without decompressing and compressing the data again. The central directory
+ * is rebuilt from the copied central directory file headers, with updated local file header offsets.
+ * <p>
+ * NOTE: the writer does not produce ZIP64 archives (see {@code #isSupported()}).
+ *
+ */
+class IncrementalZipArchiveWriter {
+
+	/** End of central directory record signature */
+	private static final long END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50L;
+
+	/** Position of the local file header offset within the central directory file header */
+	private static final int LOCAL_HEADER_OFFSET_POSITION = 42;
+
+	/** The maximal value of the 16-bits fields */
+	private static final int MAX_UINT16 = 0xFFFF;
+
+	/** The maximal value of the 32-bits fields, excluding the ZIP64 marker */
+	private static final long MAX_UINT32 = 0xFFFFFFFFL - 1;
+
+	/** The entries to be written, in the given order */
+	private final List<RandomAccessArchiveEntry> entries;
+
+	/** The encoded archive comment */
+	private final byte[] zipComment;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param entries a list of {@link RandomAccessArchiveEntry}s to be copied, supporting the raw copy
+	 * @param zipComment {@link String} zip comment (optional)
+	 */
+	IncrementalZipArchiveWriter(List<RandomAccessArchiveEntry> entries, String zipComment) {
+		this.entries = entries;
+		this.zipComment = zipComment != null ? zipComment.getBytes(StandardCharsets.UTF_8) : new byte[0];
+	}
+
+	/**
+	 * Checks whether the archive can be written without ZIP64 extensions
+	 *
+	 * @return TRUE if the archive can be written, FALSE otherwise
+	 */
+	boolean isSupported() {
+		long archiveSize = 0;
+		long centralDirectorySize = 0;
+		for (RandomAccessArchiveEntry entry : entries) {
+			archiveSize += entry.getRawLength();
+			centralDirectorySize += entry.getCentralDirectoryHeader().length;
+		}
+		return entries.size() < MAX_UINT16 && zipComment.length <= MAX_UINT16
+				&& archiveSize <= MAX_UINT32 && centralDirectorySize <= MAX_UINT32;
+	}
+
+	/**
+	 * Writes the archive to the given {@code OutputStream}
+	 *
+	 * @param os {@link OutputStream} to write the archive into
+	 * @throws IOException if an error occurs on reading of an entry or on writing
+	 */
+	void write(OutputStream os) throws IOException {
+		final ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+		long offset = 0;
+		for (RandomAccessArchiveEntry entry : entries) {
+			final byte[] centralDirectoryHeader = entry.getCentralDirectoryHeader();
+			putUInt32(centralDirectoryHeader, LOCAL_HEADER_OFFSET_POSITION, offset);
+			centralDirectory.write(centralDirectoryHeader);
+
+			final long copied;
+			try (InputStream is = entry.openRawStream()) {
+				copied = copy(is, os);
+			}
+			if (copied != entry.getRawLength()) {
+				throw new IOException(String.format("Unable to copy the entry '%s' : unexpected end of data", entry.getName()));
+			}
+			offset += copied;
+		}
+		centralDirectory.writeTo(os);
+
+		final byte[] endOfCentralDirectory = new byte[22];
+		putUInt32(endOfCentralDirectory, 0, END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+		putUInt16(endOfCentralDirectory, 8, entries.size());
+		putUInt16(endOfCentralDirectory, 10, entries.size());
+		putUInt32(endOfCentralDirectory, 12, centralDirectory.size());
+		putUInt32(endOfCentralDirectory, 16, offset);
+		putUInt16(endOfCentralDirectory, 20, zipComment.length);
+		os.write(endOfCentralDirectory);
+		os.write(zipComment);
+	}
+
+	private static long copy(InputStream is, OutputStream os) throws IOException {
+		final byte[] buffer = new byte[8192];
+		long count = 0;
+		int read;
+		while ((read = is.read(buffer)) != -1) {
+			os.write(buffer, 0, read);
+			count += read;
+		}
+		return count;
+	}
+
+	private static void putUInt16(byte[] bytes, int offset, int value) {
+		bytes[offset] = (byte) value;
+		bytes[offset + 1] = (byte) (value >> 8);
+	}
+
+	private static void putUInt32(byte[] bytes, int offset, long value) {
+		putUInt16(bytes, offset, (int) value);
+		putUInt16(bytes, offset + 2, (int) (value >> 16));
+	}
+
+}
@@ -0,0 +1,458 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.common;
+
+import eu.europa.esig.dss.enumerations.MimeType;
+import eu.europa.esig.dss.model.CommonDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.RandomAccessDocument;
+import eu.europa.esig.dss.spi.exception.IllegalInputException;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * Internal class that is used for performance purposes, accessing ZIP-archive entries on request
+ * directly within a {@code RandomAccessDocument} (e.g. a byte array, a file or another stored archive entry),
+ * instead of loading all files into memory.
+ *
+ * NOTE: for DEFLATED entries, {@code openStream(offset, length)} decompresses the content preceding the offset.
+ *       The CRC-32 and the size of the entry are verified only when the whole entry is read.
+ *
+ */
+@SuppressWarnings("serial")
+public class RandomAccessArchiveEntry extends CommonDocument implements DSSZipEntryDocument, RandomAccessDocument {
+
+    /** The document representing a ZIP-container */
+    private final RandomAccessDocument zipArchive;
+
+    /** Compression method of the entry */
+    private final int compressionMethod;
+
+    /** Size of the compressed entry data within the archive */
+    private final long compressedSize;
+
+    /** Size of the uncompressed entry data */
+    private final long size;
+
+    /** CRC-32 of the uncompressed entry data, -1 if not defined */
+    private final long crc;
+
+    /** Offset of the entry data within the archive */
+    private final long dataOffset;
+
+    /** Contains metadata about the extracted entry */
+    private final DSSZipEntry dssZipEntry;
+
+    /** Metadata of the entry as stored within the archive, used to detect changes */
+    private final DSSZipEntry originalZipEntry;
+
+    /** Offset of the local file header within the archive, -1 if not defined */
+    private long localHeaderOffset = -1;
+
+    /** Length of the entry within the archive, including the local file header and the data descriptor */
+    private long rawLength = -1;
+
+    /** The central directory file header of the entry */
+    private byte[] centralDirectoryHeader;
+
+    /** Whether the content has been entirely read with a valid CRC-32 and size */
+    private volatile boolean verified = false;
+
+    /**
+     * Default constructor
+     *
+     * @param zipArchive {@link RandomAccessDocument} representing a ZIP-container
+     * @param zipEntry {@link ZipEntry} containing metadata for zip container entry to be extracted,
+     *                 with defined compression method and sizes
+     * @param dataOffset offset of the entry data within the {@code zipArchive}
+     */
+    protected RandomAccessArchiveEntry(final RandomAccessDocument zipArchive, final ZipEntry zipEntry,
+                                       final long dataOffset) {
+        Objects.requireNonNull(zipArchive, "ZIP Archive cannot be null!");
+        Objects.requireNonNull(zipEntry, "ZIP Entry cannot be null!");
+        this.zipArchive = zipArchive;
+        this.compressionMethod = zipEntry.getMethod();
+        this.compressedSize = zipEntry.getCompressedSize();
+        this.size = zipEntry.getSize();
+        this.crc = zipEntry.getCrc();
+        this.dataOffset = dataOffset;
+        this.dssZipEntry = new DSSZipEntry(zipEntry);
+        this.originalZipEntry = new DSSZipEntry(zipEntry);
+        this.name = dssZipEntry.getName();
+        this.mimeType = MimeType.fromFileName(dssZipEntry.getName());
+    }
+
+    /**
+     * Constructor with the raw entry location, allowing to copy the entry into another archive
+     * without decompressing it
+     *
+     * @param zipArchive {@link RandomAccessDocument} representing a ZIP-container
+     * @param zipEntry {@link ZipEntry} containing metadata for zip container entry to be extracted
+     * @param dataOffset offset of the entry data within the {@code zipArchive}
+     * @param localHeaderOffset offset of the local file header within the {@code zipArchive}
+     * @param rawLength length of the entry within the {@code zipArchive}, including the local file header
+     *                  and the data descriptor
+     * @param centralDirectoryHeader the central directory file header of the entry (NULL if not supported)
+     */
+    RandomAccessArchiveEntry(final RandomAccessDocument zipArchive, final ZipEntry zipEntry, final long dataOffset,
+                             final long localHeaderOffset, final long rawLength, final byte[] centralDirectoryHeader) {
+        this(zipArchive, zipEntry, dataOffset);
+        this.localHeaderOffset = localHeaderOffset;
+        this.rawLength = rawLength;
+        this.centralDirectoryHeader = centralDirectoryHeader;
+    }
+
+    /**
+     * Opens a stream reading the entry content. The CRC-32 and the size of the read content are verified
+     * against the values declared within the archive once the end of the entry is reached.
+     *
+     * @return {@link InputStream}
+     */
+    @Override
+    public InputStream openStream() {
+        final InputStream is = zipArchive.openStream(dataOffset, compressedSize);
+        if (ZipEntry.STORED == compressionMethod) {
+            return new CheckedEntryInputStream(is);
+        }
+        return new CheckedEntryInputStream(new EntryInflaterInputStream(is));
+    }
+
+    @Override
+    public long getLength() {
+        return size;
+    }
+
+    @Override
+    public InputStream openStream(long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Offset and length shall be positive! Offset : %s, length : %s", offset, length));
+        }
+        final long start = Math.min(offset, size);
+        final long end = length > size - start ? size : start + length;
+        if (start == 0 && end == size) {
+            // the whole entry is read and can be verified
+            return openStream();
+        }
+        if (ZipEntry.STORED == compressionMethod) {
+            return zipArchive.openStream(dataOffset + start, end - start);
+        }
+        final InputStream is = openStream();
+        try {
+            ZipCentralDirectoryReader.skipFully(is, start);
+            return new LimitedInputStream(is, end - start);
+        } catch (IOException e) {
+            closeQuietly(is);
+            throw new DSSException(String.format("Unable to read the entry '%s'. Reason : %s", name, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public void setName(String name) {
+        super.setName(name);
+        dssZipEntry.setName(name);
+    }
+
+    @Override
+    public DSSZipEntry getZipEntry() {
+        return dssZipEntry;
+    }
+
+    /**
+     * Checks whether the entry can be copied as-is (local file header and compressed data) into another archive,
+     * i.e. its location within the archive is known and the metadata has not been modified since the extraction
+     *
+     * @return TRUE if the raw entry can be copied, FALSE otherwise
+     */
+    boolean isRawCopySupported() {
+        return localHeaderOffset >= 0 && rawLength >= 0 && centralDirectoryHeader != null
+                && Objects.equals(originalZipEntry.getName(), dssZipEntry.getName())
+                && Objects.equals(originalZipEntry.getComment(), dssZipEntry.getComment())
+                && originalZipEntry.getCompressionMethod() == dssZipEntry.getCompressionMethod()
+                && Objects.equals(originalZipEntry.getCreationTime(), dssZipEntry.getCreationTime())
+                && Arrays.equals(originalZipEntry.getExtra(), dssZipEntry.getExtra());
+    }
+
+    /**
+     * Opens a stream reading the raw entry within the archive, i.e. the local file header,
+     * the compressed data and the data descriptor when present
+     *
+     * @return {@link InputStream}
+     */
+    InputStream openRawStream() {
+        return zipArchive.openStream(localHeaderOffset, rawLength);
+    }
+
+    /**
+     * Verifies the CRC-32 and the size of the entry content, by reading the entry when it has not been
+     * entirely read yet. Shall be called before copying the raw entry, as its compressed data is not read on the copy.
+     *
+     * @throws IOException if the entry cannot be read or its CRC-32 or size does not match
+     */
+    void verifyIntegrity() throws IOException {
+        if (verified) {
+            return;
+        }
+        try (InputStream is = openStream()) {
+            final byte[] buffer = new byte[8192];
+            while (is.read(buffer) != -1) {
+                // read until the end of the entry, where it is verified
+            }
+        }
+    }
+
+    /**
+     * Returns the length of the raw entry within the archive
+     *
+     * @return raw entry length
+     */
+    long getRawLength() {
+        return rawLength;
+    }
+
+    /**
+     * Returns a copy of the central directory file header of the entry
+     *
+     * @return byte array
+     */
+    byte[] getCentralDirectoryHeader() {
+        return centralDirectoryHeader.clone();
+    }
+
+    private static void closeQuietly(InputStream is) {
+        try {
+            is.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    /**
+     * Computes the CRC-32 of the entry content and verifies it, together with the content size,
+     * against the values declared within the archive at the end of the stream
+     */
+    private class CheckedEntryInputStream extends CheckedInputStream {
+
+        /** Number of read bytes */
+        private long count = 0;
+
+        /** Whether the entry has been verified */
+        private boolean checked = false;
+
+        /**
+         * Default constructor
+         *
+         * @param is {@link InputStream} of the uncompressed entry data
+         */
+        CheckedEntryInputStream(InputStream is) {
+            super(is, new CRC32());
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b == -1) {
+                verify();
+            } else {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read == -1) {
+                verify();
+            } else {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // the skipped content is read in order to be included within the CRC-32 computation
+            final byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                final int read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+                if (read == -1) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void verify() throws ZipException {
+            if (checked) {
+                return;
+            }
+            if (count != size) {
+                throw new ZipException(String.format("Invalid size of the entry '%s' (expected %s bytes, but got %s bytes)",
+                        name, size, count));
+            }
+            if (crc != -1 && getChecksum().getValue() != crc) {
+                throw new ZipException(String.format("Invalid CRC-32 of the entry '%s' (expected 0x%s, but got 0x%s)",
+                        name, Long.toHexString(crc), Long.toHexString(getChecksum().getValue())));
+            }
+            checked = true;
+            RandomAccessArchiveEntry.this.verified = true;
+        }
+
+    }
+
+    /**
+     * Decompresses the entry data, ensuring the content does not exceed the size declared within the archive
+     */
+    private class EntryInflaterInputStream extends InflaterInputStream {
+
+        /** Number of decompressed bytes */
+        private long count = 0;
+
+        /** Whether the end of the compressed data has been reached */
+        private boolean eof = false;
+
+        /** Whether the stream has been closed */
+        private boolean closed = false;
+
+        /**
+         * Default constructor
+         *
+         * @param is {@link InputStream} of the compressed entry data
+         */
+        EntryInflaterInputStream(InputStream is) {
+            super(is, new Inflater(true), 8192);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+                if (count > size) {
+                    throw new IllegalInputException(ZipCentralDirectoryReader.ZIP_BOMB_DETECTED_MESSAGE);
+                }
+            }
+            return read;
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            if (eof) {
+                throw new EOFException("Unexpected end of ZLIB input stream");
+            }
+            len = in.read(buf, 0, buf.length);
+            if (len == -1) {
+                // the inflater in 'nowrap' mode may require an extra dummy byte
+                buf[0] = 0;
+                len = 1;
+                eof = true;
+            }
+            inf.setInput(buf, 0, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                inf.end();
+                super.close();
+            }
+        }
+
+    }
+
+    /**
+     * Ends the stream after the given number of bytes
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+
+        /** Number of bytes remaining to be read */
+        private long remaining;
+
+        /**
+         * Default constructor
+         *
+         * @param is {@link InputStream} to read
+         * @param length the maximum number of bytes to read
+         */
+        LimitedInputStream(InputStream is, long length) {
+            super(is);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+    }
+
+}
@@ -24,6 +24,7 @@ import eu.europa.esig.dss.enumerations.MimeType;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.RandomAccessDocument;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -39,8 +40,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
@@ -83,6 +87,12 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	 */
 	private boolean extractComments = false;
 
+	/**
+	 * Defines whether unchanged entries extracted from existing archives shall be copied as-is on archive creation.
+	 * Default : true (copied without recompression)
+	 */
+	private boolean incrementalArchiveCreation = true;
+
 	/**
 	 * Internal variable used to calculate the extracted entries size
 	 * NOTE: shall be reset on every use
@@ -164,9 +174,10 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	 * in order to preserve the existing data (i.e. comments).
 	 * When enabled, slightly decreases the performance (about 10% for {@code extractContainerContent(zipArchive)} method).
 	 *
-	 * Reason : All ZIP entries from a ZIP archive are extracted using {@code java.util.zip.ZipInputStream},
-	 * that is not able to extract comments for entries. In order to extract comments, the archive shall be read
-	 * again using {@code java.util.zip.ZipFile}.
+	 * Reason : When the archive cannot be read using its central directory (e.g. a malformed archive or
+	 * a document not supporting a random access), all ZIP entries from a ZIP archive are extracted using
+	 * {@code java.util.zip.ZipInputStream}, that is not able to extract comments for entries. In order to extract
+	 * comments, the archive shall be read again using {@code java.util.zip.ZipFile}.
 	 * For more information about limitations please see {@code <a href="https://stackoverflow.com/a/70848140">the link</a>}.
 	 *
 	 * Default : false (not extracted)
@@ -177,6 +188,24 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		this.extractComments = extractComments;
 	}
 
+	/**
+	 * Sets whether the entries extracted from an existing archive and not modified since
+	 * (see {@code RandomAccessArchiveEntry}) shall be copied as-is on a ZIP archive creation,
+	 * i.e. by copying their local file header and compressed data without decompressing and compressing them again.
+	 * Other entries are compressed and the central directory is rebuilt.
+	 *
+	 * NOTE: the copied entries preserve their original metadata (e.g. modification time),
+	 * instead of using the creation time of the new archive.
+	 * When disabled, all entries are compressed again on every archive creation.
+	 *
+	 * Default : true (unchanged entries are copied as-is)
+	 *
+	 * @param incrementalArchiveCreation whether unchanged entries shall be copied as-is
+	 */
+	public void setIncrementalArchiveCreation(boolean incrementalArchiveCreation) {
+		this.incrementalArchiveCreation = incrementalArchiveCreation;
+	}
+
 	/**
 	 * Sets {@code DSSResourcesFactoryBuilder} to be used for a {@code DSSResourcesHandler}
 	 * creation in internal methods.
@@ -195,6 +224,12 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		resetCounters();
 
 		List<DSSDocument> result = new ArrayList<>();
+		List<RandomAccessArchiveEntry> archiveEntries = readCentralDirectory(zipArchive);
+		if (archiveEntries != null) {
+			result.addAll(archiveEntries);
+			return result;
+		}
+
 		if (isInFileProcessingSupported(zipArchive)) {
 			FileDocument zipFileDocument = (FileDocument) zipArchive;
 			List<ZipEntry> zipEntries = extractZipEntries(zipFileDocument);
@@ -242,6 +277,27 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		return false;
 	}
 
+	/**
+	 * Reads the archive entries using its central directory, when the document supports a random access.
+	 * The entries' content is decompressed on request.
+	 *
+	 * @param zipArchive {@link DSSDocument} to be read
+	 * @return a list of {@link RandomAccessArchiveEntry}s, NULL if the archive shall be read sequentially
+	 */
+	private List<RandomAccessArchiveEntry> readCentralDirectory(DSSDocument zipArchive) {
+		return readCentralDirectory(zipArchive, threshold, maxAllowedFilesAmount);
+	}
+
+	private List<RandomAccessArchiveEntry> readCentralDirectory(DSSDocument zipArchive, long threshold,
+																int maxAllowedFilesAmount) {
+		if (zipArchive instanceof RandomAccessDocument) {
+			ZipCentralDirectoryReader reader = new ZipCentralDirectoryReader(
+					threshold, maxCompressionRatio, maxAllowedFilesAmount, extractComments);
+			return reader.readEntries((RandomAccessDocument) zipArchive);
+		}
+		return null;
+	}
+
 	/**
 	 * ZipFile object is not able to work with malformed archives.
 	 * Therefore, we need to continue with ZipInputStream implementation when encountering a malformed ZIP archive.
@@ -262,6 +318,11 @@ public class SecureContainerHandler implements ZipContainerHandler {
 
 	@Override
 	public List<String> extractEntryNames(DSSDocument zipArchive) {
+		List<RandomAccessArchiveEntry> archiveEntries = readCentralDirectory(zipArchive);
+		if (archiveEntries != null) {
+			return archiveEntries.stream().map(DSSDocument::getName).collect(Collectors.toList());
+		}
+
 		List<ZipEntry> zipEntries = extractZipEntries(zipArchive);
 		if (Utils.isCollectionNotEmpty(zipEntries)) {
 			return zipEntries.stream().map(ZipEntry::getName).collect(Collectors.toList());
@@ -315,6 +376,103 @@ public class SecureContainerHandler implements ZipContainerHandler {
 
 	@Override
 	public DSSDocument createZipArchive(List<DSSDocument> containerEntries, Date creationTime, String zipComment) {
+		if (incrementalArchiveCreation) {
+			DSSDocument zipArchive = createZipArchiveIncrementally(containerEntries, creationTime, zipComment);
+			if (zipArchive != null) {
+				return zipArchive;
+			}
+		}
+		return buildZipArchive(containerEntries, creationTime, zipComment);
+	}
+
+	/**
+	 * Creates a ZIP archive by copying the unchanged entries of existing archives as-is. The other entries
+	 * are compressed within a separate archive, which raw entries are then copied as well.
+	 *
+	 * @param containerEntries a list of {@link DSSDocument}s to store
+	 * @param creationTime {@link Date} ZIP archive creation time
+	 * @param zipComment {@link String} zip comment (optional)
+	 * @return {@link DSSDocument} ZIP archive, NULL if the archive shall be built from scratch
+	 */
+	private DSSDocument createZipArchiveIncrementally(List<DSSDocument> containerEntries, Date creationTime,
+													   String zipComment) {
+		final List<DSSDocument> newEntries = new ArrayList<>();
+		final Set<String> entryNames = new HashSet<>();
+		for (DSSDocument entry : containerEntries) {
+			if (!entryNames.add(entry.getName())) {
+				// duplicate entries are handled by ZipOutputStream
+				return null;
+			}
+			if (!isRawCopySupported(entry)) {
+				newEntries.add(entry);
+			}
+		}
+		if (newEntries.size() == containerEntries.size()) {
+			return null;
+		}
+
+		List<RandomAccessArchiveEntry> compressedEntries = Collections.emptyList();
+		if (!newEntries.isEmpty()) {
+			DSSDocument newEntriesArchive = buildZipArchive(newEntries, creationTime, null);
+			compressedEntries = readCentralDirectory(newEntriesArchive, Long.MAX_VALUE, Integer.MAX_VALUE);
+			if (compressedEntries == null || compressedEntries.size() != newEntries.size()) {
+				LOG.warn("Unable to read the created archive. The archive is built from scratch.");
+				return null;
+			}
+		}
+
+		final List<RandomAccessArchiveEntry> rawEntries = new ArrayList<>();
+		final Iterator<RandomAccessArchiveEntry> compressedEntriesIt = compressedEntries.iterator();
+		for (DSSDocument entry : containerEntries) {
+			if (isRawCopySupported(entry)) {
+				RandomAccessArchiveEntry archiveEntry = (RandomAccessArchiveEntry) entry;
+				// the compressed data is copied as-is, therefore its integrity is verified beforehand
+				verifyIntegrity(archiveEntry);
+				rawEntries.add(archiveEntry);
+			} else {
+				rawEntries.add(compressedEntriesIt.next());
+			}
+		}
+
+		IncrementalZipArchiveWriter zipArchiveWriter = new IncrementalZipArchiveWriter(rawEntries, zipComment);
+		if (!zipArchiveWriter.isSupported()) {
+			LOG.debug("The archive requires ZIP64 extensions. The archive is built from scratch.");
+			return null;
+		}
+		try (DSSResourcesHandler dssResourcesHandler = instantiateResourcesHandler();
+			 OutputStream os = dssResourcesHandler.createOutputStream()) {
+			zipArchiveWriter.write(os);
+			return dssResourcesHandler.writeToDSSDocument();
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to create an ASiC container. Reason : %s", e.getMessage()), e);
+		}
+	}
+
+	private void verifyIntegrity(RandomAccessArchiveEntry archiveEntry) {
+		try {
+			archiveEntry.verifyIntegrity();
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to create an ASiC container. Reason : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Checks whether the given entry can be copied as-is into a new archive
+	 *
+	 * @param entry {@link DSSDocument} to check
+	 * @return TRUE if the raw entry can be copied, FALSE otherwise
+	 */
+	private boolean isRawCopySupported(DSSDocument entry) {
+		if (entry instanceof RandomAccessArchiveEntry) {
+			RandomAccessArchiveEntry archiveEntry = (RandomAccessArchiveEntry) entry;
+			// 'mimetype' shall not be compressed
+			return archiveEntry.isRawCopySupported() && (!ASiCUtils.isMimetype(archiveEntry.getName())
+					|| ZipEntry.STORED == archiveEntry.getZipEntry().getCompressionMethod());
+		}
+		return false;
+	}
+
+	private DSSDocument buildZipArchive(List<DSSDocument> containerEntries, Date creationTime, String zipComment) {
 		try (DSSResourcesHandler dssResourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = dssResourcesHandler.createOutputStream(); ZipOutputStream zos = new ZipOutputStream(os)) {
 			buildZip(containerEntries, creationTime, zipComment, zos);
@@ -531,13 +689,13 @@ public class SecureContainerHandler implements ZipContainerHandler {
 
 	private void assertExtractEntryLengthValid(long allowedSize) {
 		if (allowedSize != -1 && byteCounter > threshold && byteCounter > allowedSize) {
-			throw new IllegalInputException("Zip Bomb detected in the ZIP container. Validation is interrupted.");
+			throw new IllegalInputException(ZipCentralDirectoryReader.ZIP_BOMB_DETECTED_MESSAGE);
 		}
 	}
 
 	private void assertCollectionSizeValid(Collection<?> collection) {
 		if (collection.size() > maxAllowedFilesAmount) {
-			throw new IllegalInputException("Too many files detected. Cannot extract ASiC content from the file.");
+			throw new IllegalInputException(ZipCentralDirectoryReader.TOO_MANY_FILES_MESSAGE);
 		}
 	}
 
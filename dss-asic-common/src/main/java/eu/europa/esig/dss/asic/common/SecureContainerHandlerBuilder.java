@@ -57,6 +57,12 @@ public class SecureContainerHandlerBuilder implements ZipContainerHandlerBuilder
      */
     private boolean extractComments = false;
 
+    /**
+     * Defines whether unchanged entries extracted from existing archives shall be copied as-is on archive creation.
+     * Default : true (copied without recompression)
+     */
+    private boolean incrementalArchiveCreation = true;
+
     /**
      * The builder to be used to create a new {@code DSSResourcesHandler} for each internal call,
      * defining a way working with internal resources (e.g. in memory or by using temporary files).
@@ -134,9 +140,10 @@ public class SecureContainerHandlerBuilder implements ZipContainerHandlerBuilder
      * in order to preserve the existing data (i.e. comments).
      * When enabled, slightly decreases the performance (about 10% for {@code extractContainerContent(zipArchive)} method).
      * <p>
-     * Reason : All ZIP entries from a ZIP archive are extracted using {@code java.util.zip.ZipInputStream},
-     * that is not able to extract comments for entries. In order to extract comments, the archive shall be read
-     * again using {@code java.util.zip.ZipFile}.
+     * Reason : When the archive cannot be read using its central directory (e.g. a malformed archive or
+     * a document not supporting a random access), all ZIP entries from a ZIP archive are extracted using
+     * {@code java.util.zip.ZipInputStream}, that is not able to extract comments for entries. In order to extract
+     * comments, the archive shall be read again using {@code java.util.zip.ZipFile}.
      * For more information about limitations please see {@code <a href="https://stackoverflow.com/a/70848140">the link</a>}.
      * <p>
      * Default : false (not extracted)
@@ -149,6 +156,24 @@ public class SecureContainerHandlerBuilder implements ZipContainerHandlerBuilder
         return this;
     }
 
+    /**
+     * Sets whether the entries extracted from an existing archive and not modified since
+     * shall be copied as-is on a ZIP archive creation, i.e. by copying their local file header and compressed data
+     * without decompressing and compressing them again.
+     * <p>
+     * NOTE: the copied entries preserve their original metadata (e.g. modification time),
+     * instead of using the creation time of the new archive.
+     * <p>
+     * Default : true (unchanged entries are copied as-is)
+     *
+     * @param incrementalArchiveCreation whether unchanged entries shall be copied as-is
+     * @return {@link SecureContainerHandlerBuilder}
+     */
+    public SecureContainerHandlerBuilder setIncrementalArchiveCreation(boolean incrementalArchiveCreation) {
+        this.incrementalArchiveCreation = incrementalArchiveCreation;
+        return this;
+    }
+
     /**
      * Sets {@code DSSResourcesFactoryBuilder} to be used for a {@code DSSResourcesHandler}
      * creation in internal methods.
@@ -172,6 +197,7 @@ public class SecureContainerHandlerBuilder implements ZipContainerHandlerBuilder
         secureContainerHandler.setMaxAllowedFilesAmount(maxAllowedFilesAmount);
         secureContainerHandler.setMaxMalformedFiles(maxMalformedFiles);
         secureContainerHandler.setExtractComments(extractComments);
+        secureContainerHandler.setIncrementalArchiveCreation(incrementalArchiveCreation);
         secureContainerHandler.setResourcesHandlerBuilder(resourcesHandlerBuilder);
         return secureContainerHandler;
     }
@@ -0,0 +1,532 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.common;
+
+import eu.europa.esig.dss.model.RandomAccessDocument;
+import eu.europa.esig.dss.spi.exception.IllegalInputException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.ZipEntry;
+
+/**
+ * Reads the entries of a ZIP archive from its central directory, by accessing only the required parts
+ * of a {@code RandomAccessDocument}. The content of the entries is not read : the returned
+ * {@code RandomAccessArchiveEntry} documents decompress the data on request.
+ * <p>
+ * The zip-bombing checks are enforced while parsing the central directory, based on the declared entry sizes,
+ * and on the entry's content reading, rejecting any entry decompressing to more data than declared.
+ * <p>
+ * NOTE: the reader is restricted to well-formed single-disk archives, with consistent central directory and
+ * local file headers, using STORED or DEFLATED compression. For any other archive, {@code null} is returned
+ * and the caller shall continue with a sequential processing.
+ *
+ */
+class ZipCentralDirectoryReader {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ZipCentralDirectoryReader.class);
+
+	/** The message of the exception thrown when a zip-bombing is detected */
+	static final String ZIP_BOMB_DETECTED_MESSAGE = "Zip Bomb detected in the ZIP container. Validation is interrupted.";
+
+	/** The message of the exception thrown when the archive contains too many entries */
+	static final String TOO_MANY_FILES_MESSAGE = "Too many files detected. Cannot extract ASiC content from the file.";
+
+	/** Local file header signature */
+	private static final long LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50L;
+
+	/** Central directory file header signature */
+	private static final long CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50L;
+
+	/** End of central directory record signature */
+	private static final long END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50L;
+
+	/** ZIP64 end of central directory locator signature */
+	private static final long ZIP64_LOCATOR_SIGNATURE = 0x07064b50L;
+
+	/** ZIP64 end of central directory record signature */
+	private static final long ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50L;
+
+	/** ZIP64 extended information extra field identifier */
+	private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+
+	/** Length of the fixed part of the local file header */
+	private static final int LOCAL_FILE_HEADER_LENGTH = 30;
+
+	/** Length of the fixed part of the central directory file header */
+	private static final int CENTRAL_DIRECTORY_HEADER_LENGTH = 46;
+
+	/** Length of the fixed part of the end of central directory record */
+	private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+
+	/** Length of the ZIP64 end of central directory locator */
+	private static final int ZIP64_LOCATOR_LENGTH = 20;
+
+	/** Length of the fixed part of the ZIP64 end of central directory record */
+	private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH = 56;
+
+	/** Maximum length of the archive comment */
+	private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+	/** Value used within the 16-bits fields when the ZIP64 value shall be used */
+	private static final int ZIP64_MAGIC_SHORT = 0xFFFF;
+
+	/** Value used within the 32-bits fields when the ZIP64 value shall be used */
+	private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+	/** General purpose flag : the entry is encrypted */
+	private static final int ENCRYPTED_FLAG = 1;
+
+	/** General purpose flag : sizes and CRC are defined within a data descriptor following the entry data */
+	private static final int DATA_DESCRIPTOR_FLAG = 1 << 3;
+
+	/** Minimum file size to be analyzed on zip bombing */
+	private final long threshold;
+
+	/** Maximum compression ratio */
+	private final long maxCompressionRatio;
+
+	/** The maximal amount of files that can be inside a ZIP container */
+	private final int maxAllowedFilesAmount;
+
+	/** Defines whether comments of ZIP entries shall be extracted */
+	private final boolean extractComments;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param threshold minimum file size to be analyzed on zip bombing
+	 * @param maxCompressionRatio maximum compression ratio
+	 * @param maxAllowedFilesAmount the maximal amount of files that can be inside a ZIP container
+	 * @param extractComments whether comments of ZIP entries shall be extracted
+	 */
+	ZipCentralDirectoryReader(long threshold, long maxCompressionRatio, int maxAllowedFilesAmount,
+							  boolean extractComments) {
+		this.threshold = threshold;
+		this.maxCompressionRatio = maxCompressionRatio;
+		this.maxAllowedFilesAmount = maxAllowedFilesAmount;
+		this.extractComments = extractComments;
+	}
+
+	/**
+	 * Reads entries of the given {@code zipArchive} in order of their appearance within the archive
+	 *
+	 * @param zipArchive {@link RandomAccessDocument} representing a ZIP archive
+	 * @return a list of {@link RandomAccessArchiveEntry}s, or NULL if the archive cannot be processed
+	 *         using its central directory
+	 * @throws IllegalInputException if a zip-bombing or too many entries are detected
+	 */
+	List<RandomAccessArchiveEntry> readEntries(RandomAccessDocument zipArchive) {
+		try {
+			final long archiveLength = zipArchive.getLength();
+			final CentralDirectoryLocation location = readCentralDirectoryLocation(zipArchive, archiveLength);
+			final List<CentralDirectoryRecord> records = readCentralDirectory(zipArchive, location,
+					archiveLength * maxCompressionRatio);
+			readLocalFileHeaders(zipArchive, location, records);
+
+			final List<RandomAccessArchiveEntry> result = new ArrayList<>();
+			for (CentralDirectoryRecord record : records) {
+				result.add(new RandomAccessArchiveEntry(zipArchive, record.toZipEntry(extractComments), record.dataOffset,
+						record.localHeaderOffset, record.rawLength, record.centralDirectoryHeader));
+			}
+			return result;
+
+		} catch (IOException | IllegalArgumentException e) {
+			LOG.debug("Unable to read the archive with name '{}' using its central directory. Reason : {}",
+					zipArchive.getName(), e.getMessage());
+			return null;
+		}
+	}
+
+	private CentralDirectoryLocation readCentralDirectoryLocation(RandomAccessDocument zipArchive,
+																  long archiveLength) throws IOException {
+		final int tailLength = (int) Math.min(archiveLength, END_OF_CENTRAL_DIRECTORY_LENGTH + MAX_COMMENT_LENGTH);
+		final long tailOffset = archiveLength - tailLength;
+		final byte[] tail = readBytes(zipArchive, tailOffset, tailLength);
+
+		for (int i = tailLength - END_OF_CENTRAL_DIRECTORY_LENGTH; i >= 0; i--) {
+			if (getUInt32(tail, i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE
+					&& i + END_OF_CENTRAL_DIRECTORY_LENGTH + getUInt16(tail, i + 20) == tailLength) {
+				if (getUInt16(tail, i + 4) != 0 || getUInt16(tail, i + 6) != 0) {
+					throw new IOException("Multi-disk archives are not supported");
+				}
+				final CentralDirectoryLocation location = new CentralDirectoryLocation();
+				location.entriesNumber = getUInt16(tail, i + 10);
+				location.size = getUInt32(tail, i + 12);
+				location.offset = getUInt32(tail, i + 16);
+				location.end = tailOffset + i;
+				if (location.entriesNumber == ZIP64_MAGIC_SHORT || location.size == ZIP64_MAGIC || location.offset == ZIP64_MAGIC) {
+					readZip64CentralDirectoryLocation(zipArchive, location);
+				}
+				if (location.offset < 0 || location.size < 0 || location.offset + location.size != location.end) {
+					throw new IOException("The central directory location is not consistent");
+				}
+				return location;
+			}
+		}
+		throw new IOException("The end of central directory record is not found");
+	}
+
+	private void readZip64CentralDirectoryLocation(RandomAccessDocument zipArchive,
+												   CentralDirectoryLocation location) throws IOException {
+		if (location.end < ZIP64_LOCATOR_LENGTH) {
+			throw new IOException("The ZIP64 end of central directory locator is not found");
+		}
+		final byte[] locator = readBytes(zipArchive, location.end - ZIP64_LOCATOR_LENGTH, ZIP64_LOCATOR_LENGTH);
+		if (getUInt32(locator, 0) != ZIP64_LOCATOR_SIGNATURE) {
+			throw new IOException("The ZIP64 end of central directory locator is not found");
+		}
+		final long recordOffset = getUInt64(locator, 8);
+		final byte[] record = readBytes(zipArchive, recordOffset, ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH);
+		if (getUInt32(record, 0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+			throw new IOException("The ZIP64 end of central directory record is not found");
+		}
+		location.entriesNumber = getUInt64(record, 32);
+		location.size = getUInt64(record, 40);
+		location.offset = getUInt64(record, 48);
+		location.end = recordOffset;
+	}
+
+	private List<CentralDirectoryRecord> readCentralDirectory(RandomAccessDocument zipArchive,
+															  CentralDirectoryLocation location,
+															  long allowedSize) throws IOException {
+		final List<CentralDirectoryRecord> records = new ArrayList<>();
+		long declaredSize = 0;
+		long position = 0;
+		try (InputStream is = new BufferedInputStream(zipArchive.openStream(location.offset, location.size))) {
+			final byte[] header = new byte[CENTRAL_DIRECTORY_HEADER_LENGTH];
+			while (position < location.size) {
+				readFully(is, header);
+				if (getUInt32(header, 0) != CENTRAL_DIRECTORY_SIGNATURE) {
+					throw new IOException("Invalid central directory file header signature");
+				}
+				final CentralDirectoryRecord record = new CentralDirectoryRecord();
+				record.flags = getUInt16(header, 8);
+				record.method = getUInt16(header, 10);
+				record.crc = getUInt32(header, 16);
+				record.compressedSize = getUInt32(header, 20);
+				record.size = getUInt32(header, 24);
+				record.name = readBytes(is, getUInt16(header, 28));
+				final byte[] extra = readBytes(is, getUInt16(header, 30));
+				record.comment = readBytes(is, getUInt16(header, 32));
+				record.localHeaderOffset = getUInt32(header, 42);
+				if (record.size != ZIP64_MAGIC && record.compressedSize != ZIP64_MAGIC && record.localHeaderOffset != ZIP64_MAGIC) {
+					record.centralDirectoryHeader = concat(header, record.name, extra, record.comment);
+				} else {
+					readZip64ExtraField(record, extra);
+				}
+
+				if ((record.flags & ENCRYPTED_FLAG) != 0) {
+					throw new IOException("Encrypted entries are not supported");
+				}
+				if (record.method != ZipEntry.STORED && record.method != ZipEntry.DEFLATED) {
+					throw new IOException("Unsupported compression method : " + record.method);
+				}
+				if (record.method == ZipEntry.STORED && record.size != record.compressedSize) {
+					throw new IOException("Sizes of a stored entry do not match");
+				}
+
+				records.add(record);
+				if (records.size() > maxAllowedFilesAmount) {
+					throw new IllegalInputException(TOO_MANY_FILES_MESSAGE);
+				}
+				declaredSize += record.size;
+				if (declaredSize > threshold && declaredSize > allowedSize) {
+					throw new IllegalInputException(ZIP_BOMB_DETECTED_MESSAGE);
+				}
+				position += CENTRAL_DIRECTORY_HEADER_LENGTH + record.name.length + extra.length + record.comment.length;
+			}
+		}
+		if (position != location.size || records.size() != location.entriesNumber) {
+			throw new IOException("The central directory content is not consistent");
+		}
+		return records;
+	}
+
+	private void readZip64ExtraField(CentralDirectoryRecord record, byte[] extra) throws IOException {
+		int i = 0;
+		while (i + 4 <= extra.length) {
+			final int id = getUInt16(extra, i);
+			final int length = getUInt16(extra, i + 2);
+			i += 4;
+			if (id == ZIP64_EXTRA_FIELD_ID) {
+				int position = i;
+				if (record.size == ZIP64_MAGIC) {
+					record.size = getUInt64(extra, position);
+					position += 8;
+				}
+				if (record.compressedSize == ZIP64_MAGIC) {
+					record.compressedSize = getUInt64(extra, position);
+					position += 8;
+				}
+				if (record.localHeaderOffset == ZIP64_MAGIC) {
+					record.localHeaderOffset = getUInt64(extra, position);
+					position += 8;
+				}
+				if (position > i + length || record.size < 0 || record.compressedSize < 0 || record.localHeaderOffset < 0) {
+					throw new IOException("Invalid ZIP64 extended information extra field");
+				}
+				return;
+			}
+			i += length;
+		}
+		throw new IOException("The ZIP64 extended information extra field is not found");
+	}
+
+	/**
+	 * Reads the local file headers of all entries within a single pass over the archive, ensuring
+	 * they match the central directory and that the entries cover the archive without gaps
+	 * (i.e. no entry is hidden from the central directory)
+	 */
+	private void readLocalFileHeaders(RandomAccessDocument zipArchive, CentralDirectoryLocation location,
+									  List<CentralDirectoryRecord> records) throws IOException {
+		records.sort(Comparator.comparingLong(r -> r.localHeaderOffset));
+
+		final byte[] header = new byte[LOCAL_FILE_HEADER_LENGTH];
+		try (InputStream is = new BufferedInputStream(zipArchive.openStream(0, location.offset))) {
+			long position = 0;
+			CentralDirectoryRecord previous = null;
+			for (CentralDirectoryRecord record : records) {
+				skipDataDescriptor(is, previous, record.localHeaderOffset - position);
+				position = record.localHeaderOffset;
+
+				readFully(is, header);
+				if (getUInt32(header, 0) != LOCAL_FILE_HEADER_SIGNATURE) {
+					throw new IOException("Invalid local file header signature");
+				}
+				if (getUInt16(header, 8) != record.method) {
+					throw new IOException("The compression method does not match the central directory");
+				}
+				record.dosTime = getUInt32(header, 10);
+				if (!Arrays.equals(record.name, readBytes(is, getUInt16(header, 26)))) {
+					throw new IOException("The entry name does not match the central directory");
+				}
+				record.localExtra = readBytes(is, getUInt16(header, 28));
+				record.dataOffset = position + LOCAL_FILE_HEADER_LENGTH + record.name.length + record.localExtra.length;
+
+				skipFully(is, record.compressedSize);
+				position = record.dataOffset + record.compressedSize;
+				if (previous != null) {
+					previous.rawLength = record.localHeaderOffset - previous.localHeaderOffset;
+				}
+				previous = record;
+			}
+			skipDataDescriptor(is, previous, location.offset - position);
+			if (previous != null) {
+				previous.rawLength = location.offset - previous.localHeaderOffset;
+			}
+		}
+	}
+
+	private void skipDataDescriptor(InputStream is, CentralDirectoryRecord previous, long gap) throws IOException {
+		if (gap == 0) {
+			return;
+		}
+		// data descriptor : optional signature, CRC and either 32-bits or 64-bits sizes
+		if (previous != null && (previous.flags & DATA_DESCRIPTOR_FLAG) != 0
+				&& (gap == 12 || gap == 16 || gap == 20 || gap == 24)) {
+			skipFully(is, gap);
+			return;
+		}
+		throw new IOException("The archive contains data not referenced from the central directory");
+	}
+
+	private static byte[] concat(byte[]... arrays) {
+		int length = 0;
+		for (byte[] array : arrays) {
+			length += array.length;
+		}
+		final byte[] result = new byte[length];
+		int offset = 0;
+		for (byte[] array : arrays) {
+			System.arraycopy(array, 0, result, offset, array.length);
+			offset += array.length;
+		}
+		return result;
+	}
+
+	private static byte[] readBytes(RandomAccessDocument document, long offset, int length) throws IOException {
+		try (InputStream is = document.openStream(offset, length)) {
+			return readBytes(is, length);
+		}
+	}
+
+	private static byte[] readBytes(InputStream is, int length) throws IOException {
+		final byte[] bytes = new byte[length];
+		readFully(is, bytes);
+		return bytes;
+	}
+
+	private static void readFully(InputStream is, byte[] bytes) throws IOException {
+		int offset = 0;
+		while (offset < bytes.length) {
+			int read = is.read(bytes, offset, bytes.length - offset);
+			if (read < 0) {
+				throw new EOFException("Unexpected end of the ZIP archive");
+			}
+			offset += read;
+		}
+	}
+
+	/**
+	 * Skips exactly {@code n} bytes from the given InputStream
+	 *
+	 * @param is {@link InputStream} to skip
+	 * @param n the number of bytes to skip
+	 * @throws IOException if the end of the stream is reached before
+	 */
+	static void skipFully(InputStream is, long n) throws IOException {
+		long remaining = n;
+		while (remaining > 0) {
+			long skipped = is.skip(remaining);
+			if (skipped <= 0) {
+				if (is.read() < 0) {
+					throw new EOFException("Unexpected end of the ZIP archive");
+				}
+				skipped = 1;
+			}
+			remaining -= skipped;
+		}
+	}
+
+	private static int getUInt16(byte[] bytes, int offset) {
+		return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8;
+	}
+
+	private static long getUInt32(byte[] bytes, int offset) {
+		return getUInt16(bytes, offset) | ((long) getUInt16(bytes, offset + 2)) << 16;
+	}
+
+	private static long getUInt64(byte[] bytes, int offset) {
+		return getUInt32(bytes, offset) | getUInt32(bytes, offset + 4) << 32;
+	}
+
+	/**
+	 * Converts the MS-DOS date and time to Java time, in the local time zone
+	 * (consistently with {@code java.util.zip.ZipEntry})
+	 */
+	private static long dosToJavaTime(long dosTime) {
+		final Calendar calendar = Calendar.getInstance();
+		calendar.clear();
+		calendar.set((int) (((dosTime >> 25) & 0x7f) + 1980), (int) (((dosTime >> 21) & 0x0f) - 1),
+				(int) ((dosTime >> 16) & 0x1f), (int) ((dosTime >> 11) & 0x1f),
+				(int) ((dosTime >> 5) & 0x3f), (int) ((dosTime << 1) & 0x3e));
+		return calendar.getTimeInMillis();
+	}
+
+	/**
+	 * Location of the central directory within the archive
+	 */
+	private static class CentralDirectoryLocation {
+
+		/** Total number of entries */
+		private long entriesNumber;
+
+		/** Size of the central directory */
+		private long size;
+
+		/** Offset of the central directory */
+		private long offset;
+
+		/** Offset of the record following the central directory */
+		private long end;
+
+	}
+
+	/**
+	 * Metadata about an entry, extracted from the central directory and the local file header
+	 */
+	private static class CentralDirectoryRecord {
+
+		/** General purpose bit flags */
+		private int flags;
+
+		/** Compression method */
+		private int method;
+
+		/** CRC-32 of the uncompressed data */
+		private long crc;
+
+		/** Size of the compressed data */
+		private long compressedSize;
+
+		/** Size of the uncompressed data */
+		private long size;
+
+		/** Encoded entry name */
+		private byte[] name;
+
+		/** Encoded entry comment */
+		private byte[] comment;
+
+		/** Offset of the local file header */
+		private long localHeaderOffset;
+
+		/** Extra field of the local file header */
+		private byte[] localExtra;
+
+		/** MS-DOS modification date and time from the local file header */
+		private long dosTime;
+
+		/** Offset of the entry data */
+		private long dataOffset;
+
+		/** Length of the entry within the archive, including the local file header and the data descriptor */
+		private long rawLength;
+
+		/** The complete central directory file header, NULL for ZIP64 entries */
+		private byte[] centralDirectoryHeader;
+
+		/**
+		 * Creates a {@code ZipEntry} filled similarly to the one read with {@code java.util.zip.ZipInputStream}
+		 *
+		 * @param extractComments whether the entry comment shall be set
+		 * @return {@link ZipEntry}
+		 */
+		private ZipEntry toZipEntry(boolean extractComments) {
+			final ZipEntry zipEntry = new ZipEntry(new String(name, StandardCharsets.UTF_8));
+			zipEntry.setMethod(method);
+			zipEntry.setTime(dosToJavaTime(dosTime));
+			if (localExtra.length > 0) {
+				zipEntry.setExtra(localExtra);
+			}
+			zipEntry.setCrc(crc);
+			zipEntry.setSize(size);
+			zipEntry.setCompressedSize(compressedSize);
+			if (extractComments && comment.length > 0) {
+				zipEntry.setComment(new String(comment, StandardCharsets.UTF_8));
+			}
+			return zipEntry;
+		}
+
+	}
+
+}
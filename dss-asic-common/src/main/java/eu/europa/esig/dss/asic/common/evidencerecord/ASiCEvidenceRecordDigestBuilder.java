@@ -31,6 +31,7 @@ import eu.europa.esig.dss.spi.x509.evidencerecord.digest.DataObjectDigestBuilder
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * This class is used to build hashes for data objects within an ASiC container for
@@ -115,6 +116,19 @@ public class ASiCEvidenceRecordDigestBuilder extends ZipContentEvidenceRecordDig
         return this;
     }
 
+    /**
+     * Sets an {@code ExecutorService} used to compute hashes of the documents in parallel.
+     * The hashes are returned in the order of the documents independently of the executor.
+     *
+     * @param executorService {@link ExecutorService}
+     * @return this {@link ASiCEvidenceRecordDigestBuilder}
+     */
+    @Override
+    public ASiCEvidenceRecordDigestBuilder setExecutorService(ExecutorService executorService) {
+        super.setExecutorService(executorService);
+        return this;
+    }
+
     /**
      * Sets an {@code ASiCContentDocumentFilter} used to filter the documents to compute hashes for
      *
@@ -30,6 +30,8 @@ import eu.europa.esig.dss.enumerations.MimeType;
 import eu.europa.esig.dss.spi.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Builds an ASiCManifest for an Evidence Record
  */
@@ -89,6 +91,11 @@ public class ASiCEvidenceRecordManifestBuilder extends AbstractASiCManifestBuild
         return (ASiCEvidenceRecordManifestBuilder) super.setAsicContentDocumentFilter(asicContentDocumentFilter);
     }
 
+    @Override
+    public ASiCEvidenceRecordManifestBuilder setExecutorService(ExecutorService executorService) {
+        return (ASiCEvidenceRecordManifestBuilder) super.setExecutorService(executorService);
+    }
+
     /**
      * Sets an ASiC evidence record filename factory, used to provide a valid filename
      * for the ASiC Evidence Record Manifest document to be created.
@@ -20,18 +20,18 @@
  */
 package eu.europa.esig.dss.asic.common.evidencerecord;
 
+import eu.europa.esig.dss.asic.common.DocumentDigestExecutor;
 import eu.europa.esig.dss.asic.common.ZipUtils;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.Digest;
-import eu.europa.esig.dss.spi.x509.evidencerecord.digest.DataObjectDigestBuilder;
 import eu.europa.esig.dss.spi.x509.evidencerecord.digest.DataObjectDigestBuilderFactory;
 import eu.europa.esig.dss.utils.Utils;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Builds hashes for all documents present within a ZIP archive.
@@ -56,6 +56,12 @@ public class ZipContentEvidenceRecordDigestBuilder {
      */
     protected DataObjectDigestBuilderFactory dataObjectDigestBuilderFactory;
 
+    /**
+     * Executor used to compute hashes of the documents in parallel.
+     * Default : null (hashes are computed sequentially)
+     */
+    protected ExecutorService executorService;
+
     /**
      * Empty constructor
      */
@@ -113,6 +119,19 @@ public class ZipContentEvidenceRecordDigestBuilder {
         return this;
     }
 
+    /**
+     * Sets an {@code ExecutorService} used to compute hashes of the documents in parallel.
+     * The hashes are returned in the order of the documents independently of the executor.
+     * NOTE: the executor is not shut down by the builder. When not defined, the hashes are computed sequentially.
+     *
+     * @param executorService {@link ExecutorService}
+     * @return this {@link ZipContentEvidenceRecordDigestBuilder}
+     */
+    public ZipContentEvidenceRecordDigestBuilder setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
     /**
      * Builds a list of hashes for the content files of the provided ZIP container
      *
@@ -142,13 +161,8 @@ public class ZipContentEvidenceRecordDigestBuilder {
             return Collections.emptyList();
         }
 
-        final List<Digest> result = new ArrayList<>();
-        for (DSSDocument document : documents) {
-            DataObjectDigestBuilder dataObjectDigestBuilder = dataObjectDigestBuilderFactory.create(document, digestAlgorithm);
-            Digest digest = dataObjectDigestBuilder.build();
-            result.add(digest);
-        }
-        return result;
+        return new DocumentDigestExecutor(executorService).execute(documents,
+                document -> dataObjectDigestBuilderFactory.create(document, digestAlgorithm).build());
     }
 
 }
@@ -20,6 +20,8 @@
  */
 package eu.europa.esig.dss.asic.common.validation;
 
+import eu.europa.esig.dss.asic.common.DocumentDigestExecutor;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.ManifestEntry;
 import eu.europa.esig.dss.model.ManifestFile;
@@ -29,8 +31,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Performs validation of an ASiC Manifest entries
@@ -46,6 +53,9 @@ public class ASiCManifestValidator {
     /** A list of documents covered by the manifest */
     private final List<DSSDocument> signedDocuments;
 
+    /** Executor used to compute digests of the signed documents in parallel (sequential, when null) */
+    private ExecutorService executorService;
+
     /**
      * The default constructor
      *
@@ -58,6 +68,19 @@ public class ASiCManifestValidator {
         this.signedDocuments = signedDocuments;
     }
 
+    /**
+     * Sets an {@code ExecutorService} used to compute digests of the signed documents in parallel.
+     * The entries are validated in the order of the manifest independently of the executor.
+     * When not defined, the digests are computed sequentially.
+     *
+     * @param executorService {@link ExecutorService}
+     * @return this {@link ASiCManifestValidator}
+     */
+    public ASiCManifestValidator setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
     /**
      * Validates the manifest entries
      * @return list of validated {@link ManifestEntry}s
@@ -68,6 +91,9 @@ public class ASiCManifestValidator {
             // no signed data to validate on
             return manifestEntries;
         }
+        if (executorService != null) {
+            computeDigestsInParallel(manifestEntries);
+        }
         for (ManifestEntry entry : manifestEntries) {
             if (entry.getDigest() != null) {
                 // Use strict by name handling, as document names are predefined within an ASiC container
@@ -97,4 +123,18 @@ public class ASiCManifestValidator {
         return manifestEntries;
     }
 
+    private void computeDigestsInParallel(List<ManifestEntry> manifestEntries) {
+        final Map<DSSDocument, Set<DigestAlgorithm>> digestAlgorithmsMap = new IdentityHashMap<>();
+        for (ManifestEntry entry : manifestEntries) {
+            if (entry.getDigest() != null && entry.getDigest().getAlgorithm() != null) {
+                DSSDocument signedDocument = DSSUtils.getDocumentWithName(signedDocuments, entry.getUri());
+                if (signedDocument != null) {
+                    digestAlgorithmsMap.computeIfAbsent(signedDocument, k -> EnumSet.noneOf(DigestAlgorithm.class))
+                            .add(entry.getDigest().getAlgorithm());
+                }
+            }
+        }
+        new DocumentDigestExecutor(executorService).computeDigests(digestAlgorithmsMap);
+    }
+
 }
@@ -34,6 +34,7 @@ import eu.europa.esig.dss.model.scope.SignatureScope;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
 import eu.europa.esig.dss.spi.validation.analyzer.DefaultDocumentAnalyzer;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.spi.validation.analyzer.evidencerecord.EvidenceRecordAnalyzer;
 import eu.europa.esig.dss.spi.validation.analyzer.evidencerecord.EvidenceRecordAnalyzerFactory;
 import eu.europa.esig.dss.spi.validation.analyzer.timestamp.TimestampAnalyzer;
@@ -47,6 +48,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * The abstract class for an ASiC container validation
@@ -70,6 +72,9 @@ public abstract class AbstractASiCContainerAnalyzer extends DefaultDocumentAnaly
 	/** List of manifest files */
 	private List<ManifestFile> manifestFiles;
 
+	/** Executor used to compute digests of the container entries in parallel (sequential, when null) */
+	private ExecutorService digestExecutorService;
+
 	/**
 	 * Empty constructor
 	 */
@@ -97,6 +102,27 @@ public abstract class AbstractASiCContainerAnalyzer extends DefaultDocumentAnaly
 		this.asicContent = asicContent;
 	}
 
+	/**
+	 * Sets an {@code ExecutorService} used to compute digests of the container entries covered by the manifests
+	 * in parallel. The validation result does not depend on the executor.
+	 * NOTE: the executor is not shut down by the analyzer. When not defined, the digests are computed sequentially.
+	 *
+	 * @param digestExecutorService {@link ExecutorService}
+	 */
+	public void setDigestExecutorService(ExecutorService digestExecutorService) {
+		this.digestExecutorService = digestExecutorService;
+	}
+
+	/**
+	 * Creates a validator for the given {@code manifestFile} against all the documents embedded into the container
+	 *
+	 * @param manifestFile {@link ManifestFile} to be validated
+	 * @return {@link ASiCManifestValidator}
+	 */
+	protected ASiCManifestValidator createManifestValidator(ManifestFile manifestFile) {
+		return new ASiCManifestValidator(manifestFile, getAllDocuments()).setExecutorService(digestExecutorService);
+	}
+
 	/**
 	 * Checks if the {@code ASiCContent} is supported by the current validator
 	 *
@@ -105,6 +131,11 @@ public abstract class AbstractASiCContainerAnalyzer extends DefaultDocumentAnaly
 	 */
 	public abstract boolean isSupported(ASiCContent asicContent);
 
+	@Override
+	public boolean isSupported(DSSDocument dssDocument, DocumentFormat format) {
+		return DocumentFormat.ZIP == format && isSupported(dssDocument);
+	}
+
 	/**
 	 * Extracts documents from a container
 	 */
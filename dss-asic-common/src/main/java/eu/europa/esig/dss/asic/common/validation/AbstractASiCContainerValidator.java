@@ -29,6 +29,7 @@ import eu.europa.esig.dss.validation.SignedDocumentValidator;
 import eu.europa.esig.dss.validation.reports.diagnostic.SignedDocumentDiagnosticDataBuilder;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * The abstract class for an ASiC container validation
@@ -53,6 +54,16 @@ public abstract class AbstractASiCContainerValidator extends SignedDocumentValid
         return (AbstractASiCContainerAnalyzer) super.getDocumentAnalyzer();
     }
 
+    /**
+     * Sets an {@code ExecutorService} used to compute digests of the container entries covered by the manifests
+     * in parallel. When not defined, the digests are computed sequentially.
+     *
+     * @param digestExecutorService {@link ExecutorService}
+     */
+    public void setDigestExecutorService(ExecutorService digestExecutorService) {
+        getDocumentAnalyzer().setDigestExecutorService(digestExecutorService);
+    }
+
     /**
      * Checks if the {@code ASiCContent} is supported by the current validator
      *
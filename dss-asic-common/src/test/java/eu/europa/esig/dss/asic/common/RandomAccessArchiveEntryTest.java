@@ -0,0 +1,306 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.common;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.RandomAccessDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.exception.IllegalInputException;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomAccessArchiveEntryTest {
+
+    private static final byte[] HELLO_WORLD = "Hello World!".getBytes();
+
+    private static final byte[] BYE_WORLD = "Bye World!".getBytes();
+
+    @Test
+    void test() {
+        DSSDocument zipArchive = createArchive();
+        assertInstanceOf(InMemoryDocument.class, zipArchive);
+
+        SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+        assertEquals(Arrays.asList("stored.txt", "deflated.txt"), secureContainerHandler.extractEntryNames(zipArchive));
+
+        List<DSSDocument> entries = secureContainerHandler.extractContainerContent(zipArchive);
+        assertEquals(2, entries.size());
+
+        RandomAccessArchiveEntry storedEntry = assertInstanceOf(RandomAccessArchiveEntry.class, entries.get(0));
+        assertEquals("stored.txt", storedEntry.getName());
+        assertEquals(ZipEntry.STORED, storedEntry.getZipEntry().getCompressionMethod());
+        assertNotNull(storedEntry.getZipEntry().getModificationTime());
+        assertEquals(HELLO_WORLD.length, storedEntry.getLength());
+
+        RandomAccessArchiveEntry deflatedEntry = assertInstanceOf(RandomAccessArchiveEntry.class, entries.get(1));
+        assertEquals("deflated.txt", deflatedEntry.getName());
+        assertEquals(ZipEntry.DEFLATED, deflatedEntry.getZipEntry().getCompressionMethod());
+        assertEquals(BYE_WORLD.length, deflatedEntry.getLength());
+
+        // should be able to read more than once
+        assertArrayEquals(HELLO_WORLD, DSSUtils.toByteArray(storedEntry));
+        assertArrayEquals(HELLO_WORLD, DSSUtils.toByteArray(storedEntry));
+        assertArrayEquals(BYE_WORLD, DSSUtils.toByteArray(deflatedEntry));
+        assertArrayEquals(BYE_WORLD, DSSUtils.toByteArray(deflatedEntry));
+
+        assertArrayEquals("World".getBytes(), readRange(storedEntry, 6, 5));
+        assertArrayEquals("World!".getBytes(), readRange(deflatedEntry, 4, 100));
+    }
+
+    @Test
+    void nestedArchiveTest() {
+        DSSZipEntry zipEntry = new DSSZipEntry("package.zip");
+        zipEntry.setCompressionMethod(ZipEntry.STORED);
+        DSSDocument nestedArchive = new ContainerEntryDocument(
+                new InMemoryDocument(DSSUtils.toByteArray(createArchive()), zipEntry.getName()), zipEntry);
+        DSSDocument zipArchive = ZipUtils.getInstance().createZipArchive(
+                Collections.singletonList(nestedArchive), new Date(), null);
+
+        SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+        List<DSSDocument> entries = secureContainerHandler.extractContainerContent(zipArchive);
+        assertEquals(1, entries.size());
+
+        List<DSSDocument> nestedEntries = secureContainerHandler.extractContainerContent(entries.get(0));
+        assertEquals(2, nestedEntries.size());
+        assertInstanceOf(RandomAccessArchiveEntry.class, nestedEntries.get(0));
+        assertArrayEquals(HELLO_WORLD, DSSUtils.toByteArray(nestedEntries.get(0)));
+        assertArrayEquals(BYE_WORLD, DSSUtils.toByteArray(nestedEntries.get(1)));
+    }
+
+    @Test
+    void declaredSizeExceededTest() {
+        byte[] content = new byte[100000];
+        DSSDocument zipArchive = ZipUtils.getInstance().createZipArchive(
+                Collections.singletonList(new InMemoryDocument(content, "zeros.bin")), new Date(), null);
+        byte[] zipBytes = DSSUtils.toByteArray(zipArchive);
+
+        // declare a smaller uncompressed size within the central directory
+        int cdOffset = (int) getUInt32(zipBytes, zipBytes.length - 6);
+        zipBytes[cdOffset + 24] = 10;
+        zipBytes[cdOffset + 25] = 0;
+        zipBytes[cdOffset + 26] = 0;
+        zipBytes[cdOffset + 27] = 0;
+
+        SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+        List<DSSDocument> entries = secureContainerHandler.extractContainerContent(new InMemoryDocument(zipBytes));
+        assertEquals(1, entries.size());
+        assertInstanceOf(RandomAccessArchiveEntry.class, entries.get(0));
+
+        Exception exception = assertThrows(IllegalInputException.class, () -> DSSUtils.toByteArray(entries.get(0)));
+        assertEquals("Zip Bomb detected in the ZIP container. Validation is interrupted.", exception.getMessage());
+    }
+
+    @Test
+    void tamperedCrcTest() {
+        byte[] zipBytes = DSSUtils.toByteArray(createArchive());
+
+        // alter the CRC-32 declared within the central directory for both entries
+        zipBytes[getCentralDirectoryHeaderOffset(zipBytes, 0) + 16] ^= 1;
+        zipBytes[getCentralDirectoryHeaderOffset(zipBytes, 1) + 16] ^= 1;
+
+        SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+        List<DSSDocument> entries = secureContainerHandler.extractContainerContent(new InMemoryDocument(zipBytes));
+        assertEquals(2, entries.size());
+        assertEquals(ZipEntry.STORED, ((RandomAccessArchiveEntry) entries.get(0)).getZipEntry().getCompressionMethod());
+        assertEquals(ZipEntry.DEFLATED, ((RandomAccessArchiveEntry) entries.get(1)).getZipEntry().getCompressionMethod());
+
+        for (DSSDocument entry : entries) {
+            Exception exception = assertThrows(DSSException.class, () -> DSSUtils.toByteArray(entry));
+            assertTrue(exception.getMessage().contains("Invalid CRC-32"), exception.getMessage());
+            assertThrows(DSSException.class, () -> DSSUtils.toByteArray(((RandomAccessDocument) entry).openStream(0, Long.MAX_VALUE)));
+        }
+    }
+
+    @Test
+    void incrementalArchiveCreationWithTamperedCrcTest() {
+        byte[] zipBytes = DSSUtils.toByteArray(createArchive());
+        zipBytes[getCentralDirectoryHeaderOffset(zipBytes, 1) + 16] ^= 1;
+
+        SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+        List<DSSDocument> entries = new ArrayList<>(secureContainerHandler.extractContainerContent(new InMemoryDocument(zipBytes)));
+        entries.add(new InMemoryDocument("New entry".getBytes(), "META-INF/new.xml"));
+
+        // the unchanged entry is not copied without verification
+        Exception exception = assertThrows(DSSException.class,
+                () -> secureContainerHandler.createZipArchive(entries, new Date(), null));
+        assertTrue(exception.getMessage().contains("Invalid CRC-32"), exception.getMessage());
+    }
+
+    @Test
+    void truncatedEntryTest() {
+        // the archive ends before the end of the entry data
+        ZipEntry storedZipEntry = createZipEntry(ZipEntry.STORED, HELLO_WORLD, HELLO_WORLD.length);
+        RandomAccessArchiveEntry storedEntry = new RandomAccessArchiveEntry(
+                new InMemoryDocument(Arrays.copyOf(HELLO_WORLD, 9)), storedZipEntry, 0);
+        Exception exception = assertThrows(DSSException.class, () -> DSSUtils.toByteArray(storedEntry));
+        assertTrue(exception.getMessage().contains("Invalid size"), exception.getMessage());
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(HELLO_WORLD);
+        deflater.finish();
+        byte[] compressed = new byte[100];
+        int compressedLength = deflater.deflate(compressed);
+        deflater.end();
+
+        ZipEntry deflatedZipEntry = createZipEntry(ZipEntry.DEFLATED, HELLO_WORLD, compressedLength);
+        RandomAccessArchiveEntry deflatedEntry = new RandomAccessArchiveEntry(
+                new InMemoryDocument(Arrays.copyOf(compressed, compressedLength - 3)), deflatedZipEntry, 0);
+        assertThrows(DSSException.class, () -> DSSUtils.toByteArray(deflatedEntry));
+
+        // complete entry
+        RandomAccessArchiveEntry completeEntry = new RandomAccessArchiveEntry(
+                new InMemoryDocument(Arrays.copyOf(compressed, compressedLength)), deflatedZipEntry, 0);
+        assertArrayEquals(HELLO_WORLD, DSSUtils.toByteArray(completeEntry));
+    }
+
+    @Test
+    void tooManyFilesTest() {
+        DSSDocument zipArchive = createArchive();
+
+        SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+        secureContainerHandler.setMaxAllowedFilesAmount(1);
+        Exception exception = assertThrows(IllegalInputException.class,
+                () -> secureContainerHandler.extractContainerContent(zipArchive));
+        assertEquals("Too many files detected. Cannot extract ASiC content from the file.", exception.getMessage());
+    }
+
+    @Test
+    void incrementalArchiveCreationTest() throws IOException {
+        DSSDocument zipArchive = createArchive();
+
+        SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+        List<DSSDocument> entries = new ArrayList<>(secureContainerHandler.extractContainerContent(zipArchive));
+        entries.add(new InMemoryDocument("New entry".getBytes(), "META-INF/new.xml"));
+
+        DSSDocument updatedArchive = secureContainerHandler.createZipArchive(entries, new Date(), "comment");
+        List<DSSDocument> updatedEntries = secureContainerHandler.extractContainerContent(updatedArchive);
+        assertEquals(3, updatedEntries.size());
+        assertEquals("stored.txt", updatedEntries.get(0).getName());
+        assertEquals("deflated.txt", updatedEntries.get(1).getName());
+        assertEquals("META-INF/new.xml", updatedEntries.get(2).getName());
+        assertArrayEquals(HELLO_WORLD, DSSUtils.toByteArray(updatedEntries.get(0)));
+        assertArrayEquals(BYE_WORLD, DSSUtils.toByteArray(updatedEntries.get(1)));
+        assertArrayEquals("New entry".getBytes(), DSSUtils.toByteArray(updatedEntries.get(2)));
+
+        // unchanged entries are copied as-is
+        RandomAccessArchiveEntry originalEntry = (RandomAccessArchiveEntry) entries.get(1);
+        RandomAccessArchiveEntry copiedEntry = (RandomAccessArchiveEntry) updatedEntries.get(1);
+        assertArrayEquals(readRaw(originalEntry), readRaw(copiedEntry));
+
+        // the archive is readable with java.util.zip
+        try (ZipInputStream zis = new ZipInputStream(updatedArchive.openStream())) {
+            int counter = 0;
+            while (zis.getNextEntry() != null) {
+                ++counter;
+            }
+            assertEquals(3, counter);
+        }
+        String zipArchiveFilePath = "target/incremental.zip";
+        updatedArchive.save(zipArchiveFilePath);
+        try (ZipFile zipFile = new ZipFile(zipArchiveFilePath)) {
+            assertEquals(3, zipFile.size());
+            assertEquals("comment", zipFile.getComment());
+            assertArrayEquals(BYE_WORLD, DSSUtils.toByteArray(zipFile.getInputStream(zipFile.getEntry("deflated.txt"))));
+        }
+        assertTrue(new File(zipArchiveFilePath).delete());
+
+        // modified entries are compressed again
+        copiedEntry.setName("renamed.txt");
+        DSSDocument renamedArchive = secureContainerHandler.createZipArchive(updatedEntries, new Date(), null);
+        assertEquals(Arrays.asList("stored.txt", "renamed.txt", "META-INF/new.xml"),
+                secureContainerHandler.extractEntryNames(renamedArchive));
+    }
+
+    private DSSDocument createArchive() {
+        DSSZipEntry storedZipEntry = new DSSZipEntry("stored.txt");
+        storedZipEntry.setCompressionMethod(ZipEntry.STORED);
+        DSSDocument storedDocument = new ContainerEntryDocument(
+                new InMemoryDocument(HELLO_WORLD, storedZipEntry.getName()), storedZipEntry);
+        DSSDocument deflatedDocument = new InMemoryDocument(BYE_WORLD, "deflated.txt");
+        return ZipUtils.getInstance().createZipArchive(Arrays.asList(storedDocument, deflatedDocument), new Date(), null);
+    }
+
+    private ZipEntry createZipEntry(int method, byte[] content, long compressedSize) {
+        ZipEntry zipEntry = new ZipEntry("entry.txt");
+        zipEntry.setMethod(method);
+        zipEntry.setSize(content.length);
+        zipEntry.setCompressedSize(compressedSize);
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        zipEntry.setCrc(crc.getValue());
+        return zipEntry;
+    }
+
+    private byte[] readRaw(RandomAccessArchiveEntry entry) throws IOException {
+        try (InputStream is = entry.openRawStream()) {
+            return DSSUtils.toByteArray(is);
+        }
+    }
+
+    private byte[] readRange(RandomAccessDocument document, long offset, long length) {
+        try (InputStream is = document.openStream(offset, length)) {
+            return DSSUtils.toByteArray(is);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static int getCentralDirectoryHeaderOffset(byte[] zipBytes, int index) {
+        int offset = (int) getUInt32(zipBytes, zipBytes.length - 6);
+        for (int i = 0; i < index; i++) {
+            offset += 46 + getUInt16(zipBytes, offset + 28) + getUInt16(zipBytes, offset + 30)
+                    + getUInt16(zipBytes, offset + 32);
+        }
+        return offset;
+    }
+
+    private static int getUInt16(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8;
+    }
+
+    private static long getUInt32(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFFL) | (bytes[offset + 1] & 0xFFL) << 8
+                | (bytes[offset + 2] & 0xFFL) << 16 | (bytes[offset + 3] & 0xFFL) << 24;
+    }
+
+}
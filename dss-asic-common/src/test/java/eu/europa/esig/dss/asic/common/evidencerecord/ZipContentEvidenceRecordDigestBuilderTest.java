@@ -34,6 +34,8 @@ import org.junit.jupiter.api.Test;
 
 import javax.xml.crypto.dsig.CanonicalizationMethod;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -150,4 +152,22 @@ class ZipContentEvidenceRecordDigestBuilderTest {
         }
     }
 
+    @Test
+    void parallelTest() {
+        ZipContentEvidenceRecordDigestBuilder zipContentEvidenceRecordDigestBuilder = new ZipContentEvidenceRecordDigestBuilder(zipContainer);
+        zipContentEvidenceRecordDigestBuilder.setDataObjectDigestBuilderFactory(new ASN1EvidenceRecordDataObjectDigestBuilderFactory());
+        List<Digest> sequentialDigests = zipContentEvidenceRecordDigestBuilder.buildDigestGroup();
+        assertEquals(6, sequentialDigests.size());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            zipContentEvidenceRecordDigestBuilder.setExecutorService(executorService);
+            // the order of the hashes shall be preserved
+            assertEquals(sequentialDigests, zipContentEvidenceRecordDigestBuilder.buildDigestGroup());
+            assertEquals(sequentialDigests, zipContentEvidenceRecordDigestBuilder.buildDigestGroup());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
 }
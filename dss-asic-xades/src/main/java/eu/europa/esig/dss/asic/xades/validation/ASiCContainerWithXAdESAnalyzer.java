@@ -142,7 +142,7 @@ public class ASiCContainerWithXAdESAnalyzer extends AbstractASiCContainerAnalyze
 			ManifestFile manifestFile = ASiCManifestParser.getManifestFile(manifestDocument);
 			if (manifestFile != null) {
 				manifestFile.setManifestType(ASiCManifestTypeEnum.EVIDENCE_RECORD);
-				ASiCManifestValidator manifestValidator = new ASiCManifestValidator(manifestFile, getAllDocuments());
+				ASiCManifestValidator manifestValidator = createManifestValidator(manifestFile);
 				manifestValidator.validateEntries();
 				descriptions.add(manifestFile);
 			}
@@ -24,6 +24,7 @@ import eu.europa.esig.dss.asic.common.ASiCContent;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzer;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzerFactory;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 
 /**
  * This class returns a relevant validator for an ASiC with XAdES container validation
@@ -44,6 +45,12 @@ public class ASiCContainerWithXAdESAnalyzerFactory implements DocumentAnalyzerFa
 		return validator.isSupported(document);
 	}
 
+	@Override
+	public boolean isSupported(DSSDocument document, DocumentFormat format) {
+		ASiCContainerWithXAdESAnalyzer validator = new ASiCContainerWithXAdESAnalyzer();
+		return validator.isSupported(document, format);
+	}
+
 	/**
 	 * Verifies whether the provided {@code ASiCContent} is supported by the underlying validator's class
 	 *
@@ -22,6 +22,7 @@ package eu.europa.esig.dss.asic.xades.validation;
 
 import eu.europa.esig.dss.asic.common.ASiCContent;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.validation.DocumentValidatorFactory;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 
@@ -44,6 +45,12 @@ public class ASiCContainerWithXAdESValidatorFactory implements DocumentValidator
         return validator.isSupported(document);
     }
 
+    @Override
+    public boolean isSupported(DSSDocument document, DocumentFormat format) {
+        ASiCContainerWithXAdESValidator validator = new ASiCContainerWithXAdESValidator();
+        return validator.isSupported(document, format);
+    }
+
     /**
      * Verifies whether the provided {@code ASiCContent} is supported by the underlying validator's class
      *
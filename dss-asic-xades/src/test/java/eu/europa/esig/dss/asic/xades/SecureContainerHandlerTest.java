@@ -327,7 +327,7 @@ class SecureContainerHandlerTest {
 
 		DSSZipEntry extractedZipEntry = ((DSSZipEntryDocument) containerEntry).getZipEntry();
 		assertNotNull(extractedZipEntry);
-		assertNull(extractedZipEntry.getComment());
+		assertEquals(comment, extractedZipEntry.getComment());
 
 		String zipArchiveFilePath = "target/archive.zip";
 		zipArchive.save(zipArchiveFilePath);
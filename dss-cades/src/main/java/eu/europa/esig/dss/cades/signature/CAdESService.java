@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.cades.signature;
 
 import eu.europa.esig.dss.cades.CAdESSignatureParameters;
+import eu.europa.esig.dss.cades.validation.CMSSignedDataStreamReader;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
 import eu.europa.esig.dss.enumerations.SignatureLevel;
@@ -37,6 +38,7 @@ import eu.europa.esig.dss.model.ToBeSigned;
 import eu.europa.esig.dss.signature.AbstractSignatureService;
 import eu.europa.esig.dss.signature.CounterSignatureService;
 import eu.europa.esig.dss.signature.SigningOperation;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.CMSSignedDataBuilder;
@@ -55,6 +57,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -69,6 +72,12 @@ public class CAdESService extends
 
 	private static final Logger LOG = LoggerFactory.getLogger(CAdESService.class);
 
+	/**
+	 * Builds the resources handlers used for a streaming creation of enveloping signatures.
+	 * When not defined (default), the signatures are created in memory.
+	 */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
 	/**
 	 * This is the constructor to create an instance of the {@code CAdESService}. A certificate verifier must be
 	 * provided.
@@ -82,6 +91,21 @@ public class CAdESService extends
 		LOG.debug("+ CAdESService created");
 	}
 
+	/**
+	 * Sets the {@code DSSResourcesHandlerBuilder} enabling a streaming creation of enveloping signatures.
+	 * When defined, the content to be signed is digested in a single pass and streamed into the created
+	 * BER-encoded signature stored with the handler (e.g. a temporary file with {@code TempFileResourcesHandlerBuilder}),
+	 * without loading the content into the memory.
+	 * NOTE: The returned signature is not an instance of {@code CMSSignedDocument} in this case.
+	 *
+	 * Default : NULL (the signature is created in memory)
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
 	@Override
 	public TimestampToken getContentTimestamp(DSSDocument toSignDocument, CAdESSignatureParameters parameters) {
 		Objects.requireNonNull(tspSource, "A TSPSource is required !");
@@ -107,6 +131,17 @@ public class CAdESService extends
 		final SignatureAlgorithm signatureAlgorithm = parameters.getSignatureAlgorithm();
 		final CustomContentSigner customContentSigner = new CustomContentSigner(signatureAlgorithm.getJCEId());
 
+		if (isStreamingSignatureCreation(parameters)) {
+			final CMSSignedDataStreamReader originalSignatureReader = getOriginalSignatureReader(toSignDocument);
+			if (originalSignatureReader != null) {
+				createDetachedCMSSignedData(originalSignatureReader.getSignedContent(), originalSignatureReader.getCMSSignedData(),
+						parameters, customContentSigner, false);
+			} else {
+				createDetachedCMSSignedData(toSignDocument, null, parameters, customContentSigner, false);
+			}
+			return new ToBeSigned(customContentSigner.getOutputStream().toByteArray());
+		}
+
 		final CMSSignedData originalCmsSignedData = getCmsSignedData(toSignDocument, parameters);
 		final DSSDocument contentToSign = getContentToSign(toSignDocument, parameters, originalCmsSignedData);
 
@@ -134,6 +169,10 @@ public class CAdESService extends
 		signatureValue = ensureSignatureValue(signatureAlgorithm, signatureValue);
 
 		final CustomContentSigner customContentSigner = new CustomContentSigner(signatureAlgorithm.getJCEId(), signatureValue.getValue());
+		if (isStreamingSignatureCreation(parameters)) {
+			return signDocumentWithStreaming(toSignDocument, parameters, customContentSigner);
+		}
+
 		final CMSSignedData originalCmsSignedData = getCmsSignedData(toSignDocument, parameters);
 		if (originalCmsSignedData == null && SignaturePackaging.DETACHED.equals(packaging) && Utils.isCollectionEmpty(parameters.getDetachedContents())) {
 			parameters.getContext().setDetachedContents(Arrays.asList(toSignDocument));
@@ -164,6 +203,115 @@ public class CAdESService extends
 		return signature;
 	}
 
+	/**
+	 * Creates an enveloping signature by streaming the signed content into the output
+	 *
+	 * @param toSignDocument {@link DSSDocument} to be signed or an enveloping signature to be parallel signed
+	 * @param parameters {@link CAdESSignatureParameters}
+	 * @param customContentSigner {@link CustomContentSigner} containing the signature value
+	 * @return {@link DSSDocument} the created signature
+	 */
+	private DSSDocument signDocumentWithStreaming(final DSSDocument toSignDocument, final CAdESSignatureParameters parameters,
+												  final CustomContentSigner customContentSigner) {
+		final CMSSignedDataStreamReader originalSignatureReader = getOriginalSignatureReader(toSignDocument);
+		final DSSDocument signedContent = originalSignatureReader != null ? originalSignatureReader.getSignedContent() : toSignDocument;
+		final CMSSignedData originalCmsSignedData = originalSignatureReader != null ? originalSignatureReader.getCMSSignedData() : null;
+
+		CMSSignedData cmsSignedData = createDetachedCMSSignedData(signedContent, originalCmsSignedData, parameters,
+				customContentSigner, true);
+
+		if (!SignatureLevel.CAdES_BASELINE_B.equals(parameters.getSignatureLevel())) {
+			// the signature is extended in its detached form, the content is digested from the document
+			parameters.getContext().setDetachedContents(Collections.singletonList(signedContent));
+			final SignerInformation newSignerInformation = getNewSignerInformation(originalCmsSignedData, cmsSignedData);
+			final CAdESSignatureExtension extension = getExtensionProfile(parameters);
+			cmsSignedData = extension.extendCMSSignatures(cmsSignedData, newSignerInformation, parameters);
+		}
+
+		final DSSDocument signature = new CMSSignedDataStreamWriter(resourcesHandlerBuilder).write(cmsSignedData, signedContent);
+		signature.setName(getFinalFileName(toSignDocument, SigningOperation.SIGN,
+				parameters.getSignatureLevel(), parameters.getSignaturePackaging()));
+		parameters.reinit();
+		return signature;
+	}
+
+	/**
+	 * Creates a detached CMSSignedData over the digest of the content to be signed.
+	 * The content is read only once in order to compute its digest.
+	 *
+	 * @param signedContent {@link DSSDocument} the content to be signed
+	 * @param originalCmsSignedData {@link CMSSignedData} detached form of the signature to be parallel signed, if any
+	 * @param parameters {@link CAdESSignatureParameters}
+	 * @param customContentSigner {@link CustomContentSigner}
+	 * @param includeUnsignedAttributes whether the unsigned attributes shall be included
+	 * @return {@link CMSSignedData}
+	 */
+	private CMSSignedData createDetachedCMSSignedData(final DSSDocument signedContent,
+													  final CMSSignedData originalCmsSignedData,
+													  final CAdESSignatureParameters parameters,
+													  final CustomContentSigner customContentSigner,
+													  boolean includeUnsignedAttributes) {
+		final DSSDocument contentDigestDocument = getContentDigestDocument(signedContent, parameters);
+		final SignerInfoGenerator signerInfoGenerator = new CMSSignerInfoGeneratorBuilder()
+				.setIncludeUnsignedAttributes(includeUnsignedAttributes)
+				.build(contentDigestDocument, parameters, customContentSigner);
+
+		return getCMSSignedDataBuilder(parameters)
+				.setOriginalCMSSignedData(originalCmsSignedData)
+				.setEncapsulate(false)
+				.createCMSSignedData(signerInfoGenerator, contentDigestDocument);
+	}
+
+	/**
+	 * Returns a {@code DigestDocument} with the message-digest of the {@code signedContent}
+	 *
+	 * @param signedContent {@link DSSDocument} to be signed
+	 * @param parameters {@link CAdESSignatureParameters}
+	 * @return {@link DigestDocument}
+	 */
+	private DigestDocument getContentDigestDocument(DSSDocument signedContent, CAdESSignatureParameters parameters) {
+		DigestAlgorithm digestAlgorithm = parameters.getReferenceDigestAlgorithm();
+		if (digestAlgorithm == null) {
+			digestAlgorithm = parameters.getDigestAlgorithm();
+		}
+		final DigestDocument digestDocument = new DigestDocument(digestAlgorithm,
+				signedContent.getDigestValue(digestAlgorithm), signedContent.getName());
+		digestDocument.setMimeType(signedContent.getMimeType());
+		return digestDocument;
+	}
+
+	/**
+	 * Returns a reader of the enveloping CMS signature to be parallel signed, when applicable
+	 *
+	 * @param dssDocument {@link DSSDocument} to be signed
+	 * @return {@link CMSSignedDataStreamReader} if the document is an enveloping CMS signature, NULL otherwise
+	 */
+	private CMSSignedDataStreamReader getOriginalSignatureReader(final DSSDocument dssDocument) {
+		if (!(dssDocument instanceof DigestDocument) && DSSASN1Utils.isASN1SequenceTag(DSSUtils.readFirstByte(dssDocument))) {
+			try {
+				final CMSSignedDataStreamReader reader = new CMSSignedDataStreamReader(dssDocument, resourcesHandlerBuilder);
+				if (reader.getSignedContent() != null) {
+					return reader;
+				}
+			} catch (Exception e) {
+				// not a parallel signature
+				LOG.trace("The document is not an enveloping CMS signature : {}", e.getMessage());
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Checks whether the signature shall be created in a streaming way
+	 *
+	 * @param parameters {@link CAdESSignatureParameters}
+	 * @return TRUE if the streaming signature creation is applicable, FALSE otherwise
+	 */
+	private boolean isStreamingSignatureCreation(final CAdESSignatureParameters parameters) {
+		return resourcesHandlerBuilder != null && SignaturePackaging.ENVELOPING == parameters.getSignaturePackaging()
+				&& Utils.isCollectionEmpty(parameters.getDetachedContents());
+	}
+
 	@Override
 	public DSSDocument extendDocument(final DSSDocument toExtendDocument, final CAdESSignatureParameters parameters) {
 		Objects.requireNonNull(toExtendDocument, "toExtendDocument is not defined!");
@@ -0,0 +1,134 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades.signature;
+
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.utils.Utils;
+import org.bouncycastle.asn1.ASN1Set;
+import org.bouncycastle.asn1.BEROctetStringGenerator;
+import org.bouncycastle.asn1.BERSequenceGenerator;
+import org.bouncycastle.asn1.BERTaggedObject;
+import org.bouncycastle.asn1.cms.CMSObjectIdentifiers;
+import org.bouncycastle.asn1.cms.SignedData;
+import org.bouncycastle.cms.CMSSignedData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Writes an enveloping (attached) CMS SignedData by streaming the signed content into the output.
+ * The output is BER-encoded with an indefinite length, the signed content being written as a constructed
+ * OCTET STRING by chunks. Therefore, the signed content is never loaded into the memory.
+ * <p>
+ * The digest algorithms, certificates, revocation data and signer infos are copied as is from
+ * the given detached {@code CMSSignedData}, created over the same content.
+ *
+ */
+public class CMSSignedDataStreamWriter {
+
+	/** The size of the chunks of the encapsulated content */
+	private static final int CHUNK_SIZE = 8192;
+
+	/** Builds the resources handler used to store the output */
+	private final DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder} used to store the created signature
+	 */
+	public CMSSignedDataStreamWriter(final DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		Objects.requireNonNull(resourcesHandlerBuilder, "DSSResourcesHandlerBuilder cannot be null!");
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
+	/**
+	 * Creates an enveloping CMS signature from the detached {@code cmsSignedData} and the {@code signedContent}
+	 *
+	 * @param cmsSignedData {@link CMSSignedData} detached signature computed over the {@code signedContent}
+	 * @param signedContent {@link DSSDocument} the content to encapsulate
+	 * @return {@link DSSDocument} representing the enveloping CMS signature
+	 */
+	public DSSDocument write(CMSSignedData cmsSignedData, DSSDocument signedContent) {
+		Objects.requireNonNull(cmsSignedData, "CMSSignedData cannot be null!");
+		Objects.requireNonNull(signedContent, "Signed content cannot be null!");
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler();
+			 OutputStream os = resourcesHandler.createOutputStream()) {
+			writeTo(cmsSignedData, signedContent, os);
+			os.flush();
+
+			DSSDocument signedDocument = resourcesHandler.writeToDSSDocument();
+			signedDocument.setMimeType(MimeTypeEnum.PKCS7);
+			return signedDocument;
+
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to write the enveloping CMS signature : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Writes an enveloping CMS signature to the {@code outputStream}
+	 *
+	 * @param cmsSignedData {@link CMSSignedData} detached signature computed over the {@code signedContent}
+	 * @param signedContent {@link DSSDocument} the content to encapsulate
+	 * @param outputStream {@link OutputStream} to write the signature into
+	 * @throws IOException if an error occurs on writing
+	 */
+	public void writeTo(CMSSignedData cmsSignedData, DSSDocument signedContent, OutputStream outputStream) throws IOException {
+		final SignedData signedData = SignedData.getInstance(cmsSignedData.toASN1Structure().getContent());
+
+		final BERSequenceGenerator contentInfoGenerator = new BERSequenceGenerator(outputStream);
+		contentInfoGenerator.addObject(CMSObjectIdentifiers.signedData);
+
+		final BERSequenceGenerator signedDataGenerator = new BERSequenceGenerator(contentInfoGenerator.getRawOutputStream(), 0, true);
+		signedDataGenerator.addObject(signedData.getVersion());
+		signedDataGenerator.addObject(signedData.getDigestAlgorithms());
+
+		final BERSequenceGenerator encapContentInfoGenerator = new BERSequenceGenerator(signedDataGenerator.getRawOutputStream());
+		encapContentInfoGenerator.addObject(signedData.getEncapContentInfo().getContentType());
+		final BEROctetStringGenerator contentGenerator = new BEROctetStringGenerator(encapContentInfoGenerator.getRawOutputStream(), 0, true);
+		try (OutputStream contentOutputStream = contentGenerator.getOctetOutputStream(new byte[CHUNK_SIZE]);
+			 InputStream is = signedContent.openStream()) {
+			Utils.copy(is, contentOutputStream);
+		}
+		encapContentInfoGenerator.close();
+
+		writeImplicitSet(signedDataGenerator, 0, signedData.getCertificates());
+		writeImplicitSet(signedDataGenerator, 1, signedData.getCRLs());
+		signedDataGenerator.addObject(signedData.getSignerInfos());
+		signedDataGenerator.close();
+
+		contentInfoGenerator.close();
+	}
+
+	private void writeImplicitSet(BERSequenceGenerator generator, int tagNo, ASN1Set set) throws IOException {
+		if (set != null) {
+			generator.getRawOutputStream().write(new BERTaggedObject(false, tagNo, set).getEncoded());
+		}
+	}
+
+}
@@ -115,6 +115,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -142,6 +143,12 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 	 */
 	private SignerInformationStore counterSignaturesStore;
 
+	/**
+	 * The encapsulated ContentInfo as encoded within the original document,
+	 * when the content has been extracted from an enveloping signature read in a streaming way
+	 */
+	private DSSDocument encapContentInfo;
+
 	/**
 	 * The default constructor for CAdESSignature.
 	 *
@@ -380,6 +387,27 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 		return cmsSignedData;
 	}
 
+	/**
+	 * Gets the encapsulated ContentInfo as encoded within the original document, when the encapsulated content
+	 * has been extracted from an enveloping signature (the {@code cmsSignedData} being in its detached form)
+	 *
+	 * @return {@link DSSDocument} if applicable, NULL otherwise
+	 */
+	public DSSDocument getEncapContentInfo() {
+		return encapContentInfo;
+	}
+
+	/**
+	 * Sets the encapsulated ContentInfo as encoded within the original document, when the encapsulated content
+	 * has been extracted from an enveloping signature (the {@code cmsSignedData} being in its detached form).
+	 * Used for the archive-timestamp-v2 message-imprint computation.
+	 *
+	 * @param encapContentInfo {@link DSSDocument}
+	 */
+	public void setEncapContentInfo(DSSDocument encapContentInfo) {
+		this.encapContentInfo = encapContentInfo;
+	}
+
 	@Override
 	public SignatureProductionPlace getSignatureProductionPlace() {
 		Attribute signatureProductionPlaceAttr = CMSUtils.getSignedAttribute(signerInformation, PKCSObjectIdentifiers.id_aa_ets_signerLocation);
@@ -788,6 +816,10 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 			Digest messageDigest) {
 		if (Utils.isCollectionNotEmpty(messageDigestAlgorithms)) {
 			// try to match with found digest algorithm(s)
+			if (messageDigestAlgorithms.size() > 1 && isDigestComputedOnDocumentContent(originalDocument)) {
+				// compute all the digests within a single read of the document
+				originalDocument.computeDigests(messageDigestAlgorithms);
+			}
 			for (DigestAlgorithm digestAlgorithm : messageDigestAlgorithms) {
 				byte[] base64Digest = originalDocument.getDigestValue(digestAlgorithm);
 				if (Arrays.equals(messageDigest.getValue(), base64Digest)) {
@@ -802,6 +834,17 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 		return false;
 	}
 	
+	/**
+	 * Checks whether the digest of the {@code document} is computed on its binaries as-is,
+	 * thus allowing digest pre-computation on the document
+	 *
+	 * @param document {@link DSSDocument} to check
+	 * @return TRUE if the digest is computed on the document's content, FALSE otherwise
+	 */
+	private boolean isDigestComputedOnDocumentContent(DSSDocument document) {
+		return !(document instanceof DigestDocument);
+	}
+
 	private List<ReferenceValidation> getManifestEntryValidation() {
 		List<ReferenceValidation> manifestEntryValidations = new ArrayList<>();
 		if (manifestFile == null) {
@@ -845,7 +888,8 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 		messageDigest.setValue(messageDigestValue);
 		messageDigestValidation.setDigest(messageDigest);
 
-		Set<DigestAlgorithm> digestAlgorithmCandidates = new HashSet<>();
+		// the signer's digest algorithm is tried first
+		Set<DigestAlgorithm> digestAlgorithmCandidates = new LinkedHashSet<>();
 		DigestAlgorithm signerInformationDigestAlgorithm = getDigestAlgorithm();
 		if (signerInformationDigestAlgorithm != null) {
 			digestAlgorithmCandidates.add(signerInformationDigestAlgorithm);
@@ -23,12 +23,15 @@ package eu.europa.esig.dss.cades.validation;
 import eu.europa.esig.dss.cades.validation.scope.CAdESSignatureScopeFinder;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
-import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.exception.IllegalInputException;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
 import eu.europa.esig.dss.spi.validation.analyzer.DefaultDocumentAnalyzer;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormatDetector;
 import eu.europa.esig.dss.spi.validation.analyzer.evidencerecord.EvidenceRecordAnalyzerFactory;
+import eu.europa.esig.dss.utils.Utils;
 import org.bouncycastle.cms.CMSSignedData;
 import org.bouncycastle.cms.SignerInformation;
 import org.slf4j.Logger;
@@ -50,6 +53,12 @@ public class CMSDocumentAnalyzer extends DefaultDocumentAnalyzer {
 	/** The CMSSignedData to be validated */
 	protected CMSSignedData cmsSignedData;
 
+	/** The encapsulated content extracted on a streaming reading, if applicable */
+	protected DSSDocument signedContent;
+
+	/** The encapsulated ContentInfo encoded as within the original document, on a streaming reading */
+	protected DSSDocument encapContentInfo;
+
 	/**
 	 * The empty constructor, instantiate {@link CAdESSignatureScopeFinder}
 	 */
@@ -79,6 +88,30 @@ public class CMSDocumentAnalyzer extends DefaultDocumentAnalyzer {
 		this.cmsSignedData = toCMSSignedData(document);
 	}
 
+	/**
+	 * The constructor for {@code CMSDocumentAnalyzer} reading the {@code document} in a streaming way.
+	 * The encapsulated content of an enveloping signature is extracted to a document created with
+	 * the {@code resourcesHandlerBuilder} (e.g. a temporary file) and is used as a detached content for the validation,
+	 * instead of being loaded into the memory.
+	 *
+	 * @param document
+	 *            document to validate (with the signature(s))
+	 * @param resourcesHandlerBuilder
+	 *            {@link DSSResourcesHandlerBuilder} used to store the encapsulated content
+	 */
+	public CMSDocumentAnalyzer(final DSSDocument document, final DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		Objects.requireNonNull(document, "Document to be validated cannot be null!");
+		this.document = document;
+		try {
+			final CMSSignedDataStreamReader reader = new CMSSignedDataStreamReader(document, resourcesHandlerBuilder);
+			this.cmsSignedData = reader.getCMSSignedData();
+			this.signedContent = reader.getSignedContent();
+			this.encapContentInfo = reader.getEncapContentInfo();
+		} catch (Exception e) {
+			throw new IllegalInputException(String.format("A CMS file is expected : %s", e.getMessage()), e);
+		}
+	}
+
 	private CMSSignedData toCMSSignedData(DSSDocument document) {
 		try {
 			return DSSUtils.toCMSSignedData(document);
@@ -89,11 +122,23 @@ public class CMSDocumentAnalyzer extends DefaultDocumentAnalyzer {
 
 	@Override
 	public boolean isSupported(DSSDocument dssDocument) {
-		byte firstByte = DSSUtils.readFirstByte(dssDocument);
-		if (DSSASN1Utils.isASN1SequenceTag(firstByte)) {
-			return !DSSUtils.isTimestampToken(dssDocument) && !EvidenceRecordAnalyzerFactory.isSupportedDocument(dssDocument);
+		return isSupported(dssDocument, DocumentFormatDetector.detect(dssDocument));
+	}
+
+	@Override
+	public boolean isSupported(DSSDocument dssDocument, DocumentFormat format) {
+		switch (format) {
+			case CMS:
+				return true;
+			case TIMESTAMP:
+				return !DSSUtils.isTimestampToken(dssDocument);
+			case ASN1_EVIDENCE_RECORD:
+				return !EvidenceRecordAnalyzerFactory.isSupportedDocument(dssDocument, format);
+			case ASN1:
+				return !DSSUtils.isTimestampToken(dssDocument) && !EvidenceRecordAnalyzerFactory.isSupportedDocument(dssDocument, format);
+			default:
+				return false;
 		}
-		return false;
 	}
 
 	@Override
@@ -105,7 +150,8 @@ public class CMSDocumentAnalyzer extends DefaultDocumentAnalyzer {
 				if (document != null) {
 					cadesSignature.setSignatureFilename(document.getName());
 				}
-				cadesSignature.setDetachedContents(detachedContents);
+				cadesSignature.setDetachedContents(getSignedContents());
+				cadesSignature.setEncapContentInfo(encapContentInfo);
 				cadesSignature.setContainerContents(containerContents);
 				cadesSignature.setManifestFile(manifestFile);
 				cadesSignature.setSigningCertificateSource(signingCertificateSource);
@@ -117,6 +163,13 @@ public class CMSDocumentAnalyzer extends DefaultDocumentAnalyzer {
 		return signatures;
 	}
 
+	private List<DSSDocument> getSignedContents() {
+		if (signedContent != null && Utils.isCollectionEmpty(detachedContents)) {
+			return Collections.singletonList(signedContent);
+		}
+		return detachedContents;
+	}
+
 	/**
 	 * This method returns a CMSSignedData
 	 *
@@ -23,6 +23,7 @@ package eu.europa.esig.dss.cades.validation;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzer;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzerFactory;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 
 /**
  * Checks if the document is supported and creates a relevant validator for the provided document
@@ -42,6 +43,12 @@ public class CMSDocumentAnalyzerFactory implements DocumentAnalyzerFactory {
 		return validator.isSupported(document);
 	}
 
+	@Override
+	public boolean isSupported(DSSDocument document, DocumentFormat format) {
+		CMSDocumentAnalyzer validator = new CMSDocumentAnalyzer();
+		return validator.isSupported(document, format);
+	}
+
 	@Override
 	public DocumentAnalyzer create(DSSDocument document) {
 		return new CMSDocumentAnalyzer(document);
@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.cades.validation;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 import org.bouncycastle.cms.CMSSignedData;
 
@@ -63,6 +64,20 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
         super(new CMSDocumentAnalyzer(document));
     }
 
+    /**
+     * The constructor for {@code CMSDocumentValidator} reading the {@code document} in a streaming way.
+     * The encapsulated content of an enveloping signature is extracted to a document created with
+     * the {@code resourcesHandlerBuilder}, instead of being loaded into the memory.
+     *
+     * @param document
+     *            document to validate (with the signature(s))
+     * @param resourcesHandlerBuilder
+     *            {@link DSSResourcesHandlerBuilder} used to store the encapsulated content
+     */
+    public CMSDocumentValidator(final DSSDocument document, final DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+        super(new CMSDocumentAnalyzer(document, resourcesHandlerBuilder));
+    }
+
     @Override
     public CMSDocumentAnalyzer getDocumentAnalyzer() {
         return (CMSDocumentAnalyzer) super.getDocumentAnalyzer();
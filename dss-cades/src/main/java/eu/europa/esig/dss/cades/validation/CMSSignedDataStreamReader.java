@@ -0,0 +1,326 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades.validation;
+
+import eu.europa.esig.dss.model.CommonDocument;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.RandomAccessDocument;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+import org.bouncycastle.asn1.ASN1EncodableVector;
+import org.bouncycastle.asn1.ASN1Encoding;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.ASN1OctetStringParser;
+import org.bouncycastle.asn1.ASN1SequenceParser;
+import org.bouncycastle.asn1.ASN1Set;
+import org.bouncycastle.asn1.ASN1SetParser;
+import org.bouncycastle.asn1.ASN1StreamParser;
+import org.bouncycastle.asn1.ASN1TaggedObject;
+import org.bouncycastle.asn1.BEROctetString;
+import org.bouncycastle.asn1.BERSequence;
+import org.bouncycastle.asn1.BERSet;
+import org.bouncycastle.asn1.BERTaggedObject;
+import org.bouncycastle.asn1.BERTags;
+import org.bouncycastle.asn1.DLTaggedObject;
+import org.bouncycastle.asn1.cms.CMSObjectIdentifiers;
+import org.bouncycastle.asn1.cms.ContentInfo;
+import org.bouncycastle.asn1.cms.ContentInfoParser;
+import org.bouncycastle.asn1.cms.SignedData;
+import org.bouncycastle.asn1.cms.SignedDataParser;
+import org.bouncycastle.cms.CMSException;
+import org.bouncycastle.cms.CMSSignedData;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Objects;
+
+/**
+ * Reads a CMS SignedData in a streaming way.
+ * The encapsulated content, when present, is copied to a document created with the provided
+ * {@code DSSResourcesHandlerBuilder} (e.g. a temporary file), and the signature is returned in its detached form.
+ * This allows processing of enveloping signatures with a content not fitting into the memory,
+ * the encapsulated content being provided as a detached document.
+ * <p>
+ * The other components of the SignedData are kept as they are encoded within the original document.
+ * The encapsulated ContentInfo, as required for the archive-timestamp-v2 message-imprint computation,
+ * is available with {@code #getEncapContentInfo}.
+ *
+ */
+public class CMSSignedDataStreamReader {
+
+	/** The document containing the CMS SignedData */
+	private final DSSDocument document;
+
+	/** Builds the resources handler used to store the encapsulated content */
+	private final DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
+	/** The detached CMSSignedData (lazy loaded) */
+	private CMSSignedData cmsSignedData;
+
+	/** The extracted encapsulated content (lazy loaded) */
+	private DSSDocument signedContent;
+
+	/** The encapsulated ContentInfo, as encoded within the original SignedData (lazy loaded) */
+	private DSSDocument encapContentInfo;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param document {@link DSSDocument} containing a CMS SignedData
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder} used to store the encapsulated content
+	 */
+	public CMSSignedDataStreamReader(final DSSDocument document, final DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		Objects.requireNonNull(document, "Document cannot be null!");
+		Objects.requireNonNull(resourcesHandlerBuilder, "DSSResourcesHandlerBuilder cannot be null!");
+		this.document = document;
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
+	/**
+	 * Returns the CMSSignedData in its detached form (without the encapsulated content)
+	 *
+	 * @return {@link CMSSignedData}
+	 */
+	public CMSSignedData getCMSSignedData() {
+		if (cmsSignedData == null) {
+			parse();
+		}
+		return cmsSignedData;
+	}
+
+	/**
+	 * Returns the encapsulated content, when present
+	 *
+	 * @return {@link DSSDocument} if the signature is enveloping, NULL otherwise
+	 */
+	public DSSDocument getSignedContent() {
+		if (cmsSignedData == null) {
+			parse();
+		}
+		return signedContent;
+	}
+
+	/**
+	 * Returns the encapsulated ContentInfo (including the encapsulated content), encoded as within
+	 * the original CMS SignedData, when the content is encapsulated.
+	 * This is the value to be used within the archive-timestamp-v2 message-imprint computation,
+	 * the returned {@code CMSSignedData} being in its detached form.
+	 * <p>
+	 * NOTE: a DER-encoded ContentInfo is streamed from the extracted content, while a BER-encoded one
+	 *       (e.g. the content is split into chunks) requires a complete parsing of the original document.
+	 *
+	 * @return {@link DSSDocument} if the signature is enveloping, NULL otherwise
+	 */
+	public DSSDocument getEncapContentInfo() {
+		if (cmsSignedData == null) {
+			parse();
+		}
+		return encapContentInfo;
+	}
+
+	private void parse() {
+		try (InputStream is = new BufferedInputStream(document.openStream())) {
+			final ASN1StreamParser asn1StreamParser = new ASN1StreamParser(is);
+			final ContentInfoParser contentInfoParser = new ContentInfoParser((ASN1SequenceParser) asn1StreamParser.readObject());
+			if (!CMSObjectIdentifiers.signedData.equals(contentInfoParser.getContentType())) {
+				throw new DSSException(String.format("A SignedData content type is expected, but '%s' found!",
+						contentInfoParser.getContentType()));
+			}
+
+			// the fields shall be read in the order of their definition
+			final SignedDataParser signedDataParser = SignedDataParser.getInstance(contentInfoParser.getContent(BERTags.SEQUENCE));
+			final ASN1EncodableVector signedDataVector = new ASN1EncodableVector();
+			signedDataVector.add(signedDataParser.getVersion());
+			signedDataVector.add(toASN1Set(signedDataParser.getDigestAlgorithms()));
+
+			final ContentInfoParser encapContentInfoParser = signedDataParser.getEncapContentInfo();
+			final ASN1ObjectIdentifier eContentType = encapContentInfoParser.getContentType();
+			final ASN1OctetStringParser eContentParser = (ASN1OctetStringParser) encapContentInfoParser.getContent(BERTags.OCTET_STRING);
+			if (eContentParser != null) {
+				signedContent = extractContent(eContentParser);
+				if (!isBEREncoded(eContentParser)) {
+					encapContentInfo = new EncapContentInfoDocument(getDEREncapContentInfoPrefix(eContentType, signedContent), signedContent);
+				} else {
+					encapContentInfo = new EncapContentInfoDocument(document);
+				}
+			}
+			signedDataVector.add(new ContentInfo(eContentType, null));
+
+			// the optional components are kept with their original encoding (BER or DER)
+			final ASN1Set certificates = toASN1Set(signedDataParser.getCertificates());
+			if (certificates != null) {
+				signedDataVector.add(toImplicitTaggedObject(0, certificates));
+			}
+			final ASN1Set crls = toASN1Set(signedDataParser.getCrls());
+			if (crls != null) {
+				signedDataVector.add(toImplicitTaggedObject(1, crls));
+			}
+			signedDataVector.add(toASN1Set(signedDataParser.getSignerInfos()));
+
+			final SignedData signedData = SignedData.getInstance(new BERSequence(signedDataVector));
+			cmsSignedData = new CMSSignedData(new ContentInfo(CMSObjectIdentifiers.signedData, signedData));
+
+		} catch (IOException | CMSException | ClassCastException | IllegalArgumentException e) {
+			throw new DSSException(String.format("Unable to read the CMS SignedData : %s", e.getMessage()), e);
+		}
+	}
+
+	private DSSDocument extractContent(ASN1OctetStringParser eContentParser) throws IOException {
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler();
+			 OutputStream os = resourcesHandler.createOutputStream();
+			 InputStream contentInputStream = eContentParser.getOctetStream()) {
+			Utils.copy(contentInputStream, os);
+			os.flush();
+
+			return resourcesHandler.writeToDSSDocument();
+		}
+	}
+
+	/**
+	 * Checks whether the eContent is encoded as a constructed (BER) OCTET STRING.
+	 * The octets being already consumed, only an empty OCTET STRING of the original form is loaded.
+	 */
+	private boolean isBEREncoded(ASN1OctetStringParser eContentParser) throws IOException {
+		return eContentParser.getLoadedObject() instanceof BEROctetString;
+	}
+
+	private ASN1Set toASN1Set(ASN1SetParser setParser) throws IOException {
+		if (setParser == null) {
+			return null;
+		}
+		return ASN1Set.getInstance(setParser.getLoadedObject());
+	}
+
+	private ASN1TaggedObject toImplicitTaggedObject(int tagNo, ASN1Set set) {
+		if (set instanceof BERSet) {
+			return new BERTaggedObject(false, tagNo, set);
+		}
+		return new DLTaggedObject(false, tagNo, set);
+	}
+
+	/**
+	 * Returns the DER-encoded ContentInfo of the encapsulated content, preceding the content octets
+	 */
+	private byte[] getDEREncapContentInfoPrefix(ASN1ObjectIdentifier eContentType, DSSDocument content) throws IOException {
+		final long contentLength = getLength(content);
+		final byte[] contentType = eContentType.getEncoded(ASN1Encoding.DER);
+		final byte[] octetStringHeader = getDERHeader(BERTags.OCTET_STRING, contentLength);
+		final long explicitTagLength = octetStringHeader.length + contentLength;
+		final byte[] explicitTagHeader = getDERHeader(BERTags.CONTEXT_SPECIFIC | BERTags.CONSTRUCTED, explicitTagLength);
+		final byte[] sequenceHeader = getDERHeader(BERTags.SEQUENCE | BERTags.CONSTRUCTED,
+				contentType.length + explicitTagHeader.length + explicitTagLength);
+
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		baos.write(sequenceHeader);
+		baos.write(contentType);
+		baos.write(explicitTagHeader);
+		baos.write(octetStringHeader);
+		return baos.toByteArray();
+	}
+
+	private long getLength(DSSDocument content) throws IOException {
+		if (content instanceof RandomAccessDocument) {
+			return ((RandomAccessDocument) content).getLength();
+		}
+		try (InputStream is = content.openStream()) {
+			return Utils.getInputStreamSize(is);
+		}
+	}
+
+	private byte[] getDERHeader(int tag, long length) {
+		if (length < 128) {
+			return new byte[] { (byte) tag, (byte) length };
+		}
+		int size = 0;
+		for (long value = length; value > 0; value >>>= 8) {
+			size++;
+		}
+		final byte[] header = new byte[size + 2];
+		header[0] = (byte) tag;
+		header[1] = (byte) (0x80 | size);
+		for (int i = header.length - 1; i > 1; i--) {
+			header[i] = (byte) length;
+			length >>>= 8;
+		}
+		return header;
+	}
+
+	/**
+	 * Represents the encapsulated ContentInfo encoded as within the original CMS SignedData
+	 */
+	private static class EncapContentInfoDocument extends CommonDocument {
+
+		private static final long serialVersionUID = -3456254174837536327L;
+
+		/** The DER-encoded ContentInfo preceding the content octets */
+		private final byte[] prefix;
+
+		/** The encapsulated content, following the prefix */
+		private final DSSDocument content;
+
+		/** The original CMS SignedData to be parsed, when the ContentInfo is BER-encoded */
+		private final DSSDocument cmsDocument;
+
+		/**
+		 * Constructor for a DER-encoded ContentInfo
+		 *
+		 * @param prefix DER-encoded ContentInfo preceding the content octets
+		 * @param content {@link DSSDocument} the encapsulated content
+		 */
+		private EncapContentInfoDocument(final byte[] prefix, final DSSDocument content) {
+			this.prefix = prefix;
+			this.content = content;
+			this.cmsDocument = null;
+		}
+
+		/**
+		 * Constructor for a BER-encoded ContentInfo
+		 *
+		 * @param cmsDocument {@link DSSDocument} the original CMS SignedData
+		 */
+		private EncapContentInfoDocument(final DSSDocument cmsDocument) {
+			this.prefix = null;
+			this.content = null;
+			this.cmsDocument = cmsDocument;
+		}
+
+		@Override
+		public InputStream openStream() {
+			if (prefix != null) {
+				return new SequenceInputStream(new ByteArrayInputStream(prefix), content.openStream());
+			}
+			final CMSSignedData originalCMSSignedData = DSSUtils.toCMSSignedData(cmsDocument);
+			final SignedData signedData = SignedData.getInstance(originalCMSSignedData.toASN1Structure().getContent());
+			return new ByteArrayInputStream(DSSASN1Utils.getBEREncoded(signedData.getEncapContentInfo()));
+		}
+
+	}
+
+}
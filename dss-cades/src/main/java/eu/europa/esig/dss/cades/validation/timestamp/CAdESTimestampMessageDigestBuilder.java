@@ -56,6 +56,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
 
@@ -84,6 +85,9 @@ public class CAdESTimestampMessageDigestBuilder implements TimestampMessageDiges
 	/** The list of detached documents */
 	private final List<DSSDocument> detachedDocuments;
 
+	/** The encapsulated ContentInfo extracted from an enveloping signature, when applicable */
+	private final DSSDocument encapContentInfo;
+
 	/** The instance of CadesLevelBaselineLTATimestampExtractor */
 	private final CadesLevelBaselineLTATimestampExtractor timestampExtractor;
 
@@ -137,6 +141,7 @@ public class CAdESTimestampMessageDigestBuilder implements TimestampMessageDiges
 		this.cmsSignedData = signature.getCmsSignedData();
 		this.signerInformation = signature.getSignerInformation();
 		this.detachedDocuments = signature.getDetachedContents();
+		this.encapContentInfo = signature.getEncapContentInfo();
 		this.timestampExtractor = new CadesLevelBaselineLTATimestampExtractor(
 				cmsSignedData, certificateSource.getCertificates());
 	}
@@ -302,17 +307,26 @@ public class CAdESTimestampMessageDigestBuilder implements TimestampMessageDiges
 			final ContentInfo contentInfo = cmsSignedData.toASN1Structure();
 			final SignedData signedData = SignedData.getInstance(contentInfo.getContent());
 			
-			byte[] bytes = getContentInfoBytes(signedData);
-			digestCalculator.update(bytes);
-			
-			if (CMSUtils.isDetachedSignature(cmsSignedData)) {
-				bytes = getOriginalDocumentBinaries();
-				if (bytes == null) {
-					LOG.warn("The detached content is not provided for a TimestampToken with Id '{}'. "
-							+ "Not possible to compute message imprint!", timestampToken.getDSSIdAsString());
-					return DSSMessageDigest.createEmptyDigest();
+			byte[] bytes;
+			if (encapContentInfo != null) {
+				// the content has been extracted from an enveloping signature
+				try (InputStream is = encapContentInfo.openStream()) {
+					digestCalculator.update(is);
 				}
+
+			} else {
+				bytes = getContentInfoBytes(signedData);
 				digestCalculator.update(bytes);
+
+				if (CMSUtils.isDetachedSignature(cmsSignedData)) {
+					bytes = getOriginalDocumentBinaries();
+					if (bytes == null) {
+						LOG.warn("The detached content is not provided for a TimestampToken with Id '{}'. "
+								+ "Not possible to compute message imprint!", timestampToken.getDSSIdAsString());
+						return DSSMessageDigest.createEmptyDigest();
+					}
+					digestCalculator.update(bytes);
+				}
 			}
 			
 			bytes = getCertificateDataBytes(signedData);
@@ -24,7 +24,9 @@ import eu.europa.esig.dss.cades.CAdESSignatureParameters;
 import eu.europa.esig.dss.diagnostic.DiagnosticData;
 import eu.europa.esig.dss.diagnostic.SignatureWrapper;
 import eu.europa.esig.dss.diagnostic.TimestampWrapper;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDigestMatcher;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.DigestMatcherType;
 import eu.europa.esig.dss.enumerations.SignatureLevel;
 import eu.europa.esig.dss.enumerations.SignaturePackaging;
 import eu.europa.esig.dss.enumerations.TimestampType;
@@ -42,9 +44,13 @@ import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
 import eu.europa.esig.validationreport.jaxb.SignatureIdentifierType;
 import eu.europa.esig.validationreport.jaxb.SignatureValidationReportType;
 import eu.europa.esig.validationreport.jaxb.ValidationReportType;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.cms.CMSSignedData;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -128,6 +134,42 @@ class CAdESLevelBDetachedDigestDocumentTest extends PKIFactoryAccess {
 		assertTrue(contentTst.isMessageImprintDataIntact());
 	}
 
+	@Test
+	void testDigestDocumentWithSeveralDigestAlgorithmCandidates() throws Exception {
+		CAdESService service = getService();
+		CAdESSignatureParameters params = getParams();
+		DSSDocument completeDocument = getCompleteDocument();
+
+		ToBeSigned toBeSigned = service.getDataToSign(completeDocument, params);
+		SignatureValue signatureValue = getToken().sign(toBeSigned, params.getDigestAlgorithm(), getPrivateKeyEntry());
+		DSSDocument signedDoc = service.signDocument(completeDocument, params, signatureValue);
+
+		// declare an additional digest algorithm within SignedData.digestAlgorithms
+		CMSSignedData cmsSignedData = DSSUtils.toCMSSignedData(signedDoc);
+		cmsSignedData = CMSSignedData.addDigestAlgorithm(cmsSignedData,
+				new AlgorithmIdentifier(new ASN1ObjectIdentifier(DigestAlgorithm.SHA256.getOid())));
+		assertEquals(2, cmsSignedData.getDigestAlgorithmIDs().size());
+		DSSDocument updatedSignedDoc = new InMemoryDocument(cmsSignedData.getEncoded());
+
+		// digests are provided for all the declared algorithms, but cannot be computed on the DigestDocument
+		DigestDocument digestDocument = new NonComputableDigestDocument();
+		digestDocument.addDigest(USED_DIGEST, DSSUtils.digest(USED_DIGEST, completeDocument));
+		digestDocument.addDigest(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, completeDocument));
+
+		Reports reports = validate(updatedSignedDoc, digestDocument);
+		validateHashOnly(reports, true, false);
+
+		DiagnosticData diagnosticData = reports.getDiagnosticData();
+		SignatureWrapper signature = diagnosticData.getSignatureById(diagnosticData.getFirstSignatureId());
+		List<XmlDigestMatcher> digestMatchers = signature.getDigestMatchers();
+		assertEquals(1, digestMatchers.size());
+		XmlDigestMatcher digestMatcher = digestMatchers.get(0);
+		assertEquals(DigestMatcherType.MESSAGE_DIGEST, digestMatcher.getType());
+		assertTrue(digestMatcher.isDataFound());
+		assertTrue(digestMatcher.isDataIntact());
+		assertEquals(USED_DIGEST, digestMatcher.getDigestMethod());
+	}
+
 	private Reports validate(DSSDocument signedDocument, DSSDocument original) {
 		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(signedDocument);
 		validator.setCertificateVerifier(getCompleteCertificateVerifier());
@@ -203,6 +245,16 @@ class CAdESLevelBDetachedDigestDocumentTest extends PKIFactoryAccess {
 		return new InMemoryDocument("Bye World !".getBytes(), DOCUMENT_NAME);
 	}
 
+	@SuppressWarnings("serial")
+	private static class NonComputableDigestDocument extends DigestDocument {
+
+		@Override
+		public void computeDigests(Collection<DigestAlgorithm> digestAlgorithms) {
+			throw new UnsupportedOperationException("Digests cannot be computed on a DigestDocument!");
+		}
+
+	}
+
 	@Override
 	protected String getSigningAlias() {
 		return GOOD_USER;
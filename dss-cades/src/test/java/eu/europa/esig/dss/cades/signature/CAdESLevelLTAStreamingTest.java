@@ -0,0 +1,125 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades.signature;
+
+import eu.europa.esig.dss.cades.CAdESSignatureParameters;
+import eu.europa.esig.dss.cades.validation.CMSDocumentValidator;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.signature.DocumentSignatureService;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.signature.AdvancedSignature;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CAdESLevelLTAStreamingTest extends AbstractCAdESTestSignature {
+
+	private CAdESService service;
+	private CAdESSignatureParameters signatureParameters;
+	private DSSDocument documentToSign;
+	private TempFileResourcesHandlerBuilder resourcesHandlerBuilder;
+
+	@BeforeEach
+	void init() throws Exception {
+		documentToSign = new InMemoryDocument("Hello World".getBytes(), "sample.txt");
+
+		signatureParameters = new CAdESSignatureParameters();
+		signatureParameters.setSigningCertificate(getSigningCert());
+		signatureParameters.setCertificateChain(getCertificateChain());
+		signatureParameters.setSignaturePackaging(SignaturePackaging.ENVELOPING);
+		signatureParameters.setSignatureLevel(SignatureLevel.CAdES_BASELINE_LTA);
+
+		resourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		resourcesHandlerBuilder.setTempFileDirectory(new File("target"));
+
+		service = new CAdESService(getCompleteCertificateVerifier());
+		service.setTspSource(getGoodTsa());
+		service.setResourcesHandlerBuilder(resourcesHandlerBuilder);
+	}
+
+	@AfterEach
+	void clean() {
+		resourcesHandlerBuilder.clear();
+	}
+
+	@Override
+	protected void onDocumentSigned(byte[] byteArray) {
+		super.onDocumentSigned(byteArray);
+
+		CMSDocumentValidator validator = new CMSDocumentValidator(new InMemoryDocument(byteArray), resourcesHandlerBuilder);
+		assertNotNull(validator.getCmsSignedData());
+		assertTrue(validator.getCmsSignedData().isDetachedSignature());
+
+		List<AdvancedSignature> signatures = validator.getSignatures();
+		assertEquals(1, signatures.size());
+		List<DSSDocument> originalDocuments = validator.getOriginalDocuments(signatures.get(0));
+		assertEquals(1, originalDocuments.size());
+		assertInstanceOf(FileDocument.class, originalDocuments.get(0));
+		assertArrayEquals(DSSUtils.toByteArray(getDocumentToSign()), DSSUtils.toByteArray(originalDocuments.get(0)));
+	}
+
+	@Override
+	protected SignedDocumentValidator getValidator(DSSDocument signedDocument) {
+		CMSDocumentValidator validator = new CMSDocumentValidator(signedDocument, resourcesHandlerBuilder);
+		validator.setCertificateVerifier(getOfflineCertificateVerifier());
+		validator.setTokenExtractionStrategy(getTokenExtractionStrategy());
+		validator.setSignaturePolicyProvider(getSignaturePolicyProvider());
+		validator.setDetachedContents(getDetachedContents());
+		validator.setTokenIdentifierProvider(getTokenIdentifierProvider());
+		validator.setSigningCertificateSource(getSigningCertificateSource());
+		return validator;
+	}
+
+	@Override
+	protected DocumentSignatureService<CAdESSignatureParameters, CAdESTimestampParameters> getService() {
+		return service;
+	}
+
+	@Override
+	protected CAdESSignatureParameters getSignatureParameters() {
+		return signatureParameters;
+	}
+
+	@Override
+	protected DSSDocument getDocumentToSign() {
+		return documentToSign;
+	}
+
+	@Override
+	protected String getSigningAlias() {
+		return GOOD_USER;
+	}
+
+}
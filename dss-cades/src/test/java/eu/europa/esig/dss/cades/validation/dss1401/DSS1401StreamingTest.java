@@ -0,0 +1,63 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades.validation.dss1401;
+
+import eu.europa.esig.dss.cades.validation.CMSDocumentValidator;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DSS1401StreamingTest extends DSS1401Test {
+
+	private TempFileResourcesHandlerBuilder resourcesHandlerBuilder;
+
+	@BeforeEach
+	void init() {
+		resourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		resourcesHandlerBuilder.setTempFileDirectory(new File("target"));
+	}
+
+	@AfterEach
+	void clean() {
+		resourcesHandlerBuilder.clear();
+	}
+
+	@Override
+	protected SignedDocumentValidator getValidator(DSSDocument signedDocument) {
+		CMSDocumentValidator validator = new CMSDocumentValidator(signedDocument, resourcesHandlerBuilder);
+		// the encapsulated content is extracted from the enveloping signature
+		assertTrue(validator.getCmsSignedData().isDetachedSignature());
+		validator.setCertificateVerifier(getOfflineCertificateVerifier());
+		validator.setTokenExtractionStrategy(getTokenExtractionStrategy());
+		validator.setSignaturePolicyProvider(getSignaturePolicyProvider());
+		validator.setDetachedContents(getDetachedContents());
+		validator.setTokenIdentifierProvider(getTokenIdentifierProvider());
+		validator.setSigningCertificateSource(getSigningCertificateSource());
+		return validator;
+	}
+
+}
@@ -23,6 +23,7 @@ package eu.europa.esig.dss.ws.cert.validation.common;
 import eu.europa.esig.dss.spi.exception.IllegalInputException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.policy.ValidationPolicy;
+import eu.europa.esig.dss.policy.ValidationPolicyCache;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
@@ -125,7 +126,7 @@ public class RemoteCertificateValidationService {
 
 	private ValidationPolicy getValidationPolicy(RemoteDocument policy) {
 		try (ByteArrayInputStream bais = new ByteArrayInputStream(policy.getBytes())) {
-			return ValidationPolicyFacade.newFacade().getValidationPolicy(bais);
+			return ValidationPolicyCache.getInstance().getValidationPolicy(bais);
 		} catch (Exception e) {
 			throw new IllegalInputException(String.format("Unable to load the validation policy : %s", e.getMessage()), e);
 		}
@@ -0,0 +1,182 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl.stream.impl;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import org.bouncycastle.util.io.Streams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class contains an index of the revokedCertificates entries of a CRL, sorted by serial number.
+ * The index allows to retrieve a CRL entry for a given serial number without parsing the whole CRL again.
+ */
+final class CRLEntryIndex {
+
+	/** The revoked serial numbers, sorted in ascending order */
+	private final BigInteger[] serialNumbers;
+
+	/** The offsets of the entries' contents within the CRL binaries, in the order of {@code serialNumbers} */
+	private final long[] offsets;
+
+	/** The lengths of the entries' contents, in the order of {@code serialNumbers} */
+	private final int[] lengths;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param serialNumbers sorted array of serial numbers
+	 * @param offsets array of entry offsets
+	 * @param lengths array of entry lengths
+	 */
+	private CRLEntryIndex(BigInteger[] serialNumbers, long[] offsets, int[] lengths) {
+		this.serialNumbers = serialNumbers;
+		this.offsets = offsets;
+		this.lengths = lengths;
+	}
+
+	/**
+	 * Returns the number of indexed entries
+	 *
+	 * @return number of entries
+	 */
+	public int size() {
+		return serialNumbers.length;
+	}
+
+	/**
+	 * Returns the content of the CRL entry for the given serial number.
+	 * Only the entry itself is read from the CRL binaries, at its indexed position.
+	 *
+	 * @param crlBinary {@link CRLBinary} the index has been built from
+	 * @param serialNumber {@link BigInteger} the certificate's serial number
+	 * @return byte array with the content of the entry sequence, or null if the serial number is not present in the CRL
+	 * @throws IOException if an error occurs on the entry reading
+	 */
+	public byte[] getEntry(CRLBinary crlBinary, BigInteger serialNumber) throws IOException {
+		int position = Arrays.binarySearch(serialNumbers, serialNumber);
+		if (position < 0) {
+			return null;
+		}
+		final byte[] entryArray = new byte[lengths[position]];
+		try (InputStream is = crlBinary.openStream(offsets[position], lengths[position])) {
+			if (Streams.readFully(is, entryArray) != entryArray.length) {
+				throw new IOException("Unable to read the CRL entry : unexpected end of the CRL binaries!");
+			}
+		}
+		return entryArray;
+	}
+
+	/**
+	 * Builds a {@code CRLEntryIndex}
+	 */
+	static class Builder {
+
+		/** The entries collected in the order of their appearance in the CRL */
+		private final List<Entry> entries = new ArrayList<>();
+
+		/**
+		 * Default constructor
+		 */
+		Builder() {
+			// empty
+		}
+
+		/**
+		 * Adds a revokedCertificates entry
+		 *
+		 * @param serialNumber {@link BigInteger} of the revoked certificate
+		 * @param offset of the entry's content within the CRL binaries
+		 * @param length of the entry's content
+		 */
+		void add(BigInteger serialNumber, long offset, int length) {
+			entries.add(new Entry(serialNumber, offset, length));
+		}
+
+		/**
+		 * Builds the index.
+		 * NOTE: When a serial number is present several times, the first entry is kept (as for a sequential lookup).
+		 *
+		 * @return {@link CRLEntryIndex}
+		 */
+		CRLEntryIndex build() {
+			// the sort is stable, thus the first occurrence of a serial number remains first
+			entries.sort(Comparator.comparing(e -> e.serialNumber));
+
+			final int size = entries.size();
+			final BigInteger[] serialNumbers = new BigInteger[size];
+			final long[] offsets = new long[size];
+			final int[] lengths = new int[size];
+
+			int i = 0;
+			for (Entry entry : entries) {
+				if (i > 0 && serialNumbers[i - 1].equals(entry.serialNumber)) {
+					continue;
+				}
+				serialNumbers[i] = entry.serialNumber;
+				offsets[i] = entry.offset;
+				lengths[i] = entry.length;
+				i++;
+			}
+			if (i < size) {
+				return new CRLEntryIndex(Arrays.copyOf(serialNumbers, i), Arrays.copyOf(offsets, i), Arrays.copyOf(lengths, i));
+			}
+			return new CRLEntryIndex(serialNumbers, offsets, lengths);
+		}
+
+	}
+
+	/**
+	 * Represents a position of a revokedCertificates entry within the CRL
+	 */
+	private static class Entry {
+
+		/** The serial number of the revoked certificate */
+		private final BigInteger serialNumber;
+
+		/** The offset of the entry's content */
+		private final long offset;
+
+		/** The length of the entry's content */
+		private final int length;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param serialNumber {@link BigInteger}
+		 * @param offset of the entry's content
+		 * @param length of the entry's content
+		 */
+		private Entry(BigInteger serialNumber, long offset, int length) {
+			this.serialNumber = serialNumber;
+			this.offset = offset;
+			this.length = length;
+		}
+
+	}
+
+}
@@ -0,0 +1,161 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl.stream.impl;
+
+import eu.europa.esig.dss.crl.CRLValidity;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class keeps the serial number indexes of the recently processed CRLs, allowing to retrieve
+ * the revocation information in O(log n) instead of a sequential parsing of the CRL for every certificate.
+ * The indexes are identified by the digest of the CRL binaries.
+ * <p>
+ * NOTE: The CRL binaries are not kept by the cache, only the positions of the entries.
+ */
+public final class CRLEntryIndexCache {
+
+	/** The default maximum number of the cached indexes */
+	private static final int DEFAULT_MAX_SIZE = 10;
+
+	/** Map between CRL identifiers and their indexes, ordered by the last access */
+	private final Map<String, CRLEntryIndex> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The maximum number of the cached indexes */
+	private int maxSize = DEFAULT_MAX_SIZE;
+
+	/**
+	 * Singleton
+	 */
+	private CRLEntryIndexCache() {
+		// empty
+	}
+
+	/**
+	 * Returns an instance of the CRLEntryIndexCache class
+	 *
+	 * @return {@link CRLEntryIndexCache} singleton
+	 */
+	public static CRLEntryIndexCache getInstance() {
+		return SingletonHolder.INSTANCE;
+	}
+
+	/**
+	 * Sets the maximum number of CRL indexes to be kept in memory.
+	 * When the value is 0, no index is created and the CRL is parsed sequentially for every serial number lookup.
+	 * <p>
+	 * Default : 10
+	 *
+	 * @param maxSize the maximum number of cached indexes
+	 */
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size of the cache cannot be negative!");
+		}
+		synchronized (cache) {
+			this.maxSize = maxSize;
+			ensureSize();
+		}
+	}
+
+	/**
+	 * Returns whether the indexing of CRLs is enabled
+	 *
+	 * @return TRUE if the CRL indexes shall be used, FALSE otherwise
+	 */
+	public boolean isEnabled() {
+		synchronized (cache) {
+			return maxSize > 0;
+		}
+	}
+
+	/**
+	 * Returns the number of cached indexes
+	 *
+	 * @return number of indexes
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Removes all cached indexes
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Returns the index for the given {@code crlValidity}, builds it on the first call
+	 *
+	 * @param crlValidity {@link CRLValidity}
+	 * @param parser {@link CRLParser} to be used to build the index
+	 * @return {@link CRLEntryIndex}
+	 * @throws IOException if an error occurs on the CRL parsing
+	 */
+	CRLEntryIndex getIndex(CRLValidity crlValidity, CRLParser parser) throws IOException {
+		final String key = crlValidity.getCrlBinary().asXmlId();
+		CRLEntryIndex index;
+		synchronized (cache) {
+			index = cache.get(key);
+		}
+		if (index == null) {
+			// built outside the lock, in order to not block the lookups within other CRLs
+			try (InputStream is = crlValidity.toCRLInputStream(); BufferedInputStream bis = new BufferedInputStream(is)) {
+				index = parser.buildEntryIndex(bis);
+			}
+			synchronized (cache) {
+				cache.put(key, index);
+				ensureSize();
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Removes the least recently used indexes exceeding the maximum size.
+	 * Shall be called within the synchronized block.
+	 */
+	private void ensureSize() {
+		while (cache.size() > maxSize) {
+			cache.remove(cache.keySet().iterator().next());
+		}
+	}
+
+	/**
+	 * Lazily initialized singleton holder
+	 */
+	private static final class SingletonHolder {
+
+		/** The singleton instance */
+		private static final CRLEntryIndexCache INSTANCE = new CRLEntryIndexCache();
+
+	}
+
+}
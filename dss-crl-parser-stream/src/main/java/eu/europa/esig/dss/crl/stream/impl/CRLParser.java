@@ -42,6 +42,7 @@ import org.slf4j.LoggerFactory;
 import javax.security.auth.x500.X500Principal;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
@@ -181,9 +182,7 @@ class CRLParser {
 					if (BERTags.INTEGER == entryTagNo) {
 						ASN1Integer asn1SerialNumber = rebuildASN1Integer(readNbBytes(bais, entryLength));
 						if (serialNumber.equals(asn1SerialNumber.getValue())) {
-							ASN1Sequence asn1Sequence = rebuildASN1Sequence(entryArray);
-							CRLEntry crlEntry = CRLEntry.getInstance(asn1Sequence);
-							return new X509CRLEntryObject(crlEntry);
+							return buildCRLEntry(entryArray);
 						}
 					}
 				}
@@ -196,6 +195,106 @@ class CRLParser {
 		return null;
 	}
 
+	/**
+	 * This method parses the revokedCertificates sequence of the CRL and builds an index
+	 * between the revoked serial numbers and the position of the corresponding entries within the CRL binaries
+	 *
+	 * @param is
+	 *            an instance of {@link InputStream} with the DER encoded CRL
+	 * @return {@link CRLEntryIndex}
+	 * @throws IOException if an exception occurs
+	 */
+	public CRLEntryIndex buildEntryIndex(InputStream is) throws IOException {
+		final CRLEntryIndex.Builder builder = new CRLEntryIndex.Builder();
+
+		final PositionInputStream pis = new PositionInputStream(is);
+
+		// Skip CertificateList Sequence info
+		consumeTagIntro(pis);
+
+		// Read TBSCertList Sequence
+		consumeTagIntro(pis);
+
+		// Skip all before mandatory thisUpdate
+		int tag = -1;
+		int tagNo = BERTags.NULL;
+		int length = -1;
+		do {
+			tag = DERUtil.readTag(pis);
+			if (tag < 0) {
+				// EOF
+				return builder.build();
+			}
+			tagNo = DERUtil.readTagNumber(pis, tag);
+			length = DERUtil.readLength(pis);
+			skip(pis, length);
+		} while (!isDate(tagNo));
+
+		tag = DERUtil.readTag(pis);
+		tagNo = DERUtil.readTagNumber(pis, tag);
+		length = DERUtil.readLength(pis);
+
+		// TBSCertList -> nextUpdate (optional)
+		if (isDate(tagNo)) {
+			skip(pis, length);
+
+			tag = DERUtil.readTag(pis);
+			tagNo = DERUtil.readTagNumber(pis, tag);
+			length = DERUtil.readLength(pis);
+		}
+
+		// TBSCertList -> revokedCertificates (optional)
+		if (tagNo != BERTags.SEQUENCE) {
+			return builder.build();
+		}
+
+		final long end = pis.getPosition() + length;
+		while (pis.getPosition() < end) {
+			tag = DERUtil.readTag(pis);
+			if (tag < 0) {
+				// EOF
+				break;
+			}
+
+			tagNo = DERUtil.readTagNumber(pis, tag);
+			length = DERUtil.readLength(pis);
+			final long entryOffset = pis.getPosition();
+
+			if (tagNo == BERTags.SEQUENCE) {
+				int entryTag = DERUtil.readTag(pis);
+				int entryTagNo = DERUtil.readTagNumber(pis, entryTag);
+				int entryLength = DERUtil.readLength(pis);
+
+				// SerialNumber
+				if (BERTags.INTEGER == entryTagNo) {
+					ASN1Integer asn1SerialNumber = rebuildASN1Integer(readNbBytes(pis, entryLength));
+					builder.add(asn1SerialNumber.getValue(), entryOffset, length);
+				}
+				skip(pis, (int) (entryOffset + length - pis.getPosition()));
+
+			} else {
+				LOG.debug("Should only contain SEQUENCEs : tagNo = {} (ignored)", tagNo);
+				skip(pis, length);
+			}
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * This method builds an {@code X509CRLEntry} from the content of a revokedCertificates entry
+	 *
+	 * @param entryArray
+	 *            byte array with the content of the revokedCertificates entry sequence
+	 * @return {@link X509CRLEntry}
+	 * @throws IOException if an exception occurs
+	 */
+	public X509CRLEntry buildCRLEntry(byte[] entryArray) throws IOException {
+		ASN1Sequence asn1Sequence = rebuildASN1Sequence(entryArray);
+		CRLEntry crlEntry = CRLEntry.getInstance(asn1Sequence);
+		return new X509CRLEntryObject(crlEntry);
+	}
+
 	/**
 	 * This method allows to retrieve common CRL information (thisUpdate, nextUpdate, signatureAlgorithm,
 	 * signatureValue, extensions,...). It voluntary doesn't parse the revokedCertificates sequence.
@@ -475,4 +574,62 @@ class CRLParser {
 		}
 	}
 
+	/**
+	 * Keeps the number of bytes consumed from the wrapped stream, in order to locate the CRL entries
+	 */
+	private static final class PositionInputStream extends FilterInputStream {
+
+		/** The current position within the stream */
+		private long position;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param in {@link InputStream} to read
+		 */
+		private PositionInputStream(InputStream in) {
+			super(in);
+		}
+
+		/**
+		 * Returns the number of bytes consumed from the stream
+		 *
+		 * @return the current position
+		 */
+		private long getPosition() {
+			return position;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				position++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int count = super.read(b, off, len);
+			if (count > 0) {
+				position += count;
+			}
+			return count;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			position += skipped;
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+	}
+
 }
@@ -96,6 +96,10 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 	@Override
 	public X509CRLEntry getRevocationInfo(CRLValidity crlValidity, BigInteger serialNumber) {
 		CRLParser parser = new CRLParser();
+		CRLEntryIndexCache indexCache = CRLEntryIndexCache.getInstance();
+		if (indexCache.isEnabled()) {
+			return getRevocationInfoFromIndex(crlValidity, serialNumber, parser, indexCache);
+		}
 		X509CRLEntry crlEntry = null;
 		try (InputStream is = crlValidity.toCRLInputStream()) {
 			crlEntry = parser.retrieveRevocationInfo(is, serialNumber);
@@ -105,6 +109,20 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 		return crlEntry;
 	}
 
+	private X509CRLEntry getRevocationInfoFromIndex(CRLValidity crlValidity, BigInteger serialNumber,
+													CRLParser parser, CRLEntryIndexCache indexCache) {
+		try {
+			CRLEntryIndex index = indexCache.getIndex(crlValidity, parser);
+			byte[] entryArray = index.getEntry(crlValidity.getCrlBinary(), serialNumber);
+			if (entryArray != null) {
+				return parser.buildCRLEntry(entryArray);
+			}
+		} catch (IOException e) {
+			LOG.warn("Unable to retrieve the revocation status", e);
+		}
+		return null;
+	}
+
 	private void checkSignatureValue(CRLValidity crlValidity, byte[] signatureValue, SignatureAlgorithm signatureAlgorithm,
 									 byte[] signedData, CertificateToken signer) {
 		try {
@@ -29,14 +29,25 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.utils.Utils;
 
 class CRLParserTest {
@@ -239,4 +250,110 @@ class CRLParserTest {
 		}
 	}
 
+	@Test
+	void buildEntryIndex() throws IOException {
+		try (InputStream fis = CRLParserTest.class.getResourceAsStream("/LTGRCA.crl")) {
+			byte[] crlBinaries = Utils.toByteArray(fis);
+			CRLBinary crlBinary = new CRLBinary(crlBinaries);
+			CRLEntryIndex index = parser.buildEntryIndex(new ByteArrayInputStream(crlBinaries));
+			assertTrue(index.size() > 0);
+
+			BigInteger serialNumber = new BigInteger("5203");
+			byte[] entryArray = index.getEntry(crlBinary, serialNumber);
+			assertNotNull(entryArray);
+
+			X509CRLEntry entry = parser.buildCRLEntry(entryArray);
+			assertNotNull(entry.getRevocationDate());
+			assertNotNull(entry.getRevocationReason());
+			assertEquals(serialNumber, entry.getSerialNumber());
+
+			assertNull(index.getEntry(crlBinary, new BigInteger("52030000000")));
+		}
+	}
+
+	@Test
+	void buildEntryIndexMedium() throws IOException, GeneralSecurityException {
+		try (InputStream fis = CRLParserTest.class.getResourceAsStream("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl")) {
+			byte[] crlBinaries = Utils.toByteArray(fis);
+			CRLBinary crlBinary = new CRLBinary(crlBinaries);
+			CRLEntryIndex index = parser.buildEntryIndex(new ByteArrayInputStream(crlBinaries));
+
+			X509CRL x509CRL = (X509CRL) CertificateFactory.getInstance("X.509").generateCRL(new ByteArrayInputStream(crlBinaries));
+			Set<? extends X509CRLEntry> revokedCertificates = x509CRL.getRevokedCertificates();
+			// the CRL contains several entries with the same serial number
+			assertEquals(revokedCertificates.stream().map(X509CRLEntry::getSerialNumber).distinct().count(), index.size());
+
+			for (X509CRLEntry expected : revokedCertificates) {
+				byte[] entryArray = index.getEntry(crlBinary, expected.getSerialNumber());
+				assertNotNull(entryArray);
+
+				X509CRLEntry entry = parser.buildCRLEntry(entryArray);
+				assertEquals(expected.getSerialNumber(), entry.getSerialNumber());
+				assertNotNull(entry.getRevocationDate());
+			}
+		}
+	}
+
+	@Test
+	void buildEntryIndexKeepsFirstEntry() throws IOException, GeneralSecurityException {
+		try (InputStream fis = CRLParserTest.class.getResourceAsStream("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl")) {
+			byte[] crlBinaries = Utils.toByteArray(fis);
+			CRLBinary crlBinary = new CRLBinary(crlBinaries);
+			CRLEntryIndex index = parser.buildEntryIndex(new ByteArrayInputStream(crlBinaries));
+
+			X509CRL x509CRL = (X509CRL) CertificateFactory.getInstance("X.509").generateCRL(new ByteArrayInputStream(crlBinaries));
+			Set<BigInteger> serialNumbers = new HashSet<>();
+			Set<BigInteger> duplicates = new HashSet<>();
+			for (X509CRLEntry entry : x509CRL.getRevokedCertificates()) {
+				if (!serialNumbers.add(entry.getSerialNumber())) {
+					duplicates.add(entry.getSerialNumber());
+				}
+			}
+			assertFalse(duplicates.isEmpty());
+
+			for (BigInteger serialNumber : duplicates) {
+				X509CRLEntry sequentialEntry = parser.retrieveRevocationInfo(new ByteArrayInputStream(crlBinaries), serialNumber);
+				X509CRLEntry indexedEntry = parser.buildCRLEntry(index.getEntry(crlBinary, serialNumber));
+				assertEquals(sequentialEntry.getRevocationDate(), indexedEntry.getRevocationDate());
+				assertEquals(sequentialEntry.getRevocationReason(), indexedEntry.getRevocationReason());
+			}
+		}
+	}
+
+	@Test
+	void buildEntryIndexWithoutRevokedCertificates() throws IOException {
+		try (InputStream fis = CRLParserTest.class.getResourceAsStream("/DS_NA2_CA-B1.crl")) {
+			byte[] crlBinaries = Utils.toByteArray(fis);
+			CRLBinary crlBinary = new CRLBinary(crlBinaries);
+			CRLEntryIndex index = parser.buildEntryIndex(new ByteArrayInputStream(crlBinaries));
+			assertEquals(0, index.size());
+			assertNull(index.getEntry(crlBinary, BigInteger.ONE));
+		}
+	}
+
+	@Test
+	void buildEntryIndexFromDocument(@TempDir Path tempDir) throws IOException, GeneralSecurityException {
+		Path crlFile = tempDir.resolve("crl.crl");
+		try (InputStream fis = CRLParserTest.class.getResourceAsStream("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl")) {
+			Files.copy(fis, crlFile);
+		}
+		FileDocument crlDocument = new FileDocument(crlFile.toFile());
+		CRLBinary crlBinary = new CRLBinary(crlDocument);
+		CRLEntryIndex index;
+		try (InputStream is = crlDocument.openStream(); BufferedInputStream bis = new BufferedInputStream(is)) {
+			index = parser.buildEntryIndex(bis);
+		}
+
+		X509CRL x509CRL;
+		try (InputStream is = crlDocument.openStream()) {
+			x509CRL = (X509CRL) CertificateFactory.getInstance("X.509").generateCRL(is);
+		}
+		for (X509CRLEntry expected : x509CRL.getRevokedCertificates()) {
+			// the entries are read at their position within the file
+			X509CRLEntry entry = parser.buildCRLEntry(index.getEntry(crlBinary, expected.getSerialNumber()));
+			assertEquals(expected.getSerialNumber(), entry.getSerialNumber());
+			assertNotNull(entry.getRevocationDate());
+		}
+	}
+
 }
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.crl;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import org.bouncycastle.asn1.ASN1GeneralizedTime;
 import org.bouncycastle.asn1.ASN1OctetString;
@@ -35,6 +36,9 @@ import org.bouncycastle.asn1.x509.Time;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * The abstract class containing common code for CRL parsing
  */
@@ -58,6 +62,29 @@ public abstract class AbstractCRLUtils {
 	public CRLBinary buildCRLBinary(byte[] binaries) {
 		return new CRLBinary(getDERContent(binaries));
 	}
+
+	/**
+	 * Builds the {@code CRLBinary} object from a {@code DSSDocument}.
+	 * A DER encoded CRL is kept within the provided document (not loaded into memory),
+	 * while a PEM encoded CRL is converted to DER in memory.
+	 *
+	 * @param document {@link DSSDocument} representing the CRL (DER or PEM encoded)
+	 * @return {@link CRLBinary}
+	 */
+	public CRLBinary buildCRLBinary(DSSDocument document) {
+		int first;
+		try (InputStream is = document.openStream()) {
+			first = is.read();
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to read the CRL : %s", e.getMessage()), e);
+		}
+		if (first == -1) {
+			throw new DSSException("Unsupported CRL. The obtained CRL content is empty!");
+		} else if (isDerEncoded((byte) first)) {
+			return new CRLBinary(document);
+		}
+		return buildCRLBinary(new CRLBinary(document).getBinaries());
+	}
 	
 	private byte[] getDERContent(byte[] binaries) {
 		if (binaries != null && binaries.length > 0) {
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.crl;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.identifier.EncapsulatedRevocationTokenIdentifier;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 
@@ -40,4 +41,14 @@ public class CRLBinary extends EncapsulatedRevocationTokenIdentifier<CRL> {
 		super(derEncoded);
 	}
 
+	/**
+	 * Constructor with a DER encoded CRL stored within a {@code DSSDocument}.
+	 * Allows processing of large CRLs (e.g. spilled to a temporary file) without keeping them in memory.
+	 *
+	 * @param derEncoded {@link DSSDocument} containing DER encoded CRL
+	 */
+	public CRLBinary(DSSDocument derEncoded) {
+		super(derEncoded);
+	}
+
 }
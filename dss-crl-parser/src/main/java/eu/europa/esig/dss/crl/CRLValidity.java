@@ -24,7 +24,6 @@ import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import org.bouncycastle.asn1.x509.ReasonFlags;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Collection;
@@ -124,7 +123,19 @@ public class CRLValidity implements Serializable {
 	 * @return {@link InputStream}
 	 */
 	public InputStream toCRLInputStream() {
-		return new ByteArrayInputStream(getDerEncoded());
+		return crlBinary.openStream();
+	}
+
+	/**
+	 * Opens the InputStream with a part of the CRL's binaries, starting from the given {@code offset}.
+	 * The preceding binaries are not read when the CRL is backed by a random-access document.
+	 *
+	 * @param offset the position within the CRL binaries to start reading from
+	 * @param length the maximum number of bytes to be read
+	 * @return {@link InputStream}
+	 */
+	public InputStream toCRLInputStream(long offset, long length) {
+		return crlBinary.openStream(offset, length);
 	}
 
 	/**
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.crl;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 
 import java.io.IOException;
@@ -39,6 +40,15 @@ public interface ICRLUtils {
 	 */
 	CRLBinary buildCRLBinary(final byte[] binaries);
 
+	/**
+	 * Takes a document and returns DER encoded {@code CRLBinary}.
+	 * A DER encoded document is used as is, without loading its content into memory.
+	 *
+	 * @param document {@link DSSDocument} representing an encoded CRL
+	 * @return DER encoded {@link CRLBinary}
+	 */
+	CRLBinary buildCRLBinary(final DSSDocument document);
+
 	/**
 	 * This method verifies: the signature of the CRL, the key usage of its signing certificate and the coherence
 	 * between the subject names of the CRL signing certificate and the issuer name of the certificate for which the
@@ -22,15 +22,21 @@ package eu.europa.esig.dss.crl;
 
 import eu.europa.esig.dss.enumerations.KeyUsageBit;
 import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509CRLEntry;
@@ -263,6 +269,43 @@ public abstract class AbstractTestCRLUtils extends AbstractCRLParserTestUtils {
 		}
 	}
 
+	@Test
+	public void retrieveRevocationFromFileDocument(@TempDir Path tempDir) throws Exception {
+		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl");
+				InputStream isCer = AbstractTestCRLUtils.class.getResourceAsStream("/citizen_ca.cer")) {
+
+			CertificateToken certificateToken = loadCert(isCer);
+
+			Path crlFile = tempDir.resolve("crl.crl");
+			Files.copy(is, crlFile);
+			DSSDocument crlDocument = new FileDocument(crlFile.toFile());
+
+			CRLBinary crlBinary = CRLUtils.buildCRLBinary(crlDocument);
+			assertEquals(CRLUtils.buildCRLBinary(Files.readAllBytes(crlFile)), crlBinary);
+			CRLValidity validity = CRLUtils.buildCRLValidity(crlBinary, certificateToken);
+			assertNotNull(validity.getThisUpdate());
+
+			BigInteger serialNumber = new BigInteger("288350169419475868349393253038503091234");
+			X509CRLEntry entry = CRLUtils.getRevocationInfo(validity, serialNumber);
+			assertNotNull(entry);
+			assertEquals(serialNumber, entry.getSerialNumber());
+
+			serialNumber = new BigInteger("111111111111111111111111111");
+			entry = CRLUtils.getRevocationInfo(validity, serialNumber);
+			assertNull(entry);
+		}
+	}
+
+	@Test
+	public void pemFileDocumentTest() throws Exception {
+		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/belgium2.pem.crl");
+				InputStream isDer = AbstractTestCRLUtils.class.getResourceAsStream("/belgium2.crl")) {
+			CRLBinary crlBinary = CRLUtils.buildCRLBinary(new InMemoryDocument(toByteArray(is)));
+			assertArrayEquals(toByteArray(isDer), crlBinary.getBinaries());
+		}
+		assertThrows(DSSException.class, () -> CRLUtils.buildCRLBinary(new InMemoryDocument(new byte[] {})));
+	}
+
 	@Test
 	public void testARLFile() throws Exception {
 		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/notaires2020.arl");
@@ -51,8 +51,10 @@ import eu.europa.esig.dss.jaxb.object.Message;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class represents the detailed report built during the validation process. It contains information on each
@@ -80,6 +82,26 @@ public class DetailedReport {
 	 */
 	private DetailedReportMessageCollector messageCollector;
 
+	/**
+	 * Map between token ids and the corresponding Basic Building Blocks
+	 */
+	private Map<String, XmlBasicBuildingBlocks> basicBuildingBlocksById;
+
+	/**
+	 * Map between signature ids and the corresponding signatures
+	 */
+	private Map<String, XmlSignature> signaturesById;
+
+	/**
+	 * Map between timestamp ids and the corresponding timestamps
+	 */
+	private Map<String, XmlTimestamp> timestampsById;
+
+	/**
+	 * Map between certificate ids and the corresponding certificates
+	 */
+	private Map<String, XmlCertificate> certificatesById;
+
 	/**
 	 * The default constructor
 	 *
@@ -147,15 +169,16 @@ public class DetailedReport {
 	 * @return the XmlBasicBuildingBlocks
 	 */
 	public XmlBasicBuildingBlocks getBasicBuildingBlockById(String tokenId) {
-		List<XmlBasicBuildingBlocks> basicBuildingBlocks = jaxbDetailedReport.getBasicBuildingBlocks();
-		if (basicBuildingBlocks != null) {
-			for (XmlBasicBuildingBlocks xmlBasicBuildingBlocks : basicBuildingBlocks) {
-				if (tokenId.equals(xmlBasicBuildingBlocks.getId())) {
-					return xmlBasicBuildingBlocks;
+		if (basicBuildingBlocksById == null) {
+			basicBuildingBlocksById = new HashMap<>();
+			List<XmlBasicBuildingBlocks> basicBuildingBlocks = jaxbDetailedReport.getBasicBuildingBlocks();
+			if (basicBuildingBlocks != null) {
+				for (XmlBasicBuildingBlocks xmlBasicBuildingBlocks : basicBuildingBlocks) {
+					basicBuildingBlocksById.putIfAbsent(xmlBasicBuildingBlocks.getId(), xmlBasicBuildingBlocks);
 				}
 			}
 		}
-		return null;
+		return basicBuildingBlocksById.get(tokenId);
 	}
 
 	/**
@@ -660,46 +683,31 @@ public class DetailedReport {
 	 * @return {@link XmlTimestamp}
 	 */
 	public XmlTimestamp getXmlTimestampById(String timestampId) {
-		for (XmlTimestamp xmlTimestamp : getIndependentTimestamps()) {
-			if (xmlTimestamp.getId().equals(timestampId)) {
-				return xmlTimestamp;
-			}
-			for (XmlEvidenceRecord xmlEvidenceRecord : xmlTimestamp.getEvidenceRecords()) {
-				for (XmlTimestamp xmlERTimestamp : xmlEvidenceRecord.getTimestamps()) {
-					if (xmlERTimestamp.getId().equals(timestampId)) {
-						return xmlERTimestamp;
-					}
+		if (timestampsById == null) {
+			timestampsById = new HashMap<>();
+			for (XmlTimestamp xmlTimestamp : getIndependentTimestamps()) {
+				timestampsById.putIfAbsent(xmlTimestamp.getId(), xmlTimestamp);
+				for (XmlEvidenceRecord xmlEvidenceRecord : xmlTimestamp.getEvidenceRecords()) {
+					addTimestamps(xmlEvidenceRecord.getTimestamps());
 				}
 			}
-		}
-
-		List<XmlSignature> signatures = getSignatures();
-		for (XmlSignature xmlSignature : signatures) {
-			List<XmlTimestamp> timestamps = xmlSignature.getTimestamps();
-			for (XmlTimestamp xmlTimestamp : timestamps) {
-				if (xmlTimestamp.getId().equals(timestampId)) {
-					return xmlTimestamp;
+			for (XmlSignature xmlSignature : getSignatures()) {
+				addTimestamps(xmlSignature.getTimestamps());
+				for (XmlEvidenceRecord xmlEvidenceRecord : xmlSignature.getEvidenceRecords()) {
+					addTimestamps(xmlEvidenceRecord.getTimestamps());
 				}
 			}
-			for (XmlEvidenceRecord xmlEvidenceRecord : xmlSignature.getEvidenceRecords()) {
-				for (XmlTimestamp xmlTimestamp : xmlEvidenceRecord.getTimestamps()) {
-					if (xmlTimestamp.getId().equals(timestampId)) {
-						return xmlTimestamp;
-					}
-				}
+			for (XmlEvidenceRecord xmlEvidenceRecord : getIndependentEvidenceRecords()) {
+				addTimestamps(xmlEvidenceRecord.getTimestamps());
 			}
 		}
+		return timestampsById.get(timestampId);
+	}
 
-		List<XmlEvidenceRecord> independentEvidenceRecords = getIndependentEvidenceRecords();
-		for (XmlEvidenceRecord xmlEvidenceRecord : independentEvidenceRecords) {
-			List<XmlTimestamp> timestamps = xmlEvidenceRecord.getTimestamps();
-			for (XmlTimestamp xmlTimestamp : timestamps) {
-				if (xmlTimestamp.getId().equals(timestampId)) {
-					return xmlTimestamp;
-				}
-			}
+	private void addTimestamps(List<XmlTimestamp> timestamps) {
+		for (XmlTimestamp xmlTimestamp : timestamps) {
+			timestampsById.putIfAbsent(xmlTimestamp.getId(), xmlTimestamp);
 		}
-		return null;
 	}
 
 	/**
@@ -710,15 +718,13 @@ public class DetailedReport {
 	 * @return {@link XmlSignature}
 	 */
 	public XmlSignature getXmlSignatureById(String signatureId) {
-		List<XmlSignature> signatures = getSignatures();
-		if (signatures != null) {
-			for (XmlSignature xmlSignature : signatures) {
-				if (signatureId.equals(xmlSignature.getId())) {
-					return xmlSignature;
-				}
+		if (signaturesById == null) {
+			signaturesById = new HashMap<>();
+			for (XmlSignature xmlSignature : getSignatures()) {
+				signaturesById.putIfAbsent(xmlSignature.getId(), xmlSignature);
 			}
 		}
-		return null;
+		return signaturesById.get(signatureId);
 	}
 
 	/**
@@ -729,15 +735,13 @@ public class DetailedReport {
 	 * @return {@link XmlCertificate}
 	 */
 	public XmlCertificate getXmlCertificateById(String certificateId) {
-		List<XmlCertificate> certificates = getCertificates();
-		if (certificates != null) {
-			for (XmlCertificate xmlCertificate : certificates) {
-				if (certificateId.equals(xmlCertificate.getId())) {
-					return xmlCertificate;
-				}
+		if (certificatesById == null) {
+			certificatesById = new HashMap<>();
+			for (XmlCertificate xmlCertificate : getCertificates()) {
+				certificatesById.putIfAbsent(xmlCertificate.getId(), xmlCertificate);
 			}
 		}
-		return null;
+		return certificatesById.get(certificateId);
 	}
 
 	/**
@@ -0,0 +1,93 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.detailedreport;
+
+import eu.europa.esig.dss.detailedreport.jaxb.XmlBasicBuildingBlocks;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlCertificate;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlDetailedReport;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlEvidenceRecord;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlSignature;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlTimestamp;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DetailedReportTest {
+
+	private static final int NUMBER_OF_SIGNATURES = 500;
+
+	@Test
+	void getByIdTest() {
+		XmlDetailedReport xmlDetailedReport = new XmlDetailedReport();
+		for (int i = 0; i < NUMBER_OF_SIGNATURES; i++) {
+			XmlSignature xmlSignature = new XmlSignature();
+			xmlSignature.setId("S-" + i);
+			XmlTimestamp xmlTimestamp = new XmlTimestamp();
+			xmlTimestamp.setId("T-" + i);
+			xmlSignature.getTimestamps().add(xmlTimestamp);
+			XmlEvidenceRecord xmlEvidenceRecord = new XmlEvidenceRecord();
+			xmlEvidenceRecord.setId("E-" + i);
+			XmlTimestamp xmlERTimestamp = new XmlTimestamp();
+			xmlERTimestamp.setId("ET-" + i);
+			xmlEvidenceRecord.getTimestamps().add(xmlERTimestamp);
+			xmlSignature.getEvidenceRecords().add(xmlEvidenceRecord);
+			xmlDetailedReport.getSignatureOrTimestampOrEvidenceRecord().add(xmlSignature);
+
+			XmlTimestamp detachedTimestamp = new XmlTimestamp();
+			detachedTimestamp.setId("DT-" + i);
+			xmlDetailedReport.getSignatureOrTimestampOrEvidenceRecord().add(detachedTimestamp);
+
+			XmlCertificate xmlCertificate = new XmlCertificate();
+			xmlCertificate.setId("C-" + i);
+			xmlDetailedReport.getSignatureOrTimestampOrEvidenceRecord().add(xmlCertificate);
+
+			for (String id : new String[] { "S-" + i, "T-" + i, "C-" + i }) {
+				XmlBasicBuildingBlocks xmlBasicBuildingBlocks = new XmlBasicBuildingBlocks();
+				xmlBasicBuildingBlocks.setId(id);
+				xmlDetailedReport.getBasicBuildingBlocks().add(xmlBasicBuildingBlocks);
+			}
+		}
+
+		DetailedReport detailedReport = new DetailedReport(xmlDetailedReport);
+		assertEquals(3 * NUMBER_OF_SIGNATURES, detailedReport.getBasicBuildingBlocksNumber());
+
+		for (int i = 0; i < NUMBER_OF_SIGNATURES; i++) {
+			XmlSignature xmlSignature = detailedReport.getXmlSignatureById("S-" + i);
+			assertNotNull(xmlSignature);
+			assertSame(xmlSignature.getTimestamps().get(0), detailedReport.getXmlTimestampById("T-" + i));
+			assertSame(xmlSignature.getEvidenceRecords().get(0).getTimestamps().get(0), detailedReport.getXmlTimestampById("ET-" + i));
+			assertEquals("DT-" + i, detailedReport.getXmlTimestampById("DT-" + i).getId());
+			assertEquals("C-" + i, detailedReport.getXmlCertificateById("C-" + i).getId());
+			assertSame(xmlDetailedReport.getBasicBuildingBlocks().get(3 * i), detailedReport.getBasicBuildingBlockById("S-" + i));
+			assertSame(xmlDetailedReport.getBasicBuildingBlocks().get(3 * i + 1), detailedReport.getBasicBuildingBlockById("T-" + i));
+			assertSame(xmlDetailedReport.getBasicBuildingBlocks().get(3 * i + 2), detailedReport.getBasicBuildingBlockById("C-" + i));
+		}
+
+		assertNull(detailedReport.getXmlSignatureById("T-0"));
+		assertNull(detailedReport.getXmlTimestampById("S-0"));
+		assertNull(detailedReport.getXmlCertificateById("S-0"));
+		assertNull(detailedReport.getBasicBuildingBlockById("DT-0"));
+	}
+
+}
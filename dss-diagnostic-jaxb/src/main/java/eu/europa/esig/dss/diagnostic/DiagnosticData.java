@@ -49,8 +49,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -76,6 +78,24 @@ public class DiagnosticData {
 	/** List of found evidence records */
 	private List<EvidenceRecordWrapper> foundEvidenceRecords;
 
+	/** List of used revocation data */
+	private List<RevocationWrapper> usedRevocations;
+
+	/** Map between signature ids and the corresponding wrappers */
+	private Map<String, SignatureWrapper> signaturesById;
+
+	/** Map between certificate ids and the corresponding wrappers */
+	private Map<String, CertificateWrapper> certificatesById;
+
+	/** Map between timestamp ids and the corresponding wrappers */
+	private Map<String, TimestampWrapper> timestampsById;
+
+	/** Map between evidence record ids and the corresponding wrappers */
+	private Map<String, EvidenceRecordWrapper> evidenceRecordsById;
+
+	/** Map between revocation ids and the corresponding wrappers */
+	private Map<String, RevocationWrapper> revocationsById;
+
 	/**
 	 * Default constructor
 	 *
@@ -653,25 +673,19 @@ public class DiagnosticData {
 	 * @return a signature wrapper or null
 	 */
 	public SignatureWrapper getSignatureById(String id) {
-		List<SignatureWrapper> signatures = getSignatures();
-		if (signatures != null) {
-			for (SignatureWrapper xmlSignature : signatures) {
-				if (id.equals(xmlSignature.getId())) {
-					return xmlSignature;
-				}
+		if (signaturesById == null) {
+			signaturesById = new HashMap<>();
+			for (SignatureWrapper signatureWrapper : getSignatures()) {
+				signaturesById.putIfAbsent(signatureWrapper.getId(), signatureWrapper);
 			}
 		}
-		return null;
+		return signaturesById.get(id);
 	}
 
 	private SignatureWrapper getSignatureByIdNullSafe(String id) {
-		List<SignatureWrapper> signatures = getSignatures();
-		if (signatures != null) {
-			for (SignatureWrapper xmlSignature : signatures) {
-				if (id.equals(xmlSignature.getId())) {
-					return xmlSignature;
-				}
-			}
+		SignatureWrapper signature = getSignatureById(id);
+		if (signature != null) {
+			return signature;
 		}
 		return new SignatureWrapper(new XmlSignature()); // TODO improve ?
 	}
@@ -692,13 +706,13 @@ public class DiagnosticData {
 	 * @return timestamp wrapper or null
 	 */
 	public TimestampWrapper getTimestampById(String id) {
-		List<TimestampWrapper> allTimestamps = getTimestampList();
-		for (TimestampWrapper timestampWrapper : allTimestamps) {
-			if (id.equals(timestampWrapper.getId())) {
-				return timestampWrapper;
+		if (timestampsById == null) {
+			timestampsById = new HashMap<>();
+			for (TimestampWrapper timestampWrapper : getTimestampList()) {
+				timestampsById.putIfAbsent(timestampWrapper.getId(), timestampWrapper);
 			}
 		}
-		return null;
+		return timestampsById.get(id);
 	}
 
 	/**
@@ -724,15 +738,13 @@ public class DiagnosticData {
 	 * @return a certificate wrapper or null
 	 */
 	public CertificateWrapper getUsedCertificateById(String id) {
-		List<CertificateWrapper> certificates = getUsedCertificates();
-		if (certificates != null) {
-			for (CertificateWrapper certificate : certificates) {
-				if (id.equals(certificate.getId())) {
-					return certificate;
-				}
+		if (certificatesById == null) {
+			certificatesById = new HashMap<>();
+			for (CertificateWrapper certificateWrapper : getUsedCertificates()) {
+				certificatesById.putIfAbsent(certificateWrapper.getId(), certificateWrapper);
 			}
 		}
-		return null;
+		return certificatesById.get(id);
 	}
 
 	/**
@@ -988,13 +1000,13 @@ public class DiagnosticData {
 	 * @return evidence record wrapper or null
 	 */
 	public EvidenceRecordWrapper getEvidenceRecordById(String id) {
-		List<EvidenceRecordWrapper> evidenceRecords = getEvidenceRecords();
-		for (EvidenceRecordWrapper evidenceRecord : evidenceRecords) {
-			if (id.equals(evidenceRecord.getId())) {
-				return evidenceRecord;
+		if (evidenceRecordsById == null) {
+			evidenceRecordsById = new HashMap<>();
+			for (EvidenceRecordWrapper evidenceRecordWrapper : getEvidenceRecords()) {
+				evidenceRecordsById.putIfAbsent(evidenceRecordWrapper.getId(), evidenceRecordWrapper);
 			}
 		}
-		return null;
+		return evidenceRecordsById.get(id);
 	}
 
 	/**
@@ -1069,11 +1081,22 @@ public class DiagnosticData {
 	 * @return a set of revocation data
 	 */
 	public Set<RevocationWrapper> getAllRevocationData() {
-		Set<RevocationWrapper> revocationData = new HashSet<>();
-		for (XmlRevocation xmlRevocation : wrapped.getUsedRevocations()) {
-			revocationData.add(new RevocationWrapper(xmlRevocation));
+		return new HashSet<>(getUsedRevocations());
+	}
+
+	/**
+	 * Returns a list of used revocation data wrappers, created only on the first call
+	 *
+	 * @return a list of {@link RevocationWrapper}s
+	 */
+	private List<RevocationWrapper> getUsedRevocations() {
+		if (usedRevocations == null) {
+			usedRevocations = new ArrayList<>();
+			for (XmlRevocation xmlRevocation : wrapped.getUsedRevocations()) {
+				usedRevocations.add(new RevocationWrapper(xmlRevocation));
+			}
 		}
-		return revocationData;
+		return usedRevocations;
 	}
 	
 	/**
@@ -1099,12 +1122,7 @@ public class DiagnosticData {
 	 * @return {@link CertificateWrapper}
 	 */
 	public CertificateWrapper getCertificateById(String id) {
-		for (CertificateWrapper certificateWrapper : getUsedCertificates()) {
-			if (id.equals(certificateWrapper.getId())) {
-				return certificateWrapper;
-			}
-		}
-		return null;
+		return getUsedCertificateById(id);
 	}
 	
 	/**
@@ -1113,12 +1131,13 @@ public class DiagnosticData {
 	 * @return {@link RevocationWrapper}
 	 */
 	public RevocationWrapper getRevocationById(String id) {
-		for (RevocationWrapper revocationWrapper : getAllRevocationData()) {
-			if (id.equals(revocationWrapper.getId())) {
-				return revocationWrapper;
+		if (revocationsById == null) {
+			revocationsById = new HashMap<>();
+			for (RevocationWrapper revocationWrapper : getUsedRevocations()) {
+				revocationsById.putIfAbsent(revocationWrapper.getId(), revocationWrapper);
 			}
 		}
-		return null;
+		return revocationsById.get(id);
 	}
 	
 	/**
@@ -0,0 +1,112 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.diagnostic;
+
+import eu.europa.esig.dss.diagnostic.jaxb.XmlCertificate;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlEvidenceRecord;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlRevocation;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlSignature;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlTimestamp;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DiagnosticDataTest {
+
+	private static final int NUMBER_OF_SIGNATURES = 500;
+
+	@Test
+	void getByIdTest() {
+		DiagnosticData diagnosticData = new DiagnosticData(createDiagnosticData());
+		assertEquals(NUMBER_OF_SIGNATURES, diagnosticData.getSignatures().size());
+		assertEquals(2 * NUMBER_OF_SIGNATURES, diagnosticData.getTimestampList().size());
+		assertEquals(3 * NUMBER_OF_SIGNATURES, diagnosticData.getUsedCertificates().size());
+		assertEquals(NUMBER_OF_SIGNATURES, diagnosticData.getAllRevocationData().size());
+
+		for (int i = 0; i < NUMBER_OF_SIGNATURES; i++) {
+			SignatureWrapper signature = diagnosticData.getSignatureById("S-" + i);
+			assertNotNull(signature);
+			assertSame(diagnosticData.getSignatures().get(i), signature);
+			assertSame(signature, diagnosticData.getSignatureById("S-" + i));
+
+			for (int j = 2 * i; j < 2 * i + 2; j++) {
+				TimestampWrapper timestamp = diagnosticData.getTimestampById("T-" + j);
+				assertNotNull(timestamp);
+				assertSame(diagnosticData.getTimestampList().get(j), timestamp);
+			}
+			for (int j = 3 * i; j < 3 * i + 3; j++) {
+				CertificateWrapper certificate = diagnosticData.getUsedCertificateById("C-" + j);
+				assertNotNull(certificate);
+				assertSame(diagnosticData.getUsedCertificates().get(j), certificate);
+				assertSame(certificate, diagnosticData.getCertificateById("C-" + j));
+			}
+
+			RevocationWrapper revocation = diagnosticData.getRevocationById("R-" + i);
+			assertNotNull(revocation);
+			assertSame(revocation, diagnosticData.getRevocationById("R-" + i));
+			assertEquals("R-" + i, revocation.getId());
+
+			EvidenceRecordWrapper evidenceRecord = diagnosticData.getEvidenceRecordById("E-" + i);
+			assertNotNull(evidenceRecord);
+			assertSame(diagnosticData.getEvidenceRecords().get(i), evidenceRecord);
+		}
+
+		assertNull(diagnosticData.getSignatureById("S-" + NUMBER_OF_SIGNATURES));
+		assertNull(diagnosticData.getTimestampById("S-0"));
+		assertNull(diagnosticData.getUsedCertificateById("T-0"));
+		assertNull(diagnosticData.getRevocationById("C-0"));
+		assertNull(diagnosticData.getEvidenceRecordById("R-0"));
+	}
+
+	private XmlDiagnosticData createDiagnosticData() {
+		XmlDiagnosticData xmlDiagnosticData = new XmlDiagnosticData();
+		for (int i = 0; i < NUMBER_OF_SIGNATURES; i++) {
+			XmlSignature xmlSignature = new XmlSignature();
+			xmlSignature.setId("S-" + i);
+			xmlDiagnosticData.getSignatures().add(xmlSignature);
+
+			for (int j = 2 * i; j < 2 * i + 2; j++) {
+				XmlTimestamp xmlTimestamp = new XmlTimestamp();
+				xmlTimestamp.setId("T-" + j);
+				xmlDiagnosticData.getUsedTimestamps().add(xmlTimestamp);
+			}
+			for (int j = 3 * i; j < 3 * i + 3; j++) {
+				XmlCertificate xmlCertificate = new XmlCertificate();
+				xmlCertificate.setId("C-" + j);
+				xmlDiagnosticData.getUsedCertificates().add(xmlCertificate);
+			}
+
+			XmlRevocation xmlRevocation = new XmlRevocation();
+			xmlRevocation.setId("R-" + i);
+			xmlDiagnosticData.getUsedRevocations().add(xmlRevocation);
+
+			XmlEvidenceRecord xmlEvidenceRecord = new XmlEvidenceRecord();
+			xmlEvidenceRecord.setId("E-" + i);
+			xmlDiagnosticData.getEvidenceRecords().add(xmlEvidenceRecord);
+		}
+		return xmlDiagnosticData;
+	}
+
+}
@@ -0,0 +1,83 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.asn1.generation;
+
+import eu.europa.esig.dss.evidencerecord.asn1.digest.ASN1EvidenceRecordDataObjectDigestBuilder;
+import eu.europa.esig.dss.evidencerecord.common.generation.AbstractEvidenceRecordGenerator;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.TimestampBinary;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.x509.evidencerecord.digest.DataObjectDigestBuilder;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+import org.bouncycastle.asn1.cms.ContentInfo;
+import org.bouncycastle.asn1.tsp.ArchiveTimeStamp;
+import org.bouncycastle.asn1.tsp.EvidenceRecord;
+import org.bouncycastle.asn1.tsp.PartialHashtree;
+
+import java.util.List;
+
+/**
+ * Generates IETF RFC 4998 ERS evidence records for a batch of data objects, using a single time-stamp
+ * covering the root of a hash tree built over all data objects.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * ASN1EvidenceRecordGenerator generator = new ASN1EvidenceRecordGenerator(tspSource);
+ * EvidenceRecordBatch batch = generator.generate(documents);
+ * for (DSSDocument evidenceRecord : batch) {
+ *     // evidence records are returned in the order of the provided documents
+ * }
+ * }
+ * </pre>
+ *
+ */
+public class ASN1EvidenceRecordGenerator extends AbstractEvidenceRecordGenerator {
+
+    /**
+     * Default constructor
+     *
+     * @param tspSource {@link TSPSource} to be used to time-stamp the root hash of a batch
+     */
+    public ASN1EvidenceRecordGenerator(final TSPSource tspSource) {
+        super(tspSource);
+    }
+
+    @Override
+    protected DataObjectDigestBuilder getDataObjectDigestBuilder(DSSDocument document) {
+        return new ASN1EvidenceRecordDataObjectDigestBuilder(document, digestAlgorithm);
+    }
+
+    @Override
+    protected DSSDocument buildEvidenceRecord(List<List<byte[]>> reducedHashTree, TimestampBinary timestampBinary) {
+        final PartialHashtree[] partialHashtrees = new PartialHashtree[reducedHashTree.size()];
+        for (int i = 0; i < reducedHashTree.size(); i++) {
+            List<byte[]> hashValues = reducedHashTree.get(i);
+            partialHashtrees[i] = new PartialHashtree(hashValues.toArray(new byte[0][]));
+        }
+        final ArchiveTimeStamp archiveTimeStamp = new ArchiveTimeStamp(DSSASN1Utils.getAlgorithmIdentifier(digestAlgorithm),
+                partialHashtrees, ContentInfo.getInstance(timestampBinary.getBytes()));
+        final EvidenceRecord evidenceRecord = new EvidenceRecord(null, null, archiveTimeStamp);
+        return new InMemoryDocument(DSSASN1Utils.getDEREncoded(evidenceRecord));
+    }
+
+}
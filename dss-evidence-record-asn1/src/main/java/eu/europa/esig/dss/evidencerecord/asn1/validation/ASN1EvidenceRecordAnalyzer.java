@@ -22,10 +22,11 @@ package eu.europa.esig.dss.evidencerecord.asn1.validation;
 
 import eu.europa.esig.dss.enumerations.EvidenceRecordTypeEnum;
 import eu.europa.esig.dss.model.DSSDocument;
-import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.exception.IllegalInputException;
 import eu.europa.esig.dss.evidencerecord.common.validation.DefaultEvidenceRecordAnalyzer;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormatDetector;
 import eu.europa.esig.dss.spi.x509.evidencerecord.EvidenceRecord;
 
 /**
@@ -64,8 +65,15 @@ public class ASN1EvidenceRecordAnalyzer extends DefaultEvidenceRecordAnalyzer {
 
     @Override
     public boolean isSupported(DSSDocument dssDocument) {
-        byte firstByte = DSSUtils.readFirstByte(dssDocument);
-        return DSSASN1Utils.isASN1SequenceTag(firstByte) && canBuildEvidenceRecord(dssDocument);
+        return isSupported(dssDocument, DocumentFormatDetector.detect(dssDocument));
+    }
+
+    @Override
+    public boolean isSupported(DSSDocument dssDocument, DocumentFormat format) {
+        if (DocumentFormat.ASN1_EVIDENCE_RECORD == format || DocumentFormat.ASN1 == format) {
+            return canBuildEvidenceRecord(dssDocument);
+        }
+        return false;
     }
 
     private boolean canBuildEvidenceRecord(DSSDocument dssDocument) {
@@ -22,6 +22,7 @@ package eu.europa.esig.dss.evidencerecord.asn1.validation;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.evidencerecord.common.validation.DefaultEvidenceRecordAnalyzer;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.spi.validation.analyzer.evidencerecord.EvidenceRecordAnalyzerFactory;
 
 /**
@@ -43,6 +44,12 @@ public class ASN1EvidenceRecordAnalyzerFactory implements EvidenceRecordAnalyzer
         return validator.isSupported(document);
     }
 
+    @Override
+    public boolean isSupported(DSSDocument document, DocumentFormat format) {
+        ASN1EvidenceRecordAnalyzer validator = new ASN1EvidenceRecordAnalyzer();
+        return validator.isSupported(document, format);
+    }
+
     @Override
     public DefaultEvidenceRecordAnalyzer create(DSSDocument document) {
         return new ASN1EvidenceRecordAnalyzer(document);
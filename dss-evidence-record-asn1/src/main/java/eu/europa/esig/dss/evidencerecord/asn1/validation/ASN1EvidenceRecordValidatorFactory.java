@@ -23,6 +23,7 @@ package eu.europa.esig.dss.evidencerecord.asn1.validation;
 import eu.europa.esig.dss.evidencerecord.common.validation.DefaultEvidenceRecordValidator;
 import eu.europa.esig.dss.evidencerecord.common.validation.EvidenceRecordValidatorFactory;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 
 /**
  * Loads the relevant validator for an ASN.1 Evidence Record document validation
@@ -43,6 +44,12 @@ public class ASN1EvidenceRecordValidatorFactory implements EvidenceRecordValidat
         return validator.isSupported(document);
     }
 
+    @Override
+    public boolean isSupported(DSSDocument document, DocumentFormat format) {
+        ASN1EvidenceRecordValidator validator = new ASN1EvidenceRecordValidator();
+        return validator.isSupported(document, format);
+    }
+
     @Override
     public DefaultEvidenceRecordValidator create(DSSDocument document) {
         return new ASN1EvidenceRecordValidator(document);
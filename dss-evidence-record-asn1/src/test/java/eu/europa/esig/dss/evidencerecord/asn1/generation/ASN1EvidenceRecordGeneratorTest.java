@@ -0,0 +1,143 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.asn1.generation;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.DigestMatcherType;
+import eu.europa.esig.dss.evidencerecord.asn1.validation.ASN1EvidenceRecordValidator;
+import eu.europa.esig.dss.evidencerecord.common.generation.EvidenceRecordBatch;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.ReferenceValidation;
+import eu.europa.esig.dss.spi.exception.IllegalInputException;
+import eu.europa.esig.dss.spi.x509.evidencerecord.EvidenceRecord;
+import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
+import eu.europa.esig.dss.test.PKIFactoryAccess;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ASN1EvidenceRecordGeneratorTest extends PKIFactoryAccess {
+
+    @Test
+    void generateTest() {
+        List<DSSDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            documents.add(new InMemoryDocument(("Hello World " + i).getBytes(), "doc" + i + ".txt"));
+        }
+
+        ASN1EvidenceRecordGenerator generator = new ASN1EvidenceRecordGenerator(getGoodTsa());
+        generator.setDigestAlgorithm(DigestAlgorithm.SHA512);
+        EvidenceRecordBatch batch = generator.generate(documents);
+        assertEquals(7, batch.size());
+        assertEquals(DigestAlgorithm.SHA512, batch.getRootHash().getAlgorithm());
+
+        Iterator<DSSDocument> documentIterator = documents.iterator();
+        for (DSSDocument evidenceRecordDocument : batch) {
+            DSSDocument document = documentIterator.next();
+            assertValid(evidenceRecordDocument, document);
+            // evidence record shall not be valid against a document outside the batch
+            assertInvalid(evidenceRecordDocument, new InMemoryDocument("Bye World".getBytes(), "bye.txt"));
+        }
+        assertFalse(documentIterator.hasNext());
+    }
+
+    @Test
+    void generateSingleDocumentTest() {
+        DSSDocument document = new InMemoryDocument("Hello World".getBytes(), "doc.txt");
+
+        ASN1EvidenceRecordGenerator generator = new ASN1EvidenceRecordGenerator(getGoodTsa());
+        EvidenceRecordBatch batch = generator.generate(Collections.singletonList(document));
+        assertEquals(1, batch.size());
+        assertValid(batch.getEvidenceRecord(0), document);
+    }
+
+    @Test
+    void generateFromDigestsTest() {
+        DSSDocument document = new InMemoryDocument("Hello World".getBytes(), "doc.txt");
+        List<Digest> digests = new ArrayList<>();
+        digests.add(new Digest(DigestAlgorithm.SHA256, document.getDigestValue(DigestAlgorithm.SHA256)));
+        for (int i = 0; i < 1000; i++) {
+            digests.add(new Digest(DigestAlgorithm.SHA256,
+                    new InMemoryDocument(String.valueOf(i).getBytes()).getDigestValue(DigestAlgorithm.SHA256)));
+        }
+
+        ASN1EvidenceRecordGenerator generator = new ASN1EvidenceRecordGenerator(getGoodTsa());
+        EvidenceRecordBatch batch = generator.generateFromDigests(digests);
+        assertEquals(1001, batch.size());
+        assertValid(batch.getEvidenceRecord(0), document);
+
+        List<Digest> wrongDigests = Collections.singletonList(new Digest(DigestAlgorithm.SHA512,
+                document.getDigestValue(DigestAlgorithm.SHA512)));
+        assertThrows(IllegalArgumentException.class, () -> generator.generateFromDigests(wrongDigests));
+        assertThrows(IllegalInputException.class, () -> generator.generate(Collections.emptyList()));
+    }
+
+    private void assertValid(DSSDocument evidenceRecordDocument, DSSDocument document) {
+        EvidenceRecord evidenceRecord = getEvidenceRecord(evidenceRecordDocument, document);
+        int validReferencesCounter = 0;
+        for (ReferenceValidation referenceValidation : evidenceRecord.getReferenceValidation()) {
+            if (DigestMatcherType.EVIDENCE_RECORD_ARCHIVE_OBJECT == referenceValidation.getType()) {
+                assertTrue(referenceValidation.isFound());
+                assertTrue(referenceValidation.isIntact());
+                ++validReferencesCounter;
+            } else {
+                // sibling hash values within the reduced hash tree
+                assertEquals(DigestMatcherType.EVIDENCE_RECORD_ORPHAN_REFERENCE, referenceValidation.getType());
+            }
+        }
+        assertEquals(1, validReferencesCounter);
+
+        List<TimestampToken> timestamps = evidenceRecord.getTimestamps();
+        assertEquals(1, timestamps.size());
+        assertTrue(timestamps.get(0).isMessageImprintDataFound());
+        assertTrue(timestamps.get(0).isMessageImprintDataIntact());
+    }
+
+    private void assertInvalid(DSSDocument evidenceRecordDocument, DSSDocument document) {
+        EvidenceRecord evidenceRecord = getEvidenceRecord(evidenceRecordDocument, document);
+        for (ReferenceValidation referenceValidation : evidenceRecord.getReferenceValidation()) {
+            assertFalse(referenceValidation.isFound() && referenceValidation.isIntact());
+        }
+    }
+
+    private EvidenceRecord getEvidenceRecord(DSSDocument evidenceRecordDocument, DSSDocument document) {
+        ASN1EvidenceRecordValidator validator = new ASN1EvidenceRecordValidator(evidenceRecordDocument);
+        validator.setCertificateVerifier(getOfflineCertificateVerifier());
+        validator.setDetachedContents(Collections.singletonList(document));
+        return validator.getEvidenceRecord();
+    }
+
+    @Override
+    protected String getSigningAlias() {
+        return GOOD_TSA;
+    }
+
+}
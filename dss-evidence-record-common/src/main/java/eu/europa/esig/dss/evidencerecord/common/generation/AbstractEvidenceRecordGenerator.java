@@ -0,0 +1,139 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.common.generation;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.TimestampBinary;
+import eu.europa.esig.dss.spi.exception.IllegalInputException;
+import eu.europa.esig.dss.spi.x509.evidencerecord.digest.DataObjectDigestBuilder;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Abstract class allowing to generate evidence records for a batch of data objects.
+ * <p>
+ * A hash tree is built over the digests of all data objects within the batch, and its root hash value
+ * is time-stamped with a single request to the provided {@code TSPSource}. Then, an evidence record is created
+ * for every data object, containing the reduced hash tree (i.e. the path from the data object to the root).
+ *
+ */
+public abstract class AbstractEvidenceRecordGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractEvidenceRecordGenerator.class);
+
+    /** The TSPSource used to time-stamp the root hash of a batch */
+    private final TSPSource tspSource;
+
+    /** The digest algorithm to be used for data object digests and hash tree computation (SHA-256 by default) */
+    protected DigestAlgorithm digestAlgorithm = DigestAlgorithm.SHA256;
+
+    /**
+     * Default constructor
+     *
+     * @param tspSource {@link TSPSource} to be used to time-stamp the root hash of a batch
+     */
+    protected AbstractEvidenceRecordGenerator(final TSPSource tspSource) {
+        Objects.requireNonNull(tspSource, "TSPSource cannot be null!");
+        this.tspSource = tspSource;
+    }
+
+    /**
+     * Sets the digest algorithm to be used for data object digests and hash tree computation
+     * Default : SHA-256
+     *
+     * @param digestAlgorithm {@link DigestAlgorithm}
+     */
+    public void setDigestAlgorithm(DigestAlgorithm digestAlgorithm) {
+        Objects.requireNonNull(digestAlgorithm, "DigestAlgorithm cannot be null!");
+        this.digestAlgorithm = digestAlgorithm;
+    }
+
+    /**
+     * Generates evidence records for the given batch of documents.
+     * The documents are processed one by one, and only their digests are retained.
+     *
+     * @param documents an iterable of {@link DSSDocument}s to be protected
+     * @return {@link EvidenceRecordBatch} allowing to retrieve an evidence record for each document,
+     *         in the order of the provided {@code documents}
+     */
+    public EvidenceRecordBatch generate(Iterable<DSSDocument> documents) {
+        Objects.requireNonNull(documents, "Documents cannot be null!");
+        final HashTreeBuilder hashTreeBuilder = new HashTreeBuilder(digestAlgorithm);
+        for (DSSDocument document : documents) {
+            hashTreeBuilder.addDataObjectDigest(getDataObjectDigestBuilder(document).build());
+        }
+        return generate(hashTreeBuilder);
+    }
+
+    /**
+     * Generates evidence records for the given batch of pre-computed data object digests.
+     * All digests shall be computed with the digest algorithm defined within the generator.
+     *
+     * @param digests an iterable of {@link Digest}s of data objects to be protected
+     * @return {@link EvidenceRecordBatch} allowing to retrieve an evidence record for each digest,
+     *         in the order of the provided {@code digests}
+     */
+    public EvidenceRecordBatch generateFromDigests(Iterable<Digest> digests) {
+        Objects.requireNonNull(digests, "Digests cannot be null!");
+        final HashTreeBuilder hashTreeBuilder = new HashTreeBuilder(digestAlgorithm);
+        for (Digest digest : digests) {
+            hashTreeBuilder.addDataObjectDigest(digest);
+        }
+        return generate(hashTreeBuilder);
+    }
+
+    private EvidenceRecordBatch generate(HashTreeBuilder hashTreeBuilder) {
+        if (hashTreeBuilder.getNumberOfLeaves() == 0) {
+            throw new IllegalInputException("At least one data object shall be provided for an evidence record generation!");
+        }
+        final HashTree hashTree = hashTreeBuilder.build();
+        LOG.debug("Hash tree built over {} data objects. Requesting a time-stamp on the root hash...",
+                hashTree.getNumberOfLeaves());
+        final TimestampBinary timestampBinary = tspSource.getTimeStampResponse(
+                digestAlgorithm, hashTree.getRootHash().getValue());
+        return new EvidenceRecordBatch(this, hashTree, timestampBinary);
+    }
+
+    /**
+     * Returns a {@code DataObjectDigestBuilder} to compute a digest of the given document
+     * with the generator's digest algorithm
+     *
+     * @param document {@link DSSDocument} to compute digest for
+     * @return {@link DataObjectDigestBuilder}
+     */
+    protected abstract DataObjectDigestBuilder getDataObjectDigestBuilder(DSSDocument document);
+
+    /**
+     * Creates an evidence record document for a data object
+     *
+     * @param reducedHashTree a list of hash value groups, representing a path from the data object to the root
+     * @param timestampBinary {@link TimestampBinary} time-stamp token covering the root hash value
+     * @return {@link DSSDocument} evidence record
+     */
+    protected abstract DSSDocument buildEvidenceRecord(List<List<byte[]>> reducedHashTree, TimestampBinary timestampBinary);
+
+}
@@ -0,0 +1,127 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.common.generation;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSMessageDigest;
+import eu.europa.esig.dss.model.TimestampBinary;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Contains the result of a batch evidence record generation : a hash tree over all data objects
+ * and a single time-stamp covering its root hash.
+ * <p>
+ * Evidence records are created lazily on request, one per data object, so the whole batch
+ * does not need to be kept in memory.
+ *
+ */
+public class EvidenceRecordBatch implements Iterable<DSSDocument> {
+
+    /** The generator used to create evidence record documents */
+    private final AbstractEvidenceRecordGenerator generator;
+
+    /** Hash tree built over the data objects */
+    private final HashTree hashTree;
+
+    /** Time-stamp covering the root hash */
+    private final TimestampBinary timestampBinary;
+
+    /**
+     * Default constructor
+     *
+     * @param generator {@link AbstractEvidenceRecordGenerator} used to create evidence record documents
+     * @param hashTree {@link HashTree} built over the data objects
+     * @param timestampBinary {@link TimestampBinary} covering the root hash
+     */
+    EvidenceRecordBatch(final AbstractEvidenceRecordGenerator generator, final HashTree hashTree,
+                        final TimestampBinary timestampBinary) {
+        this.generator = generator;
+        this.hashTree = hashTree;
+        this.timestampBinary = timestampBinary;
+    }
+
+    /**
+     * Gets the number of data objects (and evidence records) within the batch
+     *
+     * @return number of data objects
+     */
+    public int size() {
+        return hashTree.getNumberOfLeaves();
+    }
+
+    /**
+     * Gets the root hash value time-stamped for the batch
+     *
+     * @return {@link DSSMessageDigest}
+     */
+    public DSSMessageDigest getRootHash() {
+        return hashTree.getRootHash();
+    }
+
+    /**
+     * Gets the time-stamp token covering the root hash
+     *
+     * @return {@link TimestampBinary}
+     */
+    public TimestampBinary getTimestampBinary() {
+        return timestampBinary;
+    }
+
+    /**
+     * Creates an evidence record for the data object at the given position within the batch
+     *
+     * @param index position of the data object, in the order provided to the generator
+     * @return {@link DSSDocument} evidence record
+     */
+    public DSSDocument getEvidenceRecord(int index) {
+        return generator.buildEvidenceRecord(hashTree.getReducedHashTree(index), timestampBinary);
+    }
+
+    /**
+     * Returns an iterator creating evidence records one by one, in the order of the data objects within the batch
+     *
+     * @return {@link Iterator} of evidence record {@link DSSDocument}s
+     */
+    @Override
+    public Iterator<DSSDocument> iterator() {
+        return new Iterator<DSSDocument>() {
+
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public DSSDocument next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getEvidenceRecord(index++);
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,202 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.common.generation;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSMessageDigest;
+import eu.europa.esig.dss.spi.DSSMessageDigestCalculator;
+import eu.europa.esig.dss.spi.validation.evidencerecord.ByteArrayComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a binary Merkle hash tree built over a batch of data object digests, as defined in
+ * RFC 4998 "Evidence Record Syntax (ERS)" and RFC 6283 "Extensible Markup Language Evidence Record Syntax (XMLERS)".
+ * <p>
+ * Each parent node's hash value is computed over the binary ascending ordered concatenation of the hash values
+ * of its children. A node without a sibling on a given level is promoted to the next level as-is.
+ * <p>
+ * In order to scale to large batches, the hash values of each level are stored within a single continuous
+ * byte array, avoiding an object allocation per tree node.
+ *
+ */
+public class HashTree {
+
+    /** The digest algorithm used to compute the hash values */
+    private final DigestAlgorithm digestAlgorithm;
+
+    /** Length of a single hash value in bytes */
+    private final int digestLength;
+
+    /** Concatenated hash values of each level, starting from the leaves */
+    private final byte[][] levels;
+
+    /**
+     * Builds a hash tree from the given concatenated leaf hash values
+     *
+     * @param digestAlgorithm {@link DigestAlgorithm} used to compute the hash values
+     * @param digestLength length of a single hash value
+     * @param leaves byte array containing the concatenated leaf hash values
+     */
+    HashTree(final DigestAlgorithm digestAlgorithm, final int digestLength, final byte[] leaves) {
+        Objects.requireNonNull(digestAlgorithm, "DigestAlgorithm cannot be null!");
+        Objects.requireNonNull(leaves, "Leaves cannot be null!");
+        if (digestLength <= 0 || leaves.length == 0 || leaves.length % digestLength != 0) {
+            throw new IllegalArgumentException("The hash tree shall contain at least one leaf of a consistent length!");
+        }
+        this.digestAlgorithm = digestAlgorithm;
+        this.digestLength = digestLength;
+        this.levels = buildLevels(leaves);
+    }
+
+    private byte[][] buildLevels(byte[] leaves) {
+        final List<byte[]> result = new ArrayList<>();
+        byte[] currentLevel = leaves;
+        result.add(currentLevel);
+        while (getNumberOfNodes(currentLevel) > 1) {
+            currentLevel = buildParentLevel(currentLevel);
+            result.add(currentLevel);
+        }
+        return result.toArray(new byte[0][]);
+    }
+
+    private byte[] buildParentLevel(byte[] level) {
+        final int numberOfNodes = getNumberOfNodes(level);
+        final byte[] parentLevel = new byte[((numberOfNodes + 1) / 2) * digestLength];
+        for (int i = 0; i < numberOfNodes; i += 2) {
+            byte[] parentHash;
+            if (i + 1 < numberOfNodes) {
+                parentHash = computeParentHash(getNode(level, i), getNode(level, i + 1));
+            } else {
+                // node without a sibling is promoted to the next level
+                parentHash = getNode(level, i);
+            }
+            System.arraycopy(parentHash, 0, parentLevel, (i / 2) * digestLength, digestLength);
+        }
+        return parentLevel;
+    }
+
+    private byte[] computeParentHash(byte[] first, byte[] second) {
+        final DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+        if (ByteArrayComparator.getInstance().compare(first, second) <= 0) {
+            digestCalculator.update(first);
+            digestCalculator.update(second);
+        } else {
+            digestCalculator.update(second);
+            digestCalculator.update(first);
+        }
+        return digestCalculator.getMessageDigest().getValue();
+    }
+
+    private int getNumberOfNodes(byte[] level) {
+        return level.length / digestLength;
+    }
+
+    private byte[] getNode(byte[] level, int index) {
+        final int offset = index * digestLength;
+        return Arrays.copyOfRange(level, offset, offset + digestLength);
+    }
+
+    /**
+     * Gets the digest algorithm used to compute the hash values
+     *
+     * @return {@link DigestAlgorithm}
+     */
+    public DigestAlgorithm getDigestAlgorithm() {
+        return digestAlgorithm;
+    }
+
+    /**
+     * Gets the number of leaves (data objects) covered by the hash tree
+     *
+     * @return number of leaves
+     */
+    public int getNumberOfLeaves() {
+        return getNumberOfNodes(levels[0]);
+    }
+
+    /**
+     * Gets the hash value of the data object at the given position
+     *
+     * @param index position of the data object within the batch
+     * @return byte array representing the hash value
+     */
+    public byte[] getDataObjectDigest(int index) {
+        assertIndexValid(index);
+        return getNode(levels[0], index);
+    }
+
+    /**
+     * Gets the root hash value of the tree, to be time-stamped
+     *
+     * @return {@link DSSMessageDigest}
+     */
+    public DSSMessageDigest getRootHash() {
+        return new DSSMessageDigest(digestAlgorithm, getNode(levels[levels.length - 1], 0));
+    }
+
+    /**
+     * Returns a reduced hash tree for the data object at the given position.
+     * <p>
+     * The first group contains the hash value of the data object itself together with its sibling, when present.
+     * Each following group contains the sibling hash value required to compute the next level of the tree.
+     * Levels where the current node has no sibling are omitted.
+     *
+     * @param index position of the data object within the batch
+     * @return a list of hash value groups
+     */
+    public List<List<byte[]>> getReducedHashTree(int index) {
+        assertIndexValid(index);
+
+        final List<List<byte[]>> reducedHashTree = new ArrayList<>();
+        final List<byte[]> firstGroup = new ArrayList<>();
+        firstGroup.add(getNode(levels[0], index));
+        reducedHashTree.add(firstGroup);
+
+        int nodeIndex = index;
+        for (int i = 0; i < levels.length - 1; i++) {
+            byte[] level = levels[i];
+            int siblingIndex = nodeIndex % 2 == 0 ? nodeIndex + 1 : nodeIndex - 1;
+            if (siblingIndex < getNumberOfNodes(level)) {
+                byte[] sibling = getNode(level, siblingIndex);
+                if (i == 0) {
+                    firstGroup.add(sibling);
+                } else {
+                    reducedHashTree.add(Collections.singletonList(sibling));
+                }
+            }
+            nodeIndex /= 2;
+        }
+        return reducedHashTree;
+    }
+
+    private void assertIndexValid(int index) {
+        if (index < 0 || index >= getNumberOfLeaves()) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Index '%s' is out of the hash tree bounds [0, %s)!", index, getNumberOfLeaves()));
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.common.generation;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.utils.Utils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Objects;
+
+/**
+ * Accumulates data object digests one by one and builds a {@code HashTree} over them.
+ * Only the hash values are retained, thus allowing to stream over large batches of data objects.
+ *
+ */
+public class HashTreeBuilder {
+
+    /** The digest algorithm to be used */
+    private final DigestAlgorithm digestAlgorithm;
+
+    /** Contains the concatenated leaf hash values */
+    private final ByteArrayOutputStream leaves = new ByteArrayOutputStream();
+
+    /** Length of the leaf hash values, defined by the first added digest */
+    private int digestLength = -1;
+
+    /**
+     * Default constructor
+     *
+     * @param digestAlgorithm {@link DigestAlgorithm} to be used for the hash tree computation
+     */
+    public HashTreeBuilder(final DigestAlgorithm digestAlgorithm) {
+        Objects.requireNonNull(digestAlgorithm, "DigestAlgorithm cannot be null!");
+        this.digestAlgorithm = digestAlgorithm;
+    }
+
+    /**
+     * Adds a data object digest as a next leaf of the hash tree
+     *
+     * @param digest {@link Digest} of the data object
+     * @return this {@link HashTreeBuilder}
+     */
+    public HashTreeBuilder addDataObjectDigest(Digest digest) {
+        Objects.requireNonNull(digest, "Digest cannot be null!");
+        if (digestAlgorithm != digest.getAlgorithm()) {
+            throw new IllegalArgumentException(String.format("The digest algorithm '%s' of the data object " +
+                    "does not match the hash tree digest algorithm '%s'!", digest.getAlgorithm(), digestAlgorithm));
+        }
+        return addDataObjectDigest(digest.getValue());
+    }
+
+    /**
+     * Adds a data object hash value computed with the builder's digest algorithm as a next leaf of the hash tree
+     *
+     * @param digestValue byte array representing the hash value of the data object
+     * @return this {@link HashTreeBuilder}
+     */
+    public HashTreeBuilder addDataObjectDigest(byte[] digestValue) {
+        if (Utils.isArrayEmpty(digestValue)) {
+            throw new IllegalArgumentException("The digest value cannot be empty!");
+        }
+        if (digestLength == -1) {
+            digestLength = digestValue.length;
+        } else if (digestLength != digestValue.length) {
+            throw new IllegalArgumentException(String.format("The digest value length '%s' does not match " +
+                    "the length of the previously added digests '%s'!", digestValue.length, digestLength));
+        }
+        leaves.write(digestValue, 0, digestValue.length);
+        return this;
+    }
+
+    /**
+     * Returns the number of added data object digests
+     *
+     * @return number of leaves
+     */
+    public int getNumberOfLeaves() {
+        return digestLength > 0 ? leaves.size() / digestLength : 0;
+    }
+
+    /**
+     * Builds the hash tree
+     *
+     * @return {@link HashTree}
+     */
+    public HashTree build() {
+        if (getNumberOfLeaves() == 0) {
+            throw new IllegalStateException("At least one data object digest shall be provided to build a hash tree!");
+        }
+        return new HashTree(digestAlgorithm, digestLength, leaves.toByteArray());
+    }
+
+}
@@ -22,14 +22,16 @@ package eu.europa.esig.dss.evidencerecord.common.validation;
 
 import eu.europa.esig.dss.enumerations.EvidenceRecordTypeEnum;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.ServiceLoaderUtils;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormatDetector;
 import eu.europa.esig.dss.spi.x509.evidencerecord.EvidenceRecord;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 import eu.europa.esig.dss.validation.evidencerecord.EvidenceRecordValidator;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.ServiceLoader;
 
 /**
  * This class is used to perform a validation of an evidence record document
@@ -64,9 +66,9 @@ public abstract class DefaultEvidenceRecordValidator extends SignedDocumentValid
      */
     public static DefaultEvidenceRecordValidator fromDocument(final DSSDocument dssDocument) {
         Objects.requireNonNull(dssDocument, "DSSDocument is null");
-        ServiceLoader<EvidenceRecordValidatorFactory> serviceLoaders = ServiceLoader.load(EvidenceRecordValidatorFactory.class);
-        for (EvidenceRecordValidatorFactory factory : serviceLoaders) {
-            if (factory.isSupported(dssDocument)) {
+        final DocumentFormat format = DocumentFormatDetector.detect(dssDocument);
+        for (EvidenceRecordValidatorFactory factory : ServiceLoaderUtils.getServices(EvidenceRecordValidatorFactory.class)) {
+            if (factory.isSupported(dssDocument, format)) {
                 return factory.create(dssDocument);
             }
         }
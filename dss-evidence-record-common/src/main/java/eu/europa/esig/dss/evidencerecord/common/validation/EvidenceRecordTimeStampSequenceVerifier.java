@@ -25,6 +25,7 @@ import eu.europa.esig.dss.enumerations.DigestMatcherType;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSMessageDigest;
 import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.ManifestEntry;
 import eu.europa.esig.dss.model.ManifestFile;
 import eu.europa.esig.dss.model.ReferenceValidation;
@@ -41,9 +42,11 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -91,6 +94,8 @@ public abstract class EvidenceRecordTimeStampSequenceVerifier {
         DSSMessageDigest lastTimeStampSequenceHash = DSSMessageDigest.createEmptyDigest();
 
         List<? extends ArchiveTimeStampChainObject> archiveTimeStampSequence = evidenceRecord.getArchiveTimeStampSequence();
+        computeDetachedContentsDigests(archiveTimeStampSequence, evidenceRecord.getDetachedContents());
+
         Iterator<? extends ArchiveTimeStampChainObject> archiveTimeStampSequenceIt = archiveTimeStampSequence.iterator();
         while (archiveTimeStampSequenceIt.hasNext()) {
             ArchiveTimeStampChainObject archiveTimeStampChain = archiveTimeStampSequenceIt.next();
@@ -236,6 +241,43 @@ public abstract class EvidenceRecordTimeStampSequenceVerifier {
         return Collections.singletonList(lastTimeStampSequenceHash.getValue());
     }
 
+    /**
+     * Computes digests of the provided detached documents for all digest algorithms used within
+     * the archive time-stamp sequence at once, so each document is read only a single time
+     * when the evidence record has been renewed with a different digest algorithm
+     *
+     * @param archiveTimeStampSequence a list of {@link ArchiveTimeStampChainObject}s
+     * @param detachedContents a list of detached {@link DSSDocument}s
+     */
+    protected void computeDetachedContentsDigests(List<? extends ArchiveTimeStampChainObject> archiveTimeStampSequence,
+                                                  List<DSSDocument> detachedContents) {
+        if (Utils.isCollectionEmpty(archiveTimeStampSequence) || Utils.isCollectionEmpty(detachedContents)) {
+            return;
+        }
+        final Set<DigestAlgorithm> digestAlgorithms = archiveTimeStampSequence.stream()
+                .map(ArchiveTimeStampChainObject::getDigestAlgorithm).filter(Objects::nonNull)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(DigestAlgorithm.class)));
+        if (digestAlgorithms.size() < 2) {
+            return;
+        }
+        for (DSSDocument document : detachedContents) {
+            if (isDigestComputedOnDocumentContent(document)) {
+                document.computeDigests(digestAlgorithms);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the digest of the {@code document} is computed on its binaries as-is,
+     * thus allowing digest pre-computation on the document
+     *
+     * @param document {@link DSSDocument} to check
+     * @return TRUE if the digest is computed on the document's content, FALSE otherwise
+     */
+    protected boolean isDigestComputedOnDocumentContent(DSSDocument document) {
+        return !(document instanceof DigestDocument);
+    }
+
     /**
      * Returns digest value for the document
      *
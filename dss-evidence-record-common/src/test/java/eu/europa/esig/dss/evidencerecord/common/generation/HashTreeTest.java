@@ -0,0 +1,124 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.common.generation;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.spi.DSSMessageDigestCalculator;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.validation.evidencerecord.ByteArrayComparator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HashTreeTest {
+
+    @Test
+    void singleLeafTest() {
+        byte[] leaf = DSSUtils.digest(DigestAlgorithm.SHA256, "Hello World".getBytes());
+        HashTree hashTree = new HashTreeBuilder(DigestAlgorithm.SHA256).addDataObjectDigest(leaf).build();
+        assertEquals(1, hashTree.getNumberOfLeaves());
+        assertArrayEquals(leaf, hashTree.getRootHash().getValue());
+
+        List<List<byte[]>> reducedHashTree = hashTree.getReducedHashTree(0);
+        assertEquals(1, reducedHashTree.size());
+        assertEquals(1, reducedHashTree.get(0).size());
+        assertArrayEquals(leaf, reducedHashTree.get(0).get(0));
+    }
+
+    @Test
+    void oddNumberOfLeavesTest() {
+        HashTree hashTree = buildHashTree(5);
+        assertEquals(5, hashTree.getNumberOfLeaves());
+        for (int i = 0; i < hashTree.getNumberOfLeaves(); i++) {
+            assertArrayEquals(hashTree.getRootHash().getValue(), computeRootHash(hashTree.getReducedHashTree(i)));
+        }
+        // last leaf has no sibling on the first two levels
+        List<List<byte[]>> reducedHashTree = hashTree.getReducedHashTree(4);
+        assertEquals(2, reducedHashTree.size());
+        assertEquals(1, reducedHashTree.get(0).size());
+    }
+
+    @Test
+    void largeBatchTest() {
+        HashTree hashTree = buildHashTree(1000000);
+        assertEquals(1000000, hashTree.getNumberOfLeaves());
+
+        int[] indexes = new int[] { 0, 1, 4242, 524287, 524288, 999998, 999999 };
+        for (int index : indexes) {
+            List<List<byte[]>> reducedHashTree = hashTree.getReducedHashTree(index);
+            assertArrayEquals(hashTree.getDataObjectDigest(index), reducedHashTree.get(0).get(0));
+            assertArrayEquals(hashTree.getRootHash().getValue(), computeRootHash(reducedHashTree));
+        }
+    }
+
+    @Test
+    void invalidInputTest() {
+        HashTreeBuilder hashTreeBuilder = new HashTreeBuilder(DigestAlgorithm.SHA256);
+        assertThrows(IllegalStateException.class, hashTreeBuilder::build);
+        assertThrows(IllegalArgumentException.class, () -> hashTreeBuilder.addDataObjectDigest(
+                new Digest(DigestAlgorithm.SHA512, DSSUtils.digest(DigestAlgorithm.SHA512, "Hello".getBytes()))));
+
+        hashTreeBuilder.addDataObjectDigest(DSSUtils.digest(DigestAlgorithm.SHA256, "Hello".getBytes()));
+        assertThrows(IllegalArgumentException.class, () -> hashTreeBuilder.addDataObjectDigest(new byte[] { 1, 2, 3 }));
+
+        HashTree hashTree = hashTreeBuilder.build();
+        assertThrows(IndexOutOfBoundsException.class, () -> hashTree.getReducedHashTree(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> hashTree.getReducedHashTree(-1));
+    }
+
+    private HashTree buildHashTree(int numberOfLeaves) {
+        HashTreeBuilder hashTreeBuilder = new HashTreeBuilder(DigestAlgorithm.SHA256);
+        for (int i = 0; i < numberOfLeaves; i++) {
+            hashTreeBuilder.addDataObjectDigest(DSSUtils.digest(DigestAlgorithm.SHA256, ByteBuffer.allocate(4).putInt(i).array()));
+        }
+        return hashTreeBuilder.build();
+    }
+
+    // Follows the root hash computation defined in RFC 4998 / RFC 6283
+    private byte[] computeRootHash(List<List<byte[]>> reducedHashTree) {
+        byte[] lastHash = null;
+        for (List<byte[]> group : reducedHashTree) {
+            List<byte[]> hashValues = new ArrayList<>(group);
+            if (lastHash != null) {
+                hashValues.add(lastHash);
+            }
+            if (hashValues.size() == 1) {
+                lastHash = hashValues.get(0);
+                continue;
+            }
+            hashValues.sort(ByteArrayComparator.getInstance());
+            DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(DigestAlgorithm.SHA256);
+            for (byte[] hashValue : hashValues) {
+                digestCalculator.update(hashValue);
+            }
+            lastHash = digestCalculator.getMessageDigest().getValue();
+        }
+        return lastHash;
+    }
+
+}
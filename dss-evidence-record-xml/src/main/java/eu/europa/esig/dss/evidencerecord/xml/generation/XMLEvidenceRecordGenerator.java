@@ -0,0 +1,145 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.xml.generation;
+
+import eu.europa.esig.dss.evidencerecord.common.generation.AbstractEvidenceRecordGenerator;
+import eu.europa.esig.dss.evidencerecord.xml.definition.XMLERSAttribute;
+import eu.europa.esig.dss.evidencerecord.xml.definition.XMLERSElement;
+import eu.europa.esig.dss.evidencerecord.xml.definition.XMLERSNamespace;
+import eu.europa.esig.dss.evidencerecord.xml.digest.XMLEvidenceRecordDataObjectDigestBuilder;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.TimestampBinary;
+import eu.europa.esig.dss.spi.x509.evidencerecord.digest.DataObjectDigestBuilder;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.xml.common.definition.DSSNamespace;
+import eu.europa.esig.dss.xml.utils.DomUtils;
+import eu.europa.esig.dss.xml.utils.XMLCanonicalizer;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Generates IETF RFC 6283 XMLERS evidence records for a batch of data objects, using a single time-stamp
+ * covering the root of a hash tree built over all data objects.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * XMLEvidenceRecordGenerator generator = new XMLEvidenceRecordGenerator(tspSource);
+ * EvidenceRecordBatch batch = generator.generate(documents);
+ * for (DSSDocument evidenceRecord : batch) {
+ *     // evidence records are returned in the order of the provided documents
+ * }
+ * }
+ * </pre>
+ *
+ */
+public class XMLEvidenceRecordGenerator extends AbstractEvidenceRecordGenerator {
+
+    /** The XMLERS version */
+    private static final String VERSION = "1.0";
+
+    /** The time-stamp token type */
+    private static final String RFC3161_TYPE = "RFC3161";
+
+    /** The namespace to be used */
+    private static final DSSNamespace NAMESPACE = XMLERSNamespace.XMLERS;
+
+    /**
+     * The canonicalization method to be used for XML data objects
+     * (default : "http://www.w3.org/TR/2001/REC-xml-c14n-20010315")
+     */
+    private String canonicalizationMethod = XMLCanonicalizer.DEFAULT_XMLDSIG_C14N_METHOD;
+
+    /**
+     * Default constructor
+     *
+     * @param tspSource {@link TSPSource} to be used to time-stamp the root hash of a batch
+     */
+    public XMLEvidenceRecordGenerator(final TSPSource tspSource) {
+        super(tspSource);
+    }
+
+    /**
+     * Sets a canonicalization method to be used on digest computation of XML data objects
+     * Default: "http://www.w3.org/TR/2001/REC-xml-c14n-20010315" canonicalization algorithm
+     *
+     * @param canonicalizationMethod {@link String}
+     */
+    public void setCanonicalizationMethod(String canonicalizationMethod) {
+        Objects.requireNonNull(canonicalizationMethod, "CanonicalizationMethod cannot be null!");
+        this.canonicalizationMethod = canonicalizationMethod;
+    }
+
+    @Override
+    protected DataObjectDigestBuilder getDataObjectDigestBuilder(DSSDocument document) {
+        return new XMLEvidenceRecordDataObjectDigestBuilder(document, digestAlgorithm)
+                .setCanonicalizationMethod(canonicalizationMethod);
+    }
+
+    @Override
+    protected DSSDocument buildEvidenceRecord(List<List<byte[]>> reducedHashTree, TimestampBinary timestampBinary) {
+        final Document documentDom = DomUtils.buildDOM();
+
+        final Element evidenceRecord = DomUtils.createElementNS(documentDom, NAMESPACE, XMLERSElement.EVIDENCE_RECORD);
+        DomUtils.addNamespaceAttribute(evidenceRecord, NAMESPACE);
+        evidenceRecord.setAttribute(XMLERSAttribute.VERSION.getAttributeName(), VERSION);
+        documentDom.appendChild(evidenceRecord);
+
+        final Element archiveTimeStampSequence = DomUtils.addElement(documentDom, evidenceRecord, NAMESPACE,
+                XMLERSElement.ARCHIVE_TIME_STAMP_SEQUENCE);
+        final Element archiveTimeStampChain = DomUtils.addElement(documentDom, archiveTimeStampSequence, NAMESPACE,
+                XMLERSElement.ARCHIVE_TIME_STAMP_CHAIN);
+        archiveTimeStampChain.setAttribute(XMLERSAttribute.ORDER.getAttributeName(), "1");
+
+        final Element digestMethod = DomUtils.addElement(documentDom, archiveTimeStampChain, NAMESPACE,
+                XMLERSElement.DIGEST_METHOD);
+        digestMethod.setAttribute(XMLERSAttribute.ALGORITHM.getAttributeName(), digestAlgorithm.getUri());
+        final Element canonicalizationMethodElement = DomUtils.addElement(documentDom, archiveTimeStampChain, NAMESPACE,
+                XMLERSElement.CANONICALIZATION_METHOD);
+        canonicalizationMethodElement.setAttribute(XMLERSAttribute.ALGORITHM.getAttributeName(), canonicalizationMethod);
+
+        final Element archiveTimeStamp = DomUtils.addElement(documentDom, archiveTimeStampChain, NAMESPACE,
+                XMLERSElement.ARCHIVE_TIME_STAMP);
+        archiveTimeStamp.setAttribute(XMLERSAttribute.ORDER.getAttributeName(), "1");
+
+        final Element hashTree = DomUtils.addElement(documentDom, archiveTimeStamp, NAMESPACE, XMLERSElement.HASH_TREE);
+        for (int i = 0; i < reducedHashTree.size(); i++) {
+            final Element sequence = DomUtils.addElement(documentDom, hashTree, NAMESPACE, XMLERSElement.SEQUENCE);
+            sequence.setAttribute(XMLERSAttribute.ORDER.getAttributeName(), String.valueOf(i + 1));
+            for (byte[] digestValue : reducedHashTree.get(i)) {
+                DomUtils.addTextElement(documentDom, sequence, NAMESPACE, XMLERSElement.DIGEST_VALUE,
+                        Utils.toBase64(digestValue));
+            }
+        }
+
+        final Element timeStamp = DomUtils.addElement(documentDom, archiveTimeStamp, NAMESPACE, XMLERSElement.TIME_STAMP);
+        final Element timeStampToken = DomUtils.addTextElement(documentDom, timeStamp, NAMESPACE,
+                XMLERSElement.TIME_STAMP_TOKEN, Utils.toBase64(timestampBinary.getBytes()));
+        timeStampToken.setAttribute(XMLERSAttribute.TYPE.getAttributeName(), RFC3161_TYPE);
+
+        return DomUtils.createDssDocumentFromDomDocument(documentDom, null);
+    }
+
+}
@@ -26,6 +26,8 @@ import eu.europa.esig.dss.evidencerecord.xml.definition.XMLERSPath;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.exception.IllegalInputException;
 import eu.europa.esig.dss.evidencerecord.common.validation.DefaultEvidenceRecordAnalyzer;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormatDetector;
 import eu.europa.esig.dss.spi.x509.evidencerecord.EvidenceRecord;
 import eu.europa.esig.dss.xml.utils.DomUtils;
 import eu.europa.esig.xmlers.XMLEvidenceRecordFacade;
@@ -80,7 +82,19 @@ public class XMLEvidenceRecordAnalyzer extends DefaultEvidenceRecordAnalyzer {
 
     @Override
     public boolean isSupported(DSSDocument dssDocument) {
-        return DomUtils.startsWithXmlPreamble(dssDocument) && canBuildEvidenceRecord(dssDocument);
+        return isSupported(dssDocument, DocumentFormatDetector.detect(dssDocument));
+    }
+
+    @Override
+    public boolean isSupported(DSSDocument dssDocument, DocumentFormat format) {
+        switch (format) {
+            case XML_EVIDENCE_RECORD:
+                return canBuildEvidenceRecord(dssDocument);
+            case UNKNOWN:
+                return DomUtils.startsWithXmlPreamble(dssDocument) && canBuildEvidenceRecord(dssDocument);
+            default:
+                return false;
+        }
     }
 
     private boolean canBuildEvidenceRecord(DSSDocument dssDocument) {
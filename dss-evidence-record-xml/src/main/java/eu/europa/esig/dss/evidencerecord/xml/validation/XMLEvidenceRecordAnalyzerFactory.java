@@ -23,6 +23,7 @@ package eu.europa.esig.dss.evidencerecord.xml.validation;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.evidencerecord.common.validation.DefaultEvidenceRecordAnalyzer;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.spi.validation.analyzer.evidencerecord.EvidenceRecordAnalyzerFactory;
 
 /**
@@ -44,6 +45,12 @@ public class XMLEvidenceRecordAnalyzerFactory implements EvidenceRecordAnalyzerF
         return validator.isSupported(document);
     }
 
+    @Override
+    public boolean isSupported(DSSDocument document, DocumentFormat format) {
+        XMLEvidenceRecordAnalyzer validator = new XMLEvidenceRecordAnalyzer();
+        return validator.isSupported(document, format);
+    }
+
     @Override
     public DefaultEvidenceRecordAnalyzer create(DSSDocument document) {
         return new XMLEvidenceRecordAnalyzer(document);
@@ -23,6 +23,7 @@ package eu.europa.esig.dss.evidencerecord.xml.validation;
 import eu.europa.esig.dss.evidencerecord.common.validation.DefaultEvidenceRecordValidator;
 import eu.europa.esig.dss.evidencerecord.common.validation.EvidenceRecordValidatorFactory;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 
 /**
  * Loads the relevant validator for an XML Evidence Record document validation
@@ -43,6 +44,12 @@ public class XMLEvidenceRecordValidatorFactory implements EvidenceRecordValidato
         return validator.isSupported(document);
     }
 
+    @Override
+    public boolean isSupported(DSSDocument document, DocumentFormat format) {
+        XMLEvidenceRecordValidator validator = new XMLEvidenceRecordValidator();
+        return validator.isSupported(document, format);
+    }
+
     @Override
     public DefaultEvidenceRecordValidator create(DSSDocument document) {
         return new XMLEvidenceRecordValidator(document);
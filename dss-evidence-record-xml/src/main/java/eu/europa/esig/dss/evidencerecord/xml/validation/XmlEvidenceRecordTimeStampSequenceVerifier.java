@@ -32,6 +32,7 @@ import eu.europa.esig.dss.model.DSSMessageDigest;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.evidencerecord.digest.DataObjectDigestBuilder;
 import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.xml.utils.DomUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -59,6 +60,12 @@ public class XmlEvidenceRecordTimeStampSequenceVerifier extends EvidenceRecordTi
                 .setCanonicalizationMethod(canonicalizationMethod);
     }
 
+    @Override
+    protected boolean isDigestComputedOnDocumentContent(DSSDocument document) {
+        // XML documents are canonicalized before the digest computation
+        return super.isDigestComputedOnDocumentContent(document) && !DomUtils.isDOM(document);
+    }
+
     /**
      * Extracts a canonicalization method defined within XML {@code ArchiveTimeStampChainObject}
      *
@@ -0,0 +1,121 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.evidencerecord.xml.generation;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.DigestMatcherType;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.evidencerecord.common.generation.EvidenceRecordBatch;
+import eu.europa.esig.dss.evidencerecord.xml.validation.XMLEvidenceRecordValidator;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.ReferenceValidation;
+import eu.europa.esig.dss.spi.x509.evidencerecord.EvidenceRecord;
+import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
+import eu.europa.esig.dss.test.PKIFactoryAccess;
+import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.xml.utils.DomUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class XMLEvidenceRecordGeneratorTest extends PKIFactoryAccess {
+
+    @Test
+    void generateTest() {
+        List<DSSDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            documents.add(new InMemoryDocument(("Hello World " + i).getBytes(), "doc" + i + ".txt"));
+        }
+        documents.add(new InMemoryDocument("<root><child attr='value'/></root>".getBytes(), "doc.xml", MimeTypeEnum.XML));
+
+        XMLEvidenceRecordGenerator generator = new XMLEvidenceRecordGenerator(getGoodTsa());
+        generator.setDigestAlgorithm(DigestAlgorithm.SHA512);
+        EvidenceRecordBatch batch = generator.generate(documents);
+        assertEquals(5, batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            DSSDocument evidenceRecordDocument = batch.getEvidenceRecord(i);
+            assertTrue(DomUtils.isDOM(evidenceRecordDocument));
+            assertValid(evidenceRecordDocument, documents.get(i));
+            assertInvalid(evidenceRecordDocument, new InMemoryDocument("Bye World".getBytes(), "bye.txt"));
+        }
+    }
+
+    @Test
+    void generateSingleDocumentTest() {
+        DSSDocument document = new InMemoryDocument("Hello World".getBytes(), "doc.txt");
+
+        XMLEvidenceRecordGenerator generator = new XMLEvidenceRecordGenerator(getGoodTsa());
+        EvidenceRecordBatch batch = generator.generate(Collections.singletonList(document));
+        assertEquals(1, batch.size());
+        assertValid(batch.getEvidenceRecord(0), document);
+    }
+
+    private void assertValid(DSSDocument evidenceRecordDocument, DSSDocument document) {
+        EvidenceRecord evidenceRecord = getEvidenceRecord(evidenceRecordDocument, document);
+        assertTrue(Utils.isCollectionEmpty(evidenceRecord.getStructureValidationResult()));
+
+        int validReferencesCounter = 0;
+        for (ReferenceValidation referenceValidation : evidenceRecord.getReferenceValidation()) {
+            if (DigestMatcherType.EVIDENCE_RECORD_ARCHIVE_OBJECT == referenceValidation.getType()) {
+                assertTrue(referenceValidation.isFound());
+                assertTrue(referenceValidation.isIntact());
+                ++validReferencesCounter;
+            } else {
+                // sibling hash values within the reduced hash tree
+                assertEquals(DigestMatcherType.EVIDENCE_RECORD_ORPHAN_REFERENCE, referenceValidation.getType());
+            }
+        }
+        assertEquals(1, validReferencesCounter);
+
+        List<TimestampToken> timestamps = evidenceRecord.getTimestamps();
+        assertEquals(1, timestamps.size());
+        assertTrue(timestamps.get(0).isMessageImprintDataFound());
+        assertTrue(timestamps.get(0).isMessageImprintDataIntact());
+    }
+
+    private void assertInvalid(DSSDocument evidenceRecordDocument, DSSDocument document) {
+        EvidenceRecord evidenceRecord = getEvidenceRecord(evidenceRecordDocument, document);
+        for (ReferenceValidation referenceValidation : evidenceRecord.getReferenceValidation()) {
+            assertFalse(referenceValidation.isFound() && referenceValidation.isIntact());
+        }
+    }
+
+    private EvidenceRecord getEvidenceRecord(DSSDocument evidenceRecordDocument, DSSDocument document) {
+        XMLEvidenceRecordValidator validator = new XMLEvidenceRecordValidator(evidenceRecordDocument);
+        validator.setCertificateVerifier(getOfflineCertificateVerifier());
+        validator.setDetachedContents(Collections.singletonList(document));
+        return validator.getEvidenceRecord();
+    }
+
+    @Override
+    protected String getSigningAlias() {
+        return GOOD_TSA;
+    }
+
+}
@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.jades.validation;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.validation.DocumentValidatorFactory;
 
 /**
@@ -50,6 +51,21 @@ public class JAdESDocumentValidatorFactory implements DocumentValidatorFactory {
         return false;
     }
 
+    @Override
+    public boolean isSupported(DSSDocument document, DocumentFormat format) {
+        JWSCompactDocumentValidator compactValidator = new JWSCompactDocumentValidator();
+        if (compactValidator.isSupported(document, format)) {
+            return true;
+        }
+
+        JWSSerializationDocumentValidator serializationValidator = new JWSSerializationDocumentValidator();
+        if (serializationValidator.isSupported(document, format)) {
+            return true;
+        }
+
+        return false;
+    }
+
     @Override
     public AbstractJWSDocumentValidator create(DSSDocument document) {
 
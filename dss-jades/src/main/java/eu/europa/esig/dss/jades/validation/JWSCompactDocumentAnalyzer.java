@@ -27,6 +27,7 @@ import eu.europa.esig.dss.jades.JWSCompactSerializationParser;
 import eu.europa.esig.dss.jades.JWSJsonSerializationObject;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
 
@@ -60,6 +61,12 @@ public class JWSCompactDocumentAnalyzer extends AbstractJWSDocumentAnalyzer {
 		return parser.isSupported();
 	}
 
+	@Override
+	public boolean isSupported(DSSDocument dssDocument, DocumentFormat format) {
+		// a compact serialization starts with a Base64Url encoded JSON header and cannot be recognized as other format
+		return DocumentFormat.UNKNOWN == format && isSupported(dssDocument);
+	}
+
 	@Override
 	protected List<AdvancedSignature> buildSignatures() {
 		JWSJsonSerializationObject jwsJsonSerializationObject = getJwsJsonSerializationObject();
@@ -22,6 +22,7 @@ package eu.europa.esig.dss.jades.validation;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzerFactory;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 
 /**
  * Loads the relevant Validator to process a given JWS signature
@@ -51,6 +52,21 @@ public class JWSDocumentAnalyzerFactory implements DocumentAnalyzerFactory {
 		return false;
 	}
 
+	@Override
+	public boolean isSupported(DSSDocument document, DocumentFormat format) {
+		JWSCompactDocumentAnalyzer compactValidator = new JWSCompactDocumentAnalyzer();
+		if (compactValidator.isSupported(document, format)) {
+			return true;
+		}
+
+		JWSSerializationAnalyzerValidator serializationValidator = new JWSSerializationAnalyzerValidator();
+		if (serializationValidator.isSupported(document, format)) {
+			return true;
+		}
+
+		return false;
+	}
+
 	@Override
 	public AbstractJWSDocumentAnalyzer create(DSSDocument document) {
 
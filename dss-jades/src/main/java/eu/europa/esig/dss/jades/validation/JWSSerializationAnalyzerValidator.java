@@ -24,6 +24,7 @@ import eu.europa.esig.dss.spi.exception.IllegalInputException;
 import eu.europa.esig.dss.jades.JWSJsonSerializationObject;
 import eu.europa.esig.dss.jades.JWSJsonSerializationParser;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
 import org.slf4j.Logger;
@@ -81,6 +82,11 @@ public class JWSSerializationAnalyzerValidator extends AbstractJWSDocumentAnalyz
 		return jwsJsonSerializationParser.isSupported();
 	}
 
+	@Override
+	public boolean isSupported(DSSDocument document, DocumentFormat format) {
+		return DocumentFormat.JSON == format && isSupported(document);
+	}
+
 	@Override
 	protected List<AdvancedSignature> buildSignatures() {
 		final List<AdvancedSignature> signatures = new ArrayList<>();
@@ -29,8 +29,13 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * This class implements the default methods.
@@ -110,20 +115,50 @@ public abstract class CommonDocument implements DSSDocument {
 	public byte[] getDigestValue(DigestAlgorithm digestAlgorithm) {
 		byte[] digest = digestMap.get(digestAlgorithm);
 		if (digest == null) {
-			try (InputStream is = openStream()) {
-				MessageDigest messageDigest = digestAlgorithm.getMessageDigest();
-				final byte[] buffer = new byte[8192];
-				int count;
-				while ((count = is.read(buffer)) > 0) {
+			computeDigests(Collections.singletonList(digestAlgorithm));
+			digest = digestMap.get(digestAlgorithm);
+		}
+		return digest;
+	}
+
+	/**
+	 * Computes all the digests not yet present within the {@code digestMap} within a single read of the document
+	 *
+	 * @param digestAlgorithms
+	 *            a collection of {@link DigestAlgorithm}s to compute digests with
+	 */
+	@Override
+	public void computeDigests(final Collection<DigestAlgorithm> digestAlgorithms) {
+		Objects.requireNonNull(digestAlgorithms, "DigestAlgorithms shall be provided!");
+		final List<DigestAlgorithm> digestAlgorithmsToCompute = new ArrayList<>();
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			Objects.requireNonNull(digestAlgorithm, "DigestAlgorithm cannot be null!");
+			if (!digestMap.containsKey(digestAlgorithm) && !digestAlgorithmsToCompute.contains(digestAlgorithm)) {
+				digestAlgorithmsToCompute.add(digestAlgorithm);
+			}
+		}
+		if (digestAlgorithmsToCompute.isEmpty()) {
+			return;
+		}
+
+		try (InputStream is = openStream()) {
+			final MessageDigest[] messageDigests = new MessageDigest[digestAlgorithmsToCompute.size()];
+			for (int i = 0; i < messageDigests.length; i++) {
+				messageDigests[i] = digestAlgorithmsToCompute.get(i).getMessageDigest();
+			}
+			final byte[] buffer = new byte[8192];
+			int count;
+			while ((count = is.read(buffer)) > 0) {
+				for (MessageDigest messageDigest : messageDigests) {
 					messageDigest.update(buffer, 0, count);
 				}
-				digest = messageDigest.digest();
-				digestMap.put(digestAlgorithm, digest);
-			} catch (IOException | NoSuchAlgorithmException e) {
-				throw new DSSException("Unable to compute the digest", e);
 			}
+			for (int i = 0; i < messageDigests.length; i++) {
+				digestMap.put(digestAlgorithmsToCompute.get(i), messageDigests[i].digest());
+			}
+		} catch (IOException | NoSuchAlgorithmException e) {
+			throw new DSSException("Unable to compute the digest", e);
 		}
-		return digest;
 	}
 
 	@Override
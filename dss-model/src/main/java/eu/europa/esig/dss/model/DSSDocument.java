@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.Collection;
 
 /**
  * Interface representing a DSS document.
@@ -115,4 +116,19 @@ public interface DSSDocument extends Serializable {
 	 */
 	byte[] getDigestValue(final DigestAlgorithm digestAlgorithm);
 
+	/**
+	 * This method computes digest values of the current document's content for all the provided {@code digestAlgorithms}.
+	 * The computed values are cached and returned on the subsequent calls of {@code #getDigestValue} method.
+	 * Shall be used when several digests of the same document are required, in order to read its content only once.
+	 * NOTE: The default implementation computes the digests one by one.
+	 *
+	 * @param digestAlgorithms
+	 *            a collection of {@link DigestAlgorithm}s to compute digests with
+	 */
+	default void computeDigests(final Collection<DigestAlgorithm> digestAlgorithms) {
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			getDigestValue(digestAlgorithm);
+		}
+	}
+
 }
@@ -25,6 +25,7 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Map.Entry;
 import java.util.Objects;
 
@@ -179,6 +180,19 @@ public class DigestDocument extends CommonDocument {
 		return digestValue;
 	}
 
+	/**
+	 * Verifies whether digest values are defined for all the given {@code digestAlgorithms},
+	 * as the digests cannot be computed on a DigestDocument
+	 *
+	 * @param digestAlgorithms a collection of {@link DigestAlgorithm}s
+	 */
+	@Override
+	public void computeDigests(Collection<DigestAlgorithm> digestAlgorithms) {
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			getDigestValue(digestAlgorithm);
+		}
+	}
+
 	/**
 	 * Gets the defined digest value for the DigestDocument
 	 *
@@ -0,0 +1,120 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+/**
+ * Reads a range of a file using positional reads on a {@code FileChannel}
+ *
+ */
+class FileChannelInputStream extends InputStream {
+
+	/** The channel to read from */
+	private final FileChannel channel;
+
+	/** The position up to which the content shall be read (exclusive) */
+	private final long end;
+
+	/** The current reading position */
+	private long position;
+
+	/** Defines whether the stream has been closed */
+	private boolean closed;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param channel {@link FileChannel} to read
+	 * @param offset the position to start reading from
+	 * @param length the maximum number of bytes to read
+	 */
+	FileChannelInputStream(final FileChannel channel, final long offset, final long length) {
+		Objects.requireNonNull(channel, "FileChannel cannot be null!");
+		if (offset < 0 || length < 0) {
+			throw new IllegalArgumentException(String.format(
+					"Offset and length shall be positive! Offset : %s, length : %s", offset, length));
+		}
+		this.channel = channel;
+		this.position = offset;
+		// avoid an overflow for a length up to Long.MAX_VALUE
+		this.end = length > Long.MAX_VALUE - offset ? Long.MAX_VALUE : offset + length;
+	}
+
+	@Override
+	public int read() throws IOException {
+		byte[] b = new byte[1];
+		int read = read(b, 0, 1);
+		return read == -1 ? -1 : b[0] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		Objects.requireNonNull(b, "Byte array cannot be null!");
+		ensureOpen();
+		if (len == 0) {
+			return 0;
+		}
+		long remaining = end - position;
+		if (remaining <= 0) {
+			return -1;
+		}
+		int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)), position);
+		if (read > 0) {
+			position += read;
+		}
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		ensureOpen();
+		if (n <= 0) {
+			return 0;
+		}
+		long skipped = Math.max(0, Math.min(n, Math.min(end, channel.size()) - position));
+		position += skipped;
+		return skipped;
+	}
+
+	@Override
+	public int available() throws IOException {
+		ensureOpen();
+		return (int) Math.max(0, Math.min(Integer.MAX_VALUE, Math.min(end, channel.size()) - position));
+	}
+
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		channel.close();
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Stream Closed");
+		}
+	}
+
+}
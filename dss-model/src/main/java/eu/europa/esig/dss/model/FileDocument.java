@@ -27,15 +27,19 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 
 /**
  * Document implementation stored on file-system.
+ * A range of the file can be read using positional reads, without streaming the preceding content.
  *
  */
 @SuppressWarnings("serial")
-public class FileDocument extends CommonDocument {
+public class FileDocument extends CommonDocument implements RandomAccessDocument {
 
 	private static final Logger LOG = LoggerFactory.getLogger(FileDocument.class);
 
@@ -80,6 +84,20 @@ public class FileDocument extends CommonDocument {
 		}
 	}
 
+	@Override
+	public long getLength() {
+		return file.length();
+	}
+
+	@Override
+	public InputStream openStream(long offset, long length) {
+		try {
+			return new FileChannelInputStream(FileChannel.open(file.toPath(), StandardOpenOption.READ), offset, length);
+		} catch (IOException e) {
+			throw new DSSException("Unable to open a FileChannel", e);
+		}
+	}
+
 	/**
 	 * Checks if the file exists
 	 *
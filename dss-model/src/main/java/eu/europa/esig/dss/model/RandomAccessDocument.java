@@ -0,0 +1,50 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.model;
+
+import java.io.InputStream;
+
+/**
+ * Represents a {@code DSSDocument} which content can be read starting from an arbitrary position,
+ * without reading the preceding binaries
+ *
+ */
+public interface RandomAccessDocument extends DSSDocument {
+
+	/**
+	 * Returns the length of the document content in bytes
+	 *
+	 * @return document length
+	 */
+	long getLength();
+
+	/**
+	 * Opens an {@code InputStream} reading up to {@code length} bytes of the document content
+	 * starting from the given {@code offset}.
+	 * The stream ends earlier when the end of the document is reached.
+	 *
+	 * @param offset the position within the document to start reading from
+	 * @param length the maximum number of bytes to be read
+	 * @return {@link InputStream}
+	 */
+	InputStream openStream(long offset, long length);
+
+}
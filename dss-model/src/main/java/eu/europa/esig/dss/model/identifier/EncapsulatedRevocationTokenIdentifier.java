@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.model.identifier;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.x509.revocation.Revocation;
 
 /**
@@ -39,6 +40,15 @@ public class EncapsulatedRevocationTokenIdentifier<R extends Revocation> extends
 	public EncapsulatedRevocationTokenIdentifier(byte[] binaries) {
 		super("R-", binaries);
 	}
+
+	/**
+	 * Constructor for revocation data kept within a {@code DSSDocument} (e.g. a large CRL stored in a file)
+	 *
+	 * @param document {@link DSSDocument} containing the revocation data binaries
+	 */
+	public EncapsulatedRevocationTokenIdentifier(DSSDocument document) {
+		super("R-", document);
+	}
 	
 	@Override
 	public Identifier getDSSId() {
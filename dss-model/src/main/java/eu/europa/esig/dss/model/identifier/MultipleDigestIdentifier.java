@@ -21,13 +21,23 @@
 package eu.europa.esig.dss.model.identifier;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.RandomAccessDocument;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
 import java.util.Arrays;
 import java.util.EnumMap;
 
 /**
  * This class is used to obtain a requested digest from a stored binary array
+ * or from a {@code DSSDocument} (e.g. a file-backed document for large tokens)
  *
  */
 public abstract class MultipleDigestIdentifier extends Identifier {
@@ -37,6 +47,15 @@ public abstract class MultipleDigestIdentifier extends Identifier {
 	/** Binary to compute the identifier for */
 	private final byte[] binaries;
 
+	/** Document to compute the identifier for, when the binaries are not kept in memory */
+	private final DSSDocument document;
+
+	/**
+	 * Binaries read from the {@code document}, kept until the memory is required by the garbage collector.
+	 * Avoids reading the document content on each {@code #getBinaries} call.
+	 */
+	private transient SoftReference<byte[]> documentBinaries;
+
 	/** Digest map */
 	private final EnumMap<DigestAlgorithm, byte[]> digestMap = new EnumMap<>(DigestAlgorithm.class);
 
@@ -49,18 +68,146 @@ public abstract class MultipleDigestIdentifier extends Identifier {
 	protected MultipleDigestIdentifier(final String prefix, byte[] binaries) {
 		super(prefix, binaries);
 		this.binaries = binaries;
+		this.document = null;
 		
 		Digest id = getDigestId();
 		digestMap.put(id.getAlgorithm(), id.getValue());
 	}
 
+	/**
+	 * Constructor computing the identifier from a {@code DSSDocument}.
+	 * The document content is not loaded into memory: the binaries are read from the document on demand.
+	 *
+	 * @param prefix {@link String} for the identifier
+	 * @param document {@link DSSDocument} containing token binaries
+	 */
+	protected MultipleDigestIdentifier(final String prefix, DSSDocument document) {
+		super(prefix, new Digest(DIGEST_ALGO, document.getDigestValue(DIGEST_ALGO)));
+		this.binaries = null;
+		this.document = document;
+
+		Digest id = getDigestId();
+		digestMap.put(id.getAlgorithm(), id.getValue());
+	}
+
 	/**
 	 * Gets token binaries
+	 * NOTE: when the identifier is built from a {@code DSSDocument}, the content is loaded into memory
+	 *       and is kept as long as the memory is not required by the garbage collector.
+	 *       Use {@code #openStream} in order to process the data without loading it into memory.
 	 *
 	 * @return byte array
 	 */
 	public byte[] getBinaries() {
-		return binaries;
+		if (binaries != null) {
+			return binaries;
+		}
+		byte[] cached = documentBinaries != null ? documentBinaries.get() : null;
+		if (cached == null) {
+			cached = readDocument();
+			documentBinaries = new SoftReference<>(cached);
+		}
+		return cached;
+	}
+
+	private byte[] readDocument() {
+		try (InputStream is = document.openStream(); ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+			byte[] buffer = new byte[8192];
+			int count;
+			while ((count = is.read(buffer)) != -1) {
+				baos.write(buffer, 0, count);
+			}
+			return baos.toByteArray();
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to read the document content : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Opens an InputStream with the token binaries
+	 *
+	 * @return {@link InputStream}
+	 */
+	public InputStream openStream() {
+		if (binaries != null) {
+			return new ByteArrayInputStream(binaries);
+		}
+		return document.openStream();
+	}
+
+	/**
+	 * Opens an InputStream reading up to {@code length} bytes of the token binaries starting from the given
+	 * {@code offset}. When the identifier is built from a {@code RandomAccessDocument}, the preceding content
+	 * is not read.
+	 *
+	 * @param offset the position within the binaries to start reading from
+	 * @param length the maximum number of bytes to be read
+	 * @return {@link InputStream}
+	 */
+	public InputStream openStream(long offset, long length) {
+		if (offset < 0 || length < 0) {
+			throw new IllegalArgumentException("The offset and the length cannot be negative!");
+		}
+		if (binaries != null) {
+			int start = (int) Math.min(offset, binaries.length);
+			int count = (int) Math.min(length, binaries.length - start);
+			return new ByteArrayInputStream(binaries, start, count);
+		}
+		if (document instanceof RandomAccessDocument) {
+			return ((RandomAccessDocument) document).openStream(offset, length);
+		}
+		InputStream is = document.openStream();
+		try {
+			long toSkip = offset;
+			while (toSkip > 0) {
+				long skipped = is.skip(toSkip);
+				if (skipped <= 0) {
+					if (is.read() == -1) {
+						break;
+					}
+					skipped = 1;
+				}
+				toSkip -= skipped;
+			}
+			return new BoundedInputStream(is, length);
+		} catch (IOException | RuntimeException e) {
+			closeQuietly(is);
+			throw new DSSException(String.format("Unable to read the document content : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Returns the length of the token binaries in bytes.
+	 * NOTE: the content is not loaded into memory, but it may be read when the length is not known.
+	 *
+	 * @return the binaries length
+	 */
+	public long getLength() {
+		if (binaries != null) {
+			return binaries.length;
+		}
+		if (document instanceof RandomAccessDocument) {
+			return ((RandomAccessDocument) document).getLength();
+		}
+		try (InputStream is = document.openStream()) {
+			byte[] buffer = new byte[8192];
+			long length = 0;
+			int count;
+			while ((count = is.read(buffer)) != -1) {
+				length += count;
+			}
+			return length;
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to read the document content : %s", e.getMessage()), e);
+		}
+	}
+
+	private static void closeQuietly(InputStream is) {
+		try {
+			is.close();
+		} catch (IOException e) {
+			// ignore
+		}
 	}
 
 	/**
@@ -70,6 +217,9 @@ public abstract class MultipleDigestIdentifier extends Identifier {
 	 * @return digests
 	 */
 	public byte[] getDigestValue(DigestAlgorithm digestAlgorithm) {
+		if (document != null) {
+			return digestMap.computeIfAbsent(digestAlgorithm, k -> document.getDigestValue(digestAlgorithm));
+		}
 		return digestMap.computeIfAbsent(digestAlgorithm, k -> getMessageDigest(digestAlgorithm).digest(getBinaries()));
 	}
 
@@ -83,4 +233,66 @@ public abstract class MultipleDigestIdentifier extends Identifier {
 		return Arrays.equals(expectedDigest.getValue(), getDigestValue(expectedDigest.getAlgorithm()));
 	}
 
+	/**
+	 * Limits the number of bytes read from the wrapped stream
+	 */
+	private static final class BoundedInputStream extends FilterInputStream {
+
+		/** The number of bytes still to be read */
+		private long remaining;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param in {@link InputStream} to read from
+		 * @param length the maximum number of bytes to be read
+		 */
+		private BoundedInputStream(InputStream in, long length) {
+			super(in);
+			this.remaining = length;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int b = super.read();
+			if (b != -1) {
+				remaining--;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int count = super.read(b, off, (int) Math.min(len, remaining));
+			if (count > 0) {
+				remaining -= count;
+			}
+			return count;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(Math.min(n, remaining));
+			remaining -= skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), remaining);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+	}
+
 }
@@ -27,6 +27,7 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.identifier.CertificateTokenIdentifier;
 import eu.europa.esig.dss.model.identifier.EntityIdentifier;
 import eu.europa.esig.dss.model.identifier.TokenIdentifier;
+import eu.europa.esig.dss.model.x509.extension.CertificateExtensions;
 
 import javax.security.auth.x500.X500Principal;
 import java.math.BigInteger;
@@ -72,6 +73,11 @@ public class CertificateToken extends Token {
      */
     private List<KeyUsageBit> keyUsageBits;
 
+    /**
+     * Cached parsed certificate extensions
+     */
+    private volatile CertificateExtensions certificateExtensions;
+
     /**
      * URL used to download a certificate from (used in aia.caIssuers download operation)
      */
@@ -344,6 +350,25 @@ public class CertificateToken extends Token {
         return keyUsageBits;
     }
 
+    /**
+     * Returns the cached parsed certificate extensions, when already computed.
+     * NOTE: use {@code CertificateExtensionsUtils#getCertificateExtensions} to extract the certificate extensions
+     *
+     * @return {@link CertificateExtensions} if cached, NULL otherwise
+     */
+    public CertificateExtensions getCertificateExtensions() {
+        return certificateExtensions;
+    }
+
+    /**
+     * Sets the parsed certificate extensions to be cached within the token
+     *
+     * @param certificateExtensions {@link CertificateExtensions}
+     */
+    public void setCertificateExtensions(CertificateExtensions certificateExtensions) {
+        this.certificateExtensions = certificateExtensions;
+    }
+
     /**
      * This method checks if the BasicConstraint is present
      *
@@ -46,7 +46,7 @@ public abstract class Token implements IdentifierBasedObject, Serializable {
 	/**
 	 * The publicKey of the signed certificate(s)
 	 */
-	protected PublicKey publicKeyOfTheSigner;
+	protected volatile PublicKey publicKeyOfTheSigner;
 
 	/**
 	 * Indicates a status of token's signature
@@ -149,27 +149,48 @@ public abstract class Token implements IdentifierBasedObject, Serializable {
 	 *              the candidate to be tested
 	 * @return true if this token is signed by the given certificate token
 	 */
-	public synchronized boolean isSignedBy(CertificateToken token) {
+	public boolean isSignedBy(CertificateToken token) {
 		return isSignedBy(token.getPublicKey());
 	}
 
 	/**
 	 * Checks if the OCSP token is signed by the given publicKey
+	 * NOTE: when {@link TokenSignatureValidityCache} is enabled, the result of the cryptographic verification
+	 *       is shared between all token instances created from the same binaries.
 	 * 
 	 * @param publicKey
 	 *              the candidate to be tested
 	 * @return true if this token is signed by the given public key
 	 */
-	public synchronized boolean isSignedBy(final PublicKey publicKey) {
-		if (publicKeyOfTheSigner != null) {
-			return publicKeyOfTheSigner.equals(publicKey);
-		} else if (SignatureValidity.VALID == checkIsSignedBy(publicKey)) {
-			if (!isSelfSigned()) {
-				this.publicKeyOfTheSigner = publicKey;
+	public boolean isSignedBy(final PublicKey publicKey) {
+		final PublicKey signerPublicKey = publicKeyOfTheSigner;
+		if (signerPublicKey != null) {
+			return signerPublicKey.equals(publicKey);
+		}
+		final TokenSignatureValidityCache cache = TokenSignatureValidityCache.getInstance();
+		final TokenSignatureValidityCache.SignatureVerificationResult cachedResult = cache.get(this, publicKey);
+		// the lock is taken only when the signer is not yet known and is not held for the lookups above
+		synchronized (this) {
+			if (publicKeyOfTheSigner != null) {
+				return publicKeyOfTheSigner.equals(publicKey);
 			}
-			return true;
+			final SignatureValidity validity;
+			if (cachedResult != null) {
+				validity = cachedResult.getSignatureValidity();
+				signatureValidity = validity;
+				signatureInvalidityReason = cachedResult.getSignatureInvalidityReason();
+			} else {
+				validity = checkIsSignedBy(publicKey);
+				cache.put(this, publicKey, validity, signatureInvalidityReason);
+			}
+			if (SignatureValidity.VALID == validity) {
+				if (!isSelfSigned()) {
+					this.publicKeyOfTheSigner = publicKey;
+				}
+				return true;
+			}
+			return false;
 		}
-		return false;
 	}
 
 	/**
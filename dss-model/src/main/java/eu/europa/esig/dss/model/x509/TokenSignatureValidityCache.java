@@ -0,0 +1,233 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.model.x509;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureValidity;
+import eu.europa.esig.dss.model.DSSException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class keeps the results of the cryptographic signature verifications performed within
+ * {@code Token.isSignedBy(publicKey)}, shared between all token instances of the running process.
+ * This allows to avoid verification of the same signature (e.g. an intermediate certificate signed by a root CA)
+ * every time a new {@code Token} instance is created for the same binaries.
+ * <p>
+ * The results are identified by the DSS identifier of the token (computed from its binaries)
+ * and the SHA-256 digest of the encoded public key of the signer candidate.
+ * <p>
+ * The cache is disabled by default. Use {@code TokenSignatureValidityCache.getInstance().setMaxSize(...)}
+ * in order to enable it. When the maximum size is reached, the least recently used entry is removed.
+ */
+public final class TokenSignatureValidityCache {
+
+	/** Singleton */
+	private static final TokenSignatureValidityCache SINGLETON = new TokenSignatureValidityCache();
+
+	/**
+	 * Map between token/public key pairs and the signature verification results, ordered by access
+	 * NOTE: all accesses shall be synchronized on the map
+	 */
+	private final Map<String, SignatureVerificationResult> cache =
+			new LinkedHashMap<String, SignatureVerificationResult>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 2894163907281305872L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, SignatureVerificationResult> eldest) {
+					return size() > maxSize;
+				}
+
+			};
+
+	/** The maximum number of the cached results, 0 means the cache is disabled */
+	private volatile int maxSize = 0;
+
+	/**
+	 * Singleton
+	 */
+	private TokenSignatureValidityCache() {
+		// empty
+	}
+
+	/**
+	 * Returns an instance of the TokenSignatureValidityCache class
+	 *
+	 * @return {@link TokenSignatureValidityCache} singleton
+	 */
+	public static TokenSignatureValidityCache getInstance() {
+		return SINGLETON;
+	}
+
+	/**
+	 * Sets the maximum number of signature verification results to be kept in memory.
+	 * When the value is 0, the cache is disabled and the signature is verified for every new token instance.
+	 * <p>
+	 * Default : 0 (disabled)
+	 *
+	 * @param maxSize the maximum number of cached results
+	 */
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size of the cache cannot be negative!");
+		}
+		this.maxSize = maxSize;
+		ensureSize();
+	}
+
+	/**
+	 * Returns whether the cache is enabled
+	 *
+	 * @return TRUE if the signature verification results shall be cached, FALSE otherwise
+	 */
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Returns the number of cached results
+	 *
+	 * @return number of cached results
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Removes all cached results
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Returns the cached result of the signature verification of {@code token} with {@code publicKey}
+	 *
+	 * @param token {@link Token} to get verification result for
+	 * @param publicKey {@link PublicKey} of the signer candidate
+	 * @return {@link SignatureVerificationResult} if the result is cached, null otherwise
+	 */
+	SignatureVerificationResult get(Token token, PublicKey publicKey) {
+		if (!isEnabled()) {
+			return null;
+		}
+		String key = getKey(token, publicKey);
+		synchronized (cache) {
+			return cache.get(key);
+		}
+	}
+
+	/**
+	 * Caches the result of the signature verification of {@code token} with {@code publicKey}
+	 *
+	 * @param token {@link Token} the signature has been verified for
+	 * @param publicKey {@link PublicKey} of the signer candidate
+	 * @param signatureValidity {@link SignatureValidity} result of the verification
+	 * @param signatureInvalidityReason {@link String} the invalidity reason, when applicable
+	 */
+	void put(Token token, PublicKey publicKey, SignatureValidity signatureValidity, String signatureInvalidityReason) {
+		if (!isEnabled() || SignatureValidity.NOT_EVALUATED == signatureValidity) {
+			return;
+		}
+		String key = getKey(token, publicKey);
+		SignatureVerificationResult result = new SignatureVerificationResult(signatureValidity, signatureInvalidityReason);
+		synchronized (cache) {
+			cache.put(key, result);
+		}
+	}
+
+	private String getKey(Token token, PublicKey publicKey) {
+		try {
+			MessageDigest messageDigest = DigestAlgorithm.SHA256.getMessageDigest();
+			byte[] publicKeyDigest = messageDigest.digest(publicKey.getEncoded());
+			return token.getDSSIdAsString() + "-" + Base64.getEncoder().encodeToString(publicKeyDigest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new DSSException(String.format("Unable to compute public key digest : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Removes the least recently used entries exceeding the maximum size
+	 */
+	private void ensureSize() {
+		synchronized (cache) {
+			Iterator<String> iterator = cache.keySet().iterator();
+			while (cache.size() > maxSize && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Contains a result of a token's signature verification
+	 */
+	static final class SignatureVerificationResult {
+
+		/** The signature validity */
+		private final SignatureValidity signatureValidity;
+
+		/** The signature invalidity reason */
+		private final String signatureInvalidityReason;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param signatureValidity {@link SignatureValidity}
+		 * @param signatureInvalidityReason {@link String}
+		 */
+		private SignatureVerificationResult(SignatureValidity signatureValidity, String signatureInvalidityReason) {
+			this.signatureValidity = signatureValidity;
+			this.signatureInvalidityReason = signatureInvalidityReason;
+		}
+
+		/**
+		 * Gets the signature validity
+		 *
+		 * @return {@link SignatureValidity}
+		 */
+		SignatureValidity getSignatureValidity() {
+			return signatureValidity;
+		}
+
+		/**
+		 * Gets the signature invalidity reason
+		 *
+		 * @return {@link String}
+		 */
+		String getSignatureInvalidityReason() {
+			return signatureInvalidityReason;
+		}
+
+	}
+
+}
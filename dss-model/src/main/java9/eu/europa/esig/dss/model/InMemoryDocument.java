@@ -32,7 +32,7 @@ import java.util.Objects;
  * In memory representation of a document
  *
  */
-public class InMemoryDocument extends CommonDocument {
+public class InMemoryDocument extends CommonDocument implements RandomAccessDocument {
 
 	private byte[] bytes;
 
@@ -138,6 +138,26 @@ public class InMemoryDocument extends CommonDocument {
 		return new ByteArrayInputStream(bytes);
 	}
 
+	@Override
+	public long getLength() {
+		Objects.requireNonNull(bytes, "Byte array is not defined!");
+		return bytes.length;
+	}
+
+	@Override
+	public InputStream openStream(long offset, long length) {
+		Objects.requireNonNull(bytes, "Byte array is not defined!");
+		if (offset < 0 || length < 0) {
+			throw new IllegalArgumentException(String.format(
+					"Offset and length shall be positive! Offset : %s, length : %s", offset, length));
+		}
+		int start = (int) Math.min(offset, bytes.length);
+		// avoid an overflow for a length up to Long.MAX_VALUE
+		long requestedEnd = length > Long.MAX_VALUE - offset ? Long.MAX_VALUE : offset + length;
+		int end = (int) Math.min(requestedEnd, bytes.length);
+		return new ByteArrayInputStream(bytes, start, end - start);
+	}
+
 	public byte[] getBytes() {
 		return bytes;
 	}
@@ -27,7 +27,9 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
 import java.security.Security;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -106,4 +108,11 @@ class DigestDocumentTest {
 		Security.removeProvider(BouncyCastleProvider.PROVIDER_NAME);
 	}
 
+	@Test
+	void computeDigestsTest() {
+		DigestDocument doc = new DigestDocument(DigestAlgorithm.SHA256, "aaa".getBytes());
+		doc.computeDigests(Collections.singletonList(DigestAlgorithm.SHA256));
+		assertThrows(IllegalArgumentException.class, () -> doc.computeDigests(Arrays.asList(DigestAlgorithm.SHA256, DigestAlgorithm.SHA512)));
+	}
+
 }
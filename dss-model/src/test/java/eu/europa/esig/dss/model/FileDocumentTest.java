@@ -25,11 +25,18 @@ import eu.europa.esig.dss.enumerations.MimeTypeEnum;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -71,4 +78,80 @@ class FileDocumentTest {
 		assertFalse(file.exists());
 	}
 
+	@Test
+	void computeDigestsTest() throws Exception {
+		final AtomicInteger openStreamCounter = new AtomicInteger();
+		FileDocument doc = new FileDocument("src/test/resources/AdobeCA.p7c") {
+
+			private static final long serialVersionUID = -1L;
+
+			@Override
+			public InputStream openStream() {
+				openStreamCounter.incrementAndGet();
+				return super.openStream();
+			}
+
+		};
+
+		doc.computeDigests(Arrays.asList(DigestAlgorithm.SHA1, DigestAlgorithm.SHA256, DigestAlgorithm.SHA512, DigestAlgorithm.SHA256));
+		assertEquals(1, openStreamCounter.get());
+
+		byte[] binaries = Files.readAllBytes(new File("src/test/resources/AdobeCA.p7c").toPath());
+		for (DigestAlgorithm digestAlgorithm : Arrays.asList(DigestAlgorithm.SHA1, DigestAlgorithm.SHA256, DigestAlgorithm.SHA512)) {
+			MessageDigest messageDigest = MessageDigest.getInstance(digestAlgorithm.getJavaName());
+			assertArrayEquals(messageDigest.digest(binaries), doc.getDigestValue(digestAlgorithm));
+		}
+		assertEquals("xF8SpcLlrd4Bhl1moh4Ciz+Rq/PImaChEl/tyGTZyPM=", Base64.getEncoder().encodeToString(doc.getDigestValue(DigestAlgorithm.SHA256)));
+		assertEquals(1, openStreamCounter.get());
+
+		// only the missing digest is computed
+		doc.computeDigests(Arrays.asList(DigestAlgorithm.SHA256, DigestAlgorithm.SHA384));
+		assertEquals(2, openStreamCounter.get());
+		assertArrayEquals(MessageDigest.getInstance("SHA-384").digest(binaries), doc.getDigestValue(DigestAlgorithm.SHA384));
+		assertEquals(2, openStreamCounter.get());
+	}
+
+	@Test
+	void openStreamRangeTest() throws IOException {
+		FileDocument doc = new FileDocument("src/test/resources/AdobeCA.p7c");
+		byte[] binaries = Files.readAllBytes(doc.getFile().toPath());
+		assertEquals(binaries.length, doc.getLength());
+
+		try (InputStream is = doc.openStream(10, 100)) {
+			assertArrayEquals(Arrays.copyOfRange(binaries, 10, 110), readAll(is));
+		}
+		try (InputStream is = doc.openStream(binaries.length - 5, 100)) {
+			assertArrayEquals(Arrays.copyOfRange(binaries, binaries.length - 5, binaries.length), readAll(is));
+		}
+		try (InputStream is = doc.openStream(10, Long.MAX_VALUE)) {
+			assertArrayEquals(Arrays.copyOfRange(binaries, 10, binaries.length), readAll(is));
+		}
+		try (InputStream is = doc.openStream(binaries.length + 5, 100)) {
+			assertEquals(-1, is.read());
+		}
+		try (InputStream is = doc.openStream(0, 100)) {
+			assertEquals(50, is.skip(50));
+			assertEquals(binaries[50] & 0xff, is.read());
+			assertEquals(49, is.skip(100));
+			assertEquals(-1, is.read());
+		}
+
+		InputStream is = doc.openStream(0, 100);
+		is.close();
+		Exception exception = assertThrows(IOException.class, is::read);
+		assertEquals("Stream Closed", exception.getMessage());
+
+		assertThrows(IllegalArgumentException.class, () -> doc.openStream(-1, 100));
+	}
+
+	private static byte[] readAll(InputStream is) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		byte[] buffer = new byte[16];
+		int count;
+		while ((count = is.read(buffer)) != -1) {
+			baos.write(buffer, 0, count);
+		}
+		return baos.toByteArray();
+	}
+
 }
@@ -24,9 +24,11 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.MimeTypeEnum;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -114,4 +116,34 @@ class InMemoryDocumentTest {
 		assertEquals("Bytes cannot be null", exception.getMessage());
 	}
 
+	@Test
+	void openStreamRangeTest() throws IOException {
+		byte[] binaries = new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+		InMemoryDocument doc = new InMemoryDocument(binaries);
+		assertEquals(10, doc.getLength());
+
+		try (InputStream is = doc.openStream(2, 5)) {
+			assertArrayEquals(new byte[] { 2, 3, 4, 5, 6 }, toByteArray(is));
+		}
+		try (InputStream is = doc.openStream(8, 5)) {
+			assertArrayEquals(new byte[] { 8, 9 }, toByteArray(is));
+		}
+		try (InputStream is = doc.openStream(7, Long.MAX_VALUE)) {
+			assertArrayEquals(new byte[] { 7, 8, 9 }, toByteArray(is));
+		}
+		try (InputStream is = doc.openStream(12, 5)) {
+			assertArrayEquals(new byte[0], toByteArray(is));
+		}
+		assertThrows(IllegalArgumentException.class, () -> doc.openStream(0, -1));
+	}
+
+	private static byte[] toByteArray(InputStream is) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		int b;
+		while ((b = is.read()) != -1) {
+			baos.write(b);
+		}
+		return baos.toByteArray();
+	}
+
 }
@@ -20,12 +20,21 @@
  */
 package eu.europa.esig.dss.model.identifier;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.CommonDocument;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -50,10 +59,47 @@ class EncapsulatedRevocationTokenIdentifierTest {
 		assertEquals(2, map.keySet().size());
 	}
 
+	@Test
+	@SuppressWarnings("rawtypes")
+	void documentTest() {
+		EncapsulatedRevocationTokenIdentifier id1 = new EncapsulatedRevocationTokenIdentifier(new byte[] { 1, 2, 3 });
+		EncapsulatedRevocationTokenIdentifier id2 = new EncapsulatedRevocationTokenIdentifier(new InMemoryDocument(new byte[] { 1, 2, 3 }));
+
+		assertEquals(id1, id2);
+		assertEquals(id1.hashCode(), id2.hashCode());
+		assertEquals(id1.asXmlId(), id2.asXmlId());
+		assertArrayEquals(id1.getBinaries(), id2.getBinaries());
+		assertArrayEquals(id1.getDigestValue(DigestAlgorithm.SHA1), id2.getDigestValue(DigestAlgorithm.SHA1));
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	void documentBinariesReadOnceTest() {
+		AtomicInteger openedStreams = new AtomicInteger();
+		DSSDocument document = new CommonDocument() {
+
+			private static final long serialVersionUID = -1L;
+
+			@Override
+			public InputStream openStream() {
+				openedStreams.incrementAndGet();
+				return new ByteArrayInputStream(new byte[] { 1, 2, 3 });
+			}
+
+		};
+		EncapsulatedRevocationTokenIdentifier identifier = new EncapsulatedRevocationTokenIdentifier(document);
+		int openedOnCreation = openedStreams.get();
+
+		assertArrayEquals(new byte[] { 1, 2, 3 }, identifier.getBinaries());
+		assertArrayEquals(new byte[] { 1, 2, 3 }, identifier.getBinaries());
+		assertEquals(openedOnCreation + 1, openedStreams.get());
+	}
+
 	@Test
 	@SuppressWarnings("rawtypes")
 	void assertNPE() {
-		assertThrows(NullPointerException.class, () -> new EncapsulatedRevocationTokenIdentifier(null));
+		assertThrows(NullPointerException.class, () -> new EncapsulatedRevocationTokenIdentifier((byte[]) null));
+		assertThrows(NullPointerException.class, () -> new EncapsulatedRevocationTokenIdentifier((DSSDocument) null));
 	}
 
 }
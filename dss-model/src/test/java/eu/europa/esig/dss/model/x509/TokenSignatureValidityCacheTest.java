@@ -0,0 +1,195 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.model.x509;
+
+import eu.europa.esig.dss.enumerations.SignatureValidity;
+import eu.europa.esig.dss.model.DSSException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenSignatureValidityCacheTest {
+
+	private static final String GOOD_CA = "MIID6jCCAtKgAwIBAgIBBDANBgkqhkiG9w0BAQsFADBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMTkwMzE4MDkzMTU1WhcNMjEwMTE4MDkzMTU1WjBNMRAwDgYDVQQDDAdnb29kLWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQCfUvDNM8lvv9P5pILP98HhhM0iiGMdw/MjJOqSKdA3Ss0xXT0UeYlr0blGBFt4yKHxfIAwR8BqLviT1CA0a6+PS8EDEC29txIRCPO+BscKlz4ZFlU9g2dGwA4Dl5ynEq0AP/TYjKl5RY+rGZT/Qx8Ea5OAr9MgQWWKuONFyo7dv4tM7FMTcHUL+hUqdQEpKXXsCOT5WYjtr3oYeu34Cal8m8YN/UmK70fGDwlRHLKgDIvcfZT3dkNOehabuez2Sj6kFkWNseQWeXSjzM1f2OH9idW9UmSQ7RvxDIAgKBYD/D9gGannG2SPZWQo+w5O9UhcE1N8Nc89CLCdJguVNF9hAgMBAAGjgdQwgdEwDgYDVR0PAQH/BAQDAgEGMEEGA1UdHwQ6MDgwNqA0oDKGMGh0dHA6Ly9kc3Mubm93aW5hLmx1L3BraS1mYWN0b3J5L2NybC9yb290LWNhLmNybDBMBggrBgEFBQcBAQRAMD4wPAYIKwYBBQUHMAKGMGh0dHA6Ly9kc3Mubm93aW5hLmx1L3BraS1mYWN0b3J5L2NydC9yb290LWNhLmNydDAdBgNVHQ4EFgQU4tC4xPvJxRJqFXnjSqGn5Rzj5jYwDwYDVR0TAQH/BAUwAwEB/zANBgkqhkiG9w0BAQsFAAOCAQEAFJbVMStk22yRI6dczyzj6zyIh2noFa7STDW3oWg5UdXrjvWpCrw3OSqbF1UEF6X6FtDJfrXhmgyhVwVgHzH1n6+SXG3I/lOeAOKiCNjUA7uhenZuOgoVmWdfs+c9lIx8q7/f8L/kEePoDMLOYqhsSwfDhjELuq+2OOkMOqstuRyKPLQbK7nvf985W7qdjoggm4BHNm+RxkRkrLn1DxYqxnU+2ByZbZEWsqlPTgfRobBLbgPT7PMwVdwuZ6MzdVUsmBj82kGL2duAnzE117cTLmiEluUVXy/RskcHDcbhtOyOBzmQCKmXzafSiHTHtTUPC2XgpRwfwqad4jB+iMSL9A==";
+
+	private static final String ROOT_CA = "MIIDVzCCAj+gAwIBAgIBATANBgkqhkiG9w0BAQ0FADBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMTkwMjE4MDkzMTU0WhcNMjEwMjE4MDkzMTU0WjBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQCr35vEZwV4ynpmxadO6nuJTqhdPSDN0JIO3CFMU4CT/QQ2ZquuPxt4ImFW3mxXzsXkozrUV99Mwt8yRuYt6uJf761DkSjdPB/HVWNyLXVTq1hyiLsrfRlsklnZ08HSLcDK9gmuiHYyOlIl6V9dZkgscdH68mBQHzaS5Ve9P7p0QXBu1PaY/Mc65eSYUGTi75W6vBeX59mEGYAkUlr0LFdUf+Nr3kFlZ14Okh7w0y1NY8v8EUPQvMGnyrcAs+LBm5i65LoGdSQaIE9LiyYZvoFiC0CutY/aYWoLIhvjiLhMEmk+odU/6XOpvI7cUMrBVcLsvWrSmD/ju/mtaiPXfVV5AgMBAAGjQjBAMA4GA1UdDwEB/wQEAwIBBjAdBgNVHQ4EFgQUMAns58WjMfSq9Xqlt1OwKEY8ze4wDwYDVR0TAQH/BAUwAwEB/zANBgkqhkiG9w0BAQ0FAAOCAQEAYTtRueasFMQOuhKeJqI8QTonjxptdXpcOEx5lr7Hmo1+GDTuyKnGQIGWDl2WZoQuan9XITQsJSZWURY4yxsGhIxrM680M+FgZX/PQcgNOJDX00vAytnvZjssp45LDHMKbo9R9T5sjyjkxmMiQgWaQmKgt8biarZpzgTtlIG2U4aH6weuCNX8RW1nZHGMHjoR6lwV93jn8b8oZFqY7q0ISCR4gcIJ/Evqmshoau8vS8tIVD6FqECFWLKku+h9sO4LrYdDKLSZ4VAcZSv3jjGDbOmr4/L1XGF4WOWlrPNk3vVUH8ZbazNELzFPY24mrdZPDR9rNTE+rUZ4Nd1hhCKISg==";
+
+	@AfterEach
+	void reset() {
+		TokenSignatureValidityCache.getInstance().setMaxSize(0);
+		TokenSignatureValidityCache.getInstance().clear();
+	}
+
+	@Test
+	void disabledTest() {
+		TokenSignatureValidityCache cache = TokenSignatureValidityCache.getInstance();
+		assertFalse(cache.isEnabled());
+
+		CertificateToken goodCa = getCertificate(GOOD_CA);
+		CertificateToken rootCa = getCertificate(ROOT_CA);
+		assertTrue(goodCa.isSignedBy(rootCa));
+		assertEquals(SignatureValidity.VALID, goodCa.getSignatureValidity());
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void validSignatureTest() {
+		TokenSignatureValidityCache cache = TokenSignatureValidityCache.getInstance();
+		cache.setMaxSize(10);
+		assertTrue(cache.isEnabled());
+
+		CertificateToken rootCa = getCertificate(ROOT_CA);
+		CertificateToken goodCa = getCertificate(GOOD_CA);
+		assertTrue(goodCa.isSignedBy(rootCa));
+		assertEquals(1, cache.size());
+
+		CertificateToken goodCaBis = getCertificate(GOOD_CA);
+		assertEquals(SignatureValidity.NOT_EVALUATED, goodCaBis.getSignatureValidity());
+		assertNull(goodCaBis.getPublicKeyOfTheSigner());
+
+		assertTrue(goodCaBis.isSignedBy(getCertificate(ROOT_CA)));
+		assertEquals(SignatureValidity.VALID, goodCaBis.getSignatureValidity());
+		assertEquals(rootCa.getPublicKey(), goodCaBis.getPublicKeyOfTheSigner());
+		assertEquals(1, cache.size());
+
+		assertTrue(rootCa.isSelfSigned());
+		assertTrue(rootCa.isSignedBy(rootCa));
+		assertTrue(getCertificate(ROOT_CA).isSignedBy(rootCa));
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	void invalidSignatureTest() {
+		TokenSignatureValidityCache cache = TokenSignatureValidityCache.getInstance();
+		cache.setMaxSize(10);
+
+		CertificateToken goodCa = getCertificate(GOOD_CA);
+		CertificateToken rootCa = getCertificate(ROOT_CA);
+		assertFalse(rootCa.isSignedBy(goodCa));
+		assertEquals(SignatureValidity.INVALID, rootCa.getSignatureValidity());
+		String invalidityReason = rootCa.getInvalidityReason();
+		assertFalse(invalidityReason.isEmpty());
+		assertEquals(1, cache.size());
+
+		CertificateToken rootCaBis = getCertificate(ROOT_CA);
+		assertFalse(rootCaBis.isSignedBy(goodCa));
+		assertEquals(SignatureValidity.INVALID, rootCaBis.getSignatureValidity());
+		assertEquals(invalidityReason, rootCaBis.getInvalidityReason());
+		assertEquals(1, cache.size());
+
+		// the previous invalid result shall not prevent the validation against the correct key
+		assertTrue(rootCaBis.isSignedBy(rootCa));
+		assertEquals(SignatureValidity.VALID, rootCaBis.getSignatureValidity());
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	void maxSizeTest() {
+		TokenSignatureValidityCache cache = TokenSignatureValidityCache.getInstance();
+		cache.setMaxSize(1);
+
+		CertificateToken goodCa = getCertificate(GOOD_CA);
+		CertificateToken rootCa = getCertificate(ROOT_CA);
+		assertTrue(goodCa.isSignedBy(rootCa));
+		assertTrue(rootCa.isSignedBy(rootCa));
+		assertEquals(1, cache.size());
+
+		cache.setMaxSize(0);
+		assertEquals(0, cache.size());
+
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> cache.setMaxSize(-1));
+		assertEquals("The maximum size of the cache cannot be negative!", exception.getMessage());
+	}
+
+	@Test
+	void leastRecentlyUsedEvictionTest() {
+		TokenSignatureValidityCache cache = TokenSignatureValidityCache.getInstance();
+		cache.setMaxSize(2);
+
+		CertificateToken goodCa = getCertificate(GOOD_CA);
+		CertificateToken rootCa = getCertificate(ROOT_CA);
+		assertTrue(goodCa.isSignedBy(rootCa));
+		assertTrue(rootCa.isSignedBy(rootCa));
+		assertEquals(2, cache.size());
+
+		// the oldest entry is used again
+		CertificateToken goodCaBis = getCertificate(GOOD_CA);
+		assertTrue(goodCaBis.isSignedBy(rootCa));
+
+		// a new entry evicts the least recently used one
+		assertFalse(getCertificate(ROOT_CA).isSignedBy(goodCa));
+		assertEquals(2, cache.size());
+		assertNotNull(cache.get(goodCa, rootCa.getPublicKey()));
+		assertNotNull(cache.get(rootCa, goodCa.getPublicKey()));
+		assertNull(cache.get(rootCa, rootCa.getPublicKey()));
+	}
+
+	@Test
+	void concurrentTest() throws Exception {
+		TokenSignatureValidityCache.getInstance().setMaxSize(10);
+
+		CertificateToken goodCa = getCertificate(GOOD_CA);
+		CertificateToken rootCa = getCertificate(ROOT_CA);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				final boolean validCandidate = i % 2 == 0;
+				futures.add(executorService.submit(() -> validCandidate == goodCa.isSignedBy(validCandidate ? rootCa : goodCa)));
+			}
+			for (Future<Boolean> future : futures) {
+				assertTrue(future.get());
+			}
+		} finally {
+			executorService.shutdown();
+		}
+		assertEquals(rootCa.getPublicKey(), goodCa.getPublicKeyOfTheSigner());
+		assertEquals(SignatureValidity.VALID, goodCa.getSignatureValidity());
+	}
+
+	private CertificateToken getCertificate(String base64) {
+		try (InputStream is = new ByteArrayInputStream(Base64.getDecoder().decode(base64))) {
+			CertificateFactory factory = CertificateFactory.getInstance("X.509");
+			return new CertificateToken((X509Certificate) factory.generateCertificate(is));
+		} catch (Exception e) {
+			throw new DSSException("Unable to read certificate", e);
+		}
+	}
+
+}
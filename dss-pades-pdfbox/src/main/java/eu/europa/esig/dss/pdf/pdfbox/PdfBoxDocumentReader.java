@@ -22,6 +22,7 @@ package eu.europa.esig.dss.pdf.pdfbox;
 
 import eu.europa.esig.dss.enumerations.CertificationPermission;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.pades.PAdESCommonParameters;
 import eu.europa.esig.dss.pades.validation.ByteRange;
@@ -34,6 +35,7 @@ import eu.europa.esig.dss.pdf.PdfArray;
 import eu.europa.esig.dss.pdf.PdfDict;
 import eu.europa.esig.dss.pdf.PdfDocumentReader;
 import eu.europa.esig.dss.pdf.PdfDssDict;
+import eu.europa.esig.dss.pdf.PdfMemoryUsageSetting;
 import eu.europa.esig.dss.pdf.PdfSigDictWrapper;
 import eu.europa.esig.dss.pdf.SingleDssDict;
 import eu.europa.esig.dss.pdf.visible.ImageRotationUtils;
@@ -45,6 +47,7 @@ import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -107,16 +110,70 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 	 */
 	public PdfBoxDocumentReader(DSSDocument dssDocument, String passwordProtection)
 			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
+		this(dssDocument, passwordProtection, PdfMemoryUsageSetting.memoryFull());
+	}
+
+	/**
+	 * The PDFBox implementation of the Reader with a defined memory policy
+	 *
+	 * @param dssDocument           {@link DSSDocument} to read
+	 * @param passwordProtection    {@link String} a password to open a protected document
+	 * @param pdfMemoryUsageSetting {@link PdfMemoryUsageSetting} the memory policy to load the document with
+	 * @throws IOException          if an exception occurs
+	 * @throws eu.europa.esig.dss.pades.exception.InvalidPasswordException if the password is not provided or
+	 *                              invalid for a protected document
+	 */
+	public PdfBoxDocumentReader(DSSDocument dssDocument, String passwordProtection, PdfMemoryUsageSetting pdfMemoryUsageSetting)
+			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
 		Objects.requireNonNull(dssDocument, "The document must be defined!");
 		this.dssDocument = dssDocument;
-		try (InputStream is = dssDocument.openStream()) {
-			this.pdDocument = PDDocument.load(is, passwordProtection);
+		try {
+			this.pdDocument = loadPDDocument(dssDocument, passwordProtection, pdfMemoryUsageSetting);
 		} catch (InvalidPasswordException e) {
 			throw new eu.europa.esig.dss.pades.exception.InvalidPasswordException(
 					String.format("Encrypted document : %s", e.getMessage()));
 		}
 	}
 
+	/**
+	 * Loads a {@code PDDocument} according to the given memory policy.
+	 * When the main memory usage is limited, a {@code FileDocument} is read directly from the file.
+	 *
+	 * @param dssDocument           {@link DSSDocument} to load
+	 * @param passwordProtection    {@link String} a password to open a protected document
+	 * @param pdfMemoryUsageSetting {@link PdfMemoryUsageSetting} the memory policy to load the document with
+	 * @return {@link PDDocument}
+	 * @throws IOException if an exception occurs
+	 */
+	static PDDocument loadPDDocument(DSSDocument dssDocument, String passwordProtection,
+									 PdfMemoryUsageSetting pdfMemoryUsageSetting) throws IOException {
+		if (pdfMemoryUsageSetting == null || pdfMemoryUsageSetting.isMainMemoryUnlimited()) {
+			try (InputStream is = dssDocument.openStream()) {
+				return PDDocument.load(is, passwordProtection);
+			}
+		}
+		final MemoryUsageSetting memoryUsageSetting = toMemoryUsageSetting(pdfMemoryUsageSetting);
+		if (dssDocument instanceof FileDocument) {
+			return PDDocument.load(((FileDocument) dssDocument).getFile(), passwordProtection, memoryUsageSetting);
+		}
+		try (InputStream is = dssDocument.openStream()) {
+			return PDDocument.load(is, passwordProtection, memoryUsageSetting);
+		}
+	}
+
+	private static MemoryUsageSetting toMemoryUsageSetting(PdfMemoryUsageSetting pdfMemoryUsageSetting) {
+		final MemoryUsageSetting memoryUsageSetting;
+		if (pdfMemoryUsageSetting.getMaxMainMemoryBytes() == 0) {
+			memoryUsageSetting = MemoryUsageSetting.setupTempFileOnly();
+		} else {
+			memoryUsageSetting = MemoryUsageSetting.setupMixed(pdfMemoryUsageSetting.getMaxMainMemoryBytes());
+		}
+		if (pdfMemoryUsageSetting.getTempDirectory() != null) {
+			memoryUsageSetting.setTempDir(pdfMemoryUsageSetting.getTempDirectory());
+		}
+		return memoryUsageSetting;
+	}
+
 	/**
 	 * The PDFBox implementation of the Reader
 	 * 
@@ -132,7 +132,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), pdfMemoryUsageSetting)) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -159,7 +159,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), pdfMemoryUsageSetting)) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -473,8 +473,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 										char[] pwd, boolean includeVRIDict) {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
-			 InputStream is = document.openStream();
-			 PDDocument pdDocument = PDDocument.load(is, getPasswordString(pwd));
+			 PDDocument pdDocument = PdfBoxDocumentReader.loadPDDocument(document, getPasswordString(pwd), pdfMemoryUsageSetting);
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(pdDocument)) {
 
 			if (!validationDataForInclusion.isEmpty()) {
@@ -669,7 +668,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 	@Override
 	public List<String> getAvailableSignatureFields(final DSSDocument document, final char[] pwd) {
 		List<String> result = new ArrayList<>();
-		try (InputStream is = document.openStream(); PDDocument pdfDoc = PDDocument.load(is, getPasswordString(pwd))) {
+		try (PDDocument pdfDoc = PdfBoxDocumentReader.loadPDDocument(document, getPasswordString(pwd), pdfMemoryUsageSetting)) {
 			List<PDSignatureField> signatureFields = pdfDoc.getSignatureFields();
 			for (PDSignatureField pdSignatureField : signatureFields) {
 				PDSignature signature = pdSignatureField.getSignature();
@@ -690,7 +689,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 											final char[] pwd) {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
-			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(document, getPasswordString(pwd))) {
+			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(document, getPasswordString(pwd), pdfMemoryUsageSetting)) {
 			checkPdfPermissions(documentReader, parameters);
 
 			final PDDocument pdfDoc = documentReader.getPDDocument();
@@ -757,7 +756,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), pdfMemoryUsageSetting)) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -779,7 +778,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), pdfMemoryUsageSetting)) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -801,7 +800,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 
 	private DSSDocument getNewSignatureFieldScreenshot(DSSDocument doc, PAdESCommonParameters parameters, List<PdfAnnotation> originalAnnotations) throws IOException {
 		try (PdfBoxDocumentReader reader = new PdfBoxDocumentReader(doc,
-				getPasswordString(parameters.getPasswordProtection()))) {
+				getPasswordString(parameters.getPasswordProtection()), pdfMemoryUsageSetting)) {
 			List<PdfAnnotation> newAnnotations = reader.getPdfAnnotations(parameters.getImageParameters().getFieldParameters().getPage());
 			AnnotationBox pageBox = reader.getPageBox(parameters.getImageParameters().getFieldParameters().getPage());
 
@@ -840,7 +839,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 	@Override
 	protected PdfDocumentReader loadPdfDocumentReader(DSSDocument dssDocument, char[] passwordProtection)
 			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
-		return new PdfBoxDocumentReader(dssDocument, getPasswordString(passwordProtection));
+		return new PdfBoxDocumentReader(dssDocument, getPasswordString(passwordProtection), pdfMemoryUsageSetting);
 	}
 
 	/**
@@ -0,0 +1,108 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.validation;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pdf.PdfMemoryUsageSetting;
+import eu.europa.esig.dss.pdf.pdfbox.PdfBoxDefaultObjectFactory;
+import eu.europa.esig.dss.pdf.pdfbox.PdfBoxDocumentReader;
+import eu.europa.esig.dss.spi.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfBoxMemoryUsageSettingTest {
+
+	@TempDir
+	static Path temporaryFolder;
+
+	@Test
+	void validationTest() throws IOException {
+		File file = temporaryFolder.resolve("hello_signed_INCSAVE_signed.pdf").toFile();
+		try (InputStream is = getClass().getResourceAsStream("/validation/hello_signed_INCSAVE_signed.pdf")) {
+			Files.copy(is, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		DSSDocument document = new FileDocument(file);
+
+		DiagnosticData defaultDiagnosticData = validate(document, null);
+		List<SignatureWrapper> signatures = defaultDiagnosticData.getSignatures();
+		assertEquals(2, signatures.size());
+
+		File scratchDirectory = temporaryFolder.resolve("scratch").toFile();
+		assertTrue(scratchDirectory.mkdir());
+		for (PdfMemoryUsageSetting setting : new PdfMemoryUsageSetting[] {
+				PdfMemoryUsageSetting.fileOnly().setTempDirectory(scratchDirectory),
+				PdfMemoryUsageSetting.memoryBuffered(1024) }) {
+			DiagnosticData diagnosticData = validate(document, setting);
+			assertEquals(signatures.size(), diagnosticData.getSignatures().size());
+			for (SignatureWrapper signature : signatures) {
+				SignatureWrapper signatureWrapper = diagnosticData.getSignatureById(signature.getId());
+				assertEquals(signature.isSignatureIntact(), signatureWrapper.isSignatureIntact());
+				assertEquals(signature.isSignatureValid(), signatureWrapper.isSignatureValid());
+			}
+		}
+	}
+
+	private DiagnosticData validate(DSSDocument document, PdfMemoryUsageSetting setting) {
+		PDFDocumentValidator validator = new PDFDocumentValidator(document);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		PdfBoxDefaultObjectFactory pdfObjFactory = new PdfBoxDefaultObjectFactory();
+		if (setting != null) {
+			pdfObjFactory.setPdfMemoryUsageSetting(setting);
+		}
+		validator.setPdfObjFactory(pdfObjFactory);
+		Reports reports = validator.validateDocument();
+		return reports.getDiagnosticData();
+	}
+
+	@Test
+	void readerTest() throws IOException {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/validation/PAdES-LT.pdf"));
+		try (PdfBoxDocumentReader reader = new PdfBoxDocumentReader(document, null, PdfMemoryUsageSetting.memoryBuffered(0));
+			 PdfBoxDocumentReader defaultReader = new PdfBoxDocumentReader(document, null)) {
+			assertEquals(defaultReader.getNumberOfPages(), reader.getNumberOfPages());
+			assertEquals(defaultReader.extractSigDictionaries().size(), reader.extractSigDictionaries().size());
+		}
+	}
+
+	@Test
+	void invalidSettingTest() {
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> PdfMemoryUsageSetting.memoryBuffered(-1));
+		assertEquals("The maximum main memory size shall not be negative!", exception.getMessage());
+	}
+
+}
@@ -42,6 +42,7 @@ import eu.europa.esig.dss.spi.signature.AdvancedSignature;
 import eu.europa.esig.dss.spi.validation.CertificateVerifier;
 import eu.europa.esig.dss.spi.validation.ValidationContext;
 import eu.europa.esig.dss.spi.validation.analyzer.DefaultDocumentAnalyzer;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.spi.x509.ListCertificateSource;
 import eu.europa.esig.dss.spi.x509.evidencerecord.EvidenceRecord;
 import eu.europa.esig.dss.spi.x509.revocation.ListRevocationSource;
@@ -95,6 +96,11 @@ public class PDFDocumentAnalyzer extends DefaultDocumentAnalyzer {
         return PAdESUtils.isPDFDocument(dssDocument);
     }
 
+    @Override
+    public boolean isSupported(DSSDocument dssDocument, DocumentFormat format) {
+        return DocumentFormat.PDF == format;
+    }
+
     /**
      * Set the IPdfObjFactory. Allow to set the used implementation. Cannot be null.
      *
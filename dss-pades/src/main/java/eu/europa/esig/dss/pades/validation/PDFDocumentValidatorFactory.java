@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.pades.validation;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.validation.DocumentValidatorFactory;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 
@@ -42,6 +43,12 @@ public class PDFDocumentValidatorFactory implements DocumentValidatorFactory {
         return validator.isSupported(document);
     }
 
+    @Override
+    public boolean isSupported(DSSDocument document, DocumentFormat format) {
+        PDFDocumentValidator validator = new PDFDocumentValidator();
+        return validator.isSupported(document, format);
+    }
+
     @Override
     public SignedDocumentValidator create(DSSDocument document) {
         return new PDFDocumentValidator(document);
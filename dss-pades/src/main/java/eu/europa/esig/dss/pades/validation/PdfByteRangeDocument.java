@@ -22,15 +22,22 @@ package eu.europa.esig.dss.pades.validation;
 
 import eu.europa.esig.dss.model.CommonDocument;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.RandomAccessDocument;
+import eu.europa.esig.dss.utils.Utils;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.util.Objects;
 
 /**
  * Internal representation of a PDF document. Used to reduce memory overloading during the execution.
+ * When the original document supports random access, the byte range parts are read directly
+ * from their positions, without streaming the preceding content.
  *
  */
-public class PdfByteRangeDocument extends CommonDocument {
+public class PdfByteRangeDocument extends CommonDocument implements RandomAccessDocument {
 
     private static final long serialVersionUID = 7879399189697068569L;
 
@@ -65,7 +72,83 @@ public class PdfByteRangeDocument extends CommonDocument {
 
     @Override
     public InputStream openStream() {
+        if (pdfDocument instanceof RandomAccessDocument) {
+            // the stream is limited to the end of the ByteRange, and skips are performed as positional moves
+            long end = Math.max(byteRange.getFirstPartStart() + (long) byteRange.getFirstPartEnd(),
+                    byteRange.getSecondPartStart() + (long) byteRange.getSecondPartEnd());
+            return new ByteRangeInputStream(((RandomAccessDocument) pdfDocument).openStream(0, Math.max(0, end)), byteRange);
+        }
         return new ByteRangeInputStream(pdfDocument.openStream(), byteRange);
     }
 
+    @Override
+    public long getLength() {
+        if (pdfDocument instanceof RandomAccessDocument) {
+            long documentLength = ((RandomAccessDocument) pdfDocument).getLength();
+            return getPartLength(byteRange.getFirstPartStart(), byteRange.getFirstPartEnd(), documentLength) +
+                    getPartLength(byteRange.getSecondPartStart(), byteRange.getSecondPartEnd(), documentLength);
+        }
+        try (InputStream is = openStream()) {
+            return Utils.getInputStreamSize(is);
+        } catch (IOException e) {
+            throw new DSSException(String.format("Unable to read the document with name [%s]", getName()), e);
+        }
+    }
+
+    private long getPartLength(long start, long length, long documentLength) {
+        long partStart = Math.min(Math.max(0, start), documentLength);
+        long partEnd = Math.min(Math.max(partStart, start + length), documentLength);
+        return partEnd - partStart;
+    }
+
+    @Override
+    public InputStream openStream(long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Offset and length shall be positive! Offset : %s, length : %s", offset, length));
+        }
+        // avoid an overflow for a length up to Long.MAX_VALUE
+        long end = length > Long.MAX_VALUE - offset ? Long.MAX_VALUE : offset + length;
+
+        // the logical content is the first part directly followed by the second part,
+        // therefore the requested range is converted to physical positions within the original document
+        long firstPartLength = Math.max(0, byteRange.getFirstPartEnd());
+        long secondPartLength = Math.max(0, byteRange.getSecondPartEnd());
+
+        long firstStart = 0;
+        long firstLength = 0;
+        if (offset < firstPartLength) {
+            firstStart = byteRange.getFirstPartStart() + offset;
+            firstLength = Math.min(end, firstPartLength) - offset;
+        }
+
+        long secondStart = firstStart + firstLength;
+        long secondLength = 0;
+        if (end > firstPartLength) {
+            long from = Math.max(offset, firstPartLength) - firstPartLength;
+            long to = Math.min(end - firstPartLength, secondPartLength);
+            if (to > from) {
+                secondStart = byteRange.getSecondPartStart() + from;
+                secondLength = to - from;
+            }
+        }
+
+        if (pdfDocument instanceof RandomAccessDocument) {
+            RandomAccessDocument randomAccessDocument = (RandomAccessDocument) pdfDocument;
+            if (secondLength == 0) {
+                return randomAccessDocument.openStream(firstStart, firstLength);
+            } else if (firstLength == 0) {
+                return randomAccessDocument.openStream(secondStart, secondLength);
+            }
+            return new SequenceInputStream(randomAccessDocument.openStream(firstStart, firstLength),
+                    randomAccessDocument.openStream(secondStart, secondLength));
+        }
+        return new ByteRangeInputStream(pdfDocument.openStream(), new ByteRange(new int[] {
+                toInt(firstStart), toInt(firstLength), toInt(secondStart), toInt(secondLength) }));
+    }
+
+    private int toInt(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
 }
@@ -55,6 +55,7 @@ import eu.europa.esig.dss.pdf.visible.VisualSignatureFieldAppearance;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
 import org.slf4j.Logger;
@@ -115,6 +116,13 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 	 */
 	protected PdfSignatureFieldPositionChecker pdfSignatureFieldPositionChecker = new PdfSignatureFieldPositionChecker();
 
+	/**
+	 * Defines the memory policy used on a PDF document loading
+	 *
+	 * Default : {@code PdfMemoryUsageSetting.memoryFull()}
+	 */
+	protected PdfMemoryUsageSetting pdfMemoryUsageSetting = PdfMemoryUsageSetting.memoryFull();
+
 	/**
 	 * Constructor for the PDFSignatureService
 	 * 
@@ -159,6 +167,12 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		this.pdfSignatureFieldPositionChecker = pdfSignatureFieldPositionChecker;
 	}
 
+	@Override
+	public void setPdfMemoryUsageSetting(PdfMemoryUsageSetting pdfMemoryUsageSetting) {
+		Objects.requireNonNull(pdfMemoryUsageSetting, "PdfMemoryUsageSetting cannot be null!");
+		this.pdfMemoryUsageSetting = pdfMemoryUsageSetting;
+	}
+
 	/**
 	 * Returns a SignatureDrawer initialized from a provided
 	 * {@code signatureDrawerFactory}
@@ -524,7 +538,12 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		final List<PdfRevision> revisions = new ArrayList<>();
 		final List<PdfByteRangeDocument> revisionDocuments = PAdESUtils.extractRevisions(document);
 
-		try (PdfDocumentReader reader = loadPdfDocumentReader(document, pwd)) {
+		try (PdfDocumentReader reader = loadPdfDocumentReader(document, pwd);
+			 PdfRevisionReaderCache revisionReaderCache = new PdfRevisionReaderCache(
+					 revisionContent -> loadPdfDocumentReader(revisionContent, pwd), 2)) {
+
+			// the last signature usually covers the whole document
+			revisionReaderCache.setFinalRevisionReader(DSSUtils.getFileByteSize(document), reader);
 
 			final PdfCompositeDssDictionary compositeDssDictionary = new PdfCompositeDssDictionary();
 
@@ -560,7 +579,8 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 					final boolean signatureCoversWholeDocument = reader.isSignatureCoversWholeDocument(signatureDictionary);
 
 					final DSSDocument revisionContent = PAdESUtils.getRevisionContent(document, byteRange);
-					try (PdfDocumentReader revisionReader = loadPdfDocumentReader(revisionContent, pwd)) {
+					try {
+						final PdfDocumentReader revisionReader = revisionReaderCache.getReader(revisionContent);
 
 						// Method is used to detect modification within the signature dictionary itself (spoofing attack)
 						verifyPdfSignatureDictionary(signatureDictionary, fieldNames, revisionReader);
@@ -599,7 +619,8 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 						revisions.add(newRevision);
 					}
 
-					try (PdfDocumentReader revisionReader = loadPdfDocumentReader(previousRevision, pwd)) {
+					try {
+						final PdfDocumentReader revisionReader = revisionReaderCache.getReader(previousRevision);
 
 						// checks if there is a previous update of the DSS dictionary and creates a new revision if needed
 						lastDSSDictionary = getPreviousDssDictAndUpdateIfNeeded(revisions, compositeDssDictionary,
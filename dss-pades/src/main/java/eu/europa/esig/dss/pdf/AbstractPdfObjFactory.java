@@ -55,6 +55,11 @@ public abstract class AbstractPdfObjFactory implements IPdfObjFactory {
      */
     private PdfSignatureFieldPositionChecker pdfSignatureFieldPositionChecker;
 
+    /**
+     * Defines the memory policy used on a PDF document loading
+     */
+    private PdfMemoryUsageSetting pdfMemoryUsageSetting;
+
     /**
      * Default constructor instantiating object with null values
      */
@@ -87,6 +92,11 @@ public abstract class AbstractPdfObjFactory implements IPdfObjFactory {
         this.pdfSignatureFieldPositionChecker = pdfSignatureFieldPositionChecker;
     }
 
+    @Override
+    public void setPdfMemoryUsageSetting(PdfMemoryUsageSetting pdfMemoryUsageSetting) {
+        this.pdfMemoryUsageSetting = pdfMemoryUsageSetting;
+    }
+
     /**
      * This method is used to provide configuration to the given {@code pdfSignatureService}
      * (e.g. set the resources handler builder).
@@ -110,6 +120,9 @@ public abstract class AbstractPdfObjFactory implements IPdfObjFactory {
         if (pdfSignatureFieldPositionChecker != null) {
             pdfSignatureService.setPdfSignatureFieldPositionChecker(pdfSignatureFieldPositionChecker);
         }
+        if (pdfMemoryUsageSetting != null) {
+            pdfSignatureService.setPdfMemoryUsageSetting(pdfMemoryUsageSetting);
+        }
         return pdfSignatureService;
     }
 
@@ -97,4 +97,15 @@ public interface IPdfObjFactory {
 	 */
 	void setPdfSignatureFieldPositionChecker(PdfSignatureFieldPositionChecker pdfSignatureFieldPositionChecker);
 
+	/**
+	 * Sets the memory policy to be used on a PDF document loading
+	 *
+	 * Default : {@code PdfMemoryUsageSetting.memoryFull()} (the whole document is loaded in the main memory)
+	 *
+	 * @param pdfMemoryUsageSetting {@link PdfMemoryUsageSetting}
+	 */
+	default void setPdfMemoryUsageSetting(PdfMemoryUsageSetting pdfMemoryUsageSetting) {
+		// not supported by default
+	}
+
 }
@@ -249,4 +249,16 @@ public interface PDFSignatureService {
 	 */
 	void setPdfSignatureFieldPositionChecker(PdfSignatureFieldPositionChecker pdfSignatureFieldPositionChecker);
 
+	/**
+	 * Sets the memory policy to be used on a PDF document loading.
+	 * NOTE: the setting may not be supported by all PDF implementations.
+	 *
+	 * Default : {@code PdfMemoryUsageSetting.memoryFull()} (the whole document is loaded in the main memory)
+	 *
+	 * @param pdfMemoryUsageSetting {@link PdfMemoryUsageSetting}
+	 */
+	default void setPdfMemoryUsageSetting(PdfMemoryUsageSetting pdfMemoryUsageSetting) {
+		// not supported by default
+	}
+
 }
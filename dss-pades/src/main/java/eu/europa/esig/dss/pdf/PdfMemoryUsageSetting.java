@@ -0,0 +1,127 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import java.io.File;
+import java.io.Serializable;
+
+/**
+ * Defines the memory policy to be used by a PDF implementation on a document loading.
+ * By default, the whole document and its parsed objects are kept in the main memory.
+ * A limited usage of the main memory allows processing of large documents, by storing the loaded content
+ * within temporary files. A document provided as a {@code FileDocument} is then read directly from the file.
+ * NOTE: the setting is not supported by every PDF implementation (e.g. ignored by OpenPDF).
+ *
+ */
+public final class PdfMemoryUsageSetting implements Serializable {
+
+	private static final long serialVersionUID = -2869124018469378357L;
+
+	/** Defines an unlimited usage of the main memory */
+	private static final long UNLIMITED = -1;
+
+	/** The maximum number of bytes kept in the main memory (-1 for unlimited) */
+	private final long maxMainMemoryBytes;
+
+	/** The directory to store temporary files in (the system temporary directory when null) */
+	private File tempDirectory;
+
+	/**
+	 * The private constructor
+	 *
+	 * @param maxMainMemoryBytes the maximum number of bytes kept in the main memory
+	 */
+	private PdfMemoryUsageSetting(final long maxMainMemoryBytes) {
+		this.maxMainMemoryBytes = maxMainMemoryBytes;
+	}
+
+	/**
+	 * Creates a setting keeping the whole document in the main memory (default behavior)
+	 *
+	 * @return {@link PdfMemoryUsageSetting}
+	 */
+	public static PdfMemoryUsageSetting memoryFull() {
+		return new PdfMemoryUsageSetting(UNLIMITED);
+	}
+
+	/**
+	 * Creates a setting keeping up to {@code maxMainMemoryBytes} of the loaded content in the main memory,
+	 * with the remaining content stored within a temporary file
+	 *
+	 * @param maxMainMemoryBytes the maximum number of bytes kept in the main memory
+	 * @return {@link PdfMemoryUsageSetting}
+	 */
+	public static PdfMemoryUsageSetting memoryBuffered(long maxMainMemoryBytes) {
+		if (maxMainMemoryBytes < 0) {
+			throw new IllegalArgumentException("The maximum main memory size shall not be negative!");
+		}
+		return new PdfMemoryUsageSetting(maxMainMemoryBytes);
+	}
+
+	/**
+	 * Creates a setting storing the loaded content within temporary files only
+	 *
+	 * @return {@link PdfMemoryUsageSetting}
+	 */
+	public static PdfMemoryUsageSetting fileOnly() {
+		return new PdfMemoryUsageSetting(0);
+	}
+
+	/**
+	 * Sets the directory to store the temporary files in.
+	 * When not defined, the system temporary directory is used.
+	 *
+	 * @param tempDirectory {@link File} directory
+	 * @return this {@link PdfMemoryUsageSetting}
+	 */
+	public PdfMemoryUsageSetting setTempDirectory(File tempDirectory) {
+		this.tempDirectory = tempDirectory;
+		return this;
+	}
+
+	/**
+	 * Gets the maximum number of bytes to be kept in the main memory
+	 *
+	 * @return the maximum number of bytes, -1 if unlimited
+	 */
+	public long getMaxMainMemoryBytes() {
+		return maxMainMemoryBytes;
+	}
+
+	/**
+	 * Gets whether the main memory usage is unlimited
+	 *
+	 * @return TRUE if the main memory usage is unlimited, FALSE otherwise
+	 */
+	public boolean isMainMemoryUnlimited() {
+		return maxMainMemoryBytes == UNLIMITED;
+	}
+
+	/**
+	 * Gets the directory to store the temporary files in
+	 *
+	 * @return {@link File} directory, null if the system temporary directory shall be used
+	 */
+	public File getTempDirectory() {
+		return tempDirectory;
+	}
+
+}
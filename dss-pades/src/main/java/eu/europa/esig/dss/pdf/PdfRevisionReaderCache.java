@@ -0,0 +1,158 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.pades.validation.ByteRange;
+import eu.europa.esig.dss.pades.validation.PdfByteRangeDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps a limited number of loaded revision readers during the analysis of a PDF document.
+ * Used to parse only once a revision shared between several signatures
+ * (e.g. the revision signed by a signature being the previous revision of the next signature).
+ * The cached readers are closed on eviction and when the cache is closed.
+ *
+ */
+class PdfRevisionReaderCache implements Closeable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PdfRevisionReaderCache.class);
+
+	/** Loads a reader for the given revision content */
+	private final PdfRevisionReaderLoader readerLoader;
+
+	/** The maximum number of readers kept opened */
+	private final int maxSize;
+
+	/** Map between revision keys and the corresponding loaded readers, in access order */
+	private final Map<Object, PdfDocumentReader> readers = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The ByteRange of the complete document, when defined */
+	private ByteRange finalRevisionByteRange;
+
+	/** The reader of the complete document, not managed by the cache */
+	private PdfDocumentReader finalRevisionReader;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param readerLoader {@link PdfRevisionReaderLoader} to load a revision reader
+	 * @param maxSize the maximum number of readers kept opened
+	 */
+	PdfRevisionReaderCache(final PdfRevisionReaderLoader readerLoader, final int maxSize) {
+		Objects.requireNonNull(readerLoader, "PdfRevisionReaderLoader cannot be null!");
+		this.readerLoader = readerLoader;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Registers the reader of the complete document. The reader is not closed by the cache.
+	 *
+	 * @param documentLength the length of the complete document
+	 * @param reader {@link PdfDocumentReader} of the complete document
+	 */
+	void setFinalRevisionReader(long documentLength, PdfDocumentReader reader) {
+		if (documentLength > 0 && documentLength <= Integer.MAX_VALUE) {
+			int length = (int) documentLength;
+			this.finalRevisionByteRange = new ByteRange(new int[] { 0, length, length, 0 });
+			this.finalRevisionReader = reader;
+		}
+	}
+
+	/**
+	 * Returns a reader for the given {@code revisionContent}, loading it when not yet cached.
+	 * The returned reader shall not be closed by the caller.
+	 *
+	 * @param revisionContent {@link DSSDocument} representing the revision to be read
+	 * @return {@link PdfDocumentReader}
+	 * @throws IOException if an error occurs on the reader loading
+	 */
+	PdfDocumentReader getReader(DSSDocument revisionContent) throws IOException {
+		final Object key = getKey(revisionContent);
+		if (finalRevisionReader != null && finalRevisionByteRange.equals(key)) {
+			return finalRevisionReader;
+		}
+		PdfDocumentReader reader = readers.get(key);
+		if (reader == null) {
+			reader = readerLoader.load(revisionContent);
+			readers.put(key, reader);
+			evictIfNeeded();
+		}
+		return reader;
+	}
+
+	private Object getKey(DSSDocument revisionContent) {
+		if (revisionContent instanceof PdfByteRangeDocument) {
+			return ((PdfByteRangeDocument) revisionContent).getByteRange();
+		}
+		return revisionContent;
+	}
+
+	private void evictIfNeeded() {
+		Iterator<PdfDocumentReader> it = readers.values().iterator();
+		while (readers.size() > maxSize && it.hasNext()) {
+			PdfDocumentReader reader = it.next();
+			it.remove();
+			closeReader(reader);
+		}
+	}
+
+	private void closeReader(PdfDocumentReader reader) {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			LOG.warn("Unable to close the revision reader : {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void close() {
+		for (PdfDocumentReader reader : readers.values()) {
+			closeReader(reader);
+		}
+		readers.clear();
+	}
+
+	/**
+	 * Loads a {@code PdfDocumentReader} for a revision content
+	 */
+	interface PdfRevisionReaderLoader {
+
+		/**
+		 * Loads a reader for the given revision content
+		 *
+		 * @param revisionContent {@link DSSDocument} to be read
+		 * @return {@link PdfDocumentReader}
+		 * @throws IOException if an error occurs on the reader loading
+		 */
+		PdfDocumentReader load(DSSDocument revisionContent) throws IOException;
+
+	}
+
+}
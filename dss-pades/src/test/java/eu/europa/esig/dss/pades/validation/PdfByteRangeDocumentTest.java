@@ -21,9 +21,11 @@
 package eu.europa.esig.dss.pades.validation;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.CommonDocument;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import org.bouncycastle.cms.CMSSignedData;
@@ -35,6 +37,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -139,4 +142,96 @@ class PdfByteRangeDocumentTest {
         }
     }
 
+    @Test
+    void randomAccessTest() throws IOException {
+        PdfByteRangeDocument pdfRevisionDocument = new PdfByteRangeDocument(pdfDocument, byteRange);
+        byte[] revisionBinaries = DSSUtils.toByteArray(pdfRevisionDocument);
+        assertEquals(92856 + 50376, revisionBinaries.length);
+        assertEquals(revisionBinaries.length, pdfRevisionDocument.getLength());
+
+        // read across both parts of the ByteRange
+        try (InputStream is = pdfRevisionDocument.openStream(92800, 100)) {
+            assertArrayEquals(Arrays.copyOfRange(revisionBinaries, 92800, 92900), DSSUtils.toByteArray(is));
+        }
+
+        try (InputStream is = pdfRevisionDocument.openStream(92800, Long.MAX_VALUE)) {
+            assertArrayEquals(Arrays.copyOfRange(revisionBinaries, 92800, revisionBinaries.length), DSSUtils.toByteArray(is));
+        }
+
+        // start exactly at the second part
+        try (InputStream is = pdfRevisionDocument.openStream(92856, 100)) {
+            assertArrayEquals(Arrays.copyOfRange(revisionBinaries, 92856, 92956), DSSUtils.toByteArray(is));
+        }
+
+        // start inside the second part
+        try (InputStream is = pdfRevisionDocument.openStream(100000, 1000)) {
+            assertArrayEquals(Arrays.copyOfRange(revisionBinaries, 100000, 101000), DSSUtils.toByteArray(is));
+        }
+
+        // start in the first part and continue within the second part
+        try (InputStream is = pdfRevisionDocument.openStream(90000, 10000)) {
+            assertArrayEquals(Arrays.copyOfRange(revisionBinaries, 90000, 100000), DSSUtils.toByteArray(is));
+        }
+
+        // read until the end of the second part
+        try (InputStream is = pdfRevisionDocument.openStream(140000, Long.MAX_VALUE)) {
+            assertArrayEquals(Arrays.copyOfRange(revisionBinaries, 140000, revisionBinaries.length), DSSUtils.toByteArray(is));
+        }
+
+        // nested ByteRange within a revision
+        PdfByteRangeDocument nestedDocument = new PdfByteRangeDocument(pdfRevisionDocument,
+                new ByteRange(new int[] { 100, 1000, 92856, 200 }));
+        byte[] expected = new byte[1200];
+        System.arraycopy(revisionBinaries, 100, expected, 0, 1000);
+        System.arraycopy(revisionBinaries, 92856, expected, 1000, 200);
+        assertArrayEquals(expected, DSSUtils.toByteArray(nestedDocument));
+        assertEquals(1200, nestedDocument.getLength());
+
+        // same content for a non random-access original document
+        DSSDocument streamDocument = new CommonDocument() {
+
+            private static final long serialVersionUID = -1L;
+
+            @Override
+            public InputStream openStream() {
+                return pdfDocument.openStream();
+            }
+
+        };
+        PdfByteRangeDocument streamRevisionDocument = new PdfByteRangeDocument(streamDocument, byteRange);
+        assertArrayEquals(revisionBinaries, DSSUtils.toByteArray(streamRevisionDocument));
+        assertEquals(revisionBinaries.length, streamRevisionDocument.getLength());
+
+        try (InputStream is = streamRevisionDocument.openStream(92856, 100)) {
+            assertArrayEquals(Arrays.copyOfRange(revisionBinaries, 92856, 92956), DSSUtils.toByteArray(is));
+        }
+        try (InputStream is = streamRevisionDocument.openStream(90000, 10000)) {
+            assertArrayEquals(Arrays.copyOfRange(revisionBinaries, 90000, 100000), DSSUtils.toByteArray(is));
+        }
+    }
+
+
+    @Test
+    void randomAccessSecondPartTest() throws IOException {
+        byte[] binaries = new byte[100];
+        for (int i = 0; i < binaries.length; i++) {
+            binaries[i] = (byte) i;
+        }
+        PdfByteRangeDocument document = new PdfByteRangeDocument(new InMemoryDocument(binaries),
+                new ByteRange(new int[] { 0, 20, 50, 50 }));
+        byte[] content = DSSUtils.toByteArray(document);
+        assertEquals(70, content.length);
+        assertEquals(70, document.getLength());
+
+        for (int offset : new int[] { 0, 10, 15, 19, 20, 25, 49, 50, 60, 65, 69, 70 }) {
+            try (InputStream is = document.openStream(offset, 5)) {
+                assertArrayEquals(Arrays.copyOfRange(content, offset, Math.min(offset + 5, content.length)),
+                        DSSUtils.toByteArray(is));
+            }
+        }
+        try (InputStream is = document.openStream(50, 5)) {
+            assertArrayEquals(new byte[] { 80, 81, 82, 83, 84 }, DSSUtils.toByteArray(is));
+        }
+    }
+
 }
@@ -0,0 +1,97 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.validation.ByteRange;
+import eu.europa.esig.dss.pades.validation.PdfByteRangeDocument;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfRevisionReaderCacheTest {
+
+    private final DSSDocument document = new InMemoryDocument(new byte[100]);
+
+    private final List<DSSDocument> loadedDocuments = new ArrayList<>();
+
+    private final List<PdfDocumentReader> closedReaders = new ArrayList<>();
+
+    @Test
+    void test() throws IOException {
+        PdfDocumentReader finalRevisionReader = createReader();
+        try (PdfRevisionReaderCache cache = new PdfRevisionReaderCache(this::load, 2)) {
+            cache.setFinalRevisionReader(100, finalRevisionReader);
+
+            assertSame(finalRevisionReader, cache.getReader(getRevision(100)));
+            assertTrue(loadedDocuments.isEmpty());
+
+            PdfDocumentReader reader80 = cache.getReader(getRevision(80));
+            PdfDocumentReader reader60 = cache.getReader(getRevision(60));
+            assertSame(reader60, cache.getReader(getRevision(60)));
+            assertEquals(2, loadedDocuments.size());
+            assertTrue(closedReaders.isEmpty());
+
+            cache.getReader(getRevision(40));
+            assertEquals(3, loadedDocuments.size());
+            assertEquals(1, closedReaders.size());
+            assertSame(reader80, closedReaders.get(0));
+
+            assertSame(reader60, cache.getReader(getRevision(60)));
+            assertEquals(3, loadedDocuments.size());
+        }
+        assertEquals(3, closedReaders.size());
+        assertFalse(closedReaders.contains(finalRevisionReader));
+    }
+
+    private DSSDocument getRevision(int length) {
+        return new PdfByteRangeDocument(document, new ByteRange(new int[] { 0, length, length, 0 }));
+    }
+
+    private PdfDocumentReader load(DSSDocument revisionContent) {
+        loadedDocuments.add(revisionContent);
+        return createReader();
+    }
+
+    private PdfDocumentReader createReader() {
+        return (PdfDocumentReader) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { PdfDocumentReader.class }, (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        closedReaders.add((PdfDocumentReader) proxy);
+                    } else if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    } else if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    return null;
+                });
+    }
+
+}
@@ -23,6 +23,7 @@ package eu.europa.esig.dss.pdfa.validation;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzer;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzerFactory;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 
 /**
  * Loads a PDF/A validator for a PDF document
@@ -43,6 +44,12 @@ public class PDFADocumentAnalyzerFactory implements DocumentAnalyzerFactory {
         return validator.isSupported(document);
     }
 
+    @Override
+    public boolean isSupported(DSSDocument document, DocumentFormat format) {
+        PDFADocumentAnalyzer validator = new PDFADocumentAnalyzer();
+        return validator.isSupported(document, format);
+    }
+
     @Override
     public DocumentAnalyzer create(DSSDocument document) {
         return new PDFADocumentAnalyzer(document);
@@ -38,8 +38,10 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -195,6 +197,27 @@ class JaxbPKIOCSPSourceTest extends AbstractTestJaxbPKI {
         assertEquals(CertificateStatus.REVOKED, ocspToken.getStatus());
     }
 
+    @Test
+    void testOCSPMultipleCertificates() {
+        PKIOCSPSource ocspSource = new PKIOCSPSource(repository);
+        Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(Arrays.asList(goodUser, revokedUser), goodCa);
+        assertEquals(2, ocspTokens.size());
+
+        OCSPToken goodUserOCSPToken = ocspTokens.get(goodUser);
+        assertNotNull(goodUserOCSPToken);
+        assertEquals(CertificateStatus.GOOD, goodUserOCSPToken.getStatus());
+        assertTrue(goodUserOCSPToken.isSignedBy(goodCa));
+
+        OCSPToken revokedUserOCSPToken = ocspTokens.get(revokedUser);
+        assertNotNull(revokedUserOCSPToken);
+        assertEquals(CertificateStatus.REVOKED, revokedUserOCSPToken.getStatus());
+        assertTrue(revokedUserOCSPToken.isSignedBy(goodCa));
+
+        // a single response is produced for all the requested certificates
+        assertEquals(goodUserOCSPToken.getBasicOCSPResp(), revokedUserOCSPToken.getBasicOCSPResp());
+        assertEquals(2, goodUserOCSPToken.getBasicOCSPResp().getResponses().length);
+    }
+
     @Test
     void testOCSPEd25519() {
         PKIOCSPSource ocspSource = new PKIOCSPSource(repository);
@@ -33,10 +33,13 @@ import eu.europa.esig.dss.pki.model.CertEntityRepository;
 import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSRevocationUtils;
-import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.MultiCertificateOCSPSource;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import eu.europa.esig.dss.utils.Utils;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
 import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
 import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
 import org.bouncycastle.cert.X509CertificateHolder;
 import org.bouncycastle.cert.ocsp.BasicOCSPResp;
@@ -61,15 +64,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.security.PrivateKey;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * The PkiOCSPSource class implements the OCSPSource interface for obtaining revocation tokens.
  * It retrieves OCSP responses for a given certificate by sending OCSP requests to a specified OCSP responder.
  */
-public class PKIOCSPSource implements OCSPSource {
+public class PKIOCSPSource implements MultiCertificateOCSPSource {
 
     private static final long serialVersionUID = 346675613204623498L;
 
@@ -322,6 +329,53 @@ public class PKIOCSPSource implements OCSPSource {
         }
     }
 
+    /**
+     * Retrieves OCSP tokens for the given certificates issued by {@code issuerCertificateToken}.
+     * A single OCSP response containing a single response for each certificate is produced.
+     *
+     * @param certificateTokens a list of {@link CertificateToken}s to get revocation status for
+     * @param issuerCertificateToken {@link CertificateToken} representing the issuer of the {@code certificateTokens}
+     * @return a map between the {@link CertificateToken}s and the produced {@link OCSPToken}s
+     */
+    @Override
+    public Map<CertificateToken, OCSPToken> getRevocationTokens(List<CertificateToken> certificateTokens,
+                                                                CertificateToken issuerCertificateToken) {
+        Objects.requireNonNull(certificateTokens, "List of certificates cannot be null!");
+        Objects.requireNonNull(issuerCertificateToken, "The issuer of the certificates to be verified cannot be null!");
+
+        final List<CertificateToken> certificatesToProcess = new ArrayList<>();
+        for (CertificateToken certificateToken : certificateTokens) {
+            LOG.trace("--> PKIOCSPSource queried for {}", certificateToken.getDSSIdAsString());
+            if (canGenerate(certificateToken, issuerCertificateToken)) {
+                certificatesToProcess.add(certificateToken);
+            }
+        }
+
+        final Map<CertificateToken, OCSPToken> result = new HashMap<>();
+        if (Utils.isCollectionEmpty(certificatesToProcess)) {
+            return result;
+        }
+
+        try {
+            OCSPReq ocspReq = buildOCSPRequest(certificatesToProcess, issuerCertificateToken);
+            OCSPResp ocspRespBytes = buildOCSPResponse(certificatesToProcess, issuerCertificateToken, ocspReq);
+
+            BasicOCSPResp basicResponse = (BasicOCSPResp) ocspRespBytes.getResponseObject();
+            for (CertificateToken certificateToken : certificatesToProcess) {
+                SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerCertificateToken);
+
+                OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerCertificateToken);
+                ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+                result.put(certificateToken, ocspToken);
+            }
+            return result;
+
+        } catch (OCSPException e) {
+            throw new PKIException(String.format("Unable to build an OCSP response for certificates issued by '%s'. " +
+                    "Reason : %s", issuerCertificateToken.getDSSIdAsString(), e.getMessage()), e);
+        }
+    }
+
     /**
      * Returns whether the current implementation is able to produce an OCSP response for the given {@code certificateToken}
      *
@@ -354,6 +408,75 @@ public class PKIOCSPSource implements OCSPSource {
             CertEntityRevocation certRevocation = getCertificateTokenRevocation(certificateToken, ocspReq);
             addRevocationStatusToOCSPResponse(builder, ocspReq, certRevocation);
 
+            return buildOCSPResponse(builder, ocspResponderEntity);
+
+        } catch (OperatorCreationException | OCSPException e) {
+            throw new PKIException(String.format("Unable to generate the OCSP Response. Reason: %s", e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Builds an OCSP Response containing a single response for each request entry of {@code ocspReq}.
+     * The revocation status of each entry is added with {@code #addRevocationStatusToOCSPResponse}.
+     *
+     * @param certificateTokens a list of {@link CertificateToken}s requested within {@code ocspReq}
+     * @param issuerCertificateToken {@link CertificateToken} issuer of the {@code certificateTokens}
+     * @param ocspReq {@link OCSPReq} generated earlier
+     * @return {@link OCSPResp}
+     */
+    protected OCSPResp buildOCSPResponse(List<CertificateToken> certificateTokens, CertificateToken issuerCertificateToken, OCSPReq ocspReq) {
+        Objects.requireNonNull(ocspReq, "OCSPReq cannot be null!");
+        if (Utils.isArrayEmpty(ocspReq.getRequestList())) {
+            throw new IllegalStateException("OCSPReq list cannot be empty!");
+        }
+        try {
+            final CertEntity ocspResponderEntity = getOcspResponder(certificateTokens.get(0), issuerCertificateToken);
+            final BasicOCSPRespBuilder builder = initBuilder(ocspResponderEntity.getCertificateToken());
+
+            for (Req req : ocspReq.getRequestList()) {
+                CertificateToken certificateToken = getRequestedCertificate(certificateTokens, req);
+                if (certificateToken == null) {
+                    LOG.warn("No certificate found for OCSP request entry with serial number '{}'", req.getCertID().getSerialNumber());
+                    continue;
+                }
+                // each entry is processed as a single request, in order to use the same hooks as for a single certificate
+                final OCSPReq singleOcspReq = toSingleRequest(ocspReq, req);
+                CertEntityRevocation certRevocation = getCertificateTokenRevocation(certificateToken, singleOcspReq);
+                addRevocationStatusToOCSPResponse(builder, singleOcspReq, certRevocation);
+            }
+
+            return buildOCSPResponse(builder, ocspResponderEntity);
+
+        } catch (OperatorCreationException | OCSPException e) {
+            throw new PKIException(String.format("Unable to generate the OCSP Response. Reason: %s", e.getMessage()), e);
+        }
+    }
+
+    private OCSPReq toSingleRequest(OCSPReq ocspReq, Req req) throws OCSPException {
+        final OCSPReqBuilder ocspReqBuilder = new OCSPReqBuilder();
+        ocspReqBuilder.addRequest(req.getCertID(), req.getSingleRequestExtensions());
+        if (ocspReq.hasExtensions()) {
+            final List<Extension> extensions = new ArrayList<>();
+            for (Object extensionOID : ocspReq.getExtensionOIDs()) {
+                extensions.add(ocspReq.getExtension((ASN1ObjectIdentifier) extensionOID));
+            }
+            ocspReqBuilder.setRequestExtensions(new Extensions(extensions.toArray(new Extension[0])));
+        }
+        ocspReqBuilder.setRequestorName(ocspReq.getRequestorName());
+        return ocspReqBuilder.build();
+    }
+
+    private CertificateToken getRequestedCertificate(List<CertificateToken> certificateTokens, Req req) {
+        for (CertificateToken certificateToken : certificateTokens) {
+            if (certificateToken.getSerialNumber().equals(req.getCertID().getSerialNumber())) {
+                return certificateToken;
+            }
+        }
+        return null;
+    }
+
+    private OCSPResp buildOCSPResponse(BasicOCSPRespBuilder builder, CertEntity ocspResponderEntity) {
+        try {
             SignatureAlgorithm signatureAlgorithm = getSignatureAlgorithm(ocspResponderEntity);
             PrivateKey ocspPrivateKey = ocspResponderEntity.getPrivateKey();
             ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm.getJCEId()).build(ocspPrivateKey);
@@ -390,6 +513,8 @@ public class PKIOCSPSource implements OCSPSource {
 
     /**
      * This method adds certificate revocation information to {@code BasicOCSPRespBuilder}
+     * NOTE: for an OCSP request containing several entries, the method is called for each entry
+     * with an {@code OCSPReq} containing only that entry.
      *
      * @param builder {@link BasicOCSPRespBuilder} to enrich with revocation status information
      * @param ocspReq {@link OCSPReq} containing the generated OCSP request
@@ -473,12 +598,25 @@ public class PKIOCSPSource implements OCSPSource {
      * @return {@link OCSPReq}
      */
     protected OCSPReq buildOCSPRequest(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+        return buildOCSPRequest(Collections.singletonList(certificateToken), issuerCertificateToken);
+    }
+
+    /**
+     * Builds an OCSP request containing an entry for each of the given {@code CertificateToken}s
+     *
+     * @param certificateTokens a list of {@link CertificateToken}s to get OCSP request for
+     * @param issuerCertificateToken {@link CertificateToken} issued the {@code certificateTokens}
+     * @return {@link OCSPReq}
+     */
+    protected OCSPReq buildOCSPRequest(List<CertificateToken> certificateTokens, CertificateToken issuerCertificateToken) {
         try {
             final OCSPReqBuilder ocspReqBuilder = new OCSPReqBuilder();
 
-            final CertificateID certId = DSSRevocationUtils
-                    .getOCSPCertificateID(certificateToken, issuerCertificateToken, digestAlgorithm);
-            ocspReqBuilder.addRequest(certId);
+            for (CertificateToken certificateToken : certificateTokens) {
+                final CertificateID certId = DSSRevocationUtils
+                        .getOCSPCertificateID(certificateToken, issuerCertificateToken, digestAlgorithm);
+                ocspReqBuilder.addRequest(certId);
+            }
 
             return ocspReqBuilder.build();
 
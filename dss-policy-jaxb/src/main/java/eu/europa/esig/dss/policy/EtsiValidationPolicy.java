@@ -479,7 +479,7 @@ public class EtsiValidationPolicy implements ValidationPolicy {
 	 * @param defaultConstraint {@link CryptographicConstraint}
 	 */
 	private void initializeCryptographicConstraint(CryptographicConstraint cryptographicConstraint, CryptographicConstraint defaultConstraint) {
-		if (defaultConstraint != null) {
+		if (cryptographicConstraint != null && defaultConstraint != null) {
 			if (cryptographicConstraint.getAcceptableDigestAlgo() == null) {
 				cryptographicConstraint.setAcceptableDigestAlgo(defaultConstraint.getAcceptableDigestAlgo());
 			}
@@ -498,6 +498,21 @@ public class EtsiValidationPolicy implements ValidationPolicy {
 		}
 	}
 
+	/**
+	 * Resolves in advance the empty fields of all cryptographic constraints defined within the policy
+	 * by the corresponding parent constraints. Once resolved, the cryptographic constraint getters
+	 * do not modify the policy anymore, allowing the instance to be shared between concurrent validations.
+	 */
+	void initializeCryptographicConstraints() {
+		for (Context context : new Context[] { Context.SIGNATURE, Context.COUNTER_SIGNATURE, Context.TIMESTAMP, Context.REVOCATION }) {
+			getSignatureCryptographicConstraint(context);
+			for (SubContext subContext : SubContext.values()) {
+				getCertificateCryptographicConstraint(context, subContext);
+			}
+		}
+		getEvidenceRecordCryptographicConstraint();
+	}
+
 	/**
 	 * Gets the global cryptographic constraints
 	 *
@@ -0,0 +1,255 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.policy;
+
+import org.xml.sax.SAXException;
+
+import jakarta.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class keeps the recently loaded validation policies, allowing to skip the XML parsing and
+ * the schema validation of a policy file already used by a previous validation.
+ * The policies are identified by the SHA-256 digest of the XML binaries.
+ * <p>
+ * The cryptographic constraints of the cached policies are resolved on loading, so the returned
+ * {@code ValidationPolicy} is not modified by the validation process and can be used by concurrent validations.
+ * NOTE: The returned instances are shared and shall not be modified. Use {@code ValidationPolicyFacade}
+ *       in order to obtain a new instance of the policy for a customization.
+ */
+public final class ValidationPolicyCache {
+
+	/** The default maximum number of the cached policies */
+	private static final int DEFAULT_MAX_SIZE = 10;
+
+	/** The size of the buffer used to read the policy */
+	private static final int BUFFER_SIZE = 8192;
+
+	/** Singleton */
+	private static final ValidationPolicyCache SINGLETON = new ValidationPolicyCache();
+
+	/** Map between policy digests and the loaded policies, ordered by the last access */
+	private final Map<String, ValidationPolicy> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The maximum number of the cached policies */
+	private int maxSize = DEFAULT_MAX_SIZE;
+
+	/**
+	 * Singleton
+	 */
+	private ValidationPolicyCache() {
+		// empty
+	}
+
+	/**
+	 * Returns an instance of the ValidationPolicyCache class
+	 *
+	 * @return {@link ValidationPolicyCache} singleton
+	 */
+	public static ValidationPolicyCache getInstance() {
+		return SINGLETON;
+	}
+
+	/**
+	 * Sets the maximum number of validation policies to be kept in memory.
+	 * When the value is 0, the cache is disabled and the policy is loaded for every call.
+	 * <p>
+	 * Default : 10
+	 *
+	 * @param maxSize the maximum number of cached policies
+	 */
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size of the cache cannot be negative!");
+		}
+		synchronized (cache) {
+			this.maxSize = maxSize;
+			ensureSize();
+		}
+	}
+
+	/**
+	 * Returns whether the caching of validation policies is enabled
+	 *
+	 * @return TRUE if the validation policies shall be cached, FALSE otherwise
+	 */
+	public boolean isEnabled() {
+		synchronized (cache) {
+			return maxSize > 0;
+		}
+	}
+
+	/**
+	 * Returns the number of cached policies
+	 *
+	 * @return number of policies
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Removes all cached policies
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Gets the default validation policy
+	 *
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getDefaultValidationPolicy() throws JAXBException, XMLStreamException, IOException, SAXException {
+		return getValidationPolicy(ValidationPolicyFacade.DEFAULT_VALIDATION_POLICY_LOCATION);
+	}
+
+	/**
+	 * Gets the default policy for certificate validation
+	 *
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getCertificateValidationPolicy() throws JAXBException, XMLStreamException, IOException, SAXException {
+		return getValidationPolicy(ValidationPolicyFacade.CERTIFICATE_VALIDATION_POLICY_LOCATION);
+	}
+
+	/**
+	 * Gets the validation policy for LOTL/TL
+	 *
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getTrustedListValidationPolicy() throws JAXBException, XMLStreamException, IOException, SAXException {
+		return getValidationPolicy(ValidationPolicyFacade.TRUSTED_LIST_VALIDATION_POLICY_LOCATION);
+	}
+
+	/**
+	 * Gets the validation policy from the {@code path}
+	 *
+	 * @param path {@link String}
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getValidationPolicy(String path) throws JAXBException, XMLStreamException, IOException, SAXException {
+		try (InputStream is = ValidationPolicyCache.class.getResourceAsStream(path)) {
+			return getValidationPolicy(is);
+		}
+	}
+
+	/**
+	 * Gets the validation policy from the {@code is}
+	 *
+	 * @param is {@link InputStream}
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getValidationPolicy(InputStream is) throws JAXBException, XMLStreamException, IOException, SAXException {
+		Objects.requireNonNull(is, "The provided validation policy is null");
+		if (!isEnabled()) {
+			return ValidationPolicyFacade.newFacade().getValidationPolicy(is);
+		}
+
+		final byte[] binaries = toByteArray(is);
+		final String key = getDigest(binaries);
+		ValidationPolicy validationPolicy;
+		synchronized (cache) {
+			validationPolicy = cache.get(key);
+		}
+		if (validationPolicy == null) {
+			// loaded outside the lock, in order to not block the lookups of other policies
+			validationPolicy = load(binaries);
+			synchronized (cache) {
+				cache.put(key, validationPolicy);
+				ensureSize();
+			}
+		}
+		return validationPolicy;
+	}
+
+	private ValidationPolicy load(byte[] binaries) throws JAXBException, XMLStreamException, IOException, SAXException {
+		try (InputStream is = new ByteArrayInputStream(binaries)) {
+			EtsiValidationPolicy validationPolicy = new EtsiValidationPolicy(ValidationPolicyFacade.newFacade().unmarshall(is));
+			validationPolicy.initializeCryptographicConstraints();
+			return validationPolicy;
+		}
+	}
+
+	private byte[] toByteArray(InputStream is) throws IOException {
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int count;
+			while ((count = is.read(buffer)) != -1) {
+				baos.write(buffer, 0, count);
+			}
+			return baos.toByteArray();
+		}
+	}
+
+	private String getDigest(byte[] binaries) {
+		try {
+			return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(binaries));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(String.format("Unable to compute the policy digest : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Removes the least recently used policies exceeding the maximum size.
+	 * Shall be called within the synchronized block.
+	 */
+	private void ensureSize() {
+		while (cache.size() > maxSize) {
+			cache.remove(cache.keySet().iterator().next());
+		}
+	}
+
+}
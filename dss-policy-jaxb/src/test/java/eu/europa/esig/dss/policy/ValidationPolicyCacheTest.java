@@ -0,0 +1,126 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.policy;
+
+import eu.europa.esig.dss.enumerations.Context;
+import eu.europa.esig.dss.policy.jaxb.CryptographicConstraint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidationPolicyCacheTest {
+
+	private final ValidationPolicyCache cache = ValidationPolicyCache.getInstance();
+
+	@AfterEach
+	void reset() {
+		cache.setMaxSize(10);
+		cache.clear();
+	}
+
+	@Test
+	void defaultPolicyTest() throws Exception {
+		cache.clear();
+
+		ValidationPolicy validationPolicy = cache.getDefaultValidationPolicy();
+		assertNotNull(validationPolicy);
+		assertEquals(1, cache.size());
+		assertSame(validationPolicy, cache.getDefaultValidationPolicy());
+		assertEquals(ValidationPolicyFacade.newFacade().getDefaultValidationPolicy().getPolicyName(), validationPolicy.getPolicyName());
+
+		ValidationPolicy certificateValidationPolicy = cache.getCertificateValidationPolicy();
+		assertEquals("Certificate policy TL based", certificateValidationPolicy.getPolicyName());
+		assertNotSame(validationPolicy, certificateValidationPolicy);
+		assertEquals(2, cache.size());
+
+		ValidationPolicy trustedListValidationPolicy = cache.getTrustedListValidationPolicy();
+		assertEquals("Policy to validate Trusted Lists", trustedListValidationPolicy.getPolicyDescription());
+		assertEquals(3, cache.size());
+	}
+
+	@Test
+	void inputStreamTest() throws Exception {
+		ValidationPolicy validationPolicy;
+		try (InputStream is = new FileInputStream(new File("src/test/resources/constraint.xml"))) {
+			validationPolicy = cache.getValidationPolicy(is);
+		}
+		try (InputStream is = new FileInputStream(new File("src/test/resources/constraint.xml"))) {
+			assertSame(validationPolicy, cache.getValidationPolicy(is));
+		}
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void cryptographicConstraintsResolvedTest() throws Exception {
+		ValidationPolicy validationPolicy = cache.getDefaultValidationPolicy();
+		CryptographicConstraint defaultConstraint = validationPolicy.getCryptographic();
+
+		// the constraints are resolved on loading, the getters return the same values
+		CryptographicConstraint timestampConstraint = validationPolicy.getSignatureCryptographicConstraint(Context.TIMESTAMP);
+		assertNotNull(timestampConstraint);
+		assertSame(defaultConstraint.getAlgoExpirationDate(), timestampConstraint.getAlgoExpirationDate());
+
+		CryptographicConstraint signingCertificateConstraint = validationPolicy.getCertificateCryptographicConstraint(
+				Context.SIGNATURE, SubContext.SIGNING_CERT);
+		assertNotNull(signingCertificateConstraint);
+		assertNotNull(signingCertificateConstraint.getAcceptableDigestAlgo());
+		assertNotNull(signingCertificateConstraint.getAlgoExpirationDate());
+	}
+
+	@Test
+	void disabledTest() throws Exception {
+		cache.setMaxSize(0);
+
+		ValidationPolicy validationPolicy = cache.getDefaultValidationPolicy();
+		assertNotNull(validationPolicy);
+		assertNotSame(validationPolicy, cache.getDefaultValidationPolicy());
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void maxSizeTest() throws Exception {
+		cache.setMaxSize(1);
+
+		ValidationPolicy validationPolicy = cache.getDefaultValidationPolicy();
+		cache.getCertificateValidationPolicy();
+		assertEquals(1, cache.size());
+		assertNotSame(validationPolicy, cache.getDefaultValidationPolicy());
+
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> cache.setMaxSize(-1));
+		assertEquals("The maximum size of the cache cannot be negative!", exception.getMessage());
+	}
+
+	@Test
+	void nullTest() {
+		assertThrows(NullPointerException.class, () -> cache.getValidationPolicy("aaaa"));
+		assertThrows(NullPointerException.class, () -> cache.getValidationPolicy((InputStream) null));
+	}
+
+}
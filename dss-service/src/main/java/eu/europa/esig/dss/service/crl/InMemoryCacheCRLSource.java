@@ -0,0 +1,85 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.crl;
+
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
+import eu.europa.esig.dss.spi.DSSRevocationUtils;
+import eu.europa.esig.dss.spi.x509.revocation.InMemoryRevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+
+import java.util.List;
+
+/**
+ * CRLSource that stores the obtained CRLs within the memory of the current process.
+ * The cached CRLs are reused without a new decoding of the CRL binaries.
+ */
+public class InMemoryCacheCRLSource extends InMemoryRevocationSource<CRL> implements CRLSource {
+
+    private static final long serialVersionUID = -4383496574520549012L;
+
+    /**
+     * Default constructor
+     */
+    public InMemoryCacheCRLSource() {
+        // empty
+    }
+
+    @Override
+    protected List<String> initRevocationTokenKeys(CertificateToken certificateToken) {
+        return DSSRevocationUtils.getCRLRevocationTokenKeys(certificateToken);
+    }
+
+    @Override
+    protected RevocationToken<CRL> buildRevocationTokenFromCache(RevocationToken<CRL> cachedToken,
+            CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+        final CRLToken cachedCRLToken = (CRLToken) cachedToken;
+        CRLToken crlToken = new CRLToken(certificateToken, cachedCRLToken.getCrlValidity());
+        crlToken.setSourceURL(cachedCRLToken.getSourceURL());
+        crlToken.setExternalOrigin(RevocationOrigin.CACHED);
+        return crlToken;
+    }
+
+    @Override
+    public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+        return (CRLToken) super.getRevocationToken(certificateToken, issuerCertificateToken);
+    }
+
+    @Override
+    public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken, boolean forceRefresh) {
+        return (CRLToken) super.getRevocationToken(certificateToken, issuerCertificateToken, forceRefresh);
+    }
+
+    @Override
+    protected List<String> getRevocationAccessUrls(CertificateToken certificateToken) {
+        return CertificateExtensionsUtils.getCRLAccessUrls(certificateToken);
+    }
+
+    @Override
+    protected String getRevocationTokenKey(CertificateToken certificateToken, String urlString) {
+        return DSSRevocationUtils.getCRLRevocationTokenKey(urlString);
+    }
+
+}
@@ -24,11 +24,13 @@ import eu.europa.esig.dss.crl.CRLBinary;
 import eu.europa.esig.dss.crl.CRLUtils;
 import eu.europa.esig.dss.crl.CRLValidity;
 import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.DSSRevocationUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.SpillToDiskDocumentBuilder;
 import eu.europa.esig.dss.spi.client.jdbc.query.SqlQuery;
 import eu.europa.esig.dss.spi.client.jdbc.query.SqlSelectQuery;
 import eu.europa.esig.dss.spi.client.jdbc.record.SqlRecord;
@@ -38,9 +40,12 @@ import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * CRLSource that retrieve information from a JDBC datasource
@@ -81,18 +86,10 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
     private static final SqlQuery SQL_FIND_REMOVE = SqlQuery.createQuery("DELETE FROM CACHED_CRL WHERE ID = ?");
 
     /**
-     * A list of requests to extract the certificates by
+     * Used to build the CRL documents from the extracted binaries
+     * (the CRL is stored within a temporary file when exceeding the in-memory threshold)
      */
-    private static final SqlSelectQuery SQL_FIND_QUERY = new SqlSelectQuery("SELECT * FROM CACHED_CRL WHERE ID = ?") {
-        @Override
-        public SqlCRLRecord getRecord(ResultSet rs) throws SQLException {
-            SqlCRLRecord response = new SqlCRLRecord();
-            response.id = rs.getString("ID");
-            response.crlBinary = rs.getBytes("DATA");
-            response.certificateIssuerBinary = rs.getBytes("ISSUER");
-            return response;
-        }
-    };
+    private SpillToDiskDocumentBuilder documentBuilder = new SpillToDiskDocumentBuilder();
 
     /**
      * Default constructor
@@ -101,6 +98,18 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
         // empty
     }
 
+    /**
+     * Sets the builder used to create CRL documents from the cached binaries, defining the in-memory threshold
+     * above which an extracted CRL is stored within a temporary file.
+     * Default: {@code SpillToDiskDocumentBuilder} with 1 MB in-memory threshold
+     *
+     * @param documentBuilder {@link SpillToDiskDocumentBuilder}
+     */
+    public void setDocumentBuilder(SpillToDiskDocumentBuilder documentBuilder) {
+        Objects.requireNonNull(documentBuilder, "SpillToDiskDocumentBuilder cannot be null!");
+        this.documentBuilder = documentBuilder;
+    }
+
     @Override
     protected SqlQuery getCreateTableQuery() {
         return SQL_INIT_CREATE_TABLE;
@@ -133,7 +142,7 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
 
     @Override
     protected SqlSelectQuery getRevocationDataExtractQuery() {
-        return SQL_FIND_QUERY;
+        return new SqlCRLSelectQuery(documentBuilder);
     }
 
     /**
@@ -152,7 +161,7 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
                                                                   CertificateToken issuerCertificateToken) throws DSSExternalResourceException {
         try {
             final SqlCRLRecord crlResponse = (SqlCRLRecord) response;
-            CRLBinary crlBinary = CRLUtils.buildCRLBinary(crlResponse.crlBinary);
+            CRLBinary crlBinary = CRLUtils.buildCRLBinary(crlResponse.crlDocument);
             CertificateToken cachedIssuerCertificate = DSSUtils.loadCertificate(crlResponse.certificateIssuerBinary);
 
             final CRLValidity cached = CRLUtils.buildCRLValidity(crlBinary, cachedIssuerCertificate);
@@ -173,8 +182,14 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
         CRLToken crlToken = (CRLToken) token;
         CRLValidity crlValidity = crlToken.getCrlValidity();
 
-        getJdbcCacheConnector().execute(getInsertRevocationTokenEntryQuery(), revocationKey, crlValidity.getDerEncoded(),
-                crlValidity.getIssuerToken().getEncoded());
+        // the CRL binaries are streamed to the database, without being loaded into memory
+        try (InputStream is = crlValidity.toCRLInputStream()) {
+            getJdbcCacheConnector().execute(getInsertRevocationTokenEntryQuery(), revocationKey, is,
+                    crlValidity.getIssuerToken().getEncoded());
+        } catch (IOException e) {
+            throw new DSSExternalResourceException(String.format(
+                    "Unable to read the CRL binaries. Reason : %s", e.getMessage()), e);
+        }
     }
 
     @Override
@@ -182,8 +197,13 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
         CRLToken crlToken = (CRLToken) token;
         CRLValidity crlValidity = crlToken.getCrlValidity();
 
-        getJdbcCacheConnector().execute(getUpdateRevocationTokenEntryQuery(), crlValidity.getDerEncoded(),
-                crlValidity.getIssuerToken().getEncoded(), revocationKey);
+        try (InputStream is = crlValidity.toCRLInputStream()) {
+            getJdbcCacheConnector().execute(getUpdateRevocationTokenEntryQuery(), is,
+                    crlValidity.getIssuerToken().getEncoded(), revocationKey);
+        } catch (IOException e) {
+            throw new DSSExternalResourceException(String.format(
+                    "Unable to read the CRL binaries. Reason : %s", e.getMessage()), e);
+        }
     }
 
     @Override
@@ -217,9 +237,9 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
         protected String id;
 
         /**
-         * CRL binary
+         * CRL document (kept in memory or within a temporary file, depending on its size)
          */
-        protected byte[] crlBinary;
+        protected DSSDocument crlDocument;
 
         /**
          * Binary of the CRL issuer certificate
@@ -235,4 +255,39 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
 
     }
 
+    /**
+     * Extracts the CRL records, streaming the CRL binaries into a {@code DSSDocument}
+     */
+    private static class SqlCRLSelectQuery extends SqlSelectQuery {
+
+        /** Used to build the CRL documents */
+        private final SpillToDiskDocumentBuilder documentBuilder;
+
+        /**
+         * Default constructor
+         *
+         * @param documentBuilder {@link SpillToDiskDocumentBuilder}
+         */
+        private SqlCRLSelectQuery(SpillToDiskDocumentBuilder documentBuilder) {
+            super("SELECT * FROM CACHED_CRL WHERE ID = ?");
+            this.documentBuilder = documentBuilder;
+        }
+
+        @Override
+        public SqlCRLRecord getRecord(ResultSet rs) throws SQLException {
+            SqlCRLRecord response = new SqlCRLRecord();
+            response.id = rs.getString("ID");
+            try (InputStream is = rs.getBinaryStream("DATA")) {
+                if (is != null) {
+                    response.crlDocument = documentBuilder.build(is);
+                }
+            } catch (IOException e) {
+                throw new SQLException(String.format("Unable to read the CRL binaries. Reason : %s", e.getMessage()), e);
+            }
+            response.certificateIssuerBinary = rs.getBytes("ISSUER");
+            return response;
+        }
+
+    }
+
 }
@@ -24,12 +24,15 @@ import eu.europa.esig.dss.crl.CRLBinary;
 import eu.europa.esig.dss.crl.CRLUtils;
 import eu.europa.esig.dss.crl.CRLValidity;
 import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
 import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
+import eu.europa.esig.dss.spi.client.http.RequestCoalescer;
+import eu.europa.esig.dss.spi.client.http.StreamingDataLoader;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
@@ -38,6 +41,7 @@ import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -70,6 +74,11 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 	 */
 	private DataLoader dataLoader;
 
+	/**
+	 * Coalesces concurrent downloads and parsing of the same CRL
+	 */
+	private final RequestCoalescer<String, CRLValidity> requestCoalescer = new RequestCoalescer<>();
+
 	/**
 	 * The default constructor. A {@code CommonsDataLoader is created}.
 	 */
@@ -113,6 +122,15 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 		this.dataLoader = dataLoader;
 	}
 
+	/**
+	 * Returns the coalescer of concurrent CRL requests, providing the number of executed and coalesced requests
+	 *
+	 * @return {@link RequestCoalescer}
+	 */
+	public RequestCoalescer<String, CRLValidity> getRequestCoalescer() {
+		return requestCoalescer;
+	}
+
 	@Override
 	public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
 		return getRevocationToken(certificateToken, issuerCertificateToken, Collections.emptyList());
@@ -140,8 +158,8 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 			nbTries--;
 
 			try {
-				final CRLBinary crlBinary = executeCRLRequest(crlUrl);
-				final CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, issuerToken);
+				final CRLValidity crlValidity = requestCoalescer.execute(crlUrl + "|" + issuerToken.getDSSIdAsString(),
+						() -> getCRLValidity(crlUrl, issuerToken));
 				final CRLToken crlToken = new CRLToken(certificateToken, crlValidity);
 				crlToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
 				crlToken.setSourceURL(crlUrl);
@@ -167,6 +185,15 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 				"for a certificate call with id '%s'", certificateToken.getDSSIdAsString()));
 	}
 
+	private CRLValidity getCRLValidity(final String crlUrl, final CertificateToken issuerToken) {
+		final CRLBinary crlBinary = executeCRLRequest(crlUrl);
+		try {
+			return CRLUtils.buildCRLValidity(crlBinary, issuerToken);
+		} catch (IOException e) {
+			throw new DSSExternalResourceException(e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * Extracts a list of CRL distribution point URLs to be used in the provided order to retrieve a CRL
 	 *
@@ -190,12 +217,22 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 	}
 
 	/**
-	 * Download a CRL from given location
+	 * Download a CRL from given location.
+	 * When the configured {@code DataLoader} is a {@code StreamingDataLoader}, the CRL is not loaded into memory.
 	 *
 	 * @param crlUrl {@link String} url to download CRL from
 	 * @return {@link CRLBinary}
 	 */
 	protected CRLBinary executeCRLRequest(final String crlUrl) {
+		if (dataLoader instanceof StreamingDataLoader) {
+			// large CRLs are kept within a (file-backed) document instead of the memory
+			DSSDocument document = ((StreamingDataLoader) dataLoader).getDocument(crlUrl);
+			if (document != null) {
+				return CRLUtils.buildCRLBinary(document);
+			}
+			throw new DSSExternalResourceException(String.format("CRL DataLoader for certificate with url '%s' " +
+					"responded with an empty content!", crlUrl));
+		}
 		byte[] bytes = dataLoader.get(crlUrl);
 		if (Utils.isArrayNotEmpty(bytes)) {
 			return CRLUtils.buildCRLBinary(bytes);
@@ -21,11 +21,13 @@
 package eu.europa.esig.dss.service.http.commons;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.service.http.proxy.ProxyConfig;
 import eu.europa.esig.dss.service.http.proxy.ProxyProperties;
 import eu.europa.esig.dss.spi.DSSUtils;
-import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
+import eu.europa.esig.dss.spi.client.http.SpillToDiskDocumentBuilder;
+import eu.europa.esig.dss.spi.client.http.StreamingDataLoader;
 import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.utils.Utils;
@@ -100,7 +102,7 @@ import java.util.StringTokenizer;
  * proxy management through {@code ProxyPreferenceManager}. The authentication
  * is also supported.
  */
-public class CommonsDataLoader implements DataLoader {
+public class CommonsDataLoader implements StreamingDataLoader {
 
 	private static final long serialVersionUID = -805432648564425522L;
 
@@ -239,6 +241,12 @@ public class CommonsDataLoader implements DataLoader {
 	 */
 	private transient HttpClientResponseHandler<byte[]> httpClientResponseHandler = new CommonsHttpClientResponseHandler();
 
+	/**
+	 * Builds the response documents for {@code #getDocument} and {@code #postDocument} calls
+	 * Default: {@code SpillToDiskDocumentBuilder} with 1 MB in-memory threshold
+	 */
+	private SpillToDiskDocumentBuilder documentBuilder = new SpillToDiskDocumentBuilder();
+
 	/**
 	 * The default constructor for CommonsDataLoader.
 	 */
@@ -740,6 +748,18 @@ public class CommonsDataLoader implements DataLoader {
 		this.httpClientResponseHandler = httpClientResponseHandler;
 	}
 
+	/**
+	 * Sets the builder used to create response documents on {@code #getDocument} and {@code #postDocument} calls,
+	 * defining the in-memory threshold above which an HTTP response is stored within a temporary file.
+	 * Default: {@code SpillToDiskDocumentBuilder} with 1 MB in-memory threshold
+	 *
+	 * @param documentBuilder {@link SpillToDiskDocumentBuilder}
+	 */
+	public void setDocumentBuilder(SpillToDiskDocumentBuilder documentBuilder) {
+		Objects.requireNonNull(documentBuilder, "SpillToDiskDocumentBuilder cannot be null!");
+		this.documentBuilder = documentBuilder;
+	}
+
 	@Override
 	public byte[] get(final String urlString) {
 
@@ -895,23 +915,66 @@ public class CommonsDataLoader implements DataLoader {
 		HttpPost httpRequest = null;
 		CloseableHttpClient client = null;
 		try {
-			final URI uri = URI.create(Utils.trim(url));
-			httpRequest = new HttpPost(uri);
+			httpRequest = getHttpPostRequest(url, content);
+			client = getHttpClient(url);
+			return execute(client, httpRequest);
 
-			// The length for the InputStreamEntity is needed, because some receivers (on the other side)
-			// need this information.
-			// To determine the length, we cannot read the content-stream up to the end and re-use it afterwards.
-			// This is because, it may not be possible to reset the stream (= go to position 0).
-			// So, the solution is to cache temporarily the complete content data (as we do not expect much here) in
-			// a byte-array.
-			final ByteArrayInputStream bis = new ByteArrayInputStream(content);
+		} catch (IOException e) {
+			throw new DSSExternalResourceException(String.format("Unable to process POST call for url [%s]. Reason : [%s]", url, e.getMessage()) , e);
 
-			final HttpEntity httpEntity = new InputStreamEntity(bis, content.length, toContentType(contentType));
-			final HttpEntity requestEntity = new BufferedHttpEntity(httpEntity);
-			httpRequest.setEntity(requestEntity);
+		} finally {
+			closeQuietly(httpRequest, client);
 
+		}
+	}
+
+	@Override
+	public DSSDocument getDocument(final String urlString) {
+		if (Protocol.isHttpUrl(urlString)) {
+			return httpGetDocument(urlString);
+		}
+		final byte[] bytes = get(urlString);
+		return bytes != null ? new InMemoryDocument(bytes) : null;
+	}
+
+	/**
+	 * This method retrieves data using HTTP or HTTPS protocol and 'get' method,
+	 * and returns the obtained content as a {@code DSSDocument}
+	 *
+	 * @param url
+	 *            to access
+	 * @return {@link DSSDocument} containing the obtained data
+	 */
+	protected DSSDocument httpGetDocument(final String url) {
+
+		HttpGet httpRequest = null;
+		CloseableHttpClient client = null;
+
+		try {
+			httpRequest = getHttpRequest(url);
 			client = getHttpClient(url);
-			return execute(client, httpRequest);
+			return executeAsDocument(client, httpRequest);
+
+		} catch (URISyntaxException | IOException e) {
+			throw new DSSExternalResourceException(String.format("Unable to process GET call for url [%s]. Reason : [%s]", url, DSSUtils.getExceptionMessage(e)), e);
+
+		} finally {
+			closeQuietly(httpRequest, client);
+
+		}
+	}
+
+	@Override
+	public DSSDocument postDocument(final String url, final byte[] content) {
+
+		LOG.debug("Fetching data via POST from url {}", url);
+
+		HttpPost httpRequest = null;
+		CloseableHttpClient client = null;
+		try {
+			httpRequest = getHttpPostRequest(url, content);
+			client = getHttpClient(url);
+			return executeAsDocument(client, httpRequest);
 
 		} catch (IOException e) {
 			throw new DSSExternalResourceException(String.format("Unable to process POST call for url [%s]. Reason : [%s]", url, e.getMessage()) , e);
@@ -922,6 +985,32 @@ public class CommonsDataLoader implements DataLoader {
 		}
 	}
 
+	/**
+	 * Creates an {@code HttpPost} request for the given {@code url} and {@code content}
+	 *
+	 * @param url {@link String} request url
+	 * @param content byte array to post
+	 * @return {@link HttpPost}
+	 * @throws IOException if an exception occurs
+	 */
+	protected HttpPost getHttpPostRequest(final String url, final byte[] content) throws IOException {
+		final URI uri = URI.create(Utils.trim(url));
+		final HttpPost httpRequest = new HttpPost(uri);
+
+		// The length for the InputStreamEntity is needed, because some receivers (on the other side)
+		// need this information.
+		// To determine the length, we cannot read the content-stream up to the end and re-use it afterwards.
+		// This is because, it may not be possible to reset the stream (= go to position 0).
+		// So, the solution is to cache temporarily the complete content data (as we do not expect much here) in
+		// a byte-array.
+		final ByteArrayInputStream bis = new ByteArrayInputStream(content);
+
+		final HttpEntity httpEntity = new InputStreamEntity(bis, content.length, toContentType(contentType));
+		final HttpEntity requestEntity = new BufferedHttpEntity(httpEntity);
+		httpRequest.setEntity(requestEntity);
+		return httpRequest;
+	}
+
 	/**
 	 * Processes {@code httpRequest} and returns the byte array representing the response's content
 	 *
@@ -937,6 +1026,30 @@ public class CommonsDataLoader implements DataLoader {
 		return client.execute(targetHost, httpRequest, localContext, responseHandler);
 	}
 
+	/**
+	 * Processes {@code httpRequest} and returns a {@code DSSDocument} representing the response's content.
+	 * When the default {@code CommonsHttpClientResponseHandler} is used, the response is streamed to
+	 * the configured {@code SpillToDiskDocumentBuilder}. Otherwise, the response returned by
+	 * the custom {@code HttpClientResponseHandler} is wrapped within an {@code InMemoryDocument}.
+	 *
+	 * @param client {@link CloseableHttpClient}
+	 * @param httpRequest {@link HttpUriRequest}
+	 * @return {@link DSSDocument} representing the response's content
+	 * @throws IOException if an exception occurs
+	 */
+	protected DSSDocument executeAsDocument(final CloseableHttpClient client, final HttpUriRequest httpRequest) throws IOException {
+		final HttpClientResponseHandler<byte[]> responseHandler = getHttpClientResponseHandler();
+		if (responseHandler instanceof CommonsHttpClientResponseHandler) {
+			final CommonsHttpClientResponseHandler commonsResponseHandler = (CommonsHttpClientResponseHandler) responseHandler;
+			final HttpHost targetHost = getHttpHost(httpRequest);
+			final HttpContext localContext = getHttpContext(targetHost);
+			return client.execute(targetHost, httpRequest, localContext,
+					response -> commonsResponseHandler.handleResponseAsDocument(response, documentBuilder));
+		}
+		final byte[] bytes = execute(client, httpRequest);
+		return bytes != null ? new InMemoryDocument(bytes) : null;
+	}
+
 	/**
 	 * Gets the {@code HttpHost}
 	 *
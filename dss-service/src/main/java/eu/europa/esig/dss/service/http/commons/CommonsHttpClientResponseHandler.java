@@ -20,7 +20,9 @@
  */
 package eu.europa.esig.dss.service.http.commons;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.SpillToDiskDocumentBuilder;
 import eu.europa.esig.dss.utils.Utils;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.HttpEntity;
@@ -78,27 +80,54 @@ public class CommonsHttpClientResponseHandler implements HttpClientResponseHandl
     @Override
     public byte[] handleResponse(ClassicHttpResponse classicHttpResponse) throws IOException {
         try {
-            final StatusLine statusLine = new StatusLine(classicHttpResponse);
-            final int statusCode = statusLine.getStatusCode();
-            final String reasonPhrase = statusLine.getReasonPhrase();
-
-            if (!acceptedHttpStatuses.contains(statusCode)) {
-                String reason = Utils.isStringNotEmpty(reasonPhrase) ? " / reason : " + reasonPhrase : "";
-                throw new IOException("Not acceptable HTTP Status (HTTP status code : " + statusCode + reason + ")");
-            }
-
-            final HttpEntity responseEntity = classicHttpResponse.getEntity();
-            if (responseEntity == null) {
-                throw new IOException("No message entity for this response");
-            }
-
-            return getContent(responseEntity);
+            return getContent(getResponseEntity(classicHttpResponse));
+        } finally {
+            closeQuietly(classicHttpResponse);
+        }
+    }
 
+    /**
+     * Reads the {@code ClassicHttpResponse} and returns a {@code DSSDocument} built by the {@code documentBuilder}
+     * in case of success. The response content is streamed to the builder, without being fully loaded into memory.
+     *
+     * @param classicHttpResponse {@link ClassicHttpResponse} to read
+     * @param documentBuilder {@link SpillToDiskDocumentBuilder} to build the document
+     * @return {@link DSSDocument}
+     * @throws IOException if an exception occurs
+     */
+    public DSSDocument handleResponseAsDocument(ClassicHttpResponse classicHttpResponse,
+                                                SpillToDiskDocumentBuilder documentBuilder) throws IOException {
+        try (InputStream content = getResponseEntity(classicHttpResponse).getContent()) {
+            return documentBuilder.build(content);
         } finally {
             closeQuietly(classicHttpResponse);
         }
     }
 
+    /**
+     * Verifies the status of the response and returns its entity
+     *
+     * @param classicHttpResponse {@link ClassicHttpResponse}
+     * @return {@link HttpEntity}
+     * @throws IOException if the response status is not acceptable or the response does not contain an entity
+     */
+    protected HttpEntity getResponseEntity(ClassicHttpResponse classicHttpResponse) throws IOException {
+        final StatusLine statusLine = new StatusLine(classicHttpResponse);
+        final int statusCode = statusLine.getStatusCode();
+        final String reasonPhrase = statusLine.getReasonPhrase();
+
+        if (!acceptedHttpStatuses.contains(statusCode)) {
+            String reason = Utils.isStringNotEmpty(reasonPhrase) ? " / reason : " + reasonPhrase : "";
+            throw new IOException("Not acceptable HTTP Status (HTTP status code : " + statusCode + reason + ")");
+        }
+
+        final HttpEntity responseEntity = classicHttpResponse.getEntity();
+        if (responseEntity == null) {
+            throw new IOException("No message entity for this response");
+        }
+        return responseEntity;
+    }
+
     /**
      * Gets content of the response
      *
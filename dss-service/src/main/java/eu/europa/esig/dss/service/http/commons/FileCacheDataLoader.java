@@ -24,10 +24,13 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DSSCacheFileLoader;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
+import eu.europa.esig.dss.spi.client.http.SpilledFilesCleaner;
+import eu.europa.esig.dss.spi.client.http.StreamingDataLoader;
 import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.utils.Utils;
@@ -49,7 +52,7 @@ import java.util.Objects;
  * {@code java.io.tmpdir}. The urls of the resources is transformed to the
  * file name by replacing the special characters by {@code _}
  */
-public class FileCacheDataLoader implements DataLoader, DSSCacheFileLoader {
+public class FileCacheDataLoader implements StreamingDataLoader, DSSCacheFileLoader {
 
 	private static final long serialVersionUID = 1028849693098211169L;
 
@@ -248,6 +251,12 @@ public class FileCacheDataLoader implements DataLoader, DSSCacheFileLoader {
 		if (!isNetworkProtocol(url)) {
 			bytes = getLocalFileContent(url);
 			
+		} else if (dataLoader instanceof StreamingDataLoader) {
+			// the content is streamed to the cache file, without being loaded into memory
+			final DSSDocument document = ((StreamingDataLoader) dataLoader).getDocument(url);
+			return createCacheDocument(file, document,
+					String.format("Cannot retrieve data from url [%s]. Empty content is obtained!", url));
+
 		} else {
 			bytes = dataLoader.get(url);
 			
@@ -343,6 +352,35 @@ public class FileCacheDataLoader implements DataLoader, DSSCacheFileLoader {
 		return file;
 	}
 
+	/**
+	 * Allows to add a given {@code DSSDocument} as a cache file representing by the {@code url}.
+	 * The content of the document is copied to the cache file without being loaded into memory.
+	 *
+	 * @param urlString
+	 *            the URL to add to the cache
+	 * @param document
+	 *            {@link DSSDocument} the content of the cache file
+	 * @return {@link File}
+	 */
+	public File createFile(final String urlString, final DSSDocument document) {
+		final String fileName = DSSUtils.getNormalizedString(urlString);
+		final File file = getCacheFile(fileName);
+		DSSUtils.saveToFile(document, file);
+		return file;
+	}
+
+	private DSSDocument createCacheDocument(final File cacheFile, final DSSDocument document, final String errorMessage) {
+		if (document != null) {
+			DSSUtils.saveToFile(document, cacheFile);
+			// the temporary file of a spilled response is not needed anymore
+			SpilledFilesCleaner.getInstance().delete(document);
+			if (cacheFile.length() > 0) {
+				return new FileDocument(cacheFile);
+			}
+		}
+		throw new DSSExternalResourceException(errorMessage);
+	}
+
 	/**
 	 * Allows to load the file for a given file name from the cache folder.
 	 *
@@ -410,6 +448,35 @@ public class FileCacheDataLoader implements DataLoader, DSSCacheFileLoader {
 		throw new DSSExternalResourceException(String.format("Cannot retrieve data from URL [%s]", urlString));
 	}
 
+	@Override
+	public DSSDocument postDocument(final String urlString, final byte[] content) throws DSSException {
+		Objects.requireNonNull(dataLoader, DATA_LOADER_NOT_CONFIGURED);
+		if (!(dataLoader instanceof StreamingDataLoader)) {
+			return new InMemoryDocument(post(urlString, content));
+		}
+
+		final File file = getCacheFile(getPostCacheFileName(urlString, content));
+		if (file.exists() && !isCacheExpired(file)) {
+			LOG.debug("Cached file was used");
+			return new FileDocument(file);
+		} else {
+			LOG.debug("There is no cached file!");
+		}
+
+		DSSDocument returnedDocument = null;
+		if (isNetworkProtocol(urlString)) {
+			returnedDocument = ((StreamingDataLoader) dataLoader).postDocument(urlString, content);
+		}
+		return createCacheDocument(file, returnedDocument,
+				String.format("Cannot retrieve data from URL [%s]", urlString));
+	}
+
+	private String getPostCacheFileName(final String urlString, final byte[] content) {
+		final String fileName = DSSUtils.getNormalizedString(urlString);
+		final byte[] digest = DSSUtils.digest(DigestAlgorithm.MD5, content);
+		return fileName + "." + DSSUtils.toHex(digest);
+	}
+
 	private boolean isCacheExpired(File file) {
 		if (cacheExpirationTime < 0) {
 			return false;
@@ -36,10 +36,11 @@ import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.DSSRevocationUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.client.http.RequestCoalescer;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.MultiCertificateOCSPSource;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPRespStatus;
-import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import eu.europa.esig.dss.utils.Utils;
 import org.bouncycastle.asn1.ASN1OctetString;
@@ -64,15 +65,20 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Online OCSP repository. This implementation will contact the OCSP Responder
  * to retrieve the OCSP response.
+ * When revocation data is requested for several certificates of the same issuer, the certificates sharing
+ * the same OCSP access points are requested within a single OCSP request.
  */
 @SuppressWarnings("serial")
-public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUrlsSupport<OCSP> {
+public class OnlineOCSPSource implements MultiCertificateOCSPSource, RevocationSourceAlternateUrlsSupport<OCSP> {
 
 	private static final Logger LOG = LoggerFactory.getLogger(OnlineOCSPSource.class);
 
@@ -116,6 +122,12 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 	 */
 	private long nextUpdateTolerancePeriod = 0;
 
+	/**
+	 * Coalesces concurrent OCSP requests for the same certificate to the same URL.
+	 * NOTE: not applicable when a {@code nonceSource} is defined, as each request uses its own nonce.
+	 */
+	private final RequestCoalescer<String, BasicOCSPResp> requestCoalescer = new RequestCoalescer<>();
+
 	/**
 	 * Create an OCSP source The default constructor for OnlineOCSPSource. The
 	 * default {@code OCSPDataLoader} is set. It is possible to change it with
@@ -201,6 +213,15 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 		this.alertOnInvalidUpdateTime = alertOnInvalidUpdateTime;
 	}
 
+	/**
+	 * Returns the coalescer of concurrent OCSP requests, providing the number of executed and coalesced requests
+	 *
+	 * @return {@link RequestCoalescer}
+	 */
+	public RequestCoalescer<String, BasicOCSPResp> getRequestCoalescer() {
+		return requestCoalescer;
+	}
+
 	/**
 	 * Clients MAY allow configuration of a small tolerance period for acceptance of responses after
 	 * nextUpdate to handle minor clock differences relative to responders and caches.
@@ -248,9 +269,16 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 			nbTries--;
 
 			try {
-				BasicOCSPResp basicResponse = executeOCSPRequest(ocspAccessLocation, content);
+				final BasicOCSPResp basicResponse;
+				if (nonce != null) {
+					// a response bound to the nonce of another request cannot be shared
+					basicResponse = getValidatedOCSPResponse(ocspAccessLocation, content, certificateToken, issuerCertificateToken, nonce);
+				} else {
+					final String requestKey = ocspAccessLocation + "|" + certificateToken.getDSSIdAsString() + "|" + issuerCertificateToken.getDSSIdAsString();
+					basicResponse = requestCoalescer.execute(requestKey, () ->
+							getValidatedOCSPResponse(ocspAccessLocation, content, certificateToken, issuerCertificateToken, null));
+				}
 				SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerCertificateToken);
-				assertOCSPResponseValid(basicResponse, latestSingleResponse, nonce);
 
 				OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerCertificateToken);
 				ocspToken.setSourceURL(ocspAccessLocation);
@@ -277,6 +305,175 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 				"for a certificate call with id '%s'", certificateToken.getDSSIdAsString()));
 	}
 
+	@Override
+	public Map<CertificateToken, OCSPToken> getRevocationTokens(List<CertificateToken> certificateTokens,
+																CertificateToken issuerCertificateToken) {
+		return getRevocationTokens(certificateTokens, issuerCertificateToken, Collections.emptyList());
+	}
+
+	/**
+	 * Gets {@code OCSPToken}s for the given certificates issued by {@code issuerCertificateToken}.
+	 * The certificates are grouped by their OCSP access points, and a single OCSP request containing
+	 * a CertID for each certificate of the group is sent.
+	 * When {@link #buildOCSPRequest(CertificateToken, CertificateToken, byte[])} is overridden by a subclass,
+	 * a separate request is built with that method and sent for each certificate instead.
+	 * A certificate is absent from the returned map when no valid response has been obtained for it.
+	 *
+	 * @param certificateTokens a list of {@link CertificateToken}s to retrieve OCSP tokens for
+	 * @param issuerCertificateToken {@link CertificateToken} issuer of the {@code certificateTokens}
+	 * @param alternativeUrls a list of {@link String} representing alternative URL sources
+	 * @return a map between the {@link CertificateToken}s and the obtained {@link OCSPToken}s
+	 */
+	public Map<CertificateToken, OCSPToken> getRevocationTokens(List<CertificateToken> certificateTokens,
+																CertificateToken issuerCertificateToken,
+																List<String> alternativeUrls) {
+		Objects.requireNonNull(certificateTokens, "List of CertificateTokens cannot be null!");
+		Objects.requireNonNull(issuerCertificateToken, "Issuer CertificateToken cannot be null!");
+		Objects.requireNonNull(dataLoader, "DataLoader is not provided !");
+
+		if (isSingleCertificateRequestOverridden()) {
+			LOG.debug("OCSP request building is customized for a single certificate. Requests are sent one by one.");
+			return getRevocationTokensOneByOne(certificateTokens, issuerCertificateToken, alternativeUrls);
+		}
+
+		final Map<List<String>, List<CertificateToken>> certificatesByUrls = new LinkedHashMap<>();
+		for (CertificateToken certificateToken : certificateTokens) {
+			LOG.trace("--> OnlineOCSPSource queried for {}", certificateToken.getDSSIdAsString());
+			final List<String> ocspUrls = getOCSPAccessURLs(certificateToken, alternativeUrls);
+			if (Utils.isCollectionEmpty(ocspUrls)) {
+				LOG.warn("No OCSP location found for certificate with Id '{}'", certificateToken.getDSSIdAsString());
+				continue;
+			}
+			certificatesByUrls.computeIfAbsent(ocspUrls, k -> new ArrayList<>()).add(certificateToken);
+		}
+
+		final Map<CertificateToken, OCSPToken> result = new HashMap<>();
+		for (Map.Entry<List<String>, List<CertificateToken>> entry : certificatesByUrls.entrySet()) {
+			try {
+				result.putAll(getRevocationTokensFromUrls(entry.getValue(), issuerCertificateToken, entry.getKey()));
+			} catch (Exception e) {
+				LOG.warn("Unable to retrieve OCSP responses for {} certificate(s) from URLs {} : {}",
+						entry.getValue().size(), entry.getKey(), e.getMessage());
+			}
+		}
+		return result;
+	}
+
+	private Map<CertificateToken, OCSPToken> getRevocationTokensOneByOne(List<CertificateToken> certificateTokens,
+																		 CertificateToken issuerCertificateToken,
+																		 List<String> alternativeUrls) {
+		final Map<CertificateToken, OCSPToken> result = new HashMap<>();
+		for (CertificateToken certificateToken : certificateTokens) {
+			try {
+				final OCSPToken ocspToken = getRevocationToken(certificateToken, issuerCertificateToken, alternativeUrls);
+				if (ocspToken != null) {
+					result.put(certificateToken, ocspToken);
+				}
+			} catch (Exception e) {
+				LOG.warn("Unable to retrieve OCSP response for certificate with Id '{}' : {}",
+						certificateToken.getDSSIdAsString(), e.getMessage());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether {@link #buildOCSPRequest(CertificateToken, CertificateToken, byte[])} is overridden
+	 * by the current class, in which case the customization shall apply to every certificate
+	 *
+	 * @return TRUE if the single certificate request builder is overridden, FALSE otherwise
+	 */
+	private boolean isSingleCertificateRequestOverridden() {
+		Class<?> clazz = getClass();
+		while (clazz != null && clazz != OnlineOCSPSource.class) {
+			try {
+				clazz.getDeclaredMethod("buildOCSPRequest", CertificateToken.class, CertificateToken.class, byte[].class);
+				return true;
+			} catch (NoSuchMethodException e) {
+				clazz = clazz.getSuperclass();
+			}
+		}
+		return false;
+	}
+
+	private Map<CertificateToken, OCSPToken> getRevocationTokensFromUrls(List<CertificateToken> certificateTokens,
+																		 CertificateToken issuerCertificateToken,
+																		 List<String> ocspUrls) {
+		byte[] nonce = null;
+		if (nonceSource != null) {
+			nonce = nonceSource.getNonceValue();
+		}
+
+		final byte[] content = buildOCSPRequest(certificateTokens, issuerCertificateToken, nonce);
+
+		int nbTries = ocspUrls.size();
+		for (String ocspAccessLocation : ocspUrls) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Trying to retrieve an OCSP response for {} certificate(s) from URL '{}'...",
+						certificateTokens.size(), ocspAccessLocation);
+			}
+			nbTries--;
+
+			try {
+				BasicOCSPResp basicResponse = executeOCSPRequest(ocspAccessLocation, content);
+
+				final Map<CertificateToken, OCSPToken> ocspTokens = new HashMap<>();
+				for (CertificateToken certificateToken : certificateTokens) {
+					SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerCertificateToken);
+					if (latestSingleResponse == null) {
+						LOG.warn("OCSP Response from URL '{}' does not contain a single response for certificate with Id '{}'",
+								ocspAccessLocation, certificateToken.getDSSIdAsString());
+						continue;
+					}
+					try {
+						assertOCSPResponseValid(basicResponse, latestSingleResponse, nonce);
+					} catch (Exception e) {
+						LOG.warn("OCSP Response from URL '{}' is not valid for certificate with Id '{}' : {}",
+								ocspAccessLocation, certificateToken.getDSSIdAsString(), e.getMessage());
+						continue;
+					}
+
+					OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerCertificateToken);
+					ocspToken.setSourceURL(ocspAccessLocation);
+					ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+					ocspTokens.put(certificateToken, ocspToken);
+				}
+
+				if (Utils.isMapNotEmpty(ocspTokens)) {
+					if (LOG.isDebugEnabled()) {
+						LOG.debug("OCSP Responses for {} certificate(s) have been retrieved from a source with URL '{}'.",
+								ocspTokens.size(), ocspAccessLocation);
+					}
+					return ocspTokens;
+				}
+				throw new DSSExternalResourceException(String.format(
+						"No valid single response found within OCSP Response from URL '%s'", ocspAccessLocation));
+
+			} catch (Exception e) {
+				if (nbTries == 0) {
+					throw new DSSExternalResourceException(String.format(
+							"Unable to retrieve OCSP responses from URL '%s'. Reason : %s", ocspAccessLocation, e.getMessage()), e);
+				} else {
+					LOG.warn("Unable to retrieve OCSP response with URL '{}' : {}", ocspAccessLocation, e.getMessage());
+				}
+			}
+		}
+
+		throw new IllegalStateException("Invalid state within OnlineOCSPSource for a multiple certificates call");
+	}
+
+	private BasicOCSPResp getValidatedOCSPResponse(String ocspAccessLocation, byte[] content, CertificateToken certificateToken,
+												   CertificateToken issuerCertificateToken, byte[] nonce) {
+		try {
+			BasicOCSPResp basicResponse = executeOCSPRequest(ocspAccessLocation, content);
+			SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerCertificateToken);
+			assertOCSPResponseValid(basicResponse, latestSingleResponse, nonce);
+			return basicResponse;
+		} catch (IOException | OCSPException e) {
+			throw new DSSExternalResourceException(e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * Extracts a list of OCSP access URLs to be used in the provided order to retrieve an OCSP response
 	 *
@@ -306,11 +503,24 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 	 * @return byte array representing an OCSP request
 	 */
 	protected byte[] buildOCSPRequest(CertificateToken certificateToken, CertificateToken issuerToken, byte[] nonce) {
+		return buildOCSPRequest(Collections.singletonList(certificateToken), issuerToken, nonce);
+	}
+
+	/**
+	 * Builds an OCSP request containing a CertID for each of {@code certificateTokens}
+	 *
+	 * @param certificateTokens a list of {@link CertificateToken}s to retrieve an OCSP token for
+	 * @param issuerToken {@link CertificateToken} representing an issuer certificate of {@code certificateTokens}
+	 * @param nonce byte array containing a unique nonce
+	 * @return byte array representing an OCSP request
+	 */
+	protected byte[] buildOCSPRequest(List<CertificateToken> certificateTokens, CertificateToken issuerToken, byte[] nonce) {
 		try {
 			final OCSPReqBuilder ocspReqBuilder = new OCSPReqBuilder();
 
-			final CertificateID certId = DSSRevocationUtils.getOCSPCertificateID(certificateToken, issuerToken, certIDDigestAlgorithm);
-			ocspReqBuilder.addRequest(certId);
+			for (CertificateToken certificateToken : certificateTokens) {
+				ocspReqBuilder.addRequest(getOCSPCertificateID(certificateToken, issuerToken));
+			}
 			/*
 			 * The nonce extension is used to bind a request to a response to
 			 * prevent replay attacks. RFC 6960 (OCSP) section 4.1.2 such
@@ -331,6 +541,18 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 		}
 	}
 
+	/**
+	 * Builds the CertID identifying {@code certificateToken} within an OCSP request.
+	 * The method is used for both single and multiple certificate requests.
+	 *
+	 * @param certificateToken {@link CertificateToken} to retrieve an OCSP token for
+	 * @param issuerToken {@link CertificateToken} representing an issuer certificate of {@code certificateToken}
+	 * @return {@link CertificateID}
+	 */
+	protected CertificateID getOCSPCertificateID(CertificateToken certificateToken, CertificateToken issuerToken) {
+		return DSSRevocationUtils.getOCSPCertificateID(certificateToken, issuerToken, certIDDigestAlgorithm);
+	}
+
 	/**
 	 * Executes a {@code request} to the given {@code ocspAccessLocation} and returns an OCSP basic response, when applicable
 	 *
@@ -0,0 +1,280 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.crl;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryCacheCrlSourceTest {
+
+	private CertificateToken certificateToken;
+
+	private CertificateToken caToken;
+
+	private MockCRLSource proxiedSource;
+
+	@BeforeEach
+	void init() {
+		certificateToken = DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.crt"));
+		caToken = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrs2.crt"));
+		proxiedSource = new MockCRLSource();
+	}
+
+	@Test
+	void test() {
+		MockInMemoryCacheCRLSource crlSource = new MockInMemoryCacheCRLSource();
+		crlSource.setProxySource(proxiedSource);
+
+		CRLToken revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(1, proxiedSource.requestCounter);
+		assertEquals(1, crlSource.getNumberOfEntries());
+		assertEquals(revocationToken.getEncoded().length, crlSource.getCurrentSize());
+		assertEquals(0, crlSource.getHitCount());
+		assertEquals(1, crlSource.getMissCount());
+
+		CRLToken savedRevocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(savedRevocationToken);
+		assertEquals(RevocationOrigin.CACHED, savedRevocationToken.getExternalOrigin());
+		assertEquals(revocationToken.getThisUpdate(), savedRevocationToken.getThisUpdate());
+		assertEquals(revocationToken.getNextUpdate(), savedRevocationToken.getNextUpdate());
+		assertEquals(revocationToken.getStatus(), savedRevocationToken.getStatus());
+		assertEquals(revocationToken.isValid(), savedRevocationToken.isValid());
+		assertEquals(1, proxiedSource.requestCounter);
+		assertEquals(1, crlSource.getHitCount());
+
+		CRLToken forceRefresh = crlSource.getRevocationToken(certificateToken, caToken, true);
+		assertNotNull(forceRefresh);
+		assertEquals(RevocationOrigin.EXTERNAL, forceRefresh.getExternalOrigin());
+		assertEquals(2, proxiedSource.requestCounter);
+		assertEquals(1, crlSource.getNumberOfEntries());
+		assertEquals(0, crlSource.getEvictionCount());
+
+		crlSource.clear();
+		assertEquals(0, crlSource.getNumberOfEntries());
+		assertEquals(0, crlSource.getCurrentSize());
+	}
+
+	@Test
+	void expiredTest() {
+		// use real CRL dates (the CRL is expired)
+		InMemoryCacheCRLSource crlSource = new InMemoryCacheCRLSource();
+		crlSource.setProxySource(proxiedSource);
+
+		CRLToken revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(1, crlSource.getNumberOfEntries());
+
+		revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(2, proxiedSource.requestCounter);
+		assertEquals(1, crlSource.getEvictionCount());
+		assertEquals(1, crlSource.getNumberOfEntries());
+	}
+
+	@Test
+	void maxSizeTest() {
+		MockInMemoryCacheCRLSource crlSource = new MockInMemoryCacheCRLSource();
+		crlSource.setProxySource(proxiedSource);
+
+		CRLToken revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(1, crlSource.getNumberOfEntries());
+
+		crlSource.setMaxSize(revocationToken.getEncoded().length - 1L);
+		assertEquals(0, crlSource.getNumberOfEntries());
+		assertEquals(0, crlSource.getCurrentSize());
+		assertEquals(1, crlSource.getEvictionCount());
+
+		revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(2, proxiedSource.requestCounter);
+		assertEquals(0, crlSource.getNumberOfEntries());
+	}
+
+	@Test
+	void jdbcCacheLayeringTest() throws Exception {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setUrl("jdbc:h2:mem:test;DB_CLOSE_DELAY=-1");
+		MockJdbcCacheCRLSource jdbcCacheCRLSource = new MockJdbcCacheCRLSource();
+		jdbcCacheCRLSource.setJdbcCacheConnector(new JdbcCacheConnector(dataSource));
+		jdbcCacheCRLSource.initTable();
+		jdbcCacheCRLSource.setProxySource(proxiedSource);
+
+		try {
+			MockInMemoryCacheCRLSource crlSource = new MockInMemoryCacheCRLSource();
+			crlSource.setProxySource(jdbcCacheCRLSource);
+
+			CRLToken revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+			assertNotNull(revocationToken);
+			assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+			assertEquals(1, proxiedSource.requestCounter);
+
+			crlSource.clear();
+
+			revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+			assertNotNull(revocationToken);
+			assertEquals(RevocationOrigin.CACHED, revocationToken.getExternalOrigin());
+			assertEquals(1, proxiedSource.requestCounter);
+			assertEquals(1, crlSource.getNumberOfEntries());
+
+			revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+			assertNotNull(revocationToken);
+			assertEquals(RevocationOrigin.CACHED, revocationToken.getExternalOrigin());
+			assertEquals(1, proxiedSource.requestCounter);
+			assertTrue(crlSource.getHitCount() > 0);
+
+		} finally {
+			jdbcCacheCRLSource.destroyTable();
+		}
+	}
+
+	@Test
+	void concurrentRequestsTest() throws Exception {
+		CountDownLatch releaseLatch = new CountDownLatch(1);
+		MockCRLSource blockingSource = new BlockingCRLSource(releaseLatch);
+		MockInMemoryCacheCRLSource crlSource = new MockInMemoryCacheCRLSource();
+		crlSource.setProxySource(blockingSource);
+
+		int nbThreads = 5;
+		ExecutorService executorService = Executors.newFixedThreadPool(nbThreads);
+		try {
+			List<Future<CRLToken>> futures = new ArrayList<>();
+			for (int i = 0; i < nbThreads; i++) {
+				futures.add(executorService.submit(() -> crlSource.getRevocationToken(certificateToken, caToken)));
+			}
+			await().atMost(10, TimeUnit.SECONDS).until(() -> crlSource.getRequestCoalescer().getCoalescedRequests() == nbThreads - 1);
+			releaseLatch.countDown();
+
+			for (Future<CRLToken> future : futures) {
+				assertNotNull(future.get(10, TimeUnit.SECONDS));
+			}
+			assertEquals(1, blockingSource.requestCounter);
+			assertEquals(1, crlSource.getRequestCoalescer().getExecutedRequests());
+			assertEquals(1, crlSource.getNumberOfEntries());
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	private static Date getNextHour() {
+		return new Date(System.currentTimeMillis() + 60 * 60 * 1000);
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockCRLSource implements CRLSource {
+
+		private int requestCounter = 0;
+
+		@Override
+		public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			++requestCounter;
+			try {
+				CRLBinary crlBinary = CRLUtils.buildCRLBinary(DSSUtils.toByteArray(new File("src/test/resources/belgium2.crl")));
+				CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, issuerCertificateToken);
+				CRLToken crlToken = new CRLToken(certificateToken, crlValidity);
+				crlToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+				return crlToken;
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class BlockingCRLSource extends MockCRLSource {
+
+		private final transient CountDownLatch releaseLatch;
+
+		private BlockingCRLSource(CountDownLatch releaseLatch) {
+			this.releaseLatch = releaseLatch;
+		}
+
+		@Override
+		public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			try {
+				releaseLatch.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			return super.getRevocationToken(certificateToken, issuerCertificateToken);
+		}
+
+	}
+
+	/**
+	 * Mocked to simulate fresh revocation data, as the test CRL is expired
+	 */
+	@SuppressWarnings("serial")
+	private static class MockInMemoryCacheCRLSource extends InMemoryCacheCRLSource {
+
+		@Override
+		protected Date getCacheNextUpdate(RevocationToken<CRL> revocationToken) {
+			return getNextHour();
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockJdbcCacheCRLSource extends JdbcCacheCRLSource {
+
+		@Override
+		protected Date getCacheNextUpdate(RevocationToken<CRL> revocationToken) {
+			return getNextHour();
+		}
+
+	}
+
+}
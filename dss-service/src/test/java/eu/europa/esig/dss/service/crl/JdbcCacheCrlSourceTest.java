@@ -20,25 +20,36 @@
  */
 package eu.europa.esig.dss.service.crl;
 
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
 import eu.europa.esig.dss.enumerations.RevocationOrigin;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.service.OnlineSourceTest;
 import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.client.http.SpillToDiskDocumentBuilder;
 import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import org.h2.jdbcx.JdbcDataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -151,6 +162,35 @@ class JdbcCacheCrlSourceTest extends OnlineSourceTest {
 		assertEquals(RevocationOrigin.EXTERNAL, savedRevocationToken.getExternalOrigin()); // expired crl
 	}
 
+	@Test
+	void spillToDiskTest(@TempDir Path tempDir) throws Exception {
+		CertificateToken certificateToken = DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.crt"));
+		CertificateToken caToken = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrs2.crt"));
+
+		SpillToDiskDocumentBuilder documentBuilder = new SpillToDiskDocumentBuilder();
+		documentBuilder.setInMemoryThreshold(0);
+		documentBuilder.setTempFileDirectory(tempDir.toFile());
+
+		FreshJdbcCacheCRLSource freshCRLSource = new FreshJdbcCacheCRLSource();
+		freshCRLSource.setJdbcCacheConnector(new JdbcCacheConnector(dataSource));
+		freshCRLSource.setDocumentBuilder(documentBuilder);
+		freshCRLSource.setProxySource(new LocalCRLSource());
+
+		CRLToken revocationToken = freshCRLSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(0, tempDir.toFile().listFiles().length);
+
+		CRLToken cachedRevocationToken = freshCRLSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(cachedRevocationToken);
+		assertEquals(RevocationOrigin.CACHED, cachedRevocationToken.getExternalOrigin());
+		assertEquals(1, tempDir.toFile().listFiles().length);
+		assertArrayEquals(revocationToken.getEncoded(), cachedRevocationToken.getEncoded());
+		assertEquals(revocationToken.getThisUpdate(), cachedRevocationToken.getThisUpdate());
+		assertEquals(revocationToken.getNextUpdate(), cachedRevocationToken.getNextUpdate());
+		assertEquals(revocationToken.isSignatureIntact(), cachedRevocationToken.isSignatureIntact());
+	}
+
 	@AfterEach
 	void cleanUp() throws SQLException {
 		crlSource.destroyTable();
@@ -170,4 +210,33 @@ class JdbcCacheCrlSourceTest extends OnlineSourceTest {
 		
 	}
 
+	@SuppressWarnings("serial")
+	private static class FreshJdbcCacheCRLSource extends JdbcCacheCRLSource {
+
+		@Override
+		protected Date getCacheNextUpdate(RevocationToken<CRL> revocationToken) {
+			// the test CRL is expired
+			return new Date(System.currentTimeMillis() + 60 * 60 * 1000);
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class LocalCRLSource implements CRLSource {
+
+		@Override
+		public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			try {
+				CRLBinary crlBinary = CRLUtils.buildCRLBinary(DSSUtils.toByteArray(new File("src/test/resources/belgium2.crl")));
+				CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, issuerCertificateToken);
+				CRLToken crlToken = new CRLToken(certificateToken, crlValidity);
+				crlToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+				return crlToken;
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	}
+
 }
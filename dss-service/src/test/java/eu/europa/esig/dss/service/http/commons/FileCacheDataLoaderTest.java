@@ -22,6 +22,7 @@ package eu.europa.esig.dss.service.http.commons;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader.DataAndUrl;
 import eu.europa.esig.dss.spi.client.http.IgnoreDataLoader;
@@ -43,6 +44,7 @@ import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -99,6 +101,27 @@ class FileCacheDataLoaderTest {
 		getDSSDocumentByUrl();
 	}
 
+	@Test
+	void testStreamingDataLoader() {
+		Map<String, byte[]> dataMap = new HashMap<>();
+		dataMap.put("http://dss.test/crl.crl", new byte[] { 1, 2, 3 });
+		FileCacheDataLoader specificDataLoader = new FileCacheDataLoader(new MemoryDataLoader(dataMap));
+		specificDataLoader.setFileCacheDirectory(cacheDirectory);
+
+		DSSDocument document = specificDataLoader.getDocument("http://dss.test/crl.crl");
+		assertTrue(document instanceof FileDocument);
+		assertArrayEquals(new byte[] { 1, 2, 3 }, DSSUtils.toByteArray(document));
+		assertNotNull(specificDataLoader.getDocumentFromCache("http://dss.test/crl.crl"));
+
+		document = specificDataLoader.postDocument("http://dss.test/crl.crl", new byte[] { 4, 5 });
+		assertTrue(document instanceof FileDocument);
+		assertArrayEquals(new byte[] { 1, 2, 3 }, DSSUtils.toByteArray(document));
+		assertArrayEquals(new byte[] { 1, 2, 3 }, specificDataLoader.post("http://dss.test/crl.crl", new byte[] { 4, 5 }));
+
+		assertThrows(DSSException.class, () -> specificDataLoader.getDocument("http://dss.test/none.crl"));
+		assertThrows(DSSException.class, () -> specificDataLoader.postDocument("http://dss.test/none.crl", new byte[] { 4, 5 }));
+	}
+
 	@Test
 	void testNotNetworkProtocol() throws IOException {
 		FileCacheDataLoader specificDataLoader = new FileCacheDataLoader();
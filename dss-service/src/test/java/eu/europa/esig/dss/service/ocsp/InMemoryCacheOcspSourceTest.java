@@ -0,0 +1,185 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.ocsp;
+
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
+import eu.europa.esig.dss.spi.DSSRevocationUtils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.bouncycastle.cert.ocsp.SingleResp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class InMemoryCacheOcspSourceTest {
+
+	private CertificateToken certificateToken;
+
+	private CertificateToken caToken;
+
+	private MockOCSPSource proxiedSource;
+
+	@BeforeEach
+	void init() {
+		certificateToken = DSSUtils.loadCertificate(new File("src/test/resources/sk_user.cer"));
+		caToken = DSSUtils.loadCertificate(new File("src/test/resources/sk_ca.cer"));
+		proxiedSource = new MockOCSPSource();
+	}
+
+	@Test
+	void test() {
+		MockInMemoryCacheOCSPSource ocspSource = new MockInMemoryCacheOCSPSource();
+		ocspSource.setProxySource(proxiedSource);
+
+		OCSPToken revocationToken = ocspSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(1, proxiedSource.requestCounter);
+		assertEquals(1, ocspSource.getNumberOfEntries());
+		assertEquals(revocationToken.getEncoded().length, ocspSource.getCurrentSize());
+		assertEquals(0, ocspSource.getHitCount());
+		assertEquals(1, ocspSource.getMissCount());
+
+		OCSPToken savedRevocationToken = ocspSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(savedRevocationToken);
+		assertNotSame(revocationToken, savedRevocationToken);
+		assertEquals(RevocationOrigin.CACHED, savedRevocationToken.getExternalOrigin());
+		assertArrayEquals(revocationToken.getEncoded(), savedRevocationToken.getEncoded());
+		assertEquals(revocationToken.getDSSIdAsString(), savedRevocationToken.getDSSIdAsString());
+		assertEquals(revocationToken.getThisUpdate(), savedRevocationToken.getThisUpdate());
+		assertEquals(revocationToken.getNextUpdate(), savedRevocationToken.getNextUpdate());
+		assertEquals(revocationToken.getProductionDate(), savedRevocationToken.getProductionDate());
+		assertEquals(revocationToken.getStatus(), savedRevocationToken.getStatus());
+		assertEquals(revocationToken.getRevocationDate(), savedRevocationToken.getRevocationDate());
+		assertEquals(revocationToken.getSourceURL(), savedRevocationToken.getSourceURL());
+		assertEquals(revocationToken.isValid(), savedRevocationToken.isValid());
+		assertEquals(certificateToken.getDSSIdAsString(), savedRevocationToken.getRelatedCertificateId());
+		assertEquals(1, proxiedSource.requestCounter);
+		assertEquals(1, ocspSource.getHitCount());
+		assertEquals(1, ocspSource.getMissCount());
+
+		OCSPToken forceRefresh = ocspSource.getRevocationToken(certificateToken, caToken, true);
+		assertNotNull(forceRefresh);
+		assertEquals(RevocationOrigin.EXTERNAL, forceRefresh.getExternalOrigin());
+		assertEquals(2, proxiedSource.requestCounter);
+		assertEquals(1, ocspSource.getNumberOfEntries());
+		assertEquals(0, ocspSource.getEvictionCount());
+
+		ocspSource.clear();
+		assertEquals(0, ocspSource.getNumberOfEntries());
+		assertEquals(0, ocspSource.getCurrentSize());
+	}
+
+	@Test
+	void expiredTest() {
+		// use real OCSP dates (the OCSP response is expired)
+		InMemoryCacheOCSPSource ocspSource = new InMemoryCacheOCSPSource();
+		ocspSource.setProxySource(proxiedSource);
+
+		OCSPToken revocationToken = ocspSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(1, ocspSource.getNumberOfEntries());
+
+		revocationToken = ocspSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(2, proxiedSource.requestCounter);
+		assertEquals(1, ocspSource.getEvictionCount());
+		assertEquals(1, ocspSource.getNumberOfEntries());
+	}
+
+	@Test
+	void maxSizeTest() {
+		MockInMemoryCacheOCSPSource ocspSource = new MockInMemoryCacheOCSPSource();
+		ocspSource.setProxySource(proxiedSource);
+
+		OCSPToken revocationToken = ocspSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(1, ocspSource.getNumberOfEntries());
+
+		ocspSource.setMaxSize(revocationToken.getEncoded().length - 1L);
+		assertEquals(0, ocspSource.getNumberOfEntries());
+		assertEquals(0, ocspSource.getCurrentSize());
+		assertEquals(1, ocspSource.getEvictionCount());
+
+		revocationToken = ocspSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(2, proxiedSource.requestCounter);
+		assertEquals(0, ocspSource.getNumberOfEntries());
+	}
+
+	private static Date getNextHour() {
+		return new Date(System.currentTimeMillis() + 60 * 60 * 1000);
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockOCSPSource implements OCSPSource {
+
+		private int requestCounter = 0;
+
+		@Override
+		public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			++requestCounter;
+			try {
+				OCSPResp ocspResp = new OCSPResp(DSSUtils.toByteArray(new File("src/test/resources/sk_ocsp.bin")));
+				BasicOCSPResp basicResponse = (BasicOCSPResp) ocspResp.getResponseObject();
+				SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerCertificateToken);
+				OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerCertificateToken);
+				ocspToken.setSourceURL(CertificateExtensionsUtils.getOCSPAccessUrls(certificateToken).get(0));
+				ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+				return ocspToken;
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	}
+
+	/**
+	 * Mocked to simulate fresh revocation data, as the test OCSP response is expired
+	 */
+	@SuppressWarnings("serial")
+	private static class MockInMemoryCacheOCSPSource extends InMemoryCacheOCSPSource {
+
+		@Override
+		protected Date getCacheNextUpdate(RevocationToken<OCSP> revocationToken) {
+			return getNextHour();
+		}
+
+	}
+
+}
@@ -0,0 +1,158 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.ocsp;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.service.SecureRandomNonceSource;
+import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OnlineOCSPSourceCoalescingTest {
+
+	private static CertificateToken qtspUser;
+	private static CertificateToken qtspCa;
+	private static byte[] qtspOcsp;
+
+	@BeforeAll
+	static void init() {
+		qtspUser = DSSUtils.loadCertificate(new File("src/test/resources/sk_user.cer"));
+		qtspCa = DSSUtils.loadCertificate(new File("src/test/resources/sk_ca.cer"));
+		qtspOcsp = DSSUtils.toByteArray(new File("src/test/resources/sk_ocsp.bin"));
+	}
+
+	@Test
+	void concurrentRequestsTest() throws Exception {
+		BlockingOCSPDataLoader dataLoader = new BlockingOCSPDataLoader(qtspOcsp, 1);
+		OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+		List<Future<OCSPToken>> futures = executeConcurrently(ocspSource, dataLoader, 2, () ->
+				ocspSource.getRequestCoalescer().getCoalescedRequests() == 1);
+		for (Future<OCSPToken> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+
+		assertEquals(1, dataLoader.requestCounter.get());
+		assertEquals(1, ocspSource.getRequestCoalescer().getExecutedRequests());
+		assertEquals(1, ocspSource.getRequestCoalescer().getCoalescedRequests());
+	}
+
+	@Test
+	void concurrentRequestsWithNonceTest() throws Exception {
+		// each request reaches the responder, as its response is bound to the request's nonce
+		BlockingOCSPDataLoader dataLoader = new BlockingOCSPDataLoader(qtspOcsp, 2);
+		OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+		ocspSource.setNonceSource(new SecureRandomNonceSource());
+
+		List<Future<OCSPToken>> futures = executeConcurrently(ocspSource, dataLoader, 2, () -> dataLoader.allRequestsReceived);
+		for (Future<OCSPToken> future : futures) {
+			// the stored response does not contain the nonce
+			try {
+				future.get(10, TimeUnit.SECONDS);
+			} catch (Exception e) {
+				// expected
+			}
+		}
+
+		assertTrue(dataLoader.allRequestsReceived);
+		assertEquals(2, dataLoader.requestCounter.get());
+		assertEquals(0, ocspSource.getRequestCoalescer().getExecutedRequests());
+		assertEquals(0, ocspSource.getRequestCoalescer().getCoalescedRequests());
+	}
+
+	private List<Future<OCSPToken>> executeConcurrently(OnlineOCSPSource ocspSource, BlockingOCSPDataLoader dataLoader,
+														int nbThreads, BooleanSupplier releaseCondition) throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(nbThreads);
+		try {
+			List<Future<OCSPToken>> futures = new ArrayList<>();
+			for (int i = 0; i < nbThreads; i++) {
+				futures.add(executorService.submit(() -> ocspSource.getRevocationToken(qtspUser, qtspCa)));
+			}
+			long end = System.currentTimeMillis() + 10000;
+			while (!releaseCondition.getAsBoolean() && System.currentTimeMillis() < end) {
+				Thread.sleep(10);
+			}
+			dataLoader.release();
+			return futures;
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	private static class BlockingOCSPDataLoader extends CommonsDataLoader {
+
+		private static final long serialVersionUID = 6358403961434583140L;
+
+		private final byte[] ocspResponse;
+
+		private final AtomicInteger requestCounter = new AtomicInteger();
+
+		private final transient CountDownLatch requestsLatch;
+
+		private final transient CountDownLatch releaseLatch = new CountDownLatch(1);
+
+		private volatile boolean allRequestsReceived;
+
+		private BlockingOCSPDataLoader(final byte[] ocspResponse, int expectedRequests) {
+			this.ocspResponse = ocspResponse;
+			this.requestsLatch = new CountDownLatch(expectedRequests);
+		}
+
+		@Override
+		public byte[] post(String url, byte[] content) {
+			requestCounter.incrementAndGet();
+			requestsLatch.countDown();
+			try {
+				// waits for all expected requests to be executed concurrently
+				if (requestsLatch.await(10, TimeUnit.SECONDS)) {
+					allRequestsReceived = true;
+				}
+				releaseLatch.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return ocspResponse;
+		}
+
+		private void release() {
+			releaseLatch.countDown();
+		}
+
+	}
+
+}
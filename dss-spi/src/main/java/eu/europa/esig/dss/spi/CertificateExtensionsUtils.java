@@ -81,7 +81,9 @@ import java.security.cert.CertificateParsingException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class contains utility methods for extraction certificate extension (whether critical or not)
@@ -91,6 +93,22 @@ public class CertificateExtensionsUtils {
 
     private static final Logger LOG = LoggerFactory.getLogger(CertificateExtensionsUtils.class);
 
+    /** The maximum number of certificates to keep parsed extensions for within the process-wide cache */
+    private static final int CERTIFICATE_EXTENSIONS_CACHE_SIZE = 1000;
+
+    /** Process-wide LRU cache of parsed certificate extensions, by certificate token identifier */
+    private static final Map<String, CertificateExtensions> CERTIFICATE_EXTENSIONS_CACHE =
+            new LinkedHashMap<String, CertificateExtensions>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = -3437592470926371651L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CertificateExtensions> eldest) {
+                    return size() > CERTIFICATE_EXTENSIONS_CACHE_SIZE;
+                }
+
+            };
+
     /**
      * Utils class
      */
@@ -99,12 +117,33 @@ public class CertificateExtensionsUtils {
     }
 
     /**
-     * This method extracts the certificate extensions from the given {@code certificateToken}
+     * This method extracts the certificate extensions from the given {@code certificateToken}.
+     * The extensions are decoded only once per certificate : the result is cached within the {@code certificateToken}
+     * and within a process-wide cache of recently used certificates (see {@code #CERTIFICATE_EXTENSIONS_CACHE_SIZE}).
+     * NOTE: the returned object is shared and shall not be modified.
      *
      * @param certificateToken {@link CertificateToken} to get certificate extension from
      * @return {@link CertificateExtensions}
      */
     public static CertificateExtensions getCertificateExtensions(CertificateToken certificateToken) {
+        CertificateExtensions certificateExtensions = certificateToken.getCertificateExtensions();
+        if (certificateExtensions == null) {
+            final String tokenId = certificateToken.getDSSIdAsString();
+            synchronized (CERTIFICATE_EXTENSIONS_CACHE) {
+                certificateExtensions = CERTIFICATE_EXTENSIONS_CACHE.get(tokenId);
+            }
+            if (certificateExtensions == null) {
+                certificateExtensions = parseCertificateExtensions(certificateToken);
+                synchronized (CERTIFICATE_EXTENSIONS_CACHE) {
+                    CERTIFICATE_EXTENSIONS_CACHE.put(tokenId, certificateExtensions);
+                }
+            }
+            certificateToken.setCertificateExtensions(certificateExtensions);
+        }
+        return certificateExtensions;
+    }
+
+    private static CertificateExtensions parseCertificateExtensions(CertificateToken certificateToken) {
         final CertificateExtensions certificateExtensions = new CertificateExtensions();
         setCertificateExtensions(certificateExtensions, certificateToken, certificateToken.getCertificate().getCriticalExtensionOIDs());
         setCertificateExtensions(certificateExtensions, certificateToken, certificateToken.getCertificate().getNonCriticalExtensionOIDs());
@@ -116,35 +155,35 @@ public class CertificateExtensionsUtils {
         if (Utils.isCollectionNotEmpty(extensionOIDs)) {
             for (String oid : extensionOIDs) {
                 if (isSubjectAlternativeNames(oid)) {
-                    certificateExtensions.setSubjectAlternativeNames(getSubjectAlternativeNames(certificateToken));
+                    certificateExtensions.setSubjectAlternativeNames(parseSubjectAlternativeNames(certificateToken));
                 } else if (isAuthorityKeyIdentifier(oid)) {
-                    certificateExtensions.setAuthorityKeyIdentifier(getAuthorityKeyIdentifier(certificateToken));
+                    certificateExtensions.setAuthorityKeyIdentifier(parseAuthorityKeyIdentifier(certificateToken));
                 } else if (isSubjectKeyIdentifier(oid)) {
-                    certificateExtensions.setSubjectKeyIdentifier(getSubjectKeyIdentifier(certificateToken));
+                    certificateExtensions.setSubjectKeyIdentifier(parseSubjectKeyIdentifier(certificateToken));
                 } else if (isAuthorityInformationAccess(oid)) {
-                    certificateExtensions.setAuthorityInformationAccess(getAuthorityInformationAccess(certificateToken));
+                    certificateExtensions.setAuthorityInformationAccess(parseAuthorityInformationAccess(certificateToken));
                 } else if (isCRLDistributionPoints(oid)) {
-                    certificateExtensions.setCRLDistributionPoints(getCRLDistributionPoints(certificateToken));
+                    certificateExtensions.setCRLDistributionPoints(parseCRLDistributionPoints(certificateToken));
                 } else if (isBasicConstraints(oid)) {
-                    certificateExtensions.setBasicConstraints(getBasicConstraints(certificateToken));
+                    certificateExtensions.setBasicConstraints(parseBasicConstraints(certificateToken));
                 } else if (isNameConstraints(oid)) {
-                    certificateExtensions.setNameConstraints(getNameConstraints(certificateToken));
+                    certificateExtensions.setNameConstraints(parseNameConstraints(certificateToken));
                 } else if (isPolicyConstraints(oid)) {
-                    certificateExtensions.setPolicyConstraints(getPolicyConstraints(certificateToken));
+                    certificateExtensions.setPolicyConstraints(parsePolicyConstraints(certificateToken));
                 } else if (isInhibitAnyPolicy(oid)) {
-                    certificateExtensions.setInhibitAnyPolicy(getInhibitAnyPolicy(certificateToken));
+                    certificateExtensions.setInhibitAnyPolicy(parseInhibitAnyPolicy(certificateToken));
                 } else if (isKeyUsage(oid)) {
-                    certificateExtensions.setKeyUsage(getKeyUsage(certificateToken));
+                    certificateExtensions.setKeyUsage(parseKeyUsage(certificateToken));
                 } else if (isExtendedKeyUsage(oid)) {
-                    certificateExtensions.setExtendedKeyUsage(getExtendedKeyUsage(certificateToken));
+                    certificateExtensions.setExtendedKeyUsage(parseExtendedKeyUsage(certificateToken));
                 } else if (isCertificatePolicies(oid)) {
-                    certificateExtensions.setCertificatePolicies(getCertificatePolicies(certificateToken));
+                    certificateExtensions.setCertificatePolicies(parseCertificatePolicies(certificateToken));
                 } else if (isOcspNoCheck(oid)) {
-                    certificateExtensions.setOcspNoCheck(getOcspNoCheck(certificateToken));
+                    certificateExtensions.setOcspNoCheck(parseOcspNoCheck(certificateToken));
                 } else if (isValidityAssuredShortTerm(oid)) {
-                    certificateExtensions.setValidityAssuredShortTerm(getValAssuredSTCerts(certificateToken));
+                    certificateExtensions.setValidityAssuredShortTerm(parseValAssuredSTCerts(certificateToken));
                 } else if (isQcStatements(oid)) {
-                    certificateExtensions.setQcStatements(getQcStatements(certificateToken));
+                    certificateExtensions.setQcStatements(parseQcStatements(certificateToken));
                 } else {
                     certificateExtensions.addOtherExtension(getOtherCertificateExtension(certificateToken, oid));
                 }
@@ -309,6 +348,18 @@ public class CertificateExtensionsUtils {
      * @return {@link SubjectAlternativeNames}
      */
     public static SubjectAlternativeNames getSubjectAlternativeNames(CertificateToken certificateToken) {
+        final SubjectAlternativeNames subjectAlternativeNames = getCertificateExtensions(certificateToken).getSubjectAlternativeNames();
+        // an empty object is returned when the extension is not present
+        return subjectAlternativeNames != null ? subjectAlternativeNames : parseSubjectAlternativeNames(certificateToken);
+    }
+
+    /**
+     * Parses a subject alternative names, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link SubjectAlternativeNames}
+     */
+    private static SubjectAlternativeNames parseSubjectAlternativeNames(CertificateToken certificateToken) {
         try {
             final SubjectAlternativeNames subjectAlternateNames = new SubjectAlternativeNames();
             subjectAlternateNames.setOctets(certificateToken.getCertificate().getExtensionValue(subjectAlternateNames.getOid()));
@@ -387,6 +438,16 @@ public class CertificateExtensionsUtils {
      * @return {@link AuthorityInformationAccess}
      */
     public static AuthorityInformationAccess getAuthorityInformationAccess(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getAuthorityInformationAccess();
+    }
+
+    /**
+     * Parses the authority information access, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link AuthorityInformationAccess}
+     */
+    private static AuthorityInformationAccess parseAuthorityInformationAccess(CertificateToken certificateToken) {
         final byte[] authInfoAccessExtensionValue = certificateToken.getCertificate()
                 .getExtensionValue(CertificateExtensionEnum.AUTHORITY_INFORMATION_ACCESS.getOid());
         if (Utils.isArrayEmpty(authInfoAccessExtensionValue)) {
@@ -459,6 +520,16 @@ public class CertificateExtensionsUtils {
      * @return {@link SubjectKeyIdentifier}
      */
     public static AuthorityKeyIdentifier getAuthorityKeyIdentifier(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getAuthorityKeyIdentifier();
+    }
+
+    /**
+     * Parses the subject key identifier, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link SubjectKeyIdentifier}
+     */
+    private static AuthorityKeyIdentifier parseAuthorityKeyIdentifier(CertificateToken certificateToken) {
         byte[] extensionValue = certificateToken.getCertificate().getExtensionValue(CertificateExtensionEnum.AUTHORITY_KEY_IDENTIFIER.getOid());
         if (Utils.isArrayEmpty(extensionValue)) {
             return null;
@@ -491,6 +562,16 @@ public class CertificateExtensionsUtils {
      * @return {@link SubjectKeyIdentifier}
      */
     public static SubjectKeyIdentifier getSubjectKeyIdentifier(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getSubjectKeyIdentifier();
+    }
+
+    /**
+     * Parses the subject key identifier, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link SubjectKeyIdentifier}
+     */
+    private static SubjectKeyIdentifier parseSubjectKeyIdentifier(CertificateToken certificateToken) {
         byte[] extensionValue = certificateToken.getCertificate().getExtensionValue(CertificateExtensionEnum.SUBJECT_KEY_IDENTIFIER.getOid());
         if (Utils.isArrayEmpty(extensionValue)) {
             return null;
@@ -519,6 +600,16 @@ public class CertificateExtensionsUtils {
      * @return {@link CRLDistributionPoints}
      */
     public static CRLDistributionPoints getCRLDistributionPoints(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getCRLDistributionPoints();
+    }
+
+    /**
+     * Parses the CRL distribution points, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link CRLDistributionPoints}
+     */
+    private static CRLDistributionPoints parseCRLDistributionPoints(CertificateToken certificateToken) {
         final byte[] crlDistributionPointsBytes = certificateToken.getCertificate().getExtensionValue(CertificateExtensionEnum.CRL_DISTRIBUTION_POINTS.getOid());
         if (crlDistributionPointsBytes != null) {
             try {
@@ -587,6 +678,18 @@ public class CertificateExtensionsUtils {
      * @return {@link BasicConstraints}
      */
     public static BasicConstraints getBasicConstraints(CertificateToken certificateToken) {
+        final BasicConstraints basicConstraints = getCertificateExtensions(certificateToken).getBasicConstraints();
+        // an empty object is returned when the extension is not present
+        return basicConstraints != null ? basicConstraints : parseBasicConstraints(certificateToken);
+    }
+
+    /**
+     * Parses a basic constraints extension, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link BasicConstraints}
+     */
+    private static BasicConstraints parseBasicConstraints(CertificateToken certificateToken) {
         final BasicConstraints basicConstraints = new BasicConstraints();
         basicConstraints.setOctets(certificateToken.getCertificate().getExtensionValue(basicConstraints.getOid()));
 
@@ -604,6 +707,16 @@ public class CertificateExtensionsUtils {
      * @return {@link NameConstraints}
      */
     public static NameConstraints getNameConstraints(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getNameConstraints();
+    }
+
+    /**
+     * Parses a name constraints extension, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link NameConstraints}
+     */
+    private static NameConstraints parseNameConstraints(CertificateToken certificateToken) {
         final byte[] nameConstraintsBinaries = certificateToken.getCertificate()
                 .getExtensionValue(CertificateExtensionEnum.NAME_CONSTRAINTS.getOid());
         if (Utils.isArrayNotEmpty(nameConstraintsBinaries)) {
@@ -710,6 +823,16 @@ public class CertificateExtensionsUtils {
      * @return {@link PolicyConstraints}
      */
     public static PolicyConstraints getPolicyConstraints(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getPolicyConstraints();
+    }
+
+    /**
+     * Parses a policy constraints extension, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link PolicyConstraints}
+     */
+    private static PolicyConstraints parsePolicyConstraints(CertificateToken certificateToken) {
         final byte[] policyConstraintsBinaries = certificateToken.getCertificate()
                 .getExtensionValue(CertificateExtensionEnum.POLICY_CONSTRAINTS.getOid());
         if (Utils.isArrayNotEmpty(policyConstraintsBinaries)) {
@@ -745,6 +868,16 @@ public class CertificateExtensionsUtils {
      * @return {@link PolicyConstraints}
      */
     public static InhibitAnyPolicy getInhibitAnyPolicy(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getInhibitAnyPolicy();
+    }
+
+    /**
+     * Parses an inhibit anyPolicy extension, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link PolicyConstraints}
+     */
+    private static InhibitAnyPolicy parseInhibitAnyPolicy(CertificateToken certificateToken) {
         final byte[] inhibitAnyPolicyBinaries = certificateToken.getCertificate()
                 .getExtensionValue(CertificateExtensionEnum.INHIBIT_ANY_POLICY.getOid());
         if (Utils.isArrayNotEmpty(inhibitAnyPolicyBinaries)) {
@@ -776,6 +909,16 @@ public class CertificateExtensionsUtils {
      * @return {@link KeyUsage}
      */
     public static KeyUsage getKeyUsage(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getKeyUsage();
+    }
+
+    /**
+     * Parses the key usage, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link KeyUsage}
+     */
+    private static KeyUsage parseKeyUsage(CertificateToken certificateToken) {
         final boolean[] keyUsageArray = certificateToken.getCertificate().getKeyUsage();
         if (keyUsageArray != null) {
             final KeyUsage keyUsage = new KeyUsage();
@@ -801,6 +944,21 @@ public class CertificateExtensionsUtils {
      * @return {@link ExtendedKeyUsages}
      */
     public static ExtendedKeyUsages getExtendedKeyUsage(CertificateToken certificateToken) {
+        final ExtendedKeyUsages extendedKeyUsage = getCertificateExtensions(certificateToken).getExtendedKeyUsage();
+        if (extendedKeyUsage != null) {
+            return extendedKeyUsage;
+        }
+        // returns an empty object when the extension is not present
+        return parseExtendedKeyUsage(certificateToken);
+    }
+
+    /**
+     * Parses the extended key usage, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link ExtendedKeyUsages}
+     */
+    private static ExtendedKeyUsages parseExtendedKeyUsage(CertificateToken certificateToken) {
         try {
             final ExtendedKeyUsages extendedKeyUsage = new ExtendedKeyUsages();
             extendedKeyUsage.setOctets(certificateToken.getCertificate().getExtensionValue(extendedKeyUsage.getOid()));
@@ -821,6 +979,16 @@ public class CertificateExtensionsUtils {
      * @return {@link CertificatePolicies}
      */
     public static CertificatePolicies getCertificatePolicies(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getCertificatePolicies();
+    }
+
+    /**
+     * Parses the certificate policies, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link CertificatePolicies}
+     */
+    private static CertificatePolicies parseCertificatePolicies(CertificateToken certificateToken) {
         final byte[] certificatePoliciesBinaries = certificateToken.getCertificate()
                 .getExtensionValue(CertificateExtensionEnum.CERTIFICATE_POLICIES.getOid());
         if (Utils.isArrayNotEmpty(certificatePoliciesBinaries)) {
@@ -867,6 +1035,16 @@ public class CertificateExtensionsUtils {
      * @return {@link OCSPNoCheck}
      */
     public static OCSPNoCheck getOcspNoCheck(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getOcspNoCheck();
+    }
+
+    /**
+     * Parses the ocsp-nocheck extension value, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link OCSPNoCheck}
+     */
+    private static OCSPNoCheck parseOcspNoCheck(CertificateToken certificateToken) {
         final byte[] extensionValue = certificateToken.getCertificate().getExtensionValue(OCSPObjectIdentifiers.id_pkix_ocsp_nocheck.getId());
         if (extensionValue != null) {
             final OCSPNoCheck ocspNoCheck = new OCSPNoCheck();
@@ -899,6 +1077,16 @@ public class CertificateExtensionsUtils {
      * @return {@link ValidityAssuredShortTerm}
      */
     public static ValidityAssuredShortTerm getValAssuredSTCerts(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getValidityAssuredShortTerm();
+    }
+
+    /**
+     * Parses the ext-etsi-valassured-ST-certs extension value, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link ValidityAssuredShortTerm}
+     */
+    private static ValidityAssuredShortTerm parseValAssuredSTCerts(CertificateToken certificateToken) {
         final byte[] extensionValue = certificateToken.getCertificate().getExtensionValue(OID.id_etsi_ext_valassured_ST_certs.getId());
         if (extensionValue != null) {
             final ValidityAssuredShortTerm validityAssuredShortTerm = new ValidityAssuredShortTerm();
@@ -945,6 +1133,16 @@ public class CertificateExtensionsUtils {
      * @return {@link QcStatements}
      */
     public static QcStatements getQcStatements(CertificateToken certificateToken) {
+        return getCertificateExtensions(certificateToken).getQcStatements();
+    }
+
+    /**
+     * Parses the qc-statements extension value, when present
+     *
+     * @param certificateToken {@link CertificateToken}
+     * @return {@link QcStatements}
+     */
+    private static QcStatements parseQcStatements(CertificateToken certificateToken) {
         final QcStatements qcStatements = QcStatementUtils.getQcStatements(certificateToken);
         if (qcStatements != null) {
             qcStatements.checkCritical(certificateToken);
@@ -30,6 +30,7 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.RandomAccessDocument;
 import eu.europa.esig.dss.model.SignatureValue;
 import eu.europa.esig.dss.model.UserNotice;
 import eu.europa.esig.dss.model.identifier.TokenIdentifier;
@@ -748,6 +749,9 @@ public final class DSSUtils {
 	 * @return long size of the given document
 	 */
 	public static long getFileByteSize(DSSDocument dssDocument) {
+		if (dssDocument instanceof RandomAccessDocument) {
+			return ((RandomAccessDocument) dssDocument).getLength();
+		}
 		try (InputStream is = dssDocument.openStream()) {
 			return Utils.getInputStreamSize(is);
 		} catch (IOException e) {
@@ -772,6 +776,24 @@ public final class DSSUtils {
 		}
 	}
 
+	/**
+	 * This method saves the content of the given {@code DSSDocument} to the provided {@code File},
+	 * without loading the whole content into memory.
+	 *
+	 * @param document
+	 *            {@link DSSDocument} to save
+	 * @param file
+	 *            the file where to store
+	 */
+	public static void saveToFile(final DSSDocument document, final File file) {
+		file.getParentFile().mkdirs();
+		try (InputStream is = document.openStream(); OutputStream os = new FileOutputStream(file)) {
+			Utils.copy(is, os);
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to save a file : %s", e.getMessage()), e);
+		}
+	}
+
 	/**
 	 * This method replaces all special characters by an underscore
 	 * 
@@ -0,0 +1,87 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads and keeps the service implementations found by {@code ServiceLoader}, in order to avoid
+ * the classpath scanning and the instantiation of the services on each call.
+ * <p>
+ * NOTE: the services are loaded once and shared between the threads.
+ * Therefore, this class shall only be used for stateless services (e.g. factories).
+ * <p>
+ * Only the services found by the class loader of DSS are kept, the cache having the same lifetime as this class.
+ * When the current context class loader differs (e.g. DSS being deployed within a shared library of
+ * an application server), the services are loaded on each call with the context class loader,
+ * in order to not retain the classes of an application after its undeployment.
+ *
+ */
+public final class ServiceLoaderUtils {
+
+	/** The loaded service implementations, found by the class loader of DSS */
+	private static final Map<Class<?>, List<?>> SERVICES = new ConcurrentHashMap<>();
+
+	private ServiceLoaderUtils() {
+		// empty
+	}
+
+	/**
+	 * Returns an unmodifiable list of implementations of the given {@code serviceClass},
+	 * in the order they have been found by {@code ServiceLoader}
+	 *
+	 * @param serviceClass the service interface or class
+	 * @param <S> the service type
+	 * @return an unmodifiable list of service implementations
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S> List<S> getServices(Class<S> serviceClass) {
+		Objects.requireNonNull(serviceClass, "Service class cannot be null!");
+		final ClassLoader dssClassLoader = ServiceLoaderUtils.class.getClassLoader();
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		if (contextClassLoader != null && contextClassLoader != dssClassLoader) {
+			return load(serviceClass, contextClassLoader);
+		}
+		return (List<S>) SERVICES.computeIfAbsent(serviceClass, c -> load(c, dssClassLoader));
+	}
+
+	private static <S> List<S> load(Class<S> serviceClass, ClassLoader classLoader) {
+		final List<S> services = new ArrayList<>();
+		for (S service : ServiceLoader.load(serviceClass, classLoader)) {
+			services.add(service);
+		}
+		return Collections.unmodifiableList(services);
+	}
+
+	/**
+	 * Clears the loaded services, which will be reloaded on the next call
+	 */
+	public static void clear() {
+		SERVICES.clear();
+	}
+
+}
@@ -20,7 +20,9 @@
  */
 package eu.europa.esig.dss.spi.client.http;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 
 import java.util.HashMap;
@@ -30,7 +32,7 @@ import java.util.Map;
 /**
  * Defines a map between URL and document to load the data from offline source
  */
-public class MemoryDataLoader implements DataLoader {
+public class MemoryDataLoader implements StreamingDataLoader {
 
 	private static final long serialVersionUID = -2899281917849499181L;
 
@@ -67,6 +69,17 @@ public class MemoryDataLoader implements DataLoader {
 		return get(url);
 	}
 
+	@Override
+	public DSSDocument getDocument(String url) {
+		byte[] data = get(url);
+		return data != null ? new InMemoryDocument(data) : null;
+	}
+
+	@Override
+	public DSSDocument postDocument(String url, byte[] content) {
+		return getDocument(url);
+	}
+
 	@Override
 	public void setContentType(String contentType) {
 		throw new UnsupportedOperationException("Content type change is not supported by this implementation!");
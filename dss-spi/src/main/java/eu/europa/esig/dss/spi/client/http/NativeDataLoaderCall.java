@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.spi.client.http;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.utils.Utils;
 
@@ -91,37 +92,49 @@ public class NativeDataLoaderCall implements Callable<byte[]> {
 	
 	@Override
 	public byte[] call() {
-		OutputStream os = null;
-		InputStream is = null;
-		byte[] result;
-		try {
-			URLConnection connection = createConnection();
-			connection.setUseCaches(useCaches);
-			connection.setDoInput(true);
-			if (connectTimeout > 0) {
-				connection.setConnectTimeout(connectTimeout);
-			}
-			if (readTimeout > 0) {
-				connection.setReadTimeout(readTimeout);
-			}
-			if (content != null) {
-				connection.setDoOutput(true);
-				os = connection.getOutputStream();
-				Utils.write(content, os);
-			}
-			is = connection.getInputStream();
-			if (maxInputSize > 0) {
-				is = new MaxSizeInputStream(is, maxInputSize, url);
-			}
-			result = Utils.toByteArray(is);
+		try (InputStream is = openResponseStream()) {
+			return Utils.toByteArray(is);
+		} catch (IOException e) {
+			throw new DSSExternalResourceException(String.format(ERROR_MESSAGE, url, e.getMessage()), e);
+		}
+	}
 
+	/**
+	 * Executes the call and returns the response as a {@code DSSDocument} created by the given {@code documentBuilder}
+	 * (e.g. a temporary file-backed document for a large response)
+	 *
+	 * @param documentBuilder {@link SpillToDiskDocumentBuilder} to build the response document
+	 * @return {@link DSSDocument}
+	 */
+	public DSSDocument callAsDocument(SpillToDiskDocumentBuilder documentBuilder) {
+		try (InputStream is = openResponseStream()) {
+			return documentBuilder.build(is);
 		} catch (IOException e) {
 			throw new DSSExternalResourceException(String.format(ERROR_MESSAGE, url, e.getMessage()), e);
-		} finally {
-			Utils.closeQuietly(os);
-			Utils.closeQuietly(is);
 		}
-		return result;
+	}
+
+	private InputStream openResponseStream() throws IOException {
+		URLConnection connection = createConnection();
+		connection.setUseCaches(useCaches);
+		connection.setDoInput(true);
+		if (connectTimeout > 0) {
+			connection.setConnectTimeout(connectTimeout);
+		}
+		if (readTimeout > 0) {
+			connection.setReadTimeout(readTimeout);
+		}
+		if (content != null) {
+			connection.setDoOutput(true);
+			try (OutputStream os = connection.getOutputStream()) {
+				Utils.write(content, os);
+			}
+		}
+		InputStream is = connection.getInputStream();
+		if (maxInputSize > 0) {
+			is = new MaxSizeInputStream(is, maxInputSize, url);
+		}
+		return is;
 	}
 
 	/**
@@ -20,18 +20,21 @@
  */
 package eu.europa.esig.dss.spi.client.http;
 
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 
 /**
  * Implementation of native java DataLoader using the java.net.URL class.
  *
  */
-public class NativeHTTPDataLoader implements DataLoader {
+public class NativeHTTPDataLoader implements StreamingDataLoader {
 
 	private static final long serialVersionUID = 4075489539157157286L;
 
@@ -50,6 +53,11 @@ public class NativeHTTPDataLoader implements DataLoader {
 	 */
 	private int readTimeout = 0;
 
+	/**
+	 * Builds the response documents for {@code #getDocument} and {@code #postDocument} calls
+	 */
+	private SpillToDiskDocumentBuilder documentBuilder = new SpillToDiskDocumentBuilder();
+
 	/**
 	 * Default constructor instantiating object with null values
 	 */
@@ -120,6 +128,18 @@ public class NativeHTTPDataLoader implements DataLoader {
 		this.readTimeout = readTimeout;
 	}
 
+	/**
+	 * Sets the builder used to create response documents on {@code #getDocument} and {@code #postDocument} calls,
+	 * defining the in-memory threshold above which the response is stored within a temporary file.
+	 * Default: {@code SpillToDiskDocumentBuilder} with 1 MB in-memory threshold
+	 *
+	 * @param documentBuilder {@link SpillToDiskDocumentBuilder}
+	 */
+	public void setDocumentBuilder(SpillToDiskDocumentBuilder documentBuilder) {
+		Objects.requireNonNull(documentBuilder, "SpillToDiskDocumentBuilder cannot be null!");
+		this.documentBuilder = documentBuilder;
+	}
+
 	/**
 	 * Execute the request
 	 *
@@ -140,6 +160,30 @@ public class NativeHTTPDataLoader implements DataLoader {
 		}
 	}
 
+	/**
+	 * Execute the request and returns the response as a {@code DSSDocument}
+	 *
+	 * @param url {@link String}
+	 * @param method {@link HttpMethod}
+	 * @param content request content
+	 * @param refresh if enforce the refresh
+	 * @return {@link DSSDocument} response
+	 */
+	protected DSSDocument requestDocument(String url, HttpMethod method, byte[] content, boolean refresh) {
+		try {
+			Callable<byte[]> task = createNativeDataLoaderCall(url, method, content, refresh);
+			if (task instanceof NativeDataLoaderCall) {
+				return ((NativeDataLoaderCall) task).callAsDocument(documentBuilder);
+			}
+			byte[] bytes = task.call();
+			return bytes != null ? new InMemoryDocument(bytes) : null;
+		} catch (DSSExternalResourceException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DSSExternalResourceException(e);
+		}
+	}
+
 	/**
 	 * This method creates a task call to be executed by NativeHTTPDataLoader
 	 *
@@ -191,6 +235,16 @@ public class NativeHTTPDataLoader implements DataLoader {
 		return request(url, HttpMethod.POST, content, true);
 	}
 
+	@Override
+	public DSSDocument getDocument(String url) {
+		return requestDocument(url, HttpMethod.GET, null, false);
+	}
+
+	@Override
+	public DSSDocument postDocument(String url, byte[] content) {
+		return requestDocument(url, HttpMethod.POST, content, true);
+	}
+
 	/**
 	 * Available HTTPMethods
 	 */
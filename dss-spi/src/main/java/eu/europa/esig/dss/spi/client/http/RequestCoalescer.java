@@ -0,0 +1,146 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.model.DSSException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent requests for the same key into a single execution ("single-flight").
+ * The first caller for a key executes the request, while concurrent callers for the same key wait
+ * for its completion and share the obtained result (or the thrown exception).
+ * Once the request is completed, the next call for the key triggers a new execution.
+ *
+ * @param <K> the key identifying a request (e.g. a URL)
+ * @param <V> the result of the request
+ */
+public class RequestCoalescer<K, V> implements Serializable {
+
+	private static final long serialVersionUID = -6416932418163497451L;
+
+	private static final Logger LOG = LoggerFactory.getLogger(RequestCoalescer.class);
+
+	/** The requests currently in progress */
+	private final transient ConcurrentMap<K, CompletableFuture<V>> inFlightRequests = new ConcurrentHashMap<>();
+
+	/** Number of executed requests */
+	private final AtomicLong executedRequests = new AtomicLong();
+
+	/** Number of requests served by a concurrent execution for the same key */
+	private final AtomicLong coalescedRequests = new AtomicLong();
+
+	/**
+	 * Default constructor
+	 */
+	public RequestCoalescer() {
+		// empty
+	}
+
+	/**
+	 * Returns the result of the request identified by the {@code key}. When a request for the same key
+	 * is already in progress, waits for its completion and returns its result.
+	 * Otherwise, executes the {@code request} within the current thread.
+	 *
+	 * @param key identifying the request
+	 * @param request {@link Supplier} executing the request
+	 * @return result of the request
+	 */
+	public V execute(K key, Supplier<V> request) {
+		Objects.requireNonNull(key, "Key cannot be null!");
+		Objects.requireNonNull(request, "Request cannot be null!");
+
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> inFlight = inFlightRequests.putIfAbsent(key, future);
+		if (inFlight != null) {
+			coalescedRequests.incrementAndGet();
+			LOG.debug("A request with key '{}' is already in progress. Waiting for its result...", key);
+			return await(inFlight);
+		}
+
+		executedRequests.incrementAndGet();
+		try {
+			V result = request.get();
+			future.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlightRequests.remove(key, future);
+		}
+	}
+
+	private V await(CompletableFuture<V> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted while waiting for a concurrent request", e);
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new DSSException(String.format("Concurrent request failed : %s", cause.getMessage()), cause);
+		}
+	}
+
+	/**
+	 * Re-creates the coalescer on deserialization, as in-flight requests are not serialized
+	 *
+	 * @return {@link RequestCoalescer}
+	 */
+	private Object readResolve() {
+		return new RequestCoalescer<K, V>();
+	}
+
+	/**
+	 * Returns the number of requests executed by the coalescer
+	 *
+	 * @return number of executed requests
+	 */
+	public long getExecutedRequests() {
+		return executedRequests.get();
+	}
+
+	/**
+	 * Returns the number of requests which did not trigger an execution,
+	 * but obtained the result of a concurrent request with the same key
+	 *
+	 * @return number of coalesced requests
+	 */
+	public long getCoalescedRequests() {
+		return coalescedRequests.get();
+	}
+
+}
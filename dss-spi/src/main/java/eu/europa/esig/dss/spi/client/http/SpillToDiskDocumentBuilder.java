@@ -0,0 +1,134 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.utils.Utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.Objects;
+
+/**
+ * Builds a {@code DSSDocument} from a response {@code InputStream}.
+ * The content is kept in memory up to the configured threshold, and is written to a temporary file once
+ * the threshold is exceeded. The created temporary files are tracked by the {@code SpilledFilesCleaner}, which deletes
+ * them once the returned document has been released or garbage collected.
+ *
+ */
+public class SpillToDiskDocumentBuilder implements Serializable {
+
+	private static final long serialVersionUID = -3217593214620373622L;
+
+	/** The default in-memory threshold (1 MB) */
+	private static final int DEFAULT_IN_MEMORY_THRESHOLD = 1024 * 1024;
+
+	/** The buffer size used to copy the content */
+	private static final int BUFFER_SIZE = 8192;
+
+	/** The prefix of the created temporary files */
+	private static final String TEMP_FILE_PREFIX = "dss-";
+
+	/** The suffix of the created temporary files */
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+	/** The maximum size of the content to be kept in memory, in bytes */
+	private int inMemoryThreshold = DEFAULT_IN_MEMORY_THRESHOLD;
+
+	/** The directory to create the temporary files in (the system temporary directory by default) */
+	private File tempFileDirectory = new File(System.getProperty("java.io.tmpdir"));
+
+	/**
+	 * Default constructor
+	 */
+	public SpillToDiskDocumentBuilder() {
+		// empty
+	}
+
+	/**
+	 * Sets the maximum size of the content to be kept in memory, in bytes.
+	 * The content exceeding the threshold is written to a temporary file.
+	 * Default : 1 MB
+	 *
+	 * @param inMemoryThreshold the maximum size of an in-memory content
+	 */
+	public void setInMemoryThreshold(int inMemoryThreshold) {
+		this.inMemoryThreshold = inMemoryThreshold;
+	}
+
+	/**
+	 * Sets the directory to create the temporary files in.
+	 * Default : the system temporary directory ("java.io.tmpdir")
+	 *
+	 * @param tempFileDirectory {@link File} directory
+	 */
+	public void setTempFileDirectory(File tempFileDirectory) {
+		Objects.requireNonNull(tempFileDirectory, "Temporary file directory cannot be null!");
+		this.tempFileDirectory = tempFileDirectory;
+	}
+
+	/**
+	 * Reads the {@code inputStream} and builds a {@code DSSDocument}.
+	 * Returns an {@code InMemoryDocument} when the content does not exceed the in-memory threshold,
+	 * a {@code FileDocument} pointing to a temporary file otherwise. The temporary file is deleted once the document
+	 * is garbage collected, or earlier on {@code SpilledFilesCleaner#delete} call.
+	 * NOTE: the given {@code inputStream} is not closed by the method.
+	 *
+	 * @param inputStream {@link InputStream} to read
+	 * @return {@link DSSDocument}
+	 * @throws IOException if an error occurs on reading or writing the content
+	 */
+	public DSSDocument build(InputStream inputStream) throws IOException {
+		Objects.requireNonNull(inputStream, "InputStream cannot be null!");
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int count;
+		while ((count = inputStream.read(buffer)) != -1) {
+			baos.write(buffer, 0, count);
+			if (baos.size() > inMemoryThreshold) {
+				return spillToDisk(baos, inputStream);
+			}
+		}
+		return new InMemoryDocument(baos.toByteArray());
+	}
+
+	private DSSDocument spillToDisk(ByteArrayOutputStream baos, InputStream inputStream) throws IOException {
+		File tempFile = Files.createTempFile(tempFileDirectory.toPath(), TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX).toFile();
+		try (OutputStream os = Files.newOutputStream(tempFile.toPath())) {
+			baos.writeTo(os);
+			Utils.copy(inputStream, os);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(tempFile.toPath());
+			throw e;
+		}
+		FileDocument document = new FileDocument(tempFile);
+		SpilledFilesCleaner.getInstance().register(document);
+		return document;
+	}
+
+}
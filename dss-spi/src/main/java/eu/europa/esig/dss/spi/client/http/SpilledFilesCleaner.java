@@ -0,0 +1,159 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the temporary files created by {@code SpillToDiskDocumentBuilder} and deletes them
+ * once they are not used anymore: either explicitly, when the content has been consumed (e.g. copied to a cache file),
+ * or once the {@code DSSDocument} pointing to the file (e.g. kept by a CRL token within a revocation cache)
+ * has been garbage collected. The files of the collected documents are deleted on the next spill or
+ * on a {@code #cleanUp} call.
+ *
+ */
+public final class SpilledFilesCleaner {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SpilledFilesCleaner.class);
+
+	/** The queue of the references to the collected documents */
+	private final ReferenceQueue<DSSDocument> referenceQueue = new ReferenceQueue<>();
+
+	/** Map between the references to the tracked documents and their temporary files */
+	private final Map<Reference<? extends DSSDocument>, File> files = new ConcurrentHashMap<>();
+
+	/**
+	 * Singleton
+	 */
+	private SpilledFilesCleaner() {
+		// empty
+	}
+
+	/**
+	 * Returns an instance of the SpilledFilesCleaner class
+	 *
+	 * @return {@link SpilledFilesCleaner} singleton
+	 */
+	public static SpilledFilesCleaner getInstance() {
+		return SingletonHolder.INSTANCE;
+	}
+
+	/**
+	 * Registers a document pointing to a temporary file, to be deleted once the document is not used anymore
+	 *
+	 * @param document {@link FileDocument} pointing to a temporary file
+	 */
+	void register(FileDocument document) {
+		cleanUp();
+		files.put(new WeakReference<>(document, referenceQueue), document.getFile());
+	}
+
+	/**
+	 * Deletes the temporary file of the given {@code document}, when the document has been created by
+	 * a {@code SpillToDiskDocumentBuilder}. Shall be called once the content of the document has been consumed.
+	 * NOTE: the document cannot be read after the call.
+	 *
+	 * @param document {@link DSSDocument} to release
+	 * @return TRUE if the temporary file of the document has been deleted, FALSE otherwise
+	 */
+	public boolean delete(DSSDocument document) {
+		if (!(document instanceof FileDocument)) {
+			return false;
+		}
+		Iterator<Map.Entry<Reference<? extends DSSDocument>, File>> iterator = files.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Reference<? extends DSSDocument>, File> entry = iterator.next();
+			if (entry.getKey().get() == document) {
+				iterator.remove();
+				return deleteFile(entry.getValue());
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Deletes the temporary files of the documents which have been garbage collected
+	 */
+	public void cleanUp() {
+		Reference<? extends DSSDocument> reference;
+		while ((reference = referenceQueue.poll()) != null) {
+			File file = files.remove(reference);
+			if (file != null) {
+				deleteFile(file);
+			}
+		}
+	}
+
+	/**
+	 * Deletes all the tracked temporary files (e.g. on the application shutdown).
+	 * NOTE: the documents pointing to the deleted files cannot be read after the call.
+	 */
+	public void deleteAll() {
+		Iterator<File> iterator = files.values().iterator();
+		while (iterator.hasNext()) {
+			File file = iterator.next();
+			iterator.remove();
+			deleteFile(file);
+		}
+	}
+
+	/**
+	 * Returns the number of the tracked temporary files
+	 *
+	 * @return number of files
+	 */
+	public int size() {
+		return files.size();
+	}
+
+	private boolean deleteFile(File file) {
+		try {
+			return Files.deleteIfExists(file.toPath());
+		} catch (IOException e) {
+			LOG.warn("Unable to delete the temporary file '{}' : {}", file.getAbsolutePath(), e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Lazily initialized singleton holder
+	 */
+	private static final class SingletonHolder {
+
+		/** The singleton instance */
+		private static final SpilledFilesCleaner INSTANCE = new SpilledFilesCleaner();
+
+	}
+
+}
@@ -0,0 +1,50 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.model.DSSDocument;
+
+/**
+ * The {@code DataLoader} returning the obtained content as a {@code DSSDocument}, instead of a byte array.
+ * This allows implementations to avoid keeping large responses (e.g. CRLs) in memory,
+ * for instance by storing them within a temporary file (see {@code SpillToDiskDocumentBuilder}).
+ *
+ */
+public interface StreamingDataLoader extends DataLoader {
+
+	/**
+	 * Executes a GET operation and returns the obtained content as a {@code DSSDocument}
+	 *
+	 * @param url {@link String} to access
+	 * @return {@link DSSDocument} containing the obtained content
+	 */
+	DSSDocument getDocument(final String url);
+
+	/**
+	 * Executes a POST operation and returns the obtained content as a {@code DSSDocument}
+	 *
+	 * @param url {@link String} to access
+	 * @param content byte array to post
+	 * @return {@link DSSDocument} containing the obtained content
+	 */
+	DSSDocument postDocument(final String url, final byte[] content);
+
+}
@@ -27,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
+import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -61,6 +62,7 @@ public class JdbcCacheConnector {
     /**
      * This method allows to execute a query with a custom set of arguments, such as SELECT, UPDATE or DELETE,
      * by handling an exception.
+     * NOTE: {@code InputStream} arguments are bound as binary streams and are not closed by the method.
      *
      * @param query {@link SqlQuery} the query
      * @param arguments an array of {@link Object}s, representing the query arguments
@@ -77,7 +79,11 @@ public class JdbcCacheConnector {
 
             s = c.prepareStatement(query.getQueryString());
             for (int ii = 0; ii < arguments.length; ii++) {
-                s.setObject(ii + 1, arguments[ii]);
+                if (arguments[ii] instanceof InputStream) {
+                    s.setBinaryStream(ii + 1, (InputStream) arguments[ii]);
+                } else {
+                    s.setObject(ii + 1, arguments[ii]);
+                }
             }
             int ii = s.executeUpdate();
             c.commit();
@@ -49,9 +49,6 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	/** The TL Validation job summary */
 	private TLValidationJobSummary summary;
 
-	/** The map of trust properties by EntityIdentifier (public keys) */
-	private Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity = new HashMap<>();
-
 	/**
 	 * The default constructor.
 	 */
@@ -97,16 +94,21 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 
 	@Override
 	public synchronized void setTrustPropertiesByCertificates(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts) {
-		this.trustPropertiesByEntity = new HashMap<>(); // reinit the map
-		super.reset();
-		trustPropertiesByCerts.forEach(this::addCertificate);
+		// the new content is built aside and then published with a single write, so the concurrent
+		// validation processes observe either the previous or the new certificates and trust properties
+		final Map<EntityIdentifier, List<TrustProperties>> newTrustPropertiesByEntity = new HashMap<>();
+		trustPropertiesByCerts.forEach((certificateToken, trustPropertiesList) ->
+				addTrustProperties(newTrustPropertiesByEntity, certificateToken, trustPropertiesList));
+
+		final TrustedListsIndex newIndex = new TrustedListsIndex(newTrustPropertiesByEntity);
+		fillIndex(newIndex, trustPropertiesByCerts.keySet());
+		publishIndex(newIndex);
 	}
-	
-	private void addCertificate(CertificateToken certificateToken, List<TrustProperties> trustPropertiesList) {
-		super.addCertificate(certificateToken);
-		
+
+	private void addTrustProperties(Map<EntityIdentifier, List<TrustProperties>> trustPropertiesMap,
+									CertificateToken certificateToken, List<TrustProperties> trustPropertiesList) {
 		EntityIdentifier entityKey = certificateToken.getEntityKey();
-		List<TrustProperties> list = trustPropertiesByEntity.computeIfAbsent(entityKey, k -> new ArrayList<>());
+		List<TrustProperties> list = trustPropertiesMap.computeIfAbsent(entityKey, k -> new ArrayList<>());
 		for (TrustProperties trustProperties : trustPropertiesList) {
 			if (!list.contains(trustProperties)) {
 				list.add(trustProperties);
@@ -115,8 +117,8 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	}
 
 	@Override
-	public synchronized List<TrustProperties> getTrustServices(CertificateToken token) {
-		List<TrustProperties> currentTrustProperties = trustPropertiesByEntity.get(token.getEntityKey());
+	public List<TrustProperties> getTrustServices(CertificateToken token) {
+		List<TrustProperties> currentTrustProperties = getTrustPropertiesByEntity().get(token.getEntityKey());
 		if (currentTrustProperties != null) {
 			return currentTrustProperties;
 		} else {
@@ -124,6 +126,14 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 		}
 	}
 
+	private Map<EntityIdentifier, List<TrustProperties>> getTrustPropertiesByEntity() {
+		final CertificateIndex currentIndex = getIndex();
+		if (currentIndex instanceof TrustedListsIndex) {
+			return ((TrustedListsIndex) currentIndex).trustPropertiesByEntity;
+		}
+		return Collections.emptyMap();
+	}
+
 	@Override
 	public List<String> getAlternativeOCSPUrls(CertificateToken trustAnchor) {
 		return getServiceSupplyPoints(trustAnchor, "ocsp");
@@ -161,7 +171,34 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	 * @return the number of trusted public keys
 	 */
 	public int getNumberOfTrustedPublicKeys() {
-		return trustPropertiesByEntity.size();
+		return getTrustPropertiesByEntity().size();
+	}
+
+	/**
+	 * The certificate index extended with the trust properties of the certificates,
+	 * allowing to publish both of them at once. The index is not modified once published.
+	 */
+	private static final class TrustedListsIndex extends CertificateIndex {
+
+		private static final long serialVersionUID = -2365190245836541073L;
+
+		/**
+		 * The unmodifiable map of trust properties by EntityIdentifier (public keys)
+		 */
+		private final Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param trustPropertiesByEntity a map of trust properties by EntityIdentifier
+		 */
+		private TrustedListsIndex(final Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity) {
+			final Map<EntityIdentifier, List<TrustProperties>> unmodifiableMap = new HashMap<>();
+			trustPropertiesByEntity.forEach((entityKey, trustPropertiesList) ->
+					unmodifiableMap.put(entityKey, Collections.unmodifiableList(trustPropertiesList)));
+			this.trustPropertiesByEntity = Collections.unmodifiableMap(unmodifiableMap);
+		}
+
 	}
 
 }
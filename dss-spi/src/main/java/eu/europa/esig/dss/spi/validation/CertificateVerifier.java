@@ -31,6 +31,8 @@ import eu.europa.esig.dss.spi.x509.ListCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.AIASource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Provides information on the sources to be used in the validation process in
  * the context of a signature.
@@ -514,4 +516,15 @@ public interface CertificateVerifier {
 	@Deprecated
 	boolean isExtractPOEFromUntrustedChains();
 
+	/**
+	 * Returns the {@code ExecutorService} used to retrieve revocation data and AIA certificates in parallel
+	 * Default : null (validation data is retrieved sequentially)
+	 * NOTE: the executor can be configured with {@code CommonCertificateVerifier#setExecutorService}
+	 *
+	 * @return {@link ExecutorService}
+	 */
+	default ExecutorService getExecutorService() {
+		return null;
+	}
+
 }
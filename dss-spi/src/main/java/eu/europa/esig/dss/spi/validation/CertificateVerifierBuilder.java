@@ -45,7 +45,7 @@ public class CertificateVerifierBuilder {
 	 * @return {@link CertificateVerifier} copy
 	 */
 	public CertificateVerifier buildCompleteCopy() {
-		CertificateVerifier copy = new CommonCertificateVerifier(true);
+		CommonCertificateVerifier copy = new CommonCertificateVerifier(true);
 		if (certificateVerifier != null) {
 			copy.setDefaultDigestAlgorithm(certificateVerifier.getDefaultDigestAlgorithm());
 			copy.setAIASource(certificateVerifier.getAIASource());
@@ -59,6 +59,7 @@ public class CertificateVerifierBuilder {
 			copy.setExtractPOEFromUntrustedChains(certificateVerifier.isExtractPOEFromUntrustedChains());
 			copy.setAdjunctCertSources(certificateVerifier.getAdjunctCertSources());
 			copy.setTrustedCertSources(certificateVerifier.getTrustedCertSources());
+			copy.setExecutorService(certificateVerifier.getExecutorService());
 
 			copy.setAlertOnInvalidSignature(certificateVerifier.getAlertOnInvalidSignature());
 			copy.setAlertOnInvalidTimestamp(certificateVerifier.getAlertOnInvalidTimestamp());
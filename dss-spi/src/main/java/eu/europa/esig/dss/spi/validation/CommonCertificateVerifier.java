@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * This class provides the different sources used to verify the status of a certificate using the trust model. There are
@@ -215,6 +216,13 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 	 */
 	private boolean extractPOEFromUntrustedChains = false;
 
+	/**
+	 * This variable sets the executor used to retrieve revocation data and AIA certificates in parallel.
+	 *
+	 * Default : null (validation data is retrieved sequentially)
+	 */
+	private ExecutorService executorService;
+
 	/**
 	 * The default constructor. The {@code DataLoader} is created to allow the
 	 * retrieval of certificates through AIA.
@@ -546,4 +554,22 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 		return defaultDigestAlgorithm;
 	}
 
+	@Override
+	public ExecutorService getExecutorService() {
+		return executorService;
+	}
+
+	/**
+	 * Sets the {@code ExecutorService} to be used to retrieve revocation data and AIA certificates
+	 * for all certificates of a validation context in parallel.
+	 * The obtained data is still processed sequentially, in order to keep the validation context consistent.
+	 * NOTE: it is recommended to provide a bounded executor (e.g. {@code Executors.newFixedThreadPool(...)}).
+	 * Default : null (validation data is retrieved sequentially)
+	 *
+	 * @param executorService {@link ExecutorService}
+	 */
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 }
@@ -22,11 +22,13 @@ package eu.europa.esig.dss.spi.validation;
 
 import eu.europa.esig.dss.enumerations.Context;
 import eu.europa.esig.dss.enumerations.RevocationReason;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.Token;
 import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
 import eu.europa.esig.dss.spi.validation.status.RevocationFreshnessStatus;
@@ -52,6 +54,8 @@ import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.MultiCertificateOCSPSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampedReference;
@@ -65,6 +69,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -72,6 +77,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * During the validation of a signature, the software retrieves different X509 artifacts like Certificate, CRL and OCSP
@@ -188,6 +198,21 @@ public class SignatureValidationContext implements ValidationContext {
 	@Deprecated
 	private boolean extractPOEFromUntrustedChains;
 
+	/**
+	 * Executor used to retrieve revocation data and AIA certificates in parallel.
+	 * When null, the data is retrieved sequentially.
+	 */
+	private ExecutorService executorService;
+
+	/** Map of certificate tokens and their AIA requests submitted in parallel */
+	private final Map<CertificateToken, AIARequest> aiaRequests = new HashMap<>();
+
+	/**
+	 * Map of CRL requests executed in parallel by their access location, allowing to download
+	 * a CRL only once for all certificates of the same issuer
+	 */
+	private final Map<String, CompletableFuture<RevocationToken<CRL>>> crlRequests = new ConcurrentHashMap<>();
+
 	/**
 	 * This is the time at what the validation is carried out.
 	 */
@@ -229,6 +254,7 @@ public class SignatureValidationContext implements ValidationContext {
 		this.revocationDataVerifier = certificateVerifier.getRevocationDataVerifier();
 		this.revocationFallback = certificateVerifier.isRevocationFallback();
 		this.timestampTokenVerifier = certificateVerifier.getTimestampTokenVerifier();
+		this.executorService = certificateVerifier.getExecutorService();
 	}
 
 	/**
@@ -446,7 +472,25 @@ public class SignatureValidationContext implements ValidationContext {
 			return null;
 		}
 	}
-	
+
+	/**
+	 * This method returns all tokens not verified yet and marks them as being processed.
+	 *
+	 * @return a list of tokens to verify
+	 */
+	private List<Token> getNotYetVerifiedTokens() {
+		synchronized (tokensToProcess) {
+			final List<Token> tokens = new ArrayList<>();
+			for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
+				if (entry.getValue() == null) {
+					entry.setValue(true);
+					tokens.add(entry.getKey());
+				}
+			}
+			return tokens;
+		}
+	}
+
 	private Map<CertificateToken, List<CertificateToken>> getOrderedCertificateChains() {
 		final CertificateReorderer order = new CertificateReorderer(processedCertificates);
 		return order.getOrderedCertificateChains();
@@ -493,6 +537,40 @@ public class SignatureValidationContext implements ValidationContext {
 			return issuerCertificateToken;
 		}
 
+		issuerCertificateToken = getIssuerFromSources(token);
+
+		// Request AIA only when no issuer has been found yet
+		if (issuerCertificateToken == null && aiaSource != null
+				&& token instanceof CertificateToken && !tokenIssuerMap.containsKey(token)) {
+			issuerCertificateToken = getIssuerFromAIA((CertificateToken) token);
+		}
+
+		ListCertificateSource allCertificateSources = getAllCertificateSources();
+		if (issuerCertificateToken == null && token instanceof OCSPToken) {
+			issuerCertificateToken = getOCSPIssuer((OCSPToken) token, allCertificateSources);
+		}
+
+		if (issuerCertificateToken == null && token instanceof TimestampToken) {
+			issuerCertificateToken = getTSACertificate((TimestampToken) token, allCertificateSources);
+		}
+
+		if (issuerCertificateToken != null) {
+			addCertificateTokenForVerification(issuerCertificateToken);
+		}
+
+		// Cache the result (successful or unsuccessful)
+		addToCacheMap(token, issuerCertificateToken);
+
+		return issuerCertificateToken;
+	}
+
+	/**
+	 * Finds an issuer of the {@code token} within the available certificate sources, without accessing AIA
+	 *
+	 * @param token {@link Token} to get issuer for
+	 * @return {@link CertificateToken} issuer if found, null otherwise
+	 */
+	private CertificateToken getIssuerFromSources(final Token token) {
 		// Find issuer candidates from a particular certificate source
 		Set<CertificateToken> candidates = Collections.emptySet();
 
@@ -515,9 +593,8 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 
 		// Find issuer candidates from all sources
-		ListCertificateSource allCertificateSources = getAllCertificateSources();
 		if (Utils.isCollectionEmpty(candidates)) {
-			candidates = getIssuersFromSources(token, allCertificateSources);
+			candidates = getIssuersFromSources(token, getAllCertificateSources());
 		}
 
 		// Find issuer from provided certificate tokens
@@ -525,32 +602,69 @@ public class SignatureValidationContext implements ValidationContext {
 			candidates = processedCertificates;
 		}
 
-		issuerCertificateToken = new TokenIssuerSelector(token, candidates).getIssuer();
+		return new TokenIssuerSelector(token, candidates).getIssuer();
+	}
 
-		// Request AIA only when no issuer has been found yet
-		if (issuerCertificateToken == null && aiaSource != null
-				&& token instanceof CertificateToken && !tokenIssuerMap.containsKey(token)) {
-			final AIACertificateSource aiaCertificateSource = new AIACertificateSource((CertificateToken) token, aiaSource);
+	/**
+	 * Retrieves the issuer of the {@code certificateToken} using AIA.
+	 * When the request has been already submitted for a parallel execution, the obtained result is re-used.
+	 *
+	 * @param certificateToken {@link CertificateToken} to get issuer for
+	 * @return {@link CertificateToken} issuer if found, null otherwise
+	 */
+	private CertificateToken getIssuerFromAIA(final CertificateToken certificateToken) {
+		final AIACertificateSource aiaCertificateSource;
+		final CertificateToken issuerCertificateToken;
+		final AIARequest aiaRequest = aiaRequests.remove(certificateToken);
+		if (aiaRequest != null) {
+			aiaCertificateSource = aiaRequest.aiaCertificateSource;
+			issuerCertificateToken = getResult(aiaRequest.issuerFuture);
+		} else {
+			aiaCertificateSource = new AIACertificateSource(certificateToken, aiaSource);
 			issuerCertificateToken = aiaCertificateSource.getIssuerFromAIA();
-			addCertificateSource(aiaCertificateSources, aiaCertificateSource);
-		}
-		
-		if (issuerCertificateToken == null && token instanceof OCSPToken) {
-			issuerCertificateToken = getOCSPIssuer((OCSPToken) token, allCertificateSources);
 		}
+		addCertificateSource(aiaCertificateSources, aiaCertificateSource);
+		return issuerCertificateToken;
+	}
 
-		if (issuerCertificateToken == null && token instanceof TimestampToken) {
-			issuerCertificateToken = getTSACertificate((TimestampToken) token, allCertificateSources);
+	/**
+	 * Submits AIA requests for all certificate tokens, which issuers cannot be found in the available sources
+	 *
+	 * @param tokens a list of {@link Token}s to be processed
+	 */
+	private void submitAIARequests(final List<Token> tokens) {
+		if (aiaSource == null) {
+			return;
 		}
-
-		if (issuerCertificateToken != null) {
-			addCertificateTokenForVerification(issuerCertificateToken);
+		for (Token token : tokens) {
+			if (token instanceof CertificateToken && !tokenIssuerMap.containsKey(token) && !aiaRequests.containsKey(token)
+					&& getIssuerFromSources(token) == null) {
+				final AIACertificateSource aiaCertificateSource = new AIACertificateSource((CertificateToken) token, aiaSource);
+				final Future<CertificateToken> issuerFuture = executorService.submit(aiaCertificateSource::getIssuerFromAIA);
+				aiaRequests.put((CertificateToken) token, new AIARequest(aiaCertificateSource, issuerFuture));
+			}
 		}
+	}
 
-		// Cache the result (successful or unsuccessful)
-		addToCacheMap(token, issuerCertificateToken);
-
-		return issuerCertificateToken;
+	/**
+	 * Waits for the task to complete and returns its result
+	 *
+	 * @param future {@link Future} to get result from
+	 * @param <T> type of the result
+	 * @return result of the task
+	 */
+	private <T> T getResult(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException(String.format("The validation process has been interrupted : %s", e.getMessage()), e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new DSSException(String.format("Unable to retrieve validation data : %s", e.getMessage()), e);
+		}
 	}
 
 	private void addToCacheMap(Token token, CertificateToken issuerCertificateToken) {
@@ -854,6 +968,11 @@ public class SignatureValidationContext implements ValidationContext {
 			getCertChain(timestampToken);
 			timestampToken = getNotYetVerifiedTimestamp();
 		}
+
+		if (executorService != null) {
+			validateInParallel();
+			return;
+		}
 		
 		Token token = getNotYetVerifiedToken();
 		while (token != null) {
@@ -866,6 +985,62 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 	}
 
+	/**
+	 * Processes the tokens by groups, retrieving the AIA certificates and revocation data
+	 * for all tokens of a group in parallel using the defined {@code executorService}.
+	 * The obtained data is processed sequentially, in order to keep the validation context consistent.
+	 */
+	private void validateInParallel() {
+		// ensure the verifier is initialized before a concurrent access
+		getRevocationDataVerifier();
+
+		try {
+			List<Token> tokens = getNotYetVerifiedTokens();
+			while (Utils.isCollectionNotEmpty(tokens)) {
+				submitAIARequests(tokens);
+
+				final List<RevocationRequest> revocationRequests = new ArrayList<>();
+				for (Token token : tokens) {
+					// extract the certificate chain and add missing tokens for verification
+					List<Token> certChain = getCertChain(token);
+					if (token instanceof CertificateToken) {
+						RevocationRequest revocationRequest = createRevocationRequest((CertificateToken) token, certChain);
+						if (revocationRequest != null) {
+							revocationRequests.add(revocationRequest);
+						}
+					}
+				}
+
+				assignOCSPBatches(revocationRequests);
+				for (RevocationRequest revocationRequest : revocationRequests) {
+					if (revocationRequest.onlineRequestRequired) {
+						revocationRequest.onlineRevocationFuture = executorService.submit(
+								() -> getRevocationToken(revocationRequest));
+					}
+				}
+
+				for (RevocationRequest revocationRequest : revocationRequests) {
+					RevocationToken<?> onlineRevocationToken = null;
+					if (revocationRequest.onlineRevocationFuture != null) {
+						onlineRevocationToken = getResult(revocationRequest.onlineRevocationFuture);
+						// take into account revocation data linked by the previously processed requests
+						revocationRequest.revocations.addAll(getRelatedRevocationTokens(revocationRequest.certificateToken));
+					}
+					processRevocationRequest(revocationRequest, onlineRevocationToken);
+				}
+
+				tokens = getNotYetVerifiedTokens();
+			}
+
+		} finally {
+			for (AIARequest aiaRequest : aiaRequests.values()) {
+				aiaRequest.issuerFuture.cancel(true);
+			}
+			aiaRequests.clear();
+			crlRequests.clear();
+		}
+	}
+
 	/**
 	 * Retrieves the revocation data from signature (if exists) or from the online
 	 * sources. The issuer certificate must be provided, the underlining library
@@ -876,6 +1051,28 @@ public class SignatureValidationContext implements ValidationContext {
 	 * @return a set of found {@link RevocationToken}s
 	 */
 	private Set<RevocationToken<?>> getRevocationData(final CertificateToken certToken, List<Token> certChain) {
+		final RevocationRequest revocationRequest = createRevocationRequest(certToken, certChain);
+		if (revocationRequest == null) {
+			return Collections.emptySet();
+		}
+
+		RevocationToken<?> onlineRevocationToken = null;
+		if (revocationRequest.onlineRequestRequired) {
+			// Fetch OCSP or CRL from online sources
+			onlineRevocationToken = getRevocationToken(revocationRequest);
+		}
+		return processRevocationRequest(revocationRequest, onlineRevocationToken);
+	}
+
+	/**
+	 * Collects the available revocation data for the {@code certToken} and defines whether
+	 * the revocation data shall be requested from online sources
+	 *
+	 * @param certToken the current token
+	 * @param certChain the complete chain
+	 * @return {@link RevocationRequest}, null if revocation data is not required or cannot be retrieved
+	 */
+	private RevocationRequest createRevocationRequest(final CertificateToken certToken, List<Token> certChain) {
 
 		if (LOG.isTraceEnabled()) {
 			LOG.trace("Checking revocation data for : {}", certToken.getDSSIdAsString());
@@ -883,16 +1080,17 @@ public class SignatureValidationContext implements ValidationContext {
 
 		if (isRevocationDataNotRequired(certToken)) {
 			LOG.debug("Revocation data is not required for certificate : {}", certToken.getDSSIdAsString());
-			return Collections.emptySet();
+			return null;
 		}
 
 		CertificateToken issuerToken = getIssuer(certToken);
 		if (issuerToken == null) {
 			LOG.warn("Issuer not found for certificate {}", certToken.getDSSIdAsString());
-			return Collections.emptySet();
+			return null;
 		}
 
-		Set<RevocationToken<?>> revocations = new HashSet<>();
+		final RevocationRequest revocationRequest = new RevocationRequest(certToken, issuerToken);
+		final Set<RevocationToken<?>> revocations = revocationRequest.revocations;
 
 		// ALL Embedded revocation data
 		List<RevocationToken<CRL>> crlTokens = documentCRLSource.getRevocationTokens(certToken, issuerToken);
@@ -916,25 +1114,38 @@ public class SignatureValidationContext implements ValidationContext {
 			LOG.debug("The signature does not contain relative revocation data.");
 			if (checkRevocationForUntrustedChains || containsTrustAnchor(certChain)) {
 				LOG.trace("Revocation update is in progress for certificate : {}", certToken.getDSSIdAsString());
-				CertificateToken trustAnchor = (CertificateToken) getFirstTrustAnchor(certChain);
-
-				// Fetch OCSP or CRL from online sources
-				final RevocationToken<?> onlineRevocationToken = getRevocationToken(certToken, issuerToken, trustAnchor);
-
-				// Check if the obtained revocation is not yet present
-				if (onlineRevocationToken != null && !revocations.contains(onlineRevocationToken)) {
-					LOG.debug("Obtained a new revocation data : {}, for certificate : {}",
-							onlineRevocationToken.getDSSIdAsString(), certToken.getDSSIdAsString());
-					revocations.add(onlineRevocationToken);
-					addRevocationTokenForVerification(onlineRevocationToken);
-					linkRevocationToOtherCertificates(onlineRevocationToken, certToken, issuerToken);
-				}
-				
+				revocationRequest.trustAnchor = (CertificateToken) getFirstTrustAnchor(certChain);
+				revocationRequest.onlineRequestRequired = true;
+
 			} else {
 				LOG.warn("External revocation check is skipped for untrusted certificate : {}", certToken.getDSSIdAsString());
 			}
 		}
-		
+
+		return revocationRequest;
+	}
+
+	/**
+	 * Adds the revocation data obtained from online sources to the validation context
+	 *
+	 * @param revocationRequest {@link RevocationRequest} to be completed
+	 * @param onlineRevocationToken {@link RevocationToken} obtained from online sources, when applicable
+	 * @return a set of found {@link RevocationToken}s
+	 */
+	private Set<RevocationToken<?>> processRevocationRequest(RevocationRequest revocationRequest,
+															 RevocationToken<?> onlineRevocationToken) {
+		final CertificateToken certToken = revocationRequest.certificateToken;
+		final Set<RevocationToken<?>> revocations = revocationRequest.revocations;
+
+		// Check if the obtained revocation is not yet present
+		if (onlineRevocationToken != null && !revocations.contains(onlineRevocationToken)) {
+			LOG.debug("Obtained a new revocation data : {}, for certificate : {}",
+					onlineRevocationToken.getDSSIdAsString(), certToken.getDSSIdAsString());
+			revocations.add(onlineRevocationToken);
+			addRevocationTokenForVerification(onlineRevocationToken);
+			linkRevocationToOtherCertificates(onlineRevocationToken, certToken, revocationRequest.issuerCertificateToken);
+		}
+
 		if (revocations.isEmpty()) {
 			LOG.warn("No revocation found for the certificate {}", certToken.getDSSIdAsString());
 		}
@@ -974,8 +1185,49 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 	}
 
+	/**
+	 * Groups the online revocation requests for certificates issued by the same issuer, in order to retrieve
+	 * the OCSP responses for all certificates of a group within a single request to the OCSP responder.
+	 * Applies only when the remote OCSP source supports multi-certificate requests.
+	 *
+	 * @param revocationRequests a list of {@link RevocationRequest}s to be processed together
+	 */
+	private void assignOCSPBatches(List<RevocationRequest> revocationRequests) {
+		if (!(remoteOCSPSource instanceof MultiCertificateOCSPSource)) {
+			return;
+		}
+
+		final Map<CertificateToken, List<RevocationRequest>> requestsByIssuer = new IdentityHashMap<>();
+		for (RevocationRequest revocationRequest : revocationRequests) {
+			// OCSP sources with alternative URLs are requested separately
+			if (revocationRequest.onlineRequestRequired && remoteOCSPSource == getOCSPSource(revocationRequest.trustAnchor)) {
+				requestsByIssuer.computeIfAbsent(revocationRequest.issuerCertificateToken, k -> new ArrayList<>()).add(revocationRequest);
+			}
+		}
+
+		for (Entry<CertificateToken, List<RevocationRequest>> entry : requestsByIssuer.entrySet()) {
+			List<RevocationRequest> issuerRequests = entry.getValue();
+			if (issuerRequests.size() > 1) {
+				final List<CertificateToken> certificateTokens = new ArrayList<>();
+				for (RevocationRequest revocationRequest : issuerRequests) {
+					certificateTokens.add(revocationRequest.certificateToken);
+				}
+				final OCSPBatchSource ocspBatchSource = new OCSPBatchSource(
+						(MultiCertificateOCSPSource) remoteOCSPSource, certificateTokens, entry.getKey());
+				for (RevocationRequest revocationRequest : issuerRequests) {
+					revocationRequest.ocspBatchSource = ocspBatchSource;
+				}
+			}
+		}
+	}
+
+	private RevocationToken<?> getRevocationToken(RevocationRequest revocationRequest) {
+		return getRevocationToken(revocationRequest.certificateToken, revocationRequest.issuerCertificateToken,
+				revocationRequest.trustAnchor, revocationRequest.ocspBatchSource);
+	}
+
 	private RevocationToken<?> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificate,
-												  CertificateToken trustAnchor) {
+												  CertificateToken trustAnchor, OCSPBatchSource ocspBatchSource) {
 		// configure the CompositeRevocationSource
 		RevocationSource<OCSP> currentOCSPSource;
 		RevocationSource<CRL> currentCRLSource;
@@ -988,6 +1240,16 @@ public class SignatureValidationContext implements ValidationContext {
 			currentOCSPSource = remoteOCSPSource;
 			currentCRLSource = remoteCRLSource;
 		}
+		if (ocspBatchSource != null) {
+			currentOCSPSource = ocspBatchSource;
+		}
+		if (executorService != null && currentCRLSource != null) {
+			// the certificates of the same issuer are processed concurrently, thus share the CRL downloads
+			final String crlAccessLocation = getCRLAccessLocation(certificateToken, issuerCertificate, trustAnchor);
+			if (crlAccessLocation != null) {
+				currentCRLSource = new SharedCRLSource(currentCRLSource, crlRequests, crlAccessLocation);
+			}
+		}
 
 		// fetch the data
 		final RevocationDataLoadingStrategy revocationDataLoadingStrategy = revocationDataLoadingStrategyFactory.create();
@@ -998,6 +1260,34 @@ public class SignatureValidationContext implements ValidationContext {
 		return revocationDataLoadingStrategy.getRevocationToken(certificateToken, issuerCertificate);
 	}
 
+	/**
+	 * Returns a key identifying the CRL access location for the given certificate, including the issuer
+	 * of the certificate, the CRL distribution points and the alternative CRL URLs from the trusted lists
+	 *
+	 * @param certificateToken {@link CertificateToken} to get the CRL access location for
+	 * @param issuerCertificate {@link CertificateToken} issuer of the certificate
+	 * @param trustAnchor {@link CertificateToken} the trust anchor of the certificate chain, when applicable
+	 * @return {@link String} key, null if no CRL access location is defined
+	 */
+	private String getCRLAccessLocation(CertificateToken certificateToken, CertificateToken issuerCertificate,
+										CertificateToken trustAnchor) {
+		final List<String> crlUrls = new ArrayList<>(CertificateExtensionsUtils.getCRLAccessUrls(certificateToken));
+		if (!trustedCertSources.isEmpty() && trustAnchor != null) {
+			crlUrls.addAll(getAlternativeCRLUrls(trustAnchor));
+		}
+		if (Utils.isCollectionEmpty(crlUrls)) {
+			return null;
+		}
+		return issuerCertificate.getDSSIdAsString() + "|" + crlUrls;
+	}
+
+	private RevocationSource<OCSP> getOCSPSource(CertificateToken trustAnchor) {
+		if (!trustedCertSources.isEmpty() && trustAnchor != null) {
+			return instantiateOCSPWithTrustServices(trustAnchor);
+		}
+		return remoteOCSPSource;
+	}
+
 	private RevocationSource<OCSP> instantiateOCSPWithTrustServices(CertificateToken trustAnchor) {
 		List<String> alternativeOCSPUrls = getAlternativeOCSPUrls(trustAnchor);
 		if (Utils.isCollectionNotEmpty(alternativeOCSPUrls) && remoteOCSPSource instanceof RevocationSourceAlternateUrlsSupport) {
@@ -1624,4 +1914,206 @@ public class SignatureValidationContext implements ValidationContext {
 
 	}
 
+	/**
+	 * Contains a revocation data retrieval request for a certificate token
+	 */
+	private static class RevocationRequest {
+
+		/** The certificate token to get revocation data for */
+		private final CertificateToken certificateToken;
+
+		/** The issuer of the certificate token */
+		private final CertificateToken issuerCertificateToken;
+
+		/** Revocation data already available within the validation context */
+		private final Set<RevocationToken<?>> revocations = new HashSet<>();
+
+		/** The first trust anchor of the certificate chain, when applicable */
+		private CertificateToken trustAnchor;
+
+		/** Defines whether revocation data shall be requested from online sources */
+		private boolean onlineRequestRequired;
+
+		/** The online revocation data retrieval task, when executed in parallel */
+		private Future<RevocationToken<?>> onlineRevocationFuture;
+
+		/** The OCSP source shared with other requests for certificates of the same issuer, when applicable */
+		private OCSPBatchSource ocspBatchSource;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param certificateToken {@link CertificateToken} to get revocation data for
+		 * @param issuerCertificateToken {@link CertificateToken} issuer of the certificate token
+		 */
+		private RevocationRequest(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			this.certificateToken = certificateToken;
+			this.issuerCertificateToken = issuerCertificateToken;
+		}
+
+	}
+
+	/**
+	 * Retrieves OCSP responses for a group of certificates issued by the same issuer within a single call
+	 * to the {@code MultiCertificateOCSPSource}. The call is executed on the first access,
+	 * and the certificates not covered by the obtained responses are requested separately.
+	 */
+	@SuppressWarnings("serial")
+	private static class OCSPBatchSource implements OCSPSource {
+
+		/** The OCSP source supporting multi-certificate requests */
+		private final MultiCertificateOCSPSource ocspSource;
+
+		/** The certificates to be requested together */
+		private final List<CertificateToken> certificateTokens;
+
+		/** The issuer of the certificates */
+		private final CertificateToken issuerCertificateToken;
+
+		/** The obtained OCSP tokens, null if not yet requested */
+		private Map<CertificateToken, OCSPToken> ocspTokens;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param ocspSource {@link MultiCertificateOCSPSource} to retrieve OCSP tokens from
+		 * @param certificateTokens a list of {@link CertificateToken}s to be requested together
+		 * @param issuerCertificateToken {@link CertificateToken} issuer of the certificates
+		 */
+		private OCSPBatchSource(MultiCertificateOCSPSource ocspSource, List<CertificateToken> certificateTokens,
+								CertificateToken issuerCertificateToken) {
+			this.ocspSource = ocspSource;
+			this.certificateTokens = certificateTokens;
+			this.issuerCertificateToken = issuerCertificateToken;
+		}
+
+		@Override
+		public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			if (this.issuerCertificateToken == issuerCertificateToken) {
+				OCSPToken ocspToken = getOCSPTokens().get(certificateToken);
+				if (ocspToken != null) {
+					return ocspToken;
+				}
+			}
+			return ocspSource.getRevocationToken(certificateToken, issuerCertificateToken);
+		}
+
+		private synchronized Map<CertificateToken, OCSPToken> getOCSPTokens() {
+			if (ocspTokens == null) {
+				try {
+					ocspTokens = ocspSource.getRevocationTokens(certificateTokens, issuerCertificateToken);
+				} catch (Exception e) {
+					LOG.warn("Unable to retrieve OCSP responses for {} certificates issued by '{}' : {}",
+							certificateTokens.size(), issuerCertificateToken.getDSSIdAsString(), e.getMessage());
+					ocspTokens = Collections.emptyMap();
+				}
+			}
+			return ocspTokens;
+		}
+
+	}
+
+	/**
+	 * Shares the CRL obtained for a certificate with the other certificates having the same CRL access location,
+	 * thus the certificates processed in parallel do not download the same CRL several times.
+	 * The first call for an access location executes the request, while the other calls wait for its result.
+	 */
+	@SuppressWarnings("serial")
+	private static class SharedCRLSource implements RevocationSource<CRL> {
+
+		/** The CRL source to retrieve CRL tokens from */
+		private final RevocationSource<CRL> crlSource;
+
+		/** The CRL requests by their access location */
+		private final Map<String, CompletableFuture<RevocationToken<CRL>>> crlRequests;
+
+		/** The CRL access location of the current request */
+		private final String crlAccessLocation;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param crlSource {@link RevocationSource} to retrieve CRL tokens from
+		 * @param crlRequests a map of CRL requests by their access location
+		 * @param crlAccessLocation {@link String} the CRL access location of the current request
+		 */
+		private SharedCRLSource(RevocationSource<CRL> crlSource, Map<String, CompletableFuture<RevocationToken<CRL>>> crlRequests,
+								String crlAccessLocation) {
+			this.crlSource = crlSource;
+			this.crlRequests = crlRequests;
+			this.crlAccessLocation = crlAccessLocation;
+		}
+
+		@Override
+		public RevocationToken<CRL> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			final CompletableFuture<RevocationToken<CRL>> future = new CompletableFuture<>();
+			final CompletableFuture<RevocationToken<CRL>> sharedRequest = crlRequests.putIfAbsent(crlAccessLocation, future);
+			if (sharedRequest == null) {
+				try {
+					final RevocationToken<CRL> crlToken = crlSource.getRevocationToken(certificateToken, issuerCertificateToken);
+					future.complete(crlToken);
+					return crlToken;
+				} catch (RuntimeException | Error e) {
+					future.completeExceptionally(e);
+					throw e;
+				}
+			}
+
+			LOG.debug("A CRL with access location '{}' has already been requested. Reusing its result...", crlAccessLocation);
+			final RevocationToken<CRL> sharedToken = getSharedCRLToken(sharedRequest);
+			if (sharedToken == null) {
+				return null;
+			} else if (!(sharedToken instanceof CRLToken)) {
+				// unable to link the obtained token to the current certificate
+				return crlSource.getRevocationToken(certificateToken, issuerCertificateToken);
+			}
+			final CRLToken sharedCRLToken = (CRLToken) sharedToken;
+			final CRLToken crlToken = new CRLToken(certificateToken, sharedCRLToken.getCrlValidity());
+			crlToken.setExternalOrigin(sharedCRLToken.getExternalOrigin());
+			crlToken.setSourceURL(sharedCRLToken.getSourceURL());
+			return crlToken;
+		}
+
+		private RevocationToken<CRL> getSharedCRLToken(CompletableFuture<RevocationToken<CRL>> sharedRequest) {
+			try {
+				return sharedRequest.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DSSException(String.format("The validation process has been interrupted : %s", e.getMessage()), e);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				} else if (e.getCause() instanceof Error) {
+					throw (Error) e.getCause();
+				}
+				throw new DSSException(String.format("Unable to retrieve validation data : %s", e.getMessage()), e);
+			}
+		}
+
+	}
+
+	/**
+	 * Contains an AIA request submitted for a parallel execution
+	 */
+	private static class AIARequest {
+
+		/** The certificate source used to access the issuer by AIA */
+		private final AIACertificateSource aiaCertificateSource;
+
+		/** The task retrieving the issuer certificate */
+		private final Future<CertificateToken> issuerFuture;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param aiaCertificateSource {@link AIACertificateSource}
+		 * @param issuerFuture {@link Future} retrieving the issuer certificate
+		 */
+		private AIARequest(AIACertificateSource aiaCertificateSource, Future<CertificateToken> issuerFuture) {
+			this.aiaCertificateSource = aiaCertificateSource;
+			this.issuerFuture = issuerFuture;
+		}
+
+	}
+
 }
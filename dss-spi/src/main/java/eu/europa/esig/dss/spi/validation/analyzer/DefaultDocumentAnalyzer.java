@@ -31,6 +31,7 @@ import eu.europa.esig.dss.model.scope.SignatureScope;
 import eu.europa.esig.dss.model.signature.SignaturePolicy;
 import eu.europa.esig.dss.model.signature.SignaturePolicyValidationResult;
 import eu.europa.esig.dss.spi.DSSSecurityProvider;
+import eu.europa.esig.dss.spi.ServiceLoaderUtils;
 import eu.europa.esig.dss.spi.client.http.NativeHTTPDataLoader;
 import eu.europa.esig.dss.spi.policy.DefaultSignaturePolicyValidatorLoader;
 import eu.europa.esig.dss.spi.policy.SignaturePolicyProvider;
@@ -65,7 +66,6 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
-import java.util.ServiceLoader;
 
 /**
  * This class contains a common code for processing of signed documents
@@ -172,9 +172,9 @@ public abstract class DefaultDocumentAnalyzer implements DocumentAnalyzer {
      */
     public static DocumentAnalyzer fromDocument(final DSSDocument dssDocument) {
         Objects.requireNonNull(dssDocument, "DSSDocument is null");
-        ServiceLoader<DocumentAnalyzerFactory> serviceLoaders = ServiceLoader.load(DocumentAnalyzerFactory.class);
-        for (DocumentAnalyzerFactory factory : serviceLoaders) {
-            if (factory.isSupported(dssDocument)) {
+        final DocumentFormat format = DocumentFormatDetector.detect(dssDocument);
+        for (DocumentAnalyzerFactory factory : ServiceLoaderUtils.getServices(DocumentAnalyzerFactory.class)) {
+            if (factory.isSupported(dssDocument, format)) {
                 return factory.create(dssDocument);
             }
         }
@@ -161,6 +161,18 @@ public interface DocumentAnalyzer {
      */
     boolean isSupported(DSSDocument dssDocument);
 
+    /**
+     * Checks if the document is supported by the current validator, using the {@code DocumentFormat}
+     * already detected for the document in order to avoid its re-reading when possible
+     *
+     * @param dssDocument {@link DSSDocument} to check
+     * @param format {@link DocumentFormat} detected by {@code DocumentFormatDetector} for the document
+     * @return TRUE if the document is supported, FALSE otherwise
+     */
+    default boolean isSupported(DSSDocument dssDocument, DocumentFormat format) {
+        return isSupported(dssDocument);
+    }
+
     /**
      * Set a certificate source which allows to find the signing certificate by kid
      * or certificate's digest
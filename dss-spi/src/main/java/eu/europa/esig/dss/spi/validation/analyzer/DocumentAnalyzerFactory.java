@@ -39,6 +39,20 @@ public interface DocumentAnalyzerFactory {
      */
     boolean isSupported(DSSDocument document);
 
+    /**
+     * This method tests if the current implementation of {@link DocumentAnalyzer}
+     * supports the given document, using the {@code DocumentFormat} already detected for the document
+     *
+     * @param document
+     *                 the document to be tested
+     * @param format
+     *                 {@link DocumentFormat} detected by {@code DocumentFormatDetector} for the document
+     * @return true, if the {@link DocumentAnalyzer} supports the given document
+     */
+    default boolean isSupported(DSSDocument document, DocumentFormat format) {
+        return isSupported(document);
+    }
+
     /**
      * This method instantiates a {@link DocumentAnalyzer} with the given document
      *
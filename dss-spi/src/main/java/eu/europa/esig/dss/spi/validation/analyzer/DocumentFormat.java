@@ -0,0 +1,62 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.validation.analyzer;
+
+/**
+ * Defines a format of a document, as detected by {@code DocumentFormatDetector} from the first bytes of the document.
+ * <p>
+ * NOTE: the detected format is only a hint allowing to skip the analyzers which are not relevant for the document.
+ * A document shall still be fully parsed in order to ensure its validity.
+ *
+ */
+public enum DocumentFormat {
+
+    /** A document starting with a PDF header ('%PDF-') */
+    PDF,
+
+    /** A document starting with a ZIP header ('PK') */
+    ZIP,
+
+    /** An XML document, which root element is not an 'EvidenceRecord' */
+    XML,
+
+    /** An XML document with an 'EvidenceRecord' root element */
+    XML_EVIDENCE_RECORD,
+
+    /** A document starting with a JSON object ('{') */
+    JSON,
+
+    /** An ASN.1 ContentInfo of a CMS SignedData, which encapsulated content is not a TSTInfo */
+    CMS,
+
+    /** An ASN.1 ContentInfo of a CMS SignedData with encapsulated TSTInfo */
+    TIMESTAMP,
+
+    /** An ASN.1 SEQUENCE starting with an INTEGER version, as an RFC 4998 EvidenceRecord */
+    ASN1_EVIDENCE_RECORD,
+
+    /** Another ASN.1 SEQUENCE (or the structure of the SEQUENCE cannot be determined from the first bytes) */
+    ASN1,
+
+    /** The format cannot be determined from the first bytes of the document */
+    UNKNOWN
+
+}
@@ -0,0 +1,312 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.validation.analyzer;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Detects a {@code DocumentFormat} of a document by reading its first bytes only once.
+ * The result is used to select the relevant {@code DocumentAnalyzer} implementation without a need
+ * to read or parse the document by each of the available analyzers.
+ *
+ */
+public final class DocumentFormatDetector {
+
+    /** The maximum number of bytes read from the beginning of a document */
+    private static final int SNIFF_SIZE = 4096;
+
+    /** The PDF header */
+    private static final byte[] PDF_PREAMBLE = new byte[] { '%', 'P', 'D', 'F', '-' };
+
+    /** The ZIP header */
+    private static final byte[] ZIP_PREAMBLE = new byte[] { 'P', 'K' };
+
+    /** The UTF-8 Byte Order Mark */
+    private static final byte[] UTF8_BOM = new byte[] { -17, -69, -65 };
+
+    /** DER encoding of id-signedData OID (1.2.840.113549.1.7.2) value */
+    private static final byte[] SIGNED_DATA_OID = new byte[] { 0x2A, (byte) 0x86, 0x48, (byte) 0x86, (byte) 0xF7, 0x0D, 0x01, 0x07, 0x02 };
+
+    /** DER encoding of id-ct-TSTInfo OID (1.2.840.113549.1.9.16.1.4) value */
+    private static final byte[] TST_INFO_OID = new byte[] { 0x2A, (byte) 0x86, 0x48, (byte) 0x86, (byte) 0xF7, 0x0D, 0x01, 0x09, 0x10, 0x01, 0x04 };
+
+    /** The local name of an XML Evidence Record root element */
+    private static final String EVIDENCE_RECORD_ELEMENT = "EvidenceRecord";
+
+    /** ASN.1 tags used for the detection */
+    private static final int INTEGER_TAG = 0x02;
+    private static final int OID_TAG = 0x06;
+    private static final int SEQUENCE_TAG = 0x30;
+    private static final int SET_TAG = 0x31;
+    private static final int CONTEXT_SPECIFIC_0_TAG = 0xA0;
+
+    /** The value returned by {@code readLength} for an indefinite length */
+    private static final int INDEFINITE_LENGTH = -1;
+
+    /** The value returned by {@code readLength} when the length cannot be decoded */
+    private static final int INVALID_LENGTH = -2;
+
+    private DocumentFormatDetector() {
+        // empty
+    }
+
+    /**
+     * Detects the format of the given {@code document} by reading its first bytes
+     *
+     * @param document {@link DSSDocument} to detect format for
+     * @return {@link DocumentFormat}
+     */
+    public static DocumentFormat detect(DSSDocument document) {
+        Objects.requireNonNull(document, "DSSDocument is null");
+        final byte[] buffer = new byte[SNIFF_SIZE];
+        int length = 0;
+        try (InputStream is = document.openStream()) {
+            int read;
+            while (length < buffer.length && (read = is.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+            }
+        } catch (IOException e) {
+            throw new DSSException(String.format("Unable to read the document with name '%s'. Reason : %s",
+                    document.getName(), e.getMessage()), e);
+        }
+        return detect(buffer, length);
+    }
+
+    /**
+     * Detects the format of a document from its first bytes
+     *
+     * @param bytes the first bytes of the document
+     * @return {@link DocumentFormat}
+     */
+    public static DocumentFormat detect(byte[] bytes) {
+        Objects.requireNonNull(bytes, "Bytes cannot be null");
+        return detect(bytes, bytes.length);
+    }
+
+    private static DocumentFormat detect(byte[] bytes, int length) {
+        if (length == 0) {
+            return DocumentFormat.UNKNOWN;
+        }
+        if (startsWith(bytes, length, 0, PDF_PREAMBLE)) {
+            return DocumentFormat.PDF;
+        }
+        if (startsWith(bytes, length, 0, ZIP_PREAMBLE)) {
+            return DocumentFormat.ZIP;
+        }
+        if (bytes[0] == '{') {
+            return DocumentFormat.JSON;
+        }
+        if (bytes[0] == '<') {
+            return detectXml(bytes, length, 0);
+        }
+        if (startsWith(bytes, length, 0, UTF8_BOM) && length > UTF8_BOM.length && bytes[UTF8_BOM.length] == '<') {
+            return detectXml(bytes, length, UTF8_BOM.length);
+        }
+        if ((bytes[0] & 0xFF) == SEQUENCE_TAG) {
+            return detectASN1(bytes, length);
+        }
+        return DocumentFormat.UNKNOWN;
+    }
+
+    private static DocumentFormat detectXml(byte[] bytes, int length, int offset) {
+        int i = offset;
+        while (i < length) {
+            final byte b = bytes[i];
+            if (isXmlWhitespace(b)) {
+                i++;
+            } else if (b != '<' || i + 1 >= length) {
+                return DocumentFormat.UNKNOWN;
+            } else if (bytes[i + 1] == '?') {
+                i = indexOf(bytes, length, i + 2, new byte[] { '?', '>' });
+            } else if (startsWith(bytes, length, i, new byte[] { '<', '!', '-', '-' })) {
+                i = indexOf(bytes, length, i + 4, new byte[] { '-', '-', '>' });
+            } else if (bytes[i + 1] == '!') {
+                // DOCTYPE declaration
+                return DocumentFormat.UNKNOWN;
+            } else {
+                return detectXmlRootElement(bytes, length, i + 1);
+            }
+            if (i < 0) {
+                return DocumentFormat.UNKNOWN;
+            }
+        }
+        return DocumentFormat.UNKNOWN;
+    }
+
+    private static DocumentFormat detectXmlRootElement(byte[] bytes, int length, int offset) {
+        int nameStart = offset;
+        int i = offset;
+        while (i < length) {
+            final byte b = bytes[i];
+            if (isXmlWhitespace(b) || b == '>' || b == '/') {
+                break;
+            } else if (b == ':') {
+                nameStart = i + 1;
+            }
+            i++;
+        }
+        if (i == length || i == nameStart) {
+            return DocumentFormat.UNKNOWN;
+        }
+        final String localName = new String(bytes, nameStart, i - nameStart, StandardCharsets.ISO_8859_1);
+        return EVIDENCE_RECORD_ELEMENT.equals(localName) ? DocumentFormat.XML_EVIDENCE_RECORD : DocumentFormat.XML;
+    }
+
+    private static DocumentFormat detectASN1(byte[] bytes, int length) {
+        // ContentInfo or EvidenceRecord SEQUENCE
+        int offset = skipHeader(bytes, length, 0, SEQUENCE_TAG);
+        if (offset < 0 || offset >= length) {
+            return DocumentFormat.ASN1;
+        }
+        final int tag = bytes[offset] & 0xFF;
+        if (INTEGER_TAG == tag) {
+            return DocumentFormat.ASN1_EVIDENCE_RECORD;
+        }
+        // contentType
+        if (!isOID(bytes, length, offset, SIGNED_DATA_OID)) {
+            return DocumentFormat.ASN1;
+        }
+        offset = skipElement(bytes, length, offset, OID_TAG);
+        // [0] content
+        offset = skipHeader(bytes, length, offset, CONTEXT_SPECIFIC_0_TAG);
+        // SignedData
+        offset = skipHeader(bytes, length, offset, SEQUENCE_TAG);
+        // version
+        offset = skipElement(bytes, length, offset, INTEGER_TAG);
+        // digestAlgorithms
+        offset = skipElement(bytes, length, offset, SET_TAG);
+        // encapContentInfo
+        offset = skipHeader(bytes, length, offset, SEQUENCE_TAG);
+        if (offset < 0) {
+            return DocumentFormat.ASN1;
+        }
+        if (isOID(bytes, length, offset, TST_INFO_OID)) {
+            return DocumentFormat.TIMESTAMP;
+        }
+        return skipElement(bytes, length, offset, OID_TAG) < 0 ? DocumentFormat.ASN1 : DocumentFormat.CMS;
+    }
+
+    /**
+     * Skips the tag and length octets of an element with the expected tag
+     *
+     * @return the offset of the element content, or a negative value if the element cannot be read
+     */
+    private static int skipHeader(byte[] bytes, int length, int offset, int expectedTag) {
+        if (offset < 0 || offset >= length || (bytes[offset] & 0xFF) != expectedTag) {
+            return -1;
+        }
+        final int contentLength = readLength(bytes, length, offset + 1);
+        if (contentLength == INVALID_LENGTH) {
+            return -1;
+        }
+        return offset + 1 + getLengthOctetsNumber(bytes[offset + 1]);
+    }
+
+    /**
+     * Skips a whole element with the expected tag and a definite length
+     *
+     * @return the offset following the element, or a negative value if the element cannot be skipped
+     */
+    private static int skipElement(byte[] bytes, int length, int offset, int expectedTag) {
+        final int contentOffset = skipHeader(bytes, length, offset, expectedTag);
+        if (contentOffset < 0) {
+            return -1;
+        }
+        final int contentLength = readLength(bytes, length, offset + 1);
+        if (contentLength < 0 || contentOffset + contentLength > length) {
+            return -1;
+        }
+        return contentOffset + contentLength;
+    }
+
+    private static boolean isOID(byte[] bytes, int length, int offset, byte[] oidValue) {
+        final int contentOffset = skipHeader(bytes, length, offset, OID_TAG);
+        if (contentOffset < 0) {
+            return false;
+        }
+        final int contentLength = readLength(bytes, length, offset + 1);
+        return contentLength == oidValue.length && contentOffset + contentLength <= length
+                && Arrays.equals(oidValue, Arrays.copyOfRange(bytes, contentOffset, contentOffset + contentLength));
+    }
+
+    private static int readLength(byte[] bytes, int length, int offset) {
+        if (offset >= length) {
+            return INVALID_LENGTH;
+        }
+        final int first = bytes[offset] & 0xFF;
+        if (first < 0x80) {
+            return first;
+        }
+        if (first == 0x80) {
+            return INDEFINITE_LENGTH;
+        }
+        final int octets = first & 0x7F;
+        if (octets > 4 || offset + octets >= length) {
+            return INVALID_LENGTH;
+        }
+        long value = 0;
+        for (int i = 1; i <= octets; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value > Integer.MAX_VALUE ? INVALID_LENGTH : (int) value;
+    }
+
+    private static int getLengthOctetsNumber(byte first) {
+        final int value = first & 0xFF;
+        return value < 0x80 ? 1 : 1 + (value & 0x7F);
+    }
+
+    private static boolean startsWith(byte[] bytes, int length, int offset, byte[] prefix) {
+        if (offset + prefix.length > length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the offset following the first occurrence of {@code sequence}, or -1 if not found
+     */
+    private static int indexOf(byte[] bytes, int length, int offset, byte[] sequence) {
+        for (int i = offset; i <= length - sequence.length; i++) {
+            if (startsWith(bytes, length, i, sequence)) {
+                return i + sequence.length;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isXmlWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+}
@@ -21,10 +21,12 @@
 package eu.europa.esig.dss.spi.validation.analyzer.evidencerecord;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.ServiceLoaderUtils;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzerFactory;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormatDetector;
 
 import java.util.Objects;
-import java.util.ServiceLoader;
 
 /**
  * This class is used to load a corresponding implementation of {@code EvidenceRecordAnalyzer}
@@ -62,9 +64,22 @@ public interface EvidenceRecordAnalyzerFactory extends DocumentAnalyzerFactory {
      */
     static boolean isSupportedDocument(DSSDocument document) {
         Objects.requireNonNull(document, "DSSDocument is null");
-        ServiceLoader<EvidenceRecordAnalyzerFactory> serviceLoaders = ServiceLoader.load(EvidenceRecordAnalyzerFactory.class);
-        for (EvidenceRecordAnalyzerFactory factory : serviceLoaders) {
-            if (factory.isSupported(document)) {
+        return isSupportedDocument(document, DocumentFormatDetector.detect(document));
+    }
+
+    /**
+     * Verifies if the {@code document} is supported by one of the implementations,
+     * across {@code EvidenceRecordValidatorFactory} instances found by ServiceLoader,
+     * using the {@code DocumentFormat} already detected for the document
+     *
+     * @param document {@link DSSDocument} to verify
+     * @param format {@link DocumentFormat} detected by {@code DocumentFormatDetector} for the document
+     * @return TRUE if the evidence record is supported by one of the found implementations, FALSE otherwise
+     */
+    static boolean isSupportedDocument(DSSDocument document, DocumentFormat format) {
+        Objects.requireNonNull(document, "DSSDocument is null");
+        for (EvidenceRecordAnalyzerFactory factory : ServiceLoaderUtils.getServices(EvidenceRecordAnalyzerFactory.class)) {
+            if (factory.isSupported(document, format)) {
                 return true;
             }
         }
@@ -81,9 +96,9 @@ public interface EvidenceRecordAnalyzerFactory extends DocumentAnalyzerFactory {
      */
     static EvidenceRecordAnalyzer fromDocument(DSSDocument document) throws UnsupportedOperationException {
         Objects.requireNonNull(document, "DSSDocument is null");
-        ServiceLoader<EvidenceRecordAnalyzerFactory> serviceLoaders = ServiceLoader.load(EvidenceRecordAnalyzerFactory.class);
-        for (EvidenceRecordAnalyzerFactory factory : serviceLoaders) {
-            if (factory.isSupported(document)) {
+        final DocumentFormat format = DocumentFormatDetector.detect(document);
+        for (EvidenceRecordAnalyzerFactory factory : ServiceLoaderUtils.getServices(EvidenceRecordAnalyzerFactory.class)) {
+            if (factory.isSupported(document, format)) {
                 return factory.create(document);
             }
         }
@@ -30,16 +30,18 @@ import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
 import java.security.PublicKey;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is the common class for all {@code CertificateSource}. It stores
@@ -57,16 +59,12 @@ public class CommonCertificateSource implements CertificateSource {
 	protected final transient CertificateTokenRefMatcher certificateMatcher = new CertificateTokenRefMatcher();
 
 	/**
-	 * Map of entries, the key is a hash of the public key.
-	 * All entries share the same key pair
+	 * The index of the stored certificates.
+	 * The index is replaced as a whole by a single volatile write on a bulk update, while single
+	 * additions and removals modify the published index under the source lock. The index maps are
+	 * concurrent, thus the read operations do not require a lock.
 	 */
-	private Map<EntityIdentifier, EquivalentCertificatesEntity> entriesByPublicKeyHash = new HashMap<>();
-
-	/**
-	 * Map of tokens, the key is the properties map of SubjectX500Principal
-	 * For a same SubjectX500Principal, different key pairs (and certificates) are possible
-	 */
-	private Map<Map<String, String>, Set<CertificateToken>> tokensBySubject = new HashMap<>();
+	private volatile CertificateIndex index = new CertificateIndex();
 
 	/**
 	 * The default constructor
@@ -91,25 +89,46 @@ public class CommonCertificateSource implements CertificateSource {
 			LOG.trace("Certificate to add: {} | {}", certificateToAdd.getIssuerX500Principal(), certificateToAdd.getSerialNumber());
 		}
 
-		synchronized (entriesByPublicKeyHash) {
-			final EntityIdentifier entityKey = certificateToAdd.getEntityKey();
-			EquivalentCertificatesEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
-			if (poolEntity == null) {
-				LOG.trace("Public key {} is not in the pool", entityKey);
-				poolEntity = new EquivalentCertificatesEntity(certificateToAdd);
-				entriesByPublicKeyHash.put(entityKey, poolEntity);
-			} else {
-				LOG.trace("Public key {} is already in the pool", entityKey);
-				poolEntity.addEquivalentCertificate(certificateToAdd);
-			}
+		synchronized (this) {
+			index.add(certificateToAdd);
 		}
 
-		synchronized (tokensBySubject) {
-			Map<String, String> propertiesMap = DSSASN1Utils.get(certificateToAdd.getSubject().getPrincipal());
-			tokensBySubject.computeIfAbsent(propertiesMap, k -> new HashSet<>()).add(certificateToAdd);
+		return certificateToAdd;
+	}
+
+	/**
+	 * Adds the given {@code certificates} to a not yet published {@code certificateIndex}
+	 *
+	 * @param certificateIndex {@link CertificateIndex} to fill
+	 * @param certificates a collection of {@link CertificateToken}s to be stored
+	 */
+	protected void fillIndex(final CertificateIndex certificateIndex, final Collection<CertificateToken> certificates) {
+		for (CertificateToken certificateToken : certificates) {
+			Objects.requireNonNull(certificateToken, "The certificate must be filled");
+			certificateIndex.add(certificateToken);
 		}
+	}
 
-		return certificateToAdd;
+	/**
+	 * Publishes the given {@code newIndex} at once, replacing the current content of the source.
+	 * The index shall be completely filled before the publication.
+	 *
+	 * @param newIndex {@link CertificateIndex} to be published
+	 */
+	protected void publishIndex(final CertificateIndex newIndex) {
+		Objects.requireNonNull(newIndex, "The certificate index must be filled");
+		synchronized (this) {
+			index = newIndex;
+		}
+	}
+
+	/**
+	 * Returns the currently published index of the certificate source
+	 *
+	 * @return {@link CertificateIndex}
+	 */
+	protected CertificateIndex getIndex() {
+		return index;
 	}
 
 	/**
@@ -124,35 +143,8 @@ public class CommonCertificateSource implements CertificateSource {
 			LOG.trace("Certificate to remove: {} | {}", certificateToRemove.getIssuerX500Principal(), certificateToRemove.getSerialNumber());
 		}
 
-		synchronized (entriesByPublicKeyHash) {
-			final EntityIdentifier entityKey = certificateToRemove.getEntityKey();
-			EquivalentCertificatesEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
-			if (poolEntity == null) {
-				LOG.trace("Public key {} is not in the pool", entityKey);
-			} else {
-				LOG.trace("Public key {} is in the pool", entityKey);
-				if (poolEntity.getEquivalentCertificates().size() == 1) {
-					LOG.trace("Remove the public key {} from the pool", entityKey);
-					entriesByPublicKeyHash.remove(entityKey);
-				} else {
-					LOG.trace("Remove the token {} from the pool", certificateToRemove.getAbbreviation());
-					poolEntity.removeEquivalentCertificate(certificateToRemove);
-				}
-			}
-		}
-
-		synchronized (tokensBySubject) {
-			final Map<String, String> propertiesMap = DSSASN1Utils.get(certificateToRemove.getSubject().getPrincipal());
-			Set<CertificateToken> certificateTokens = tokensBySubject.get(propertiesMap);
-			if (Utils.isCollectionEmpty(certificateTokens)) {
-				LOG.trace("Property map {} is not in the pool", propertiesMap);
-			} else {
-				if (certificateTokens.size() == 1) {
-					tokensBySubject.remove(propertiesMap);
-				} else {
-					certificateTokens.remove(certificateToRemove);
-				}
-			}
+		synchronized (this) {
+			index.remove(certificateToRemove);
 		}
 	}
 
@@ -160,16 +152,18 @@ public class CommonCertificateSource implements CertificateSource {
 	 * This method removes all certificates from the source
 	 */
 	protected void reset() {
-		entriesByPublicKeyHash = new HashMap<>();
-		tokensBySubject = new HashMap<>();
+		synchronized (this) {
+			index = new CertificateIndex();
+		}
 	}
 
 	@Override
 	public boolean isKnown(CertificateToken token) {
-		final EquivalentCertificatesEntity poolEntity = entriesByPublicKeyHash.get(token.getEntityKey());
+		final CertificateIndex currentIndex = index;
+		final EquivalentCertificatesEntity poolEntity = currentIndex.entriesByPublicKeyHash.get(token.getEntityKey());
 		if (poolEntity != null) {
 			Set<CertificateToken> certsByPublicKey = poolEntity.getEquivalentCertificates();
-			Set<CertificateToken> certsBySubject = getBySubject(token.getSubject());
+			Set<CertificateToken> certsBySubject = currentIndex.getBySubject(token.getSubject());
 			return Utils.containsAny(certsByPublicKey, certsBySubject);
 		}
 		return false;
@@ -183,7 +177,7 @@ public class CommonCertificateSource implements CertificateSource {
 	@Override
 	public List<CertificateToken> getCertificates() {
 		List<CertificateToken> allCertificates = new ArrayList<>();
-		for (EquivalentCertificatesEntity entity : entriesByPublicKeyHash.values()) {
+		for (EquivalentCertificatesEntity entity : index.entriesByPublicKeyHash.values()) {
 			allCertificates.addAll(entity.getEquivalentCertificates());
 		}
 		return Collections.unmodifiableList(allCertificates);
@@ -191,7 +185,7 @@ public class CommonCertificateSource implements CertificateSource {
 
 	@Override
 	public List<CertificateSourceEntity> getEntities() {
-		return new ArrayList<>(entriesByPublicKeyHash.values());
+		return new ArrayList<>(index.entriesByPublicKeyHash.values());
 	}
 
 	/**
@@ -203,7 +197,7 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public Set<CertificateToken> getByPublicKey(PublicKey publicKey) {
-		EquivalentCertificatesEntity entity = entriesByPublicKeyHash.get(new EntityIdentifier(publicKey));
+		EquivalentCertificatesEntity entity = index.entriesByPublicKeyHash.get(new EntityIdentifier(publicKey));
 		if (entity != null) {
 			return entity.getEquivalentCertificates();
 		} else {
@@ -220,7 +214,7 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public Set<CertificateToken> getBySki(byte[] ski) {
-		for (EquivalentCertificatesEntity entry : entriesByPublicKeyHash.values()) {
+		for (EquivalentCertificatesEntity entry : index.entriesByPublicKeyHash.values()) {
 			if (Arrays.equals(entry.getSki(), ski)) {
 				return entry.getEquivalentCertificates();
 			}
@@ -236,17 +230,13 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public Set<CertificateToken> getBySubject(X500PrincipalHelper subject) {
-		final Set<CertificateToken> tokensSet = tokensBySubject.get(DSSASN1Utils.get(subject.getPrincipal()));
-		if (tokensSet != null) {
-			return tokensSet;
-		}
-		return Collections.emptySet();
+		return index.getBySubject(subject);
 	}
 
 	@Override
 	public Set<CertificateToken> getBySignerIdentifier(SignerIdentifier signerIdentifier) {
 		Set<CertificateToken> result = new HashSet<>();
-		for (EquivalentCertificatesEntity entry : entriesByPublicKeyHash.values()) {
+		for (EquivalentCertificatesEntity entry : index.entriesByPublicKeyHash.values()) {
 			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
 				// run over all entries to compare with the SN too
 				if (signerIdentifier.isRelatedToCertificate(certificateToken)) {
@@ -260,7 +250,7 @@ public class CommonCertificateSource implements CertificateSource {
 	@Override
 	public Set<CertificateToken> getByCertificateDigest(Digest digest) {
 		Set<CertificateToken> result = new HashSet<>();
-		for (EquivalentCertificatesEntity entry : entriesByPublicKeyHash.values()) {
+		for (EquivalentCertificatesEntity entry : index.entriesByPublicKeyHash.values()) {
 			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
 				if (Arrays.equals(digest.getValue(), certificateToken.getDigest(digest.getAlgorithm()))) {
 					result.add(certificateToken);
@@ -273,7 +263,7 @@ public class CommonCertificateSource implements CertificateSource {
 	@Override
 	public Set<CertificateToken> findTokensFromCertRef(CertificateRef certificateRef) {
 		Set<CertificateToken> result = new HashSet<>();
-		for (EquivalentCertificatesEntity entry : entriesByPublicKeyHash.values()) {
+		for (EquivalentCertificatesEntity entry : index.entriesByPublicKeyHash.values()) {
 			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
 				if (doesCertificateReferenceMatch(certificateToken, certificateRef)) {
 					result.add(certificateToken);
@@ -310,7 +300,7 @@ public class CommonCertificateSource implements CertificateSource {
 	 * @return number of entities in this instance
 	 */
 	public int getNumberOfEntities() {
-		return entriesByPublicKeyHash.size();
+		return index.entriesByPublicKeyHash.size();
 	}
 
 	@Override
@@ -343,4 +333,102 @@ public class CommonCertificateSource implements CertificateSource {
 		return new HashSet<>(getEntities()).equals(new HashSet<>(certificateSource.getEntities()));
 	}
 
+	/**
+	 * Contains the maps used to retrieve the stored certificates.
+	 * The class may be extended in order to publish additional data together with the certificates.
+	 */
+	protected static class CertificateIndex implements Serializable {
+
+		private static final long serialVersionUID = 4512093286379846215L;
+
+		/**
+		 * Map of entries, the key is a hash of the public key.
+		 * All entries share the same key pair
+		 */
+		private final Map<EntityIdentifier, EquivalentCertificatesEntity> entriesByPublicKeyHash = new ConcurrentHashMap<>();
+
+		/**
+		 * Map of tokens, the key is the properties map of SubjectX500Principal
+		 * For a same SubjectX500Principal, different key pairs (and certificates) are possible
+		 */
+		private final Map<Map<String, String>, Set<CertificateToken>> tokensBySubject = new ConcurrentHashMap<>();
+
+		/**
+		 * Default constructor creating an empty index
+		 */
+		protected CertificateIndex() {
+			// empty
+		}
+
+		/**
+		 * Adds the certificate to the index. Shall be called within a synchronized block for a published index.
+		 *
+		 * @param certificateToAdd {@link CertificateToken} to add
+		 */
+		private void add(final CertificateToken certificateToAdd) {
+			final EntityIdentifier entityKey = certificateToAdd.getEntityKey();
+			EquivalentCertificatesEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
+			if (poolEntity == null) {
+				LOG.trace("Public key {} is not in the pool", entityKey);
+				poolEntity = new EquivalentCertificatesEntity(certificateToAdd);
+				entriesByPublicKeyHash.put(entityKey, poolEntity);
+			} else {
+				LOG.trace("Public key {} is already in the pool", entityKey);
+				poolEntity.addEquivalentCertificate(certificateToAdd);
+			}
+
+			Map<String, String> propertiesMap = DSSASN1Utils.get(certificateToAdd.getSubject().getPrincipal());
+			tokensBySubject.computeIfAbsent(propertiesMap, k -> ConcurrentHashMap.newKeySet()).add(certificateToAdd);
+		}
+
+		/**
+		 * Removes the certificate from the index. Shall be called within a synchronized block for a published index.
+		 *
+		 * @param certificateToRemove {@link CertificateToken} to remove
+		 */
+		private void remove(final CertificateToken certificateToRemove) {
+			final EntityIdentifier entityKey = certificateToRemove.getEntityKey();
+			EquivalentCertificatesEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
+			if (poolEntity == null) {
+				LOG.trace("Public key {} is not in the pool", entityKey);
+			} else {
+				LOG.trace("Public key {} is in the pool", entityKey);
+				if (poolEntity.getEquivalentCertificates().size() == 1) {
+					LOG.trace("Remove the public key {} from the pool", entityKey);
+					entriesByPublicKeyHash.remove(entityKey);
+				} else {
+					LOG.trace("Remove the token {} from the pool", certificateToRemove.getAbbreviation());
+					poolEntity.removeEquivalentCertificate(certificateToRemove);
+				}
+			}
+
+			final Map<String, String> propertiesMap = DSSASN1Utils.get(certificateToRemove.getSubject().getPrincipal());
+			Set<CertificateToken> certificateTokens = tokensBySubject.get(propertiesMap);
+			if (Utils.isCollectionEmpty(certificateTokens)) {
+				LOG.trace("Property map {} is not in the pool", propertiesMap);
+			} else {
+				if (certificateTokens.size() == 1) {
+					tokensBySubject.remove(propertiesMap);
+				} else {
+					certificateTokens.remove(certificateToRemove);
+				}
+			}
+		}
+
+		/**
+		 * Returns the Set of certificates with the same subjectDN
+		 *
+		 * @param subject the subject to match
+		 * @return a set of {@link CertificateToken}s
+		 */
+		private Set<CertificateToken> getBySubject(X500PrincipalHelper subject) {
+			final Set<CertificateToken> tokensSet = tokensBySubject.get(DSSASN1Utils.get(subject.getPrincipal()));
+			if (tokensSet != null) {
+				return tokensSet;
+			}
+			return Collections.emptySet();
+		}
+
+	}
+
 }
\ No newline at end of file
@@ -28,8 +28,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class re-groups equivalent certificates.
@@ -56,7 +56,7 @@ class EquivalentCertificatesEntity implements CertificateSourceEntity {
 	/**
 	 * Equivalent certificates (which have the same public key)
 	 */
-	private final Set<CertificateToken> equivalentCertificates = new HashSet<>();
+	private final Set<CertificateToken> equivalentCertificates = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * Default constructor
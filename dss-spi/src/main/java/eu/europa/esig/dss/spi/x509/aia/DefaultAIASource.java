@@ -26,6 +26,7 @@ import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.NativeHTTPDataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
+import eu.europa.esig.dss.spi.client.http.RequestCoalescer;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
@@ -63,6 +64,11 @@ public class DefaultAIASource implements AIASource {
      */
     private Collection<Protocol> acceptedProtocols = Arrays.asList(Protocol.values());
 
+    /**
+     * Coalesces concurrent downloads from the same CA issuers URL
+     */
+    private final RequestCoalescer<String, byte[]> requestCoalescer = new RequestCoalescer<>();
+
     /**
      * Empty constructor.
      * Instantiates a {@code NativeHTTPDataLoader} as a default data loader
@@ -102,6 +108,15 @@ public class DefaultAIASource implements AIASource {
         this.acceptedProtocols = acceptedProtocols;
     }
 
+    /**
+     * Returns the coalescer of concurrent CA issuers requests, providing the number of executed and coalesced requests
+     *
+     * @return {@link RequestCoalescer}
+     */
+    public RequestCoalescer<String, byte[]> getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
     @Override
     public Set<CertificateToken> getCertificatesByAIA(final CertificateToken certificateToken) {
         Objects.requireNonNull(certificateToken, "CertificateToken cannot be null!");
@@ -115,7 +130,7 @@ public class DefaultAIASource implements AIASource {
             }
 
             try {
-                byte[] bytes = executeCAIssuersRequest(caIssuersUrl);
+                byte[] bytes = requestCoalescer.execute(caIssuersUrl, () -> executeCAIssuersRequest(caIssuersUrl));
 
                 try (InputStream is = new ByteArrayInputStream(bytes)) {
                     List<CertificateToken> loadedCertificates = DSSUtils.loadCertificateFromP7c(is);
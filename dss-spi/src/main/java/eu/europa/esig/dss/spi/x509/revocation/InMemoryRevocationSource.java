@@ -0,0 +1,305 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ *
+ * This file is part of the "DSS - Digital Signature Services" project.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Abstract class storing the obtained revocation tokens within the memory of the current process.
+ * The cache is bounded by the total size of the encoded revocation data. When the limit is reached,
+ * the entries which cannot be reused anymore (with respect of nextUpdate, defaultNextUpdateDelay and
+ * maxNextUpdateDelay values) are evicted first, then the least recently used ones.
+ * <p>
+ * The source can be used as a first-level cache in front of another {@code RepositoryRevocationSource}
+ * (e.g. a JDBC cache), by defining the latter as a proxied source.
+ *
+ * @param <R> {@code CRL} or {@code OCSP}
+ */
+public abstract class InMemoryRevocationSource<R extends Revocation> extends RepositoryRevocationSource<R> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(InMemoryRevocationSource.class);
+
+	private static final long serialVersionUID = -2925383283452371526L;
+
+	/**
+	 * The default maximum size of the cache in bytes (100 MB)
+	 */
+	private static final long DEFAULT_MAX_SIZE = 100L * 1024 * 1024;
+
+	/**
+	 * Map between revocation keys and the cached revocation tokens, ordered by the last access
+	 */
+	private final Map<String, CachedRevocation<R>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The maximum size of the cache in bytes
+	 */
+	private long maxSize = DEFAULT_MAX_SIZE;
+
+	/**
+	 * The current size of the cache in bytes
+	 */
+	private long currentSize = 0;
+
+	/**
+	 * Number of successful cache lookups
+	 */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/**
+	 * Number of unsuccessful cache lookups
+	 */
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * Number of entries removed from the cache (expired or evicted due to the size limit)
+	 */
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	/**
+	 * Default constructor instantiating object with null values
+	 */
+	protected InMemoryRevocationSource() {
+		// empty
+	}
+
+	/**
+	 * Sets the maximum size of the cache in bytes, computed as a sum of binary lengths of the cached revocation data.
+	 * <p>
+	 * Default : 100 MB
+	 *
+	 * @param maxSize the maximum size in bytes
+	 */
+	public void setMaxSize(long maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size of the cache cannot be negative!");
+		}
+		synchronized (cache) {
+			this.maxSize = maxSize;
+			ensureSize(0);
+		}
+	}
+
+	/**
+	 * Builds a new revocation token for the given certificate from the cached revocation token
+	 *
+	 * @param cachedToken            {@link RevocationToken} stored within the cache
+	 * @param certificateToken       {@link CertificateToken} to get revocation token for
+	 * @param issuerCertificateToken {@link CertificateToken} issuer of the {@code certificateToken}
+	 * @return {@link RevocationToken}
+	 */
+	protected abstract RevocationToken<R> buildRevocationTokenFromCache(RevocationToken<R> cachedToken,
+			CertificateToken certificateToken, CertificateToken issuerCertificateToken);
+
+	@Override
+	protected List<RevocationToken<R>> findRevocations(final String key, final CertificateToken certificateToken,
+													   final CertificateToken issuerCertificateToken) {
+		final CachedRevocation<R> cachedRevocation;
+		synchronized (cache) {
+			cachedRevocation = cache.get(key);
+		}
+		if (cachedRevocation == null) {
+			missCount.incrementAndGet();
+			return Collections.emptyList();
+		}
+		hitCount.incrementAndGet();
+		return Collections.singletonList(buildRevocationTokenFromCache(cachedRevocation.revocationToken,
+				certificateToken, issuerCertificateToken));
+	}
+
+	@Override
+	protected void insertRevocation(final String revocationKey, final RevocationToken<R> token) {
+		final long size = token.getEncodedLength();
+		synchronized (cache) {
+			removeEntry(revocationKey);
+			if (size > maxSize) {
+				LOG.warn("The revocation token with Id '{}' of size {} bytes exceeds the maximum size of the cache. " +
+						"The token will not be cached.", token.getDSSIdAsString(), size);
+				return;
+			}
+			ensureSize(size);
+			cache.put(revocationKey, new CachedRevocation<>(token, size));
+			currentSize += size;
+		}
+	}
+
+	@Override
+	protected void updateRevocation(final String revocationKey, final RevocationToken<R> token) {
+		insertRevocation(revocationKey, token);
+	}
+
+	@Override
+	protected void removeRevocation(final String revocationKey) {
+		synchronized (cache) {
+			if (removeEntry(revocationKey)) {
+				evictionCount.incrementAndGet();
+			}
+		}
+	}
+
+	private boolean removeEntry(String revocationKey) {
+		final CachedRevocation<R> removed = cache.remove(revocationKey);
+		if (removed != null) {
+			currentSize -= removed.size;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Evicts the entries from the cache in order to store a new entry of the given {@code size}.
+	 * Shall be called within the synchronized block.
+	 *
+	 * @param size of the entry to be stored
+	 */
+	private void ensureSize(long size) {
+		if (currentSize + size <= maxSize) {
+			return;
+		}
+
+		// evict the entries which cannot be reused first
+		final Date currentTime = new Date();
+		Iterator<CachedRevocation<R>> iterator = cache.values().iterator();
+		while (iterator.hasNext() && currentSize + size > maxSize) {
+			final CachedRevocation<R> cachedRevocation = iterator.next();
+			final Date nextUpdate = getCacheNextUpdate(cachedRevocation.revocationToken);
+			if (nextUpdate == null || !nextUpdate.after(currentTime)) {
+				evict(iterator, cachedRevocation);
+			}
+		}
+
+		// evict the least recently used entries
+		iterator = cache.values().iterator();
+		while (iterator.hasNext() && currentSize + size > maxSize) {
+			evict(iterator, iterator.next());
+		}
+	}
+
+	private void evict(Iterator<CachedRevocation<R>> iterator, CachedRevocation<R> cachedRevocation) {
+		iterator.remove();
+		currentSize -= cachedRevocation.size;
+		evictionCount.incrementAndGet();
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Revocation token with Id '{}' has been evicted from the cache",
+					cachedRevocation.revocationToken.getDSSIdAsString());
+		}
+	}
+
+	/**
+	 * Removes all entries from the cache
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+			currentSize = 0;
+		}
+	}
+
+	/**
+	 * Returns the number of revocation entries present in the cache
+	 *
+	 * @return number of cached entries
+	 */
+	public int getNumberOfEntries() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Returns the current size of the cache in bytes
+	 *
+	 * @return current size in bytes
+	 */
+	public long getCurrentSize() {
+		synchronized (cache) {
+			return currentSize;
+		}
+	}
+
+	/**
+	 * Returns the number of lookups for which a revocation entry has been found in the cache
+	 *
+	 * @return number of cache hits
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of lookups for which a revocation entry has not been found in the cache
+	 *
+	 * @return number of cache misses
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Returns the number of entries removed from the cache, because of their expiration or the size limit
+	 *
+	 * @return number of evicted entries
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * Represents a cached revocation entry
+	 *
+	 * @param <R> {@code CRL} or {@code OCSP}
+	 */
+	private static class CachedRevocation<R extends Revocation> implements Serializable {
+
+		private static final long serialVersionUID = 1618390470640287384L;
+
+		/** The cached revocation token */
+		private final RevocationToken<R> revocationToken;
+
+		/** Size of the revocation token in bytes */
+		private final long size;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param revocationToken {@link RevocationToken}
+		 * @param size of the revocation token binaries
+		 */
+		private CachedRevocation(RevocationToken<R> revocationToken, long size) {
+			this.revocationToken = revocationToken;
+			this.size = size;
+		}
+
+	}
+
+}
@@ -22,6 +22,7 @@ package eu.europa.esig.dss.spi.x509.revocation;
 
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.spi.client.http.RequestCoalescer;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +33,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -66,6 +68,11 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
      */
     private boolean removeExpired = true;
 
+    /**
+     * Coalesces concurrent retrievals of the same revocation data from the proxied source
+     */
+    private final RequestCoalescer<String, RevocationToken<R>> requestCoalescer = new RequestCoalescer<>();
+
     /**
      * Default constructor instantiating object with null values
      */
@@ -168,6 +175,16 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         this.removeExpired = removeExpired;
     }
 
+    /**
+     * Returns the coalescer of concurrent requests to the proxied source,
+     * providing the number of executed and coalesced requests
+     *
+     * @return {@link RequestCoalescer}
+     */
+    public RequestCoalescer<String, RevocationToken<R>> getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
     @Override
     public RevocationToken<R> getRevocationToken(final CertificateToken certificateToken, final CertificateToken issuerCertificateToken) {
         return getRevocationToken(certificateToken, issuerCertificateToken, false);
@@ -306,7 +323,37 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
             return null;
         }
 
+        final List<String> revocationKeys = initRevocationTokenKeys(certificateToken);
+        if (Utils.isCollectionEmpty(revocationKeys)) {
+            return extractAndInsertRevocationToken(certificateToken, issuerCertificateToken, keys);
+        }
 
+        // concurrent calls for the same revocation data (e.g. the same CRL) are executed only once
+        final String requestKey = issuerCertificateToken.getDSSIdAsString() + "|" +
+                revocationKeys.stream().sorted().collect(Collectors.joining("|"));
+        final AtomicBoolean executed = new AtomicBoolean(false);
+        final RevocationToken<R> revocationToken = requestCoalescer.execute(requestKey, () -> {
+            executed.set(true);
+            return extractAndInsertRevocationToken(certificateToken, issuerCertificateToken, keys);
+        });
+        if (executed.get() || revocationToken == null ||
+                certificateToken.getDSSIdAsString().equals(revocationToken.getRelatedCertificateId())) {
+            return revocationToken;
+        }
+
+        // the concurrent call has been executed for another certificate, the revocation data is read from the cache
+        final Map<String, List<RevocationToken<R>>> cachedRevocationTokensMap =
+                extractRevocationFromCacheSource(certificateToken, issuerCertificateToken, revocationKeys);
+        if (Utils.isMapNotEmpty(cachedRevocationTokensMap)) {
+            return getLatestRevocationData(cachedRevocationTokensMap.values().stream()
+                    .flatMap(Collection::stream).collect(Collectors.toList()));
+        }
+        return extractAndInsertRevocationToken(certificateToken, issuerCertificateToken, keys);
+    }
+
+    private RevocationToken<R> extractAndInsertRevocationToken(
+            final CertificateToken certificateToken, final CertificateToken issuerCertificateToken,
+            final Collection<String> keys) {
         RevocationToken<R> revocationToken =
                 proxiedSource.getRevocationToken(certificateToken, issuerCertificateToken);
         if (revocationToken != null) {
@@ -386,8 +433,7 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
     protected boolean isNotExpired(RevocationToken<R> revocationToken, CertificateToken certificateTokenIssuer) {
         Date validationDate = new Date();
 
-        Date nextUpdate = revocationToken.getNextUpdate();
-        if (nextUpdate == null) {
+        if (revocationToken.getNextUpdate() == null) {
             // check the validity of the issuer certificate
             CertificateToken revocationIssuer = revocationToken.getIssuerCertificateToken();
             if (revocationIssuer == null) {
@@ -399,21 +445,34 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         }
 
         // check the validity of the revocation token itself
+        final Date nextUpdate = getCacheNextUpdate(revocationToken);
+        if (nextUpdate != null) {
+            return nextUpdate.after(validationDate);
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the time until which the revocation token may be used from the cache, computed with respect of
+     * nextUpdateDelay and maxNexUpdateDelay parameters.
+     *
+     * @param revocationToken {@code CRLToken} or {@code OCSPToken}
+     * @return {@link Date} cache nextUpdate time, null if the token cannot be reused from the cache
+     */
+    protected Date getCacheNextUpdate(RevocationToken<R> revocationToken) {
+        Date nextUpdate = revocationToken.getNextUpdate();
         final Date thisUpdate = revocationToken.getThisUpdate();
         if (nextUpdate == null && defaultNextUpdateDelay != null && thisUpdate != null) {
             nextUpdate = new Date(thisUpdate.getTime() + defaultNextUpdateDelay);
         }
-        if (nextUpdate != null) {
-            if (maxNextUpdateDelay != null && thisUpdate != null) {
-                Date maxNextUpdate = new Date(thisUpdate.getTime() + maxNextUpdateDelay);
-                if (nextUpdate.after(maxNextUpdate)) {
-                    nextUpdate = maxNextUpdate;
-                }
+        if (nextUpdate != null && maxNextUpdateDelay != null && thisUpdate != null) {
+            Date maxNextUpdate = new Date(thisUpdate.getTime() + maxNextUpdateDelay);
+            if (nextUpdate.after(maxNextUpdate)) {
+                nextUpdate = maxNextUpdate;
             }
-            return nextUpdate.after(validationDate);
         }
-
-        return false;
+        return nextUpdate;
     }
 
 }
@@ -119,6 +119,15 @@ public abstract class RevocationToken<R extends Revocation> extends Token {
 	 */
 	public abstract RevocationType getRevocationType();
 
+	/**
+	 * Returns the length of the encoded revocation data in bytes
+	 *
+	 * @return the encoded binaries length
+	 */
+	public long getEncodedLength() {
+		return getEncoded().length;
+	}
+
 	/**
 	 * Returns a certificate token the current revocation data has been issued for
 	 *
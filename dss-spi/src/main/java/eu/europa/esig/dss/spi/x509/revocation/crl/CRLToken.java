@@ -163,11 +163,22 @@ public class CRLToken extends RevocationToken<CRL> {
 		return crlValidity.getIssuerToken();
 	}
 
+	/**
+	 * Returns the DER encoded CRL binaries.
+	 * NOTE: the whole CRL is loaded into memory. Use {@code #getCRLStream} in order to process the CRL as a stream.
+	 *
+	 * @return DER encoded binaries
+	 */
 	@Override
 	public byte[] getEncoded() {
 		return crlValidity.getDerEncoded();
 	}
 
+	@Override
+	public long getEncodedLength() {
+		return crlValidity.getCrlBinary().getLength();
+	}
+
 	/**
 	 * Opens InputStream of the CRL binaries
 	 *
@@ -0,0 +1,49 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation.ocsp;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This interface represents an {@code OCSPSource} able to retrieve revocation data for several certificates
+ * issued by the same certification authority within a single OCSP request (see RFC 6960, 4.1.1 "requestList").
+ *
+ */
+public interface MultiCertificateOCSPSource extends OCSPSource {
+
+	/**
+	 * Gets {@code OCSPToken}s for the given certificates issued by {@code issuerCertificateToken}.
+	 * The certificates sharing the same OCSP responder are requested together.
+	 * A certificate is absent from the returned map when no valid response has been obtained for it.
+	 *
+	 * @param certificateTokens
+	 *                               a list of {@code CertificateToken}s for which the request is made
+	 * @param issuerCertificateToken
+	 *                               The {@code CertificateToken} which is the issuer of the certificateTokens
+	 * @return a map between the {@code CertificateToken}s and the obtained {@code OCSPToken}s
+	 */
+	Map<CertificateToken, OCSPToken> getRevocationTokens(List<CertificateToken> certificateTokens,
+														 CertificateToken issuerCertificateToken);
+
+}
@@ -380,7 +380,7 @@ public class TimestampToken extends Token {
 	}
 	
 	@Override
-	public synchronized boolean isSignedBy(final PublicKey publicKey) {
+	public boolean isSignedBy(final PublicKey publicKey) {
 		throw new UnsupportedOperationException("Use method isSignedBy(certificateToken) for a TimestampToken validation!");
 	}
 
@@ -50,6 +50,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CertificateExtensionUtilsTest {
@@ -178,6 +179,18 @@ class CertificateExtensionUtilsTest {
         assertFalse(extendedKeyUsage.getOids().contains(ExtendedKeyUsage.OCSP_SIGNING.getOid()));
     }
 
+    @Test
+    void getExtendedKeyUsageNotPresent() throws Exception {
+        CertificateToken certificate = DSSUtils.loadCertificateFromBase64EncodedString(
+                "MIICaDCCAdSgAwIBAgIDDIOqMAoGBiskAwMBAgUAMG8xCzAJBgNVBAYTAkRFMT0wOwYDVQQKFDRSZWd1bGllcnVuZ3NiZWjIb3JkZSBmyHVyIFRlbGVrb21tdW5pa2F0aW9uIHVuZCBQb3N0MSEwDAYHAoIGAQoHFBMBMTARBgNVBAMUCjVSLUNBIDE6UE4wIhgPMjAwMDAzMjIwODU1NTFaGA8yMDA1MDMyMjA4NTU1MVowbzELMAkGA1UEBhMCREUxPTA7BgNVBAoUNFJlZ3VsaWVydW5nc2JlaMhvcmRlIGbIdXIgVGVsZWtvbW11bmlrYXRpb24gdW5kIFBvc3QxITAMBgcCggYBCgcUEwExMBEGA1UEAxQKNVItQ0EgMTpQTjCBoTANBgkqhkiG9w0BAQEFAAOBjwAwgYsCgYEAih5BUycfBpqKhU8RDsaSvV5AtzWeXQRColL9CH3t0DKnhjKAlJ8iccFtJNv+d3bh8bb9sh0maRSo647xP7hsHTjKgTE4zM5BYNfXvST79OtcMgAzrnDiGjQIIWv8xbfV1MqxxdtZJygrwzRMb9jGCAGoJEymoyzAMNG7tSdBWnUCBQDAAAABoxIwEDAOBgNVHQ8BAf8EBAMCAQYwCgYGKyQDAwECBQADgYEAOaK8ihVSBUcL2IdVBxZYYUKwMz5m7H3zqhN8W9w+iafWudH6b+aahkbENEwzg3C3v5g8nze7v7ssacQze657LHjP+e7ksUDIgcS4R1pU2eN16bjSP/qGPF3rhrIEHoK5nJULkjkZYTtNiOvmQ/+G70TXDi3Os/TwLlWRvu+7YLM=");
+        assertNull(certificate.getCertificate().getExtendedKeyUsage());
+
+        ExtendedKeyUsages extendedKeyUsage = CertificateExtensionsUtils.getExtendedKeyUsage(certificate);
+        assertNotNull(extendedKeyUsage);
+        assertTrue(Utils.isCollectionEmpty(extendedKeyUsage.getOids()));
+        assertNull(CertificateExtensionsUtils.getCertificateExtensions(certificate).getExtendedKeyUsage());
+    }
+
     @Test
     void hasIdPkixOcspNoCheckExtension() {
         assertTrue(CertificateExtensionsUtils.hasOcspNoCheckExtension(certificateOCSP));
@@ -504,4 +517,17 @@ class CertificateExtensionUtilsTest {
         assertEquals("#0000000000000000000000000000000000000000000000000000000000000000", subtree.getValue());
     }
 
+    @Test
+    void certificateExtensionsAreCached() {
+        CertificateExtensions certificateExtensions = CertificateExtensionsUtils.getCertificateExtensions(certificateWithAIA);
+        assertNotNull(certificateExtensions);
+        assertSame(certificateExtensions, CertificateExtensionsUtils.getCertificateExtensions(certificateWithAIA));
+        assertSame(certificateExtensions, certificateWithAIA.getCertificateExtensions());
+        assertSame(certificateExtensions.getAuthorityInformationAccess(), CertificateExtensionsUtils.getAuthorityInformationAccess(certificateWithAIA));
+
+        CertificateToken sameCertificate = DSSUtils.loadCertificate(certificateWithAIA.getEncoded());
+        assertNull(sameCertificate.getCertificateExtensions());
+        assertSame(certificateExtensions, CertificateExtensionsUtils.getCertificateExtensions(sameCertificate));
+    }
+
 }
@@ -0,0 +1,71 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi;
+
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ServiceLoaderUtilsTest {
+
+	@AfterEach
+	void clear() {
+		ServiceLoaderUtils.clear();
+	}
+
+	@Test
+	void cachedWithDSSClassLoaderTest() {
+		List<DocumentAnalyzerFactory> services = ServiceLoaderUtils.getServices(DocumentAnalyzerFactory.class);
+		assertSame(services, ServiceLoaderUtils.getServices(DocumentAnalyzerFactory.class));
+
+		ServiceLoaderUtils.clear();
+		assertNotSame(services, ServiceLoaderUtils.getServices(DocumentAnalyzerFactory.class));
+	}
+
+	@Test
+	void notCachedWithAnotherContextClassLoaderTest() throws Exception {
+		List<DocumentAnalyzerFactory> services = ServiceLoaderUtils.getServices(DocumentAnalyzerFactory.class);
+
+		final Thread thread = Thread.currentThread();
+		final ClassLoader originalClassLoader = thread.getContextClassLoader();
+		try (URLClassLoader applicationClassLoader = new URLClassLoader(new URL[0], originalClassLoader)) {
+			thread.setContextClassLoader(applicationClassLoader);
+
+			List<DocumentAnalyzerFactory> applicationServices = ServiceLoaderUtils.getServices(DocumentAnalyzerFactory.class);
+			assertEquals(services.size(), applicationServices.size());
+			assertNotSame(applicationServices, ServiceLoaderUtils.getServices(DocumentAnalyzerFactory.class));
+
+		} finally {
+			thread.setContextClassLoader(originalClassLoader);
+		}
+
+		assertSame(services, ServiceLoaderUtils.getServices(DocumentAnalyzerFactory.class));
+	}
+
+}
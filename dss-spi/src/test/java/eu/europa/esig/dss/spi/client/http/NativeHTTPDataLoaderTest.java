@@ -20,7 +20,10 @@
  */
 package eu.europa.esig.dss.spi.client.http;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSUtils;
 import org.junit.jupiter.api.Test;
@@ -32,9 +35,11 @@ import java.net.URLConnection;
 import java.time.Duration;
 import java.util.concurrent.Callable;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NativeHTTPDataLoaderTest {
 
@@ -76,6 +81,30 @@ class NativeHTTPDataLoaderTest {
 		assertThrows(DSSException.class, () -> dataLoader.get(FILE_URL_TO_LOAD));
 	}
 
+	@Test
+	void testFileGetDocument() {
+		NativeHTTPDataLoader dataLoader = new NativeHTTPDataLoader();
+		DSSDocument document = dataLoader.getDocument(FILE_URL_TO_LOAD);
+		assertTrue(document instanceof InMemoryDocument);
+		assertArrayEquals(dataLoader.get(FILE_URL_TO_LOAD), DSSUtils.toByteArray(document));
+
+		SpillToDiskDocumentBuilder documentBuilder = new SpillToDiskDocumentBuilder();
+		documentBuilder.setInMemoryThreshold(100);
+		dataLoader.setDocumentBuilder(documentBuilder);
+		document = dataLoader.getDocument(FILE_URL_TO_LOAD);
+		assertTrue(document instanceof FileDocument);
+
+		CertificateToken certificate = DSSUtils.loadCertificate(DSSUtils.toByteArray(document));
+		assertNotNull(certificate);
+	}
+
+	@Test
+	void testGetDocumentBiggerThanMaxSize() {
+		NativeHTTPDataLoader dataLoader = new NativeHTTPDataLoader();
+		dataLoader.setMaxInputSize(1);
+		assertThrows(DSSException.class, () -> dataLoader.getDocument(FILE_URL_TO_LOAD));
+	}
+
 	@Test
 	void testConnectTimeout() {
 		NativeHTTPDataLoader dataLoader = new NativeHTTPDataLoader();
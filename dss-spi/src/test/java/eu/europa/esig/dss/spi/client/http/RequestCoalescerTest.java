@@ -0,0 +1,127 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestCoalescerTest {
+
+	@Test
+	void sequentialCallsTest() {
+		RequestCoalescer<String, Integer> requestCoalescer = new RequestCoalescer<>();
+		AtomicInteger counter = new AtomicInteger();
+		assertEquals(1, requestCoalescer.execute("key", counter::incrementAndGet));
+		assertEquals(2, requestCoalescer.execute("key", counter::incrementAndGet));
+		assertEquals(2, requestCoalescer.getExecutedRequests());
+		assertEquals(0, requestCoalescer.getCoalescedRequests());
+	}
+
+	@Test
+	void concurrentCallsTest() throws Exception {
+		RequestCoalescer<String, Integer> requestCoalescer = new RequestCoalescer<>();
+		AtomicInteger counter = new AtomicInteger();
+		CountDownLatch releaseLatch = new CountDownLatch(1);
+
+		int nbThreads = 5;
+		ExecutorService executorService = Executors.newFixedThreadPool(nbThreads);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < nbThreads; i++) {
+				futures.add(executorService.submit(() -> requestCoalescer.execute("key", () -> {
+					awaitQuietly(releaseLatch);
+					return counter.incrementAndGet();
+				})));
+			}
+			waitForCoalescedRequests(requestCoalescer, nbThreads - 1);
+			releaseLatch.countDown();
+
+			for (Future<Integer> future : futures) {
+				assertEquals(1, future.get(10, TimeUnit.SECONDS));
+			}
+			assertEquals(1, counter.get());
+			assertEquals(1, requestCoalescer.getExecutedRequests());
+			assertEquals(nbThreads - 1, requestCoalescer.getCoalescedRequests());
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	void concurrentFailureTest() throws Exception {
+		RequestCoalescer<String, Integer> requestCoalescer = new RequestCoalescer<>();
+		CountDownLatch releaseLatch = new CountDownLatch(1);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < 2; i++) {
+				futures.add(executorService.submit(() -> requestCoalescer.execute("key", () -> {
+					awaitQuietly(releaseLatch);
+					throw new DSSExternalResourceException("Unable to retrieve data");
+				})));
+			}
+			waitForCoalescedRequests(requestCoalescer, 1);
+			releaseLatch.countDown();
+
+			for (Future<Integer> future : futures) {
+				ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+				assertTrue(exception.getCause() instanceof DSSExternalResourceException);
+			}
+			assertEquals(1, requestCoalescer.getExecutedRequests());
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	private void waitForCoalescedRequests(RequestCoalescer<?, ?> requestCoalescer, long expected) throws InterruptedException {
+		long end = System.currentTimeMillis() + 10000;
+		while (requestCoalescer.getCoalescedRequests() < expected && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertEquals(expected, requestCoalescer.getCoalescedRequests());
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,112 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillToDiskDocumentBuilderTest {
+
+	@Test
+	void inMemoryTest() throws Exception {
+		byte[] content = new byte[1000];
+		SpillToDiskDocumentBuilder documentBuilder = new SpillToDiskDocumentBuilder();
+		documentBuilder.setInMemoryThreshold(1000);
+		DSSDocument document = documentBuilder.build(new ByteArrayInputStream(content));
+		assertTrue(document instanceof InMemoryDocument);
+		assertArrayEquals(content, DSSUtils.toByteArray(document));
+	}
+
+	@Test
+	void spillToDiskTest(@TempDir Path tempDir) throws Exception {
+		byte[] content = new byte[20000];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+		SpillToDiskDocumentBuilder documentBuilder = new SpillToDiskDocumentBuilder();
+		documentBuilder.setInMemoryThreshold(1000);
+		documentBuilder.setTempFileDirectory(tempDir.toFile());
+		DSSDocument document = documentBuilder.build(new ByteArrayInputStream(content));
+		assertTrue(document instanceof FileDocument);
+		assertArrayEquals(content, DSSUtils.toByteArray(document));
+
+		File[] files = tempDir.toFile().listFiles();
+		assertEquals(1, files.length);
+		assertEquals(content.length, files[0].length());
+	}
+
+	@Test
+	void deleteSpilledFileTest(@TempDir Path tempDir) throws Exception {
+		SpillToDiskDocumentBuilder documentBuilder = new SpillToDiskDocumentBuilder();
+		documentBuilder.setInMemoryThreshold(1000);
+		documentBuilder.setTempFileDirectory(tempDir.toFile());
+		DSSDocument document = documentBuilder.build(new ByteArrayInputStream(new byte[2000]));
+		File file = ((FileDocument) document).getFile();
+		assertTrue(file.exists());
+
+		assertTrue(SpilledFilesCleaner.getInstance().delete(document));
+		assertFalse(file.exists());
+		assertFalse(SpilledFilesCleaner.getInstance().delete(document));
+
+		// not a spilled document
+		assertFalse(SpilledFilesCleaner.getInstance().delete(documentBuilder.build(new ByteArrayInputStream(new byte[10]))));
+	}
+
+	@Test
+	void deleteCollectedDocumentFileTest(@TempDir Path tempDir) throws Exception {
+		SpillToDiskDocumentBuilder documentBuilder = new SpillToDiskDocumentBuilder();
+		documentBuilder.setInMemoryThreshold(1000);
+		documentBuilder.setTempFileDirectory(tempDir.toFile());
+		File file = ((FileDocument) documentBuilder.build(new ByteArrayInputStream(new byte[2000]))).getFile();
+		assertTrue(file.exists());
+
+		// the document is not referenced anymore
+		for (int i = 0; i < 50 && file.exists(); i++) {
+			System.gc();
+			Thread.sleep(20);
+			SpilledFilesCleaner.getInstance().cleanUp();
+		}
+		assertFalse(file.exists());
+	}
+
+	@Test
+	void memoryDataLoaderTest() {
+		MemoryDataLoader dataLoader = new MemoryDataLoader(Collections.singletonMap("http://url", new byte[] { 1, 2, 3 }));
+		assertArrayEquals(new byte[] { 1, 2, 3 }, DSSUtils.toByteArray(dataLoader.getDocument("http://url")));
+		assertNull(dataLoader.getDocument("http://other-url"));
+	}
+
+}
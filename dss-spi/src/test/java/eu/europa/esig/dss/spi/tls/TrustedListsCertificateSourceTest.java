@@ -21,13 +21,32 @@
 package eu.europa.esig.dss.spi.tls;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 
+import eu.europa.esig.dss.model.timedependent.TimeDependentValues;
+import eu.europa.esig.dss.model.tsl.TLInfo;
+import eu.europa.esig.dss.model.tsl.TrustProperties;
+import eu.europa.esig.dss.model.tsl.TrustServiceProvider;
+import eu.europa.esig.dss.model.tsl.TrustServiceStatusAndInformationExtensions;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.x509.KeyStoreCertificateSource;
 
 class TrustedListsCertificateSourceTest {
 
@@ -42,4 +61,95 @@ class TrustedListsCertificateSourceTest {
 		assertEquals("Cannot directly add certificate to a TrustedListsCertificateSource", exception.getMessage());
 	}
 
+	@Test
+	void concurrentReadsDuringRefreshTest() throws Exception {
+		KeyStoreCertificateSource kscs = new KeyStoreCertificateSource(new File("src/test/resources/keystore.jks"), "JKS", "dss-password".toCharArray());
+		List<CertificateToken> certificates = kscs.getCertificates();
+
+		TrustProperties trustProperties = new TrustProperties(new TLInfo(null, null, null, "aaa"),
+				new TrustServiceProvider(), new TimeDependentValues<TrustServiceStatusAndInformationExtensions>());
+		Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts = new HashMap<>();
+		for (CertificateToken certificateToken : certificates) {
+			trustPropertiesByCerts.put(certificateToken, Collections.singletonList(trustProperties));
+		}
+
+		TrustedListsCertificateSource trustedCertSource = new TrustedListsCertificateSource();
+		trustedCertSource.setTrustPropertiesByCertificates(trustPropertiesByCerts);
+		int numberOfCertificates = trustedCertSource.getNumberOfCertificates();
+
+		ExecutorService executor = Executors.newFixedThreadPool(33);
+		AtomicBoolean refreshing = new AtomicBoolean(true);
+
+		List<Future<Integer>> readers = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			readers.add(executor.submit(() -> {
+				int reads = 0;
+				do {
+					for (CertificateToken certificateToken : certificates) {
+						// the source shall never be observed empty or partially filled during a refresh
+						assertTrue(trustedCertSource.isTrusted(certificateToken));
+						assertFalse(trustedCertSource.getTrustServices(certificateToken).isEmpty());
+						assertFalse(trustedCertSource.getBySubject(certificateToken.getSubject()).isEmpty());
+						++reads;
+					}
+				} while (refreshing.get());
+				return reads;
+			}));
+		}
+
+		Future<?> writer = executor.submit(() -> {
+			try {
+				for (int i = 0; i < 10; i++) {
+					trustedCertSource.setTrustPropertiesByCertificates(trustPropertiesByCerts);
+				}
+			} finally {
+				refreshing.set(false);
+			}
+		});
+
+		writer.get();
+		for (Future<Integer> reader : readers) {
+			assertTrue(reader.get() >= certificates.size());
+		}
+		executor.shutdown();
+
+		assertEquals(numberOfCertificates, trustedCertSource.getNumberOfCertificates());
+	}
+
+	@Test
+	void publishedContentIsNotModifiableTest() throws Exception {
+		KeyStoreCertificateSource kscs = new KeyStoreCertificateSource(new File("src/test/resources/keystore.jks"), "JKS", "dss-password".toCharArray());
+		List<CertificateToken> certificates = kscs.getCertificates();
+		CertificateToken certificateToken = certificates.get(0);
+
+		TrustProperties trustProperties = new TrustProperties(new TLInfo(null, null, null, "aaa"),
+				new TrustServiceProvider(), new TimeDependentValues<TrustServiceStatusAndInformationExtensions>());
+		List<TrustProperties> trustPropertiesList = new ArrayList<>();
+		trustPropertiesList.add(trustProperties);
+		Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts = new HashMap<>();
+		trustPropertiesByCerts.put(certificateToken, trustPropertiesList);
+
+		TrustedListsCertificateSource trustedCertSource = new TrustedListsCertificateSource();
+		trustedCertSource.setTrustPropertiesByCertificates(trustPropertiesByCerts);
+		assertEquals(1, trustedCertSource.getNumberOfCertificates());
+		assertEquals(1, trustedCertSource.getNumberOfTrustedPublicKeys());
+
+		List<TrustProperties> trustServices = trustedCertSource.getTrustServices(certificateToken);
+		assertEquals(1, trustServices.size());
+		assertThrows(UnsupportedOperationException.class, () -> trustServices.add(trustProperties));
+
+		// modification of the given map does not affect the published content
+		trustPropertiesByCerts.clear();
+		trustPropertiesList.clear();
+		assertTrue(trustedCertSource.isTrusted(certificateToken));
+		assertEquals(1, trustedCertSource.getTrustServices(certificateToken).size());
+
+		// the certificates and their trust properties are replaced together
+		trustedCertSource.setTrustPropertiesByCertificates(Collections.emptyMap());
+		assertFalse(trustedCertSource.isTrusted(certificateToken));
+		assertTrue(trustedCertSource.getTrustServices(certificateToken).isEmpty());
+		assertEquals(0, trustedCertSource.getNumberOfCertificates());
+		assertEquals(0, trustedCertSource.getNumberOfTrustedPublicKeys());
+	}
+
 }
@@ -35,6 +35,8 @@ import eu.europa.esig.dss.spi.x509.revocation.ocsp.OfflineOCSPSource;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -46,29 +48,36 @@ class CertificateVerifierBuilderTest {
 
     @Test
     void buildCompleteCopyTest() {
-        CertificateVerifier certificateVerifier = initCertificateVerifier();
-        CertificateVerifier copy = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopy();
-        assertEquals(certificateVerifier.getDefaultDigestAlgorithm(), copy.getDefaultDigestAlgorithm());
-        assertEquals(certificateVerifier.getAIASource(), copy.getAIASource());
-        assertEquals(certificateVerifier.getCrlSource(), copy.getCrlSource());
-        assertEquals(certificateVerifier.getOcspSource(), copy.getOcspSource());
-        assertEquals(certificateVerifier.getRevocationDataLoadingStrategyFactory(), copy.getRevocationDataLoadingStrategyFactory());
-        assertEquals(certificateVerifier.isRevocationFallback(), copy.isRevocationFallback());
-        assertEquals(certificateVerifier.getRevocationDataVerifier(), copy.getRevocationDataVerifier());
-        assertEquals(certificateVerifier.isCheckRevocationForUntrustedChains(), copy.isCheckRevocationForUntrustedChains());
-        assertEquals(certificateVerifier.getTimestampTokenVerifier(), copy.getTimestampTokenVerifier());
-        assertEquals(certificateVerifier.isExtractPOEFromUntrustedChains(), copy.isExtractPOEFromUntrustedChains());
-        assertEquals(certificateVerifier.getAdjunctCertSources(), copy.getAdjunctCertSources());
-        assertEquals(certificateVerifier.getTrustedCertSources(), copy.getTrustedCertSources());
-        assertEquals(certificateVerifier.getAlertOnInvalidSignature(), copy.getAlertOnInvalidSignature());
-        assertEquals(certificateVerifier.getAlertOnInvalidTimestamp(), copy.getAlertOnInvalidTimestamp());
-        assertEquals(certificateVerifier.getAlertOnMissingRevocationData(), copy.getAlertOnMissingRevocationData());
-        assertEquals(certificateVerifier.getAlertOnNoRevocationAfterBestSignatureTime(), copy.getAlertOnNoRevocationAfterBestSignatureTime());
-        assertEquals(certificateVerifier.getAlertOnRevokedCertificate(), copy.getAlertOnRevokedCertificate());
-        assertEquals(certificateVerifier.getAlertOnUncoveredPOE(), copy.getAlertOnUncoveredPOE());
-        assertEquals(certificateVerifier.getAlertOnExpiredSignature(), copy.getAlertOnExpiredSignature());
-        assertEquals(certificateVerifier.getAlertOnExpiredCertificate(), copy.getAlertOnExpiredCertificate());
-        assertEquals(certificateVerifier.getAlertOnNotYetValidCertificate(), copy.getAlertOnNotYetValidCertificate());
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            CommonCertificateVerifier certificateVerifier = initCertificateVerifier();
+            certificateVerifier.setExecutorService(executorService);
+            CertificateVerifier copy = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopy();
+            assertEquals(certificateVerifier.getDefaultDigestAlgorithm(), copy.getDefaultDigestAlgorithm());
+            assertEquals(certificateVerifier.getAIASource(), copy.getAIASource());
+            assertEquals(certificateVerifier.getCrlSource(), copy.getCrlSource());
+            assertEquals(certificateVerifier.getOcspSource(), copy.getOcspSource());
+            assertEquals(certificateVerifier.getRevocationDataLoadingStrategyFactory(), copy.getRevocationDataLoadingStrategyFactory());
+            assertEquals(certificateVerifier.isRevocationFallback(), copy.isRevocationFallback());
+            assertEquals(certificateVerifier.getRevocationDataVerifier(), copy.getRevocationDataVerifier());
+            assertEquals(certificateVerifier.isCheckRevocationForUntrustedChains(), copy.isCheckRevocationForUntrustedChains());
+            assertEquals(certificateVerifier.getTimestampTokenVerifier(), copy.getTimestampTokenVerifier());
+            assertEquals(certificateVerifier.isExtractPOEFromUntrustedChains(), copy.isExtractPOEFromUntrustedChains());
+            assertEquals(certificateVerifier.getAdjunctCertSources(), copy.getAdjunctCertSources());
+            assertEquals(certificateVerifier.getTrustedCertSources(), copy.getTrustedCertSources());
+            assertEquals(certificateVerifier.getExecutorService(), copy.getExecutorService());
+            assertEquals(certificateVerifier.getAlertOnInvalidSignature(), copy.getAlertOnInvalidSignature());
+            assertEquals(certificateVerifier.getAlertOnInvalidTimestamp(), copy.getAlertOnInvalidTimestamp());
+            assertEquals(certificateVerifier.getAlertOnMissingRevocationData(), copy.getAlertOnMissingRevocationData());
+            assertEquals(certificateVerifier.getAlertOnNoRevocationAfterBestSignatureTime(), copy.getAlertOnNoRevocationAfterBestSignatureTime());
+            assertEquals(certificateVerifier.getAlertOnRevokedCertificate(), copy.getAlertOnRevokedCertificate());
+            assertEquals(certificateVerifier.getAlertOnUncoveredPOE(), copy.getAlertOnUncoveredPOE());
+            assertEquals(certificateVerifier.getAlertOnExpiredSignature(), copy.getAlertOnExpiredSignature());
+            assertEquals(certificateVerifier.getAlertOnExpiredCertificate(), copy.getAlertOnExpiredCertificate());
+            assertEquals(certificateVerifier.getAlertOnNotYetValidCertificate(), copy.getAlertOnNotYetValidCertificate());
+        } finally {
+            executorService.shutdown();
+        }
     }
 
     @Test
@@ -135,8 +144,8 @@ class CertificateVerifierBuilderTest {
         assertTrue(copy.isRevocationFallback());
     }
 
-    private CertificateVerifier initCertificateVerifier() {
-        CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+    private CommonCertificateVerifier initCertificateVerifier() {
+        CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
         certificateVerifier.setDefaultDigestAlgorithm(DigestAlgorithm.SHA512);
         certificateVerifier.setAIASource(new DefaultAIASource());
         certificateVerifier.setCrlSource(new OfflineCRLSource() {
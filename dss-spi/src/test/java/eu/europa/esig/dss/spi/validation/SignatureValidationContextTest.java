@@ -20,6 +20,10 @@
  */
 package eu.europa.esig.dss.spi.validation;
 
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
 import eu.europa.esig.dss.enumerations.TimestampType;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -29,16 +33,42 @@ import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.DefaultAIASource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -46,6 +76,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 
 class SignatureValidationContextTest {
 
+	private static final String CRL_URL = "http://crl.example.com/test-ca.crl";
+
 	@Test
 	void test() throws Exception {
 		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
@@ -249,6 +281,177 @@ class SignatureValidationContextTest {
 		assertNull(certToken.getPublicKeyOfTheSigner());
 	}
 
+	@Test
+	void successfulAiaRequestInParallelTest() {
+		CertificateToken certToken = DSSUtils.loadCertificate(new File("src/test/resources/CZ.cer"));
+
+		Map<String, byte[]> dataMap = new HashMap<>();
+		dataMap.put("http://q.ica.cz/ca_nbusr09.p7c", DSSUtils.toByteArray(new File("src/test/resources/CZ_CA.cer")));
+
+		DataLoader dataLoader = new MemoryDataLoader(dataMap);
+		MockAIASource aiaSource = new MockAIASource(dataLoader);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setAIASource(aiaSource);
+			certificateVerifier.setExecutorService(executorService);
+
+			SignatureValidationContext svc = new SignatureValidationContext();
+			svc.initialize(certificateVerifier);
+			svc.addCertificateTokenForVerification(certToken);
+
+			assertEquals(0, aiaSource.requestCounter);
+
+			svc.validate();
+			assertEquals(1, aiaSource.requestCounter);
+			assertNotNull(certToken.getPublicKeyOfTheSigner());
+			assertEquals(2, svc.getProcessedCertificates().size());
+
+			svc.validate();
+			assertEquals(1, aiaSource.requestCounter);
+			assertNotNull(certToken.getPublicKeyOfTheSigner());
+
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void unsuccessfulAiaRequestInParallelTest() {
+		CertificateToken certToken = DSSUtils.loadCertificate(new File("src/test/resources/CZ.cer"));
+
+		DataLoader dataLoader = new IgnoreDataLoader();
+		MockAIASource aiaSource = new MockAIASource(dataLoader);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setAIASource(aiaSource);
+			certificateVerifier.setExecutorService(executorService);
+
+			SignatureValidationContext svc = new SignatureValidationContext();
+			svc.initialize(certificateVerifier);
+			svc.addCertificateTokenForVerification(certToken);
+
+			svc.validate();
+			assertEquals(1, aiaSource.requestCounter);
+			assertNull(certToken.getPublicKeyOfTheSigner());
+			assertEquals(1, svc.getProcessedCertificates().size());
+
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void sharedCRLRequestInParallelTest() throws Exception {
+		KeyPair caKeyPair = generateKeyPair();
+		CertificateToken caToken = generateCertificate("CN=Test CA", caKeyPair, "CN=Test CA", caKeyPair.getPublic(), true);
+		CertificateToken firstCertToken = generateCertificate("CN=Test CA", caKeyPair, "CN=First user",
+				generateKeyPair().getPublic(), false);
+		CertificateToken secondCertToken = generateCertificate("CN=Test CA", caKeyPair, "CN=Second user",
+				generateKeyPair().getPublic(), false);
+		CRLBinary crlBinary = CRLUtils.buildCRLBinary(generateCRL("CN=Test CA", caKeyPair));
+
+		CommonTrustedCertificateSource trustedCertificateSource = new CommonTrustedCertificateSource();
+		trustedCertificateSource.addCertificate(caToken);
+
+		MockCRLSource crlSource = new MockCRLSource(crlBinary);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setTrustedCertSources(trustedCertificateSource);
+			certificateVerifier.setCrlSource(crlSource);
+			certificateVerifier.setExecutorService(executorService);
+
+			SignatureValidationContext svc = new SignatureValidationContext();
+			svc.initialize(certificateVerifier);
+			svc.addCertificateTokenForVerification(firstCertToken);
+			svc.addCertificateTokenForVerification(secondCertToken);
+
+			svc.validate();
+
+			// the CRL is downloaded only once for the two certificates with the same access location
+			assertEquals(1, crlSource.requestCounter.get());
+			assertEquals(1, getRevocationTokens(svc, firstCertToken).size());
+			assertEquals(1, getRevocationTokens(svc, secondCertToken).size());
+
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private List<RevocationToken<?>> getRevocationTokens(SignatureValidationContext svc, CertificateToken certificateToken) {
+		List<RevocationToken<?>> revocationTokens = new ArrayList<>();
+		for (RevocationToken<?> revocationToken : svc.getProcessedRevocations()) {
+			if (certificateToken.getDSSIdAsString().equals(revocationToken.getRelatedCertificateId())) {
+				revocationTokens.add(revocationToken);
+			}
+		}
+		return revocationTokens;
+	}
+
+	private static KeyPair generateKeyPair() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+		keyPairGenerator.initialize(256);
+		return keyPairGenerator.generateKeyPair();
+	}
+
+	private static CertificateToken generateCertificate(String issuerName, KeyPair issuerKeyPair, String subjectName,
+														PublicKey publicKey, boolean ca) throws Exception {
+		Date notBefore = new Date(System.currentTimeMillis() - 24 * 60 * 60 * 1000L);
+		Date notAfter = new Date(System.currentTimeMillis() + 24 * 60 * 60 * 1000L);
+		X509v3CertificateBuilder certificateBuilder = new JcaX509v3CertificateBuilder(new X500Name(issuerName),
+				BigInteger.valueOf(System.nanoTime()), notBefore, notAfter, new X500Name(subjectName), publicKey);
+		if (ca) {
+			certificateBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+			certificateBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+		} else {
+			DistributionPointName distributionPointName = new DistributionPointName(new GeneralNames(
+					new GeneralName(GeneralName.uniformResourceIdentifier, CRL_URL)));
+			certificateBuilder.addExtension(Extension.cRLDistributionPoints, false, new CRLDistPoint(
+					new DistributionPoint[] { new DistributionPoint(distributionPointName, null, null) }));
+		}
+		ContentSigner contentSigner = new JcaContentSignerBuilder("SHA256withECDSA").build(issuerKeyPair.getPrivate());
+		return DSSUtils.loadCertificate(certificateBuilder.build(contentSigner).getEncoded());
+	}
+
+	private static byte[] generateCRL(String issuerName, KeyPair issuerKeyPair) throws Exception {
+		X509v2CRLBuilder crlBuilder = new X509v2CRLBuilder(new X500Name(issuerName), new Date());
+		crlBuilder.setNextUpdate(new Date(System.currentTimeMillis() + 24 * 60 * 60 * 1000L));
+		ContentSigner contentSigner = new JcaContentSignerBuilder("SHA256withECDSA").build(issuerKeyPair.getPrivate());
+		return crlBuilder.build(contentSigner).getEncoded();
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockCRLSource implements CRLSource {
+
+		private final AtomicInteger requestCounter = new AtomicInteger();
+
+		private final CRLBinary crlBinary;
+
+		private MockCRLSource(CRLBinary crlBinary) {
+			this.crlBinary = crlBinary;
+		}
+
+		@Override
+		public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			requestCounter.incrementAndGet();
+			try {
+				CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, issuerCertificateToken);
+				CRLToken crlToken = new CRLToken(certificateToken, crlValidity);
+				crlToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+				crlToken.setSourceURL(CRL_URL);
+				return crlToken;
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	}
+
 	private static class MockAIASource extends DefaultAIASource {
 
 		private static final long serialVersionUID = -5890796098843749473L;
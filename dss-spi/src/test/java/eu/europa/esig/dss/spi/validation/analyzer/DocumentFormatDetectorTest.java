@@ -0,0 +1,91 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.validation.analyzer;
+
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DocumentFormatDetectorTest {
+
+    @Test
+    void pdfAndZipTest() {
+        assertEquals(DocumentFormat.PDF, detect("%PDF-1.7\n%âãÏÓ"));
+        assertEquals(DocumentFormat.UNKNOWN, detect("%PDF"));
+        assertEquals(DocumentFormat.ZIP, DocumentFormatDetector.detect(new byte[] { 'P', 'K', 0x03, 0x04 }));
+    }
+
+    @Test
+    void jsonTest() {
+        assertEquals(DocumentFormat.JSON, detect("{\"payload\":\"SGVsbG8\"}"));
+        assertEquals(DocumentFormat.UNKNOWN, detect("eyJhbGciOiJSUzI1NiJ9.SGVsbG8.c2lnbmF0dXJl"));
+    }
+
+    @Test
+    void xmlTest() {
+        assertEquals(DocumentFormat.XML, detect("<ds:Signature xmlns:ds=\"http://www.w3.org/2000/09/xmldsig#\"/>"));
+        assertEquals(DocumentFormat.XML, detect("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<!-- <EvidenceRecord> -->\n<root>"));
+        assertEquals(DocumentFormat.XML_EVIDENCE_RECORD, detect("<?xml version=\"1.0\"?><EvidenceRecord xmlns=\"urn:ietf:params:xml:ns:ers\">"));
+        assertEquals(DocumentFormat.XML_EVIDENCE_RECORD, detect("<ers:EvidenceRecord xmlns:ers=\"urn:ietf:params:xml:ns:ers\" Version=\"1.0\">"));
+        assertEquals(DocumentFormat.XML, DocumentFormatDetector.detect(concat(new byte[] { -17, -69, -65 }, "<root/>")));
+
+        assertEquals(DocumentFormat.UNKNOWN, detect("<!DOCTYPE root><root/>"));
+        assertEquals(DocumentFormat.UNKNOWN, detect("<?xml version=\"1.0\"?>"));
+        assertEquals(DocumentFormat.UNKNOWN, detect("<!-- unclosed comment"));
+        assertEquals(DocumentFormat.UNKNOWN, detect(" <root/>"));
+    }
+
+    @Test
+    void asn1Test() {
+        // certs-only SignedData
+        assertEquals(DocumentFormat.CMS, DocumentFormatDetector.detect(new FileDocument("src/test/resources/AdobeCA.p7c")));
+        assertEquals(DocumentFormat.TIMESTAMP, DocumentFormatDetector.detect(new FileDocument("src/test/resources/archive_timestamp.tst")));
+        // X.509 certificate
+        assertEquals(DocumentFormat.ASN1, DocumentFormatDetector.detect(new FileDocument("src/test/resources/TSA_BE.cer")));
+        // EvidenceRecord SEQUENCE { version INTEGER 1, ... }
+        assertEquals(DocumentFormat.ASN1_EVIDENCE_RECORD, DocumentFormatDetector.detect(new byte[] { 0x30, 0x05, 0x02, 0x01, 0x01, 0x30, 0x00 }));
+        // truncated structure
+        assertEquals(DocumentFormat.ASN1, DocumentFormatDetector.detect(new byte[] { 0x30, (byte) 0x80, 0x06, 0x09, 0x2A, (byte) 0x86 }));
+    }
+
+    @Test
+    void emptyTest() {
+        assertEquals(DocumentFormat.UNKNOWN, DocumentFormatDetector.detect(new byte[0]));
+        assertEquals(DocumentFormat.UNKNOWN, DocumentFormatDetector.detect(new InMemoryDocument(new byte[0])));
+    }
+
+    private DocumentFormat detect(String str) {
+        return DocumentFormatDetector.detect(new InMemoryDocument(str.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private byte[] concat(byte[] prefix, String str) {
+        byte[] strBytes = str.getBytes(StandardCharsets.UTF_8);
+        byte[] result = new byte[prefix.length + strBytes.length];
+        System.arraycopy(prefix, 0, result, 0, prefix.length);
+        System.arraycopy(strBytes, 0, result, prefix.length, strBytes.length);
+        return result;
+    }
+
+}
@@ -0,0 +1,291 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.test.pki.ocsp;
+
+import eu.europa.esig.dss.enumerations.CertificateStatus;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.pki.model.CertEntity;
+import eu.europa.esig.dss.pki.model.CertEntityRepository;
+import eu.europa.esig.dss.pki.model.CertEntityRevocation;
+import eu.europa.esig.dss.pki.x509.revocation.ocsp.PKIOCSPSource;
+import eu.europa.esig.dss.service.ocsp.OnlineOCSPSource;
+import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.spi.validation.SignatureValidationContext;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import eu.europa.esig.dss.test.PKIFactoryAccess;
+import org.bouncycastle.cert.ocsp.BasicOCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.Req;
+import org.bouncycastle.cert.ocsp.UnknownStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OnlineOCSPSourceMultiCertificateTest extends PKIFactoryAccess {
+
+    private CertificateToken goodUser;
+    private CertificateToken revokedUser;
+    private CertificateToken goodCa;
+
+    private PKIOCSPResponderDataLoader dataLoader;
+
+    @BeforeEach
+    void init() {
+        goodUser = getCertificate(GOOD_USER);
+        revokedUser = getCertificate(REVOKED_USER);
+        goodCa = getCertificate("good-ca");
+        dataLoader = new PKIOCSPResponderDataLoader(new PKIOCSPResponder(getCertEntityRepository()),
+                Arrays.asList(goodUser, revokedUser), goodCa);
+    }
+
+    @Test
+    void batchRequestTest() {
+        OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+        Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(Arrays.asList(goodUser, revokedUser), goodCa);
+        assertEquals(2, ocspTokens.size());
+        assertEquals(Collections.singletonList(2), dataLoader.requestSizes);
+
+        OCSPToken goodUserOCSPToken = ocspTokens.get(goodUser);
+        assertNotNull(goodUserOCSPToken);
+        assertEquals(CertificateStatus.GOOD, goodUserOCSPToken.getStatus());
+        assertTrue(goodUserOCSPToken.isSignedBy(goodCa));
+        assertNotNull(goodUserOCSPToken.getSourceURL());
+
+        OCSPToken revokedUserOCSPToken = ocspTokens.get(revokedUser);
+        assertNotNull(revokedUserOCSPToken);
+        assertEquals(CertificateStatus.REVOKED, revokedUserOCSPToken.getStatus());
+        assertTrue(revokedUserOCSPToken.isSignedBy(goodCa));
+    }
+
+    @Test
+    void batchRequestCustomStatusTest() {
+        PKIOCSPResponder unknownStatusResponder = new PKIOCSPResponder(getCertEntityRepository()) {
+
+            private static final long serialVersionUID = 2418536729734596214L;
+
+            @Override
+            protected void addRevocationStatusToOCSPResponse(BasicOCSPRespBuilder builder, OCSPReq ocspReq,
+                                                             CertEntityRevocation certEntityRevocation) {
+                assertEquals(1, ocspReq.getRequestList().length);
+                builder.addResponse(ocspReq.getRequestList()[0].getCertID(), new UnknownStatus());
+            }
+
+        };
+        dataLoader = new PKIOCSPResponderDataLoader(unknownStatusResponder, Arrays.asList(goodUser, revokedUser), goodCa);
+        OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+        Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(Arrays.asList(goodUser, revokedUser), goodCa);
+        assertEquals(2, ocspTokens.size());
+        assertEquals(Collections.singletonList(2), dataLoader.requestSizes);
+        assertEquals(CertificateStatus.UNKNOWN, ocspTokens.get(goodUser).getStatus());
+        assertEquals(CertificateStatus.UNKNOWN, ocspTokens.get(revokedUser).getStatus());
+    }
+
+    @Test
+    void singleRequestOverriddenTest() {
+        final List<CertificateToken> requestedCertificates = Collections.synchronizedList(new ArrayList<>());
+        OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader) {
+
+            private static final long serialVersionUID = -3184279618423305765L;
+
+            @Override
+            protected byte[] buildOCSPRequest(CertificateToken certificateToken, CertificateToken issuerToken, byte[] nonce) {
+                requestedCertificates.add(certificateToken);
+                return super.buildOCSPRequest(certificateToken, issuerToken, nonce);
+            }
+
+        };
+
+        Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(Arrays.asList(goodUser, revokedUser), goodCa);
+        assertEquals(2, ocspTokens.size());
+        assertEquals(Arrays.asList(goodUser, revokedUser), requestedCertificates);
+        assertEquals(Arrays.asList(1, 1), dataLoader.requestSizes);
+        assertEquals(CertificateStatus.GOOD, ocspTokens.get(goodUser).getStatus());
+        assertEquals(CertificateStatus.REVOKED, ocspTokens.get(revokedUser).getStatus());
+    }
+
+    @Test
+    void certificateIDOverriddenTest() {
+        final List<CertificateToken> requestedCertificates = Collections.synchronizedList(new ArrayList<>());
+        OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader) {
+
+            private static final long serialVersionUID = 5726814390286457102L;
+
+            @Override
+            protected CertificateID getOCSPCertificateID(CertificateToken certificateToken, CertificateToken issuerToken) {
+                requestedCertificates.add(certificateToken);
+                return super.getOCSPCertificateID(certificateToken, issuerToken);
+            }
+
+        };
+
+        Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(Arrays.asList(goodUser, revokedUser), goodCa);
+        assertEquals(2, ocspTokens.size());
+        assertEquals(Arrays.asList(goodUser, revokedUser), requestedCertificates);
+        assertEquals(Collections.singletonList(2), dataLoader.requestSizes);
+    }
+
+    @Test
+    void singleRequestTest() {
+        OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+        OCSPToken ocspToken = ocspSource.getRevocationToken(goodUser, goodCa);
+        assertNotNull(ocspToken);
+        assertEquals(CertificateStatus.GOOD, ocspToken.getStatus());
+        assertEquals(Collections.singletonList(1), dataLoader.requestSizes);
+    }
+
+    @Test
+    void validationContextTest() {
+        OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+        CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+        certificateVerifier.setOcspSource(ocspSource);
+        certificateVerifier.setTrustedCertSources(getTrustedCertificateSource());
+        CommonCertificateSource adjunctCertificateSource = new CommonCertificateSource();
+        adjunctCertificateSource.addCertificate(goodCa);
+        certificateVerifier.setAdjunctCertSources(adjunctCertificateSource);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            certificateVerifier.setExecutorService(executorService);
+
+            SignatureValidationContext validationContext = new SignatureValidationContext();
+            validationContext.initialize(certificateVerifier);
+            validationContext.addCertificateTokenForVerification(goodUser);
+            validationContext.addCertificateTokenForVerification(revokedUser);
+            validationContext.validate();
+
+            // both certificates are requested within a single OCSP request
+            assertTrue(dataLoader.requestSizes.contains(2));
+            assertTrue(validationContext.checkCertificateNotRevoked(goodUser));
+
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Override
+    protected String getSigningAlias() {
+        return GOOD_USER;
+    }
+
+    /**
+     * Exposes the OCSP response generation of {@code PKIOCSPSource} for a given OCSP request
+     */
+    @SuppressWarnings("serial")
+    private static class PKIOCSPResponder extends PKIOCSPSource {
+
+        PKIOCSPResponder(CertEntityRepository<? extends CertEntity> certEntityRepository) {
+            super(certEntityRepository);
+        }
+
+        byte[] respond(List<CertificateToken> certificateTokens, CertificateToken issuerCertificateToken, OCSPReq ocspReq) {
+            try {
+                return buildOCSPResponse(certificateTokens, issuerCertificateToken, ocspReq).getEncoded();
+            } catch (IOException e) {
+                throw new DSSException(e);
+            }
+        }
+
+    }
+
+    /**
+     * Local OCSP responder stand-in recording the number of entries of each received request
+     */
+    @SuppressWarnings("serial")
+    private static class PKIOCSPResponderDataLoader implements DataLoader {
+
+        private final PKIOCSPResponder ocspResponder;
+
+        private final List<CertificateToken> certificateTokens;
+
+        private final CertificateToken issuerCertificateToken;
+
+        private final List<Integer> requestSizes = Collections.synchronizedList(new ArrayList<>());
+
+        PKIOCSPResponderDataLoader(PKIOCSPResponder ocspResponder, List<CertificateToken> certificateTokens,
+                                   CertificateToken issuerCertificateToken) {
+            this.ocspResponder = ocspResponder;
+            this.certificateTokens = certificateTokens;
+            this.issuerCertificateToken = issuerCertificateToken;
+        }
+
+        @Override
+        public byte[] post(String url, byte[] content) {
+            try {
+                OCSPReq ocspReq = new OCSPReq(content);
+                Req[] requestList = ocspReq.getRequestList();
+                requestSizes.add(requestList.length);
+
+                List<CertificateToken> requestedCertificates = new ArrayList<>();
+                for (Req req : requestList) {
+                    for (CertificateToken certificateToken : certificateTokens) {
+                        if (certificateToken.getSerialNumber().equals(req.getCertID().getSerialNumber())) {
+                            requestedCertificates.add(certificateToken);
+                        }
+                    }
+                }
+                if (requestedCertificates.isEmpty()) {
+                    return null;
+                }
+                return ocspResponder.respond(requestedCertificates, issuerCertificateToken, ocspReq);
+
+            } catch (IOException e) {
+                throw new DSSException(e);
+            }
+        }
+
+        @Override
+        public byte[] get(String url) {
+            return null;
+        }
+
+        @Override
+        public DataAndUrl get(List<String> urlStrings) {
+            return null;
+        }
+
+        @Override
+        public void setContentType(String contentType) {
+            // not used
+        }
+
+    }
+
+}
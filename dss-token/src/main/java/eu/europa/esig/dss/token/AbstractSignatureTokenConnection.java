@@ -141,8 +141,18 @@ public abstract class AbstractSignatureTokenConnection implements SignatureToken
 		}
 	}
 
-	private byte[] sign(final byte[] bytes, final String javaSignatureAlgorithm, final AlgorithmParameterSpec param,
-						final DSSPrivateKeyEntry keyEntry) throws GeneralSecurityException {
+	/**
+	 * Computes a signature value on the given {@code bytes}
+	 *
+	 * @param bytes byte array to be signed
+	 * @param javaSignatureAlgorithm {@link String} representing the Java name of a signature algorithm
+	 * @param param {@link AlgorithmParameterSpec} to be used, when applicable (can be null)
+	 * @param keyEntry {@link DSSPrivateKeyEntry} to sign with
+	 * @return signature value bytes
+	 * @throws GeneralSecurityException if an error occurs on signature computation
+	 */
+	protected byte[] sign(final byte[] bytes, final String javaSignatureAlgorithm, final AlgorithmParameterSpec param,
+						  final DSSPrivateKeyEntry keyEntry) throws GeneralSecurityException {
 		if (!(keyEntry instanceof DSSPrivateKeyAccessEntry)) {
 			throw new IllegalArgumentException("Only DSSPrivateKeyAccessEntry are supported");
 		}
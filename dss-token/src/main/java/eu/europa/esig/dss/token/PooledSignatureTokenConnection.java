@@ -0,0 +1,337 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.token;
+
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.SignatureValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.KeyStore.PasswordProtection;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.AlgorithmParameterSpec;
+import java.security.spec.PSSParameterSpec;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Predicate;
+
+/**
+ * This class wraps a key store based token connection (e.g. {@code Pkcs11SignatureToken}) in order to allow
+ * its concurrent use, e.g. within a server signing application.
+ * <p>
+ * The wrapped token is logged in only once : the loaded {@code KeyStore} and the retrieved {@code DSSPrivateKeyEntry}s
+ * are cached. The initialized {@code java.security.Signature} objects (i.e. provider sessions) are kept within a pool
+ * and reused between the signing operations. The number of concurrent signing operations is limited by the pool size.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * try (PooledSignatureTokenConnection token = new PooledSignatureTokenConnection(pkcs11SignatureToken, 8)) {
+ *     DSSPrivateKeyEntry key = token.getKey("alias");
+ *     List<SignatureValue> signatureValues = token.signDigests(digests, key);
+ * }
+ * }
+ * </pre>
+ *
+ */
+public class PooledSignatureTokenConnection extends AbstractKeyStoreTokenConnection {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PooledSignatureTokenConnection.class);
+
+	/** The default maximum number of concurrent signing sessions */
+	private static final int DEFAULT_POOL_SIZE = 4;
+
+	/** The wrapped token connection */
+	private final AbstractKeyStoreTokenConnection token;
+
+	/** The maximum number of concurrent signing sessions */
+	private final int poolSize;
+
+	/** Limits the number of concurrent signing sessions */
+	private final Semaphore sessionPermits;
+
+	/** Contains the idle initialized Signature objects */
+	private final Map<SignaturePoolKey, Queue<Signature>> signaturePool = new ConcurrentHashMap<>();
+
+	/** Cached private key entries by alias */
+	private final Map<String, DSSPrivateKeyEntry> keyEntriesByAlias = new ConcurrentHashMap<>();
+
+	/** The cached key store */
+	private volatile KeyStore keyStore;
+
+	/** The cached list of private key entries */
+	private volatile List<DSSPrivateKeyEntry> keyEntries;
+
+	/**
+	 * Constructor with a default pool size of 4 concurrent sessions
+	 *
+	 * @param token {@link AbstractKeyStoreTokenConnection} to be wrapped
+	 */
+	public PooledSignatureTokenConnection(final AbstractKeyStoreTokenConnection token) {
+		this(token, DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * Constructor with a defined pool size
+	 *
+	 * @param token {@link AbstractKeyStoreTokenConnection} to be wrapped
+	 * @param poolSize the maximum number of concurrent signing sessions
+	 */
+	public PooledSignatureTokenConnection(final AbstractKeyStoreTokenConnection token, final int poolSize) {
+		Objects.requireNonNull(token, "Token connection cannot be null!");
+		if (poolSize < 1) {
+			throw new IllegalArgumentException("The pool size shall be a positive number!");
+		}
+		this.token = token;
+		this.poolSize = poolSize;
+		this.sessionPermits = new Semaphore(poolSize, true);
+	}
+
+	@Override
+	protected KeyStore getKeyStore() throws DSSException {
+		KeyStore result = keyStore;
+		if (result == null) {
+			synchronized (this) {
+				result = keyStore;
+				if (result == null) {
+					result = token.getKeyStore();
+					keyStore = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	protected PasswordProtection getKeyProtectionParameter() {
+		return token.getKeyProtectionParameter();
+	}
+
+	/**
+	 * Returns a {@code java.security.Signature} instance from the wrapped token, in order to use its provider
+	 * (e.g. the PKCS#11 provider of a {@code Pkcs11SignatureToken})
+	 *
+	 * @param javaSignatureAlgorithm {@link String} representing the Java name of a signature algorithm
+	 * @return {@link Signature}
+	 * @throws NoSuchAlgorithmException if the algorithm is not found
+	 */
+	@Override
+	protected Signature getSignatureInstance(final String javaSignatureAlgorithm) throws NoSuchAlgorithmException {
+		return token.getSignatureInstance(javaSignatureAlgorithm);
+	}
+
+	@Override
+	public void setKeyEntryPredicate(Predicate<DSSPrivateKeyEntry> keyEntryPredicate) {
+		super.setKeyEntryPredicate(keyEntryPredicate);
+		keyEntries = null;
+	}
+
+	@Override
+	public List<DSSPrivateKeyEntry> getKeys() throws DSSException {
+		List<DSSPrivateKeyEntry> result = keyEntries;
+		if (result == null) {
+			result = Collections.unmodifiableList(new ArrayList<>(super.getKeys()));
+			keyEntries = result;
+		}
+		return result;
+	}
+
+	@Override
+	public DSSPrivateKeyEntry getKey(String alias, PasswordProtection passwordProtection) {
+		if (passwordProtection != getKeyProtectionParameter()) {
+			// custom key protection, do not cache
+			return super.getKey(alias, passwordProtection);
+		}
+		return keyEntriesByAlias.computeIfAbsent(alias, a -> super.getKey(a, passwordProtection));
+	}
+
+	/**
+	 * Signs a batch of digests with the given key, using a RAW signature algorithm
+	 * implied by the key's encryption algorithm
+	 *
+	 * @param digests a list of {@link Digest}s to be signed
+	 * @param keyEntry {@link DSSPrivateKeyEntry} to sign with
+	 * @return a list of {@link SignatureValue}s, in the order of the provided {@code digests}
+	 * @throws DSSException if an error occurs on signing
+	 */
+	public List<SignatureValue> signDigests(List<Digest> digests, DSSPrivateKeyEntry keyEntry) throws DSSException {
+		Objects.requireNonNull(digests, "Digests cannot be null!");
+		final List<SignatureValue> signatureValues = new ArrayList<>(digests.size());
+		for (Digest digest : digests) {
+			signatureValues.add(signDigest(digest, keyEntry));
+		}
+		return signatureValues;
+	}
+
+	/**
+	 * Signs a batch of digests with the given key and signature algorithm
+	 *
+	 * @param digests a list of {@link Digest}s to be signed
+	 * @param signatureAlgorithm {@link SignatureAlgorithm} to be used
+	 * @param keyEntry {@link DSSPrivateKeyEntry} to sign with
+	 * @return a list of {@link SignatureValue}s, in the order of the provided {@code digests}
+	 * @throws DSSException if an error occurs on signing
+	 */
+	public List<SignatureValue> signDigests(List<Digest> digests, SignatureAlgorithm signatureAlgorithm,
+											DSSPrivateKeyEntry keyEntry) throws DSSException {
+		Objects.requireNonNull(digests, "Digests cannot be null!");
+		final List<SignatureValue> signatureValues = new ArrayList<>(digests.size());
+		for (Digest digest : digests) {
+			signatureValues.add(signDigest(digest, signatureAlgorithm, keyEntry));
+		}
+		return signatureValues;
+	}
+
+	@Override
+	protected byte[] sign(final byte[] bytes, final String javaSignatureAlgorithm, final AlgorithmParameterSpec param,
+						  final DSSPrivateKeyEntry keyEntry) throws GeneralSecurityException {
+		if (!(keyEntry instanceof DSSPrivateKeyAccessEntry)) {
+			throw new IllegalArgumentException("Only DSSPrivateKeyAccessEntry are supported");
+		}
+		final SignaturePoolKey poolKey = SignaturePoolKey.create(
+				javaSignatureAlgorithm, param, ((DSSPrivateKeyAccessEntry) keyEntry).getPrivateKey());
+
+		acquireSession();
+		try {
+			if (poolKey == null) {
+				// non-poolable configuration
+				return super.sign(bytes, javaSignatureAlgorithm, param, keyEntry);
+			}
+			final Signature signature = borrowSignature(poolKey, javaSignatureAlgorithm, param);
+			signature.update(bytes);
+			final byte[] signatureValue = signature.sign();
+			// the Signature object is reset to the state after initSign(), thus can be reused
+			returnSignature(poolKey, signature);
+			return signatureValue;
+
+		} finally {
+			sessionPermits.release();
+		}
+	}
+
+	private void acquireSession() {
+		try {
+			sessionPermits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted while waiting for a signing session!", e);
+		}
+	}
+
+	private Signature borrowSignature(SignaturePoolKey poolKey, String javaSignatureAlgorithm,
+									  AlgorithmParameterSpec param) throws GeneralSecurityException {
+		final Queue<Signature> idleSignatures = signaturePool.computeIfAbsent(poolKey, k -> new ConcurrentLinkedQueue<>());
+		Signature signature = idleSignatures.poll();
+		if (signature == null) {
+			LOG.debug("Initializing a new signing session for algorithm '{}'", javaSignatureAlgorithm);
+			signature = getSignatureInstance(javaSignatureAlgorithm);
+			if (param != null) {
+				signature.setParameter(param);
+			}
+			signature.initSign(poolKey.privateKey);
+		}
+		return signature;
+	}
+
+	private void returnSignature(SignaturePoolKey poolKey, Signature signature) {
+		final Queue<Signature> idleSignatures = signaturePool.get(poolKey);
+		if (idleSignatures != null && idleSignatures.size() < poolSize) {
+			idleSignatures.offer(signature);
+		}
+	}
+
+	/**
+	 * Releases the pooled signing sessions and closes the wrapped token connection
+	 */
+	@Override
+	public void close() {
+		signaturePool.clear();
+		keyEntriesByAlias.clear();
+		keyEntries = null;
+		keyStore = null;
+		token.close();
+	}
+
+	/**
+	 * Identifies a pool of {@code Signature} objects initialized with the same configuration
+	 */
+	private static final class SignaturePoolKey {
+
+		/** The Java signature algorithm name */
+		private final String javaSignatureAlgorithm;
+
+		/** String representation of the algorithm parameters */
+		private final String parameters;
+
+		/** The private key the Signature is initialized with */
+		private final PrivateKey privateKey;
+
+		private SignaturePoolKey(String javaSignatureAlgorithm, String parameters, PrivateKey privateKey) {
+			this.javaSignatureAlgorithm = javaSignatureAlgorithm;
+			this.parameters = parameters;
+			this.privateKey = privateKey;
+		}
+
+		/**
+		 * Creates a pool key for the given configuration, or returns NULL if the configuration cannot be pooled
+		 */
+		private static SignaturePoolKey create(String javaSignatureAlgorithm, AlgorithmParameterSpec param, PrivateKey privateKey) {
+			if (param == null) {
+				return new SignaturePoolKey(javaSignatureAlgorithm, null, privateKey);
+			} else if (param instanceof PSSParameterSpec) {
+				PSSParameterSpec pssParam = (PSSParameterSpec) param;
+				return new SignaturePoolKey(javaSignatureAlgorithm, String.join(":", pssParam.getDigestAlgorithm(),
+						pssParam.getMGFAlgorithm(), String.valueOf(pssParam.getSaltLength())), privateKey);
+			}
+			return null;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof SignaturePoolKey)) return false;
+			SignaturePoolKey that = (SignaturePoolKey) o;
+			return Objects.equals(javaSignatureAlgorithm, that.javaSignatureAlgorithm)
+					&& Objects.equals(parameters, that.parameters)
+					&& privateKey == that.privateKey;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(javaSignatureAlgorithm, parameters, System.identityHashCode(privateKey));
+		}
+
+	}
+
+}
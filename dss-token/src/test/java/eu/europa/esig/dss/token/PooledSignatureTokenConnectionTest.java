@@ -0,0 +1,175 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.token;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.spi.DSSSecurityProvider;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.security.KeyStore.PasswordProtection;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.Security;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledSignatureTokenConnectionTest {
+
+	static {
+		Security.addProvider(DSSSecurityProvider.getSecurityProvider());
+	}
+
+	@Test
+	void signDigestsTest() throws Exception {
+		try (Pkcs12SignatureToken signatureToken = new Pkcs12SignatureToken("src/test/resources/user_a_rsa.p12",
+				new PasswordProtection("password".toCharArray()));
+			 PooledSignatureTokenConnection pooledToken = new PooledSignatureTokenConnection(signatureToken, 2)) {
+
+			List<DSSPrivateKeyEntry> keys = pooledToken.getKeys();
+			assertEquals(1, keys.size());
+			assertSame(keys, pooledToken.getKeys());
+
+			KSPrivateKeyEntry entry = (KSPrivateKeyEntry) keys.get(0);
+			assertSame(pooledToken.getKey(entry.getAlias()), pooledToken.getKey(entry.getAlias()));
+
+			List<Digest> digests = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				byte[] digestValue = DSSUtils.digest(DigestAlgorithm.SHA256, ("Hello world " + i).getBytes());
+				digests.add(new Digest(DigestAlgorithm.SHA256, DSSUtils.encodeRSADigest(DigestAlgorithm.SHA256, digestValue)));
+			}
+
+			List<SignatureValue> signatureValues = pooledToken.signDigests(digests, entry);
+			assertEquals(digests.size(), signatureValues.size());
+			for (int i = 0; i < digests.size(); i++) {
+				// RSA PKCS#1 v1.5 signatures are deterministic
+				SignatureValue expected = signatureToken.signDigest(digests.get(i), entry);
+				assertEquals(expected.getAlgorithm(), signatureValues.get(i).getAlgorithm());
+				assertArrayEquals(expected.getValue(), signatureValues.get(i).getValue());
+			}
+		}
+	}
+
+	@Test
+	void concurrentSignTest() throws Exception {
+		try (PooledSignatureTokenConnection pooledToken = new PooledSignatureTokenConnection(
+				new Pkcs12SignatureToken("src/test/resources/user_a_rsa.p12", new PasswordProtection("password".toCharArray())), 3)) {
+			DSSPrivateKeyEntry entry = pooledToken.getKeys().get(0);
+
+			ExecutorService executorService = Executors.newFixedThreadPool(8);
+			try {
+				List<Future<Boolean>> futures = new ArrayList<>();
+				for (int i = 0; i < 40; i++) {
+					final ToBeSigned toBeSigned = new ToBeSigned(("Hello world " + i).getBytes());
+					final SignatureAlgorithm signatureAlgorithm = i % 2 == 0 ?
+							SignatureAlgorithm.RSA_SHA256 : SignatureAlgorithm.RSA_SSA_PSS_SHA256_MGF1;
+					futures.add(executorService.submit(() -> {
+						SignatureValue signatureValue = pooledToken.sign(toBeSigned, signatureAlgorithm, entry);
+						Signature signature = Signature.getInstance(signatureValue.getAlgorithm().getJCEId());
+						if (SignatureAlgorithm.RSA_SSA_PSS_SHA256_MGF1 == signatureAlgorithm) {
+							signature.setParameter(pooledToken.createPSSParam(DigestAlgorithm.SHA256));
+						}
+						signature.initVerify(entry.getCertificate().getPublicKey());
+						signature.update(toBeSigned.getBytes());
+						return signature.verify(signatureValue.getValue());
+					}));
+				}
+				for (Future<Boolean> future : futures) {
+					assertTrue(future.get());
+				}
+			} finally {
+				executorService.shutdown();
+			}
+		}
+	}
+
+	@Test
+	void signatureInstanceFromWrappedTokenTest() throws Exception {
+		try (ProviderSpecificSignatureToken signatureToken = new ProviderSpecificSignatureToken();
+			 PooledSignatureTokenConnection pooledToken = new PooledSignatureTokenConnection(signatureToken, 2)) {
+			DSSPrivateKeyEntry entry = pooledToken.getKeys().get(0);
+
+			ToBeSigned toBeSigned = new ToBeSigned("Hello world".getBytes());
+			SignatureValue signatureValue = pooledToken.sign(toBeSigned, SignatureAlgorithm.RSA_SHA256, entry);
+			assertArrayEquals(signatureToken.sign(toBeSigned, SignatureAlgorithm.RSA_SHA256, entry).getValue(),
+					signatureValue.getValue());
+			// the wrapped token is asked for the pooled Signature and for its own signature
+			assertEquals(2, signatureToken.signatureInstances.size());
+
+			// the Signature is reused from the pool
+			pooledToken.sign(toBeSigned, SignatureAlgorithm.RSA_SHA256, entry);
+			assertEquals(2, signatureToken.signatureInstances.size());
+
+			// a new Signature is obtained from the wrapped token for another configuration
+			pooledToken.sign(toBeSigned, SignatureAlgorithm.RSA_SSA_PSS_SHA256_MGF1, entry);
+			assertEquals(3, signatureToken.signatureInstances.size());
+			for (Signature signature : signatureToken.signatureInstances) {
+				assertEquals(DSSSecurityProvider.getSecurityProviderName(), signature.getProvider().getName());
+			}
+		}
+	}
+
+	@Test
+	void invalidPoolSizeTest() throws Exception {
+		try (Pkcs12SignatureToken signatureToken = new Pkcs12SignatureToken("src/test/resources/user_a_rsa.p12",
+				new PasswordProtection("password".toCharArray()))) {
+			assertThrows(IllegalArgumentException.class, () -> new PooledSignatureTokenConnection(signatureToken, 0));
+			assertThrows(NullPointerException.class, () -> new PooledSignatureTokenConnection(null));
+		}
+	}
+
+	private static class ProviderSpecificSignatureToken extends Pkcs12SignatureToken {
+
+		private final List<Signature> signatureInstances = new ArrayList<>();
+
+		private ProviderSpecificSignatureToken() throws IOException {
+			super("src/test/resources/user_a_rsa.p12", new PasswordProtection("password".toCharArray()));
+		}
+
+		@Override
+		protected synchronized Signature getSignatureInstance(String javaSignatureAlgorithm) throws NoSuchAlgorithmException {
+			try {
+				Signature signature = Signature.getInstance(javaSignatureAlgorithm, DSSSecurityProvider.getSecurityProviderName());
+				signatureInstances.add(signature);
+				return signature;
+			} catch (NoSuchProviderException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	}
+
+}
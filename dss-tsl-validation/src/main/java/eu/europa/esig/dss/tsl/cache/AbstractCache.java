@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -215,6 +216,45 @@ public abstract class AbstractCache<R extends CachedResult> {
 		return toBeDeleted;
 	}
 	
+	/**
+	 * Returns the results of all entries which are worth to be persisted, i.e. SYNCHRONIZED entries containing a result.
+	 * DESYNCHRONIZED and expired entries, as well as entries in error, are skipped in order to be processed again.
+	 *
+	 * @return a map between {@link CacheKey}s and the related results
+	 */
+	public Map<CacheKey, R> getResultsToPersist() {
+		final Map<CacheKey, R> results = new HashMap<>();
+		for (Entry<CacheKey, CachedEntry<R>> mapEntry : cachedEntriesMap.entrySet()) {
+			CachedEntry<R> cachedEntry = mapEntry.getValue();
+			CacheStateEnum currentState = cachedEntry.getCurrentState();
+			if (!cachedEntry.isEmpty() && CacheStateEnum.SYNCHRONIZED == currentState) {
+				results.put(mapEntry.getKey(), cachedEntry.getCachedResult());
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Restores a previously persisted result for the given key.
+	 * The result is only restored when no result is present in the cache for the key yet.
+	 * A restored entry is SYNCHRONIZED, as it has been in the persisted cache.
+	 *
+	 * @param cacheKey {@link CacheKey} of the entry to restore
+	 * @param result the persisted result
+	 * @return TRUE if the result has been restored, FALSE otherwise
+	 */
+	public boolean restore(CacheKey cacheKey, R result) {
+		LOG.trace("Restoring result for the key [{}]...", cacheKey);
+		CachedEntry<R> cachedEntry = get(cacheKey);
+		if (!cachedEntry.isEmpty() || !cachedEntry.isRefreshNeeded()) {
+			LOG.debug("The entry with the key [{}] is already filled. The persisted result is skipped.", cacheKey);
+			return false;
+		}
+		cachedEntry.update(result);
+		cachedEntry.sync();
+		return true;
+	}
+
 	/**
 	 * Returns a type of current Cache
 	 * 
@@ -22,12 +22,16 @@ package eu.europa.esig.dss.tsl.cache;
 
 import eu.europa.esig.dss.spi.DSSUtils;
 
+import java.io.Serializable;
+
 import java.util.Objects;
 
 /**
  * Defines a key for a cache record
  */
-public class CacheKey {
+public class CacheKey implements Serializable {
+
+	private static final long serialVersionUID = -4734475084305787863L;
 
 	/**
 	 * Key of the entry
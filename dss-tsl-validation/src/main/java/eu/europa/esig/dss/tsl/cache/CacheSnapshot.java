@@ -0,0 +1,108 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache;
+
+import eu.europa.esig.dss.tsl.download.XmlDownloadResult;
+import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contains a persistable copy of the download, parsing and validation caches of a TL validation job.
+ * The download results contain the digest of the TL/LOTL content, which allows to skip the parsing and the validation
+ * of the TLs/LOTLs being unchanged since the snapshot creation.
+ * A validation result is only persisted together with the download result of the same key, and contains
+ * the trusted certificates it has been obtained against, in order to detect a change of the trust configuration.
+ *
+ */
+public class CacheSnapshot implements Serializable {
+
+	private static final long serialVersionUID = 6270435108871920447L;
+
+	/** The snapshot creation time */
+	private final Date creationTime = new Date();
+
+	/** The download results */
+	private final Map<CacheKey, XmlDownloadResult> downloadResults = new HashMap<>();
+
+	/** The parsing results */
+	private final Map<CacheKey, AbstractParsingResult> parsingResults = new HashMap<>();
+
+	/** The validation results */
+	private final Map<CacheKey, ValidationResult> validationResults = new HashMap<>();
+
+	/**
+	 * Default constructor instantiating an empty snapshot
+	 */
+	public CacheSnapshot() {
+		// empty
+	}
+
+	/**
+	 * Gets the snapshot creation time
+	 *
+	 * @return {@link Date}
+	 */
+	public Date getCreationTime() {
+		return creationTime;
+	}
+
+	/**
+	 * Gets the persisted download results
+	 *
+	 * @return a map between {@link CacheKey}s and {@link XmlDownloadResult}s
+	 */
+	public Map<CacheKey, XmlDownloadResult> getDownloadResults() {
+		return downloadResults;
+	}
+
+	/**
+	 * Gets the persisted parsing results
+	 *
+	 * @return a map between {@link CacheKey}s and {@link AbstractParsingResult}s
+	 */
+	public Map<CacheKey, AbstractParsingResult> getParsingResults() {
+		return parsingResults;
+	}
+
+	/**
+	 * Gets the persisted validation results
+	 *
+	 * @return a map between {@link CacheKey}s and {@link ValidationResult}s
+	 */
+	public Map<CacheKey, ValidationResult> getValidationResults() {
+		return validationResults;
+	}
+
+	/**
+	 * Checks if the snapshot does not contain any result
+	 *
+	 * @return TRUE if the snapshot is empty, FALSE otherwise
+	 */
+	public boolean isEmpty() {
+		return downloadResults.isEmpty() && parsingResults.isEmpty() && validationResults.isEmpty();
+	}
+
+}
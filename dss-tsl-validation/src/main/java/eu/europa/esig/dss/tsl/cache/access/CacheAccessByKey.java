@@ -20,10 +20,12 @@
  */
 package eu.europa.esig.dss.tsl.cache.access;
 
+import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.tsl.cache.CacheKey;
 import eu.europa.esig.dss.tsl.cache.DownloadCache;
 import eu.europa.esig.dss.tsl.cache.ParsingCache;
 import eu.europa.esig.dss.tsl.cache.ValidationCache;
+import eu.europa.esig.dss.tsl.cache.state.CachedEntry;
 import eu.europa.esig.dss.tsl.download.XmlDownloadResult;
 import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
 import eu.europa.esig.dss.tsl.validation.ValidationResult;
@@ -126,6 +128,18 @@ public class CacheAccessByKey extends ReadOnlyCacheAccessByKey {
 		return validationCache.isRefreshNeeded(key);
 	}
 
+	/**
+	 * Checks if the current validation result has been obtained against the given trusted certificates.
+	 * Returns TRUE when no validation result is present.
+	 *
+	 * @param certificateSource {@link CertificateSource} containing the currently trusted certificates
+	 * @return TRUE if the validation result is obtained against the same trusted certificates, FALSE otherwise
+	 */
+	public boolean isValidatedWith(CertificateSource certificateSource) {
+		CachedEntry<ValidationResult> cachedEntry = validationCache.get(key);
+		return cachedEntry.isEmpty() || cachedEntry.getCachedResult().isValidatedWith(certificateSource);
+	}
+
 	/**
 	 * Expires the validation record
 	 */
@@ -85,6 +85,15 @@ public final class CacheAccessFactory {
 		return new SynchronizerCacheAccess(downloadCache, parsingCache, validationCache);
 	}
 
+	/**
+	 * Loads a cache access to persist and restore the cache content
+	 *
+	 * @return {@link SnapshotCacheAccess}
+	 */
+	public SnapshotCacheAccess getSnapshotCacheAccess() {
+		return new SnapshotCacheAccess(downloadCache, parsingCache, validationCache);
+	}
+
 	/**
 	 * Loads a cache access to load the information about the current cache state
 	 *
@@ -0,0 +1,119 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache.access;
+
+import eu.europa.esig.dss.tsl.cache.AbstractCache;
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.CacheSnapshot;
+import eu.europa.esig.dss.tsl.cache.CachedResult;
+import eu.europa.esig.dss.tsl.cache.DownloadCache;
+import eu.europa.esig.dss.tsl.cache.ParsingCache;
+import eu.europa.esig.dss.tsl.cache.ValidationCache;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Exports the caches to a {@code CacheSnapshot} and restores them from it
+ */
+public class SnapshotCacheAccess {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SnapshotCacheAccess.class);
+
+	/** Global download Cache */
+	private final DownloadCache downloadCache;
+
+	/** Global parsing Cache */
+	private final ParsingCache parsingCache;
+
+	/** Global validation Cache */
+	private final ValidationCache validationCache;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param downloadCache {@link DownloadCache}
+	 * @param parsingCache {@link ParsingCache}
+	 * @param validationCache {@link ValidationCache}
+	 */
+	public SnapshotCacheAccess(final DownloadCache downloadCache, final ParsingCache parsingCache,
+							   final ValidationCache validationCache) {
+		this.downloadCache = downloadCache;
+		this.parsingCache = parsingCache;
+		this.validationCache = validationCache;
+	}
+
+	/**
+	 * Creates a snapshot of the current caches content
+	 *
+	 * @return {@link CacheSnapshot}
+	 */
+	public CacheSnapshot createSnapshot() {
+		final CacheSnapshot snapshot = new CacheSnapshot();
+		snapshot.getDownloadResults().putAll(downloadCache.getResultsToPersist());
+		snapshot.getParsingResults().putAll(parsingCache.getResultsToPersist());
+		// a validation result is only relevant for the content digest it has been computed for
+		snapshot.getValidationResults().putAll(filterByDownloadResults(validationCache.getResultsToPersist(), snapshot));
+		LOG.debug("Cache snapshot created with {} download, {} parsing and {} validation result(s)",
+				snapshot.getDownloadResults().size(), snapshot.getParsingResults().size(), snapshot.getValidationResults().size());
+		return snapshot;
+	}
+
+	/**
+	 * Restores the caches content from the given {@code snapshot}.
+	 * Only empty cache entries are filled, the entries computed during the current run are kept.
+	 * A validation result is restored only together with the download result of the same key.
+	 *
+	 * @param snapshot {@link CacheSnapshot} to restore
+	 */
+	public void restore(CacheSnapshot snapshot) {
+		int nbDownloadResults = restore(downloadCache, snapshot.getDownloadResults());
+		int nbParsingResults = restore(parsingCache, snapshot.getParsingResults());
+		int nbValidationResults = restore(validationCache, filterByDownloadResults(snapshot.getValidationResults(), snapshot));
+		LOG.info("Cache snapshot from {} restored with {} download, {} parsing and {} validation result(s)",
+				snapshot.getCreationTime(), nbDownloadResults, nbParsingResults, nbValidationResults);
+	}
+
+	private Map<CacheKey, ValidationResult> filterByDownloadResults(Map<CacheKey, ValidationResult> validationResults,
+																	 CacheSnapshot snapshot) {
+		final Map<CacheKey, ValidationResult> results = new HashMap<>();
+		for (Map.Entry<CacheKey, ValidationResult> entry : validationResults.entrySet()) {
+			if (snapshot.getDownloadResults().containsKey(entry.getKey())) {
+				results.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return results;
+	}
+
+	private <R extends CachedResult> int restore(AbstractCache<R> cache, Map<CacheKey, ? extends R> results) {
+		int nbRestored = 0;
+		for (Map.Entry<CacheKey, ? extends R> entry : results.entrySet()) {
+			if (entry.getKey() != null && entry.getValue() != null && cache.restore(entry.getKey(), entry.getValue())) {
+				++nbRestored;
+			}
+		}
+		return nbRestored;
+	}
+
+}
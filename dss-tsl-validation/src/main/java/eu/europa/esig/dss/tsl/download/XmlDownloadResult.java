@@ -33,6 +33,8 @@ import java.util.List;
  */
 public class XmlDownloadResult implements CachedResult {
 
+	private static final long serialVersionUID = -8298873824158639683L;
+
 	/** The downloaded document */
 	private final DSSDocument dssDocument;
 
@@ -22,6 +22,7 @@ package eu.europa.esig.dss.tsl.dto.condition;
 
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.extension.QcStatements;
+import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.QcStatementUtils;
 import eu.europa.esig.dss.model.tsl.Condition;
 import eu.europa.esig.dss.utils.Utils;
@@ -85,7 +86,7 @@ public class QCStatementCondition implements Condition {
 
 	@Override
 	public boolean check(CertificateToken certificateToken) {
-		final QcStatements qcStatements = QcStatementUtils.getQcStatements(certificateToken);
+		final QcStatements qcStatements = CertificateExtensionsUtils.getQcStatements(certificateToken);
 		if (qcStatements != null) {
 			if (Utils.isStringNotEmpty(oid) && !QcStatementUtils.isQcStatementPresent(qcStatements, oid)) {
 				return false;
@@ -0,0 +1,95 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.job;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reads a {@code CacheSnapshot} and rejects any class not present within the allow-list
+ * before its instantiation, in order to prevent the deserialization of unexpected objects
+ *
+ */
+class CacheSnapshotObjectInputStream extends ObjectInputStream {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CacheSnapshotObjectInputStream.class);
+
+	/** The package prefix of the DSS and trusted list classes allowed within a snapshot */
+	private static final String ESIG_PACKAGE_PREFIX = "eu.europa.esig.";
+
+	/** The JDK classes allowed within a snapshot */
+	private static final Set<String> ALLOWED_JDK_CLASSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+			"java.io.File", "java.lang.Boolean", "java.lang.Enum", "java.lang.Integer", "java.lang.Long", "java.lang.Number", "java.lang.String",
+			"java.util.ArrayList", "java.util.Collections$EmptyList", "java.util.Collections$EmptyMap",
+			"java.util.Collections$UnmodifiableCollection", "java.util.Collections$UnmodifiableList",
+			"java.util.Collections$UnmodifiableRandomAccessList", "java.util.Collections$UnmodifiableMap",
+			"java.util.Date", "java.util.EnumMap", "java.util.HashMap", "java.util.HashSet",
+			"java.util.LinkedHashMap", "java.util.LinkedHashSet", "java.util.LinkedList", "java.util.TreeMap",
+			"java.util.Collections$EmptySet", "java.util.Collections$UnmodifiableSet", "java.util.Collections$SingletonList",
+			"java.security.cert.Certificate$CertificateRep")));
+
+	/**
+	 * Default constructor
+	 *
+	 * @param is {@link InputStream} to read the snapshot from
+	 * @throws IOException if an error occurs on the stream header reading
+	 */
+	CacheSnapshotObjectInputStream(InputStream is) throws IOException {
+		super(is);
+	}
+
+	@Override
+	protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+		String className = desc.getName();
+		if (!isAllowed(className)) {
+			LOG.warn("The class '{}' is not allowed within a cache snapshot", className);
+			throw new InvalidClassException(className, "Class not allowed within a cache snapshot");
+		}
+		return super.resolveClass(desc);
+	}
+
+	private boolean isAllowed(String className) {
+		// arrays (e.g. "[B" or "[Leu.europa.esig...;")
+		String componentName = className;
+		while (componentName.startsWith("[")) {
+			componentName = componentName.substring(1);
+		}
+		if (componentName.length() == 1) {
+			// primitive array
+			return componentName.charAt(0) != 'L';
+		}
+		if (componentName.startsWith("L") && componentName.endsWith(";")) {
+			componentName = componentName.substring(1, componentName.length() - 1);
+		}
+		return componentName.startsWith(ESIG_PACKAGE_PREFIX) || ALLOWED_JDK_CLASSES.contains(componentName);
+	}
+
+}
@@ -27,13 +27,17 @@ import eu.europa.esig.dss.model.tsl.LOTLInfo;
 import eu.europa.esig.dss.model.tsl.TLInfo;
 import eu.europa.esig.dss.model.tsl.TLValidationJobSummary;
 import eu.europa.esig.dss.model.tsl.TrustPropertiesCertificateSource;
+import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.tsl.alerts.TLValidationJobAlerter;
 import eu.europa.esig.dss.tsl.cache.CacheCleaner;
 import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.CacheSnapshot;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessByKey;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessFactory;
 import eu.europa.esig.dss.tsl.cache.access.ReadOnlyCacheAccess;
 import eu.europa.esig.dss.tsl.dto.ParsingCacheDTO;
+import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
+import eu.europa.esig.dss.tsl.parsing.LOTLParsingResult;
 import eu.europa.esig.dss.tsl.runnable.LOTLAnalysis;
 import eu.europa.esig.dss.tsl.runnable.LOTLWithPivotsAnalysis;
 import eu.europa.esig.dss.tsl.runnable.TLAnalysis;
@@ -43,12 +47,27 @@ import eu.europa.esig.dss.tsl.summary.ValidationJobSummaryBuilder;
 import eu.europa.esig.dss.tsl.sync.AcceptAllStrategy;
 import eu.europa.esig.dss.tsl.sync.SynchronizationStrategy;
 import eu.europa.esig.dss.tsl.sync.TrustedListCertificateSourceSynchronizer;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +86,12 @@ public class TLValidationJob {
 
 	private static final Logger LOG = LoggerFactory.getLogger(TLValidationJob.class);
 
+	/** The algorithm used to integrity-protect a cache snapshot */
+	private static final String SNAPSHOT_MAC_ALGORITHM = "HmacSHA256";
+
+	/** The length of the HMAC preceding the content of a cache snapshot */
+	private static final int SNAPSHOT_MAC_LENGTH = 32;
+
 	/**
 	 * Contains all caches for the current validation job
 	 */
@@ -254,6 +279,146 @@ public class TLValidationJob {
 				.build();
 	}
 
+	/**
+	 * Saves the current content of the download, parsing and validation caches to the given {@code snapshotFile}.
+	 * The snapshot can be restored with {@code restoreCacheSnapshot(File, byte[])} on the next start of the application,
+	 * in order to skip the parsing and the validation of the TLs/LOTLs which have not changed in between.
+	 * The snapshot is integrity-protected with an HMAC-SHA256 computed with the given {@code macKey}.
+	 *
+	 * @param snapshotFile {@link File} to write the snapshot into
+	 * @param macKey secret key used to compute the HMAC of the snapshot
+	 */
+	public synchronized void saveCacheSnapshot(File snapshotFile, byte[] macKey) {
+		Objects.requireNonNull(snapshotFile, "The snapshotFile must be defined!");
+		assertMacKeyValid(macKey);
+		final CacheSnapshot snapshot = cacheAccessFactory.getSnapshotCacheAccess().createSnapshot();
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+			try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+				oos.writeObject(snapshot);
+			}
+			final byte[] content = baos.toByteArray();
+			try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(snapshotFile.toPath()))) {
+				os.write(computeMac(content, macKey));
+				os.write(content);
+			}
+		} catch (IOException | GeneralSecurityException e) {
+			throw new DSSException(String.format("Unable to save the cache snapshot to '%s' : %s",
+					snapshotFile.getAbsolutePath(), e.getMessage()), e);
+		}
+		LOG.info("Cache snapshot saved to '{}'", snapshotFile.getAbsolutePath());
+	}
+
+	/**
+	 * Restores the content of the download, parsing and validation caches from the given {@code snapshotFile}
+	 * created with {@code saveCacheSnapshot(File, byte[])}, and synchronizes the trusted certificate source with it.
+	 * This method is intended to be called before the first refresh.
+	 * A validation result is restored only when it has been obtained against the currently configured trusted
+	 * certificates (keystore of the LOTLs and TLs). On the next refresh, only the TLs/LOTLs with a content digest
+	 * or trusted certificates different from the snapshot are parsed and validated again.
+	 *
+	 * NOTE: the snapshot is only relevant for the same TL/LOTL sources configuration.
+	 * A missing, unreadable or not authentic (HMAC mismatch) snapshot is ignored and the caches are then filled
+	 * by the refresh.
+	 *
+	 * @param snapshotFile {@link File} to read the snapshot from
+	 * @param macKey secret key used to verify the HMAC of the snapshot
+	 * @return TRUE if the snapshot has been restored, FALSE otherwise
+	 */
+	public synchronized boolean restoreCacheSnapshot(File snapshotFile, byte[] macKey) {
+		Objects.requireNonNull(snapshotFile, "The snapshotFile must be defined!");
+		assertMacKeyValid(macKey);
+		if (!snapshotFile.isFile()) {
+			LOG.info("No cache snapshot found at '{}'", snapshotFile.getAbsolutePath());
+			return false;
+		}
+		try {
+			final byte[] fileContent = Files.readAllBytes(snapshotFile.toPath());
+			if (fileContent.length <= SNAPSHOT_MAC_LENGTH) {
+				LOG.warn("The file '{}' does not contain a cache snapshot", snapshotFile.getAbsolutePath());
+				return false;
+			}
+			final byte[] mac = Arrays.copyOfRange(fileContent, 0, SNAPSHOT_MAC_LENGTH);
+			final byte[] content = Arrays.copyOfRange(fileContent, SNAPSHOT_MAC_LENGTH, fileContent.length);
+			if (!MessageDigest.isEqual(mac, computeMac(content, macKey))) {
+				LOG.warn("The integrity of the cache snapshot '{}' cannot be verified. The snapshot is skipped.",
+						snapshotFile.getAbsolutePath());
+				return false;
+			}
+
+			try (ObjectInputStream ois = new CacheSnapshotObjectInputStream(new ByteArrayInputStream(content))) {
+				Object object = ois.readObject();
+				if (!(object instanceof CacheSnapshot)) {
+					LOG.warn("The file '{}' does not contain a cache snapshot", snapshotFile.getAbsolutePath());
+					return false;
+				}
+				final CacheSnapshot snapshot = (CacheSnapshot) object;
+				removeValidationResultsWithChangedTrust(snapshot);
+				cacheAccessFactory.getSnapshotCacheAccess().restore(snapshot);
+				synchronizeTLCertificateSource();
+				return true;
+			}
+		} catch (IOException | ClassNotFoundException | GeneralSecurityException e) {
+			LOG.warn("Unable to restore the cache snapshot from '{}' : {}", snapshotFile.getAbsolutePath(), e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Removes the validation results obtained against other trusted certificates than the configured ones,
+	 * in order to validate the related TLs/LOTLs again on the next refresh
+	 *
+	 * @param snapshot {@link CacheSnapshot} to be restored
+	 */
+	private void removeValidationResultsWithChangedTrust(CacheSnapshot snapshot) {
+		final Map<CacheKey, ValidationResult> validationResults = snapshot.getValidationResults();
+		if (trustedListSources != null) {
+			for (TLSource tlSource : trustedListSources) {
+				removeValidationResultsWithChangedTrust(validationResults, Collections.singletonList(tlSource.getCacheKey()),
+						tlSource.getCertificateSource());
+			}
+		}
+		if (listOfTrustedListSources != null) {
+			for (LOTLSource lotlSource : listOfTrustedListSources) {
+				// the LOTL followed by its pivots, the oldest pivot being validated against the configured certificates
+				final List<CacheKey> cacheKeys = new ArrayList<>();
+				cacheKeys.add(lotlSource.getCacheKey());
+				AbstractParsingResult parsingResult = snapshot.getParsingResults().get(lotlSource.getCacheKey());
+				if (lotlSource.isPivotSupport() && parsingResult instanceof LOTLParsingResult
+						&& Utils.isCollectionNotEmpty(((LOTLParsingResult) parsingResult).getPivotURLs())) {
+					for (String pivotUrl : ((LOTLParsingResult) parsingResult).getPivotURLs()) {
+						cacheKeys.add(new CacheKey(pivotUrl));
+					}
+				}
+				removeValidationResultsWithChangedTrust(validationResults, cacheKeys, lotlSource.getCertificateSource());
+			}
+		}
+	}
+
+	private void removeValidationResultsWithChangedTrust(Map<CacheKey, ValidationResult> validationResults,
+														 List<CacheKey> cacheKeys, CertificateSource certificateSource) {
+		final CacheKey trustAnchorCacheKey = cacheKeys.get(cacheKeys.size() - 1);
+		final ValidationResult validationResult = validationResults.get(trustAnchorCacheKey);
+		if (validationResult != null && !validationResult.isValidatedWith(certificateSource)) {
+			LOG.info("The trusted certificates have changed for the TL/LOTL with cache key '{}'. " +
+					"The persisted validation result is skipped.", trustAnchorCacheKey.getKey());
+			for (CacheKey cacheKey : cacheKeys) {
+				validationResults.remove(cacheKey);
+			}
+		}
+	}
+
+	private void assertMacKeyValid(byte[] macKey) {
+		if (macKey == null || macKey.length == 0) {
+			throw new IllegalArgumentException("The macKey must be defined!");
+		}
+	}
+
+	private byte[] computeMac(byte[] content, byte[] macKey) throws GeneralSecurityException {
+		final Mac mac = Mac.getInstance(SNAPSHOT_MAC_ALGORITHM);
+		mac.init(new SecretKeySpec(macKey, SNAPSHOT_MAC_ALGORITHM));
+		return mac.doFinal(content);
+	}
+
 	/**
 	 * Used to execute the refresh in offline mode (no date from remote sources will be downloaded)
 	 * By default used on initialization
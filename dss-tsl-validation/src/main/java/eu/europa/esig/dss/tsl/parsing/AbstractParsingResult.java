@@ -31,6 +31,8 @@ import java.util.List;
  */
 public abstract class AbstractParsingResult implements CachedResult {
 
+	private static final long serialVersionUID = 241076444839004929L;
+
 	/** The LOTL/TL TSLType */
 	private TSLType tslType;
 
@@ -29,6 +29,8 @@ import java.util.List;
  */
 public class LOTLParsingResult extends AbstractParsingResult {
 
+	private static final long serialVersionUID = 9111534309315146405L;
+
 	/** List of LOTL pointers */
 	private List<OtherTSLPointer> lotlPointers;
 
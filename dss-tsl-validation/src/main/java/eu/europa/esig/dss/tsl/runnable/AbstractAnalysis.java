@@ -147,6 +147,7 @@ public abstract class AbstractAnalysis  {
 	 * @param certificateSource {@link CertificateSource} to use
 	 */
 	protected void validation(DSSDocument document, CertificateSource certificateSource) {
+		expireValidationIfTrustedCertificatesChanged(cacheAccess, certificateSource);
 		// True if EMPTY / EXPIRED by TL/LOTL
 		if (cacheAccess.isValidationRefreshNeeded()) {
 			try {
@@ -160,6 +161,22 @@ public abstract class AbstractAnalysis  {
 		}
 	}
 
+	/**
+	 * Expires the validation result obtained against other trusted certificates than the ones
+	 * of the given {@code certificateSource} (e.g. a validation result restored from a cache snapshot
+	 * after a change of the configured keystore)
+	 *
+	 * @param cacheAccess {@link CacheAccessByKey} of the TL/LOTL
+	 * @param certificateSource {@link CertificateSource} containing the currently trusted certificates
+	 */
+	protected void expireValidationIfTrustedCertificatesChanged(CacheAccessByKey cacheAccess, CertificateSource certificateSource) {
+		if (!cacheAccess.isValidationRefreshNeeded() && !cacheAccess.isValidatedWith(certificateSource)) {
+			LOG.info("The trusted certificates have changed for the TL/LOTL with cache key '{}'. The validation is performed again.",
+					cacheAccess.getCacheKey().getKey());
+			cacheAccess.expireValidation();
+		}
+	}
+
 	/**
 	 * Returns the corresponding validation task for the source on the given document using the provided certificate source
 	 *
@@ -147,6 +147,7 @@ public class LOTLWithPivotsAnalysis extends LOTLAnalysis {
 	}
 
 	private void validationPivot(CacheAccessByKey pivotCacheAccess, DSSDocument document, CertificateSource certificateSource) {
+		expireValidationIfTrustedCertificatesChanged(pivotCacheAccess, certificateSource);
 		// True if EMPTY / EXPIRED by TL/LOTL
 		if (pivotCacheAccess.isValidationRefreshNeeded()) {
 			try {
@@ -122,6 +122,10 @@ public class TrustedListCertificateSourceSynchronizer {
 	}
 
 	private boolean isCertificateSyncNeeded(TLValidationJobSummary summary) {
+		if (certificateSource.getSummary() == null) {
+			// never synchronized (e.g. caches restored from a snapshot)
+			return true;
+		}
 		for (LOTLInfo lotlInfo : summary.getLOTLInfos()) {
 			if (isTLParsingDesyncOrError(lotlInfo.getTLInfos())) {
 				return true;
@@ -31,7 +31,7 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.policy.ValidationPolicy;
-import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.policy.ValidationPolicyCache;
 import eu.europa.esig.dss.simplereport.SimpleReport;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.policy.SignaturePolicyProvider;
@@ -132,7 +132,7 @@ public class TLValidatorTask implements Supplier<ValidationResult> {
 
 	private ValidationPolicy getTrustedListValidationPolicy() {
 		try {
-			return ValidationPolicyFacade.newFacade().getTrustedListValidationPolicy();
+			return ValidationPolicyCache.getInstance().getTrustedListValidationPolicy();
 		} catch (Exception e) {
 			throw new DSSException("Unable to load the validation policy for trusted list", e);
 		}
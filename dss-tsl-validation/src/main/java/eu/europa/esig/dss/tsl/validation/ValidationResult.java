@@ -28,6 +28,7 @@ import eu.europa.esig.dss.tsl.cache.CachedResult;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -35,8 +36,10 @@ import java.util.List;
  */
 public class ValidationResult implements CachedResult {
 
-	/** The used certificate source */
-	private final CertificateSource certificateSource;
+	private static final long serialVersionUID = 2194375810427936618L;
+
+	/** The certificates trusted at the validation time (copied from the used certificate source) */
+	private final List<CertificateToken> potentialSigners;
 
 	/** The validation Indication */
 	private Indication indication;
@@ -65,7 +68,7 @@ public class ValidationResult implements CachedResult {
 		this.subIndication = subIndication;
 		this.signingTime = signingTime;
 		this.signingCertificate = signingCertificate;
-		this.certificateSource = certificateSource;
+		this.potentialSigners = certificateSource != null ? new ArrayList<>(certificateSource.getCertificates()) : new ArrayList<>();
 	}
 
 	/**
@@ -110,7 +113,18 @@ public class ValidationResult implements CachedResult {
 	 * @return a list of {@link CertificateToken}s
 	 */
 	public List<CertificateToken> getPotentialSigners() {
-		return new ArrayList<>(certificateSource.getCertificates());
+		return new ArrayList<>(potentialSigners);
+	}
+
+	/**
+	 * Checks if the result has been obtained against the same trusted certificates as the given {@code certificateSource}
+	 *
+	 * @param certificateSource {@link CertificateSource} containing the currently trusted certificates
+	 * @return TRUE if the trusted certificates are unchanged, FALSE otherwise
+	 */
+	public boolean isValidatedWith(CertificateSource certificateSource) {
+		return certificateSource != null
+				&& new HashSet<>(potentialSigners).equals(new HashSet<>(certificateSource.getCertificates()));
 	}
 
 }
@@ -0,0 +1,321 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.job;
+
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.tsl.LOTLInfo;
+import eu.europa.esig.dss.model.tsl.ParsingInfoRecord;
+import eu.europa.esig.dss.model.tsl.TLValidationJobSummary;
+import eu.europa.esig.dss.model.tsl.ValidationInfoRecord;
+import eu.europa.esig.dss.service.http.commons.FileCacheDataLoader;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.x509.CertificateSource;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
+import eu.europa.esig.dss.tsl.source.LOTLSource;
+import eu.europa.esig.dss.tsl.source.TLSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheSnapshotTest {
+
+	@TempDir
+	File cacheDirectory;
+
+	private static final byte[] MAC_KEY = "0123456789abcdef0123456789abcdef".getBytes();
+
+	@Test
+	void test() throws Exception {
+		File snapshotFile = new File(cacheDirectory, "tl-cache.snapshot");
+
+		TLValidationJob job = new TLValidationJob();
+		job.setListOfTrustedListSources(getLOTLSource(getCertificateSource()));
+		job.setOfflineDataLoader(getOfflineFileLoader());
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		job.offlineRefresh();
+
+		checks(job.getSummary(), Indication.TOTAL_PASSED);
+
+		job.saveCacheSnapshot(snapshotFile, MAC_KEY);
+		assertTrue(snapshotFile.exists());
+
+		TrustedListsCertificateSource trustedListsCertificateSource = new TrustedListsCertificateSource();
+		TLValidationJob restoredJob = new TLValidationJob();
+		restoredJob.setListOfTrustedListSources(getLOTLSource(getCertificateSource()));
+		restoredJob.setOfflineDataLoader(getOfflineFileLoader());
+		restoredJob.setTrustedListCertificateSource(trustedListsCertificateSource);
+		assertTrue(restoredJob.restoreCacheSnapshot(snapshotFile, MAC_KEY));
+
+		// the validation results are restored and published before any refresh
+		checks(restoredJob.getSummary(), Indication.TOTAL_PASSED);
+		assertNotNull(trustedListsCertificateSource.getSummary());
+		Date validationTime = restoredJob.getSummary().getLOTLInfos().get(0).getValidationCacheInfo().getLastStateTransitionTime();
+
+		Thread.sleep(10);
+		restoredJob.offlineRefresh();
+
+		// unchanged LOTL : the parsing and validation results are re-used from the snapshot (no TLValidatorTask)
+		checks(restoredJob.getSummary(), Indication.TOTAL_PASSED);
+		assertEquals(validationTime, restoredJob.getSummary().getLOTLInfos().get(0).getValidationCacheInfo().getLastStateTransitionTime());
+	}
+
+	@Test
+	void trustedCertificatesChangedOnRefreshTest() throws Exception {
+		File snapshotFile = new File(cacheDirectory, "tl-cache.snapshot");
+
+		TLValidationJob job = new TLValidationJob();
+		job.setListOfTrustedListSources(getLOTLSource(getCertificateSource()));
+		job.setOfflineDataLoader(getOfflineFileLoader());
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		job.offlineRefresh();
+		job.saveCacheSnapshot(snapshotFile, MAC_KEY);
+
+		CertificateSource certificateSource = getCertificateSource();
+		TLValidationJob restoredJob = new TLValidationJob();
+		restoredJob.setListOfTrustedListSources(getLOTLSource(certificateSource));
+		restoredJob.setOfflineDataLoader(getOfflineFileLoader());
+		restoredJob.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		assertTrue(restoredJob.restoreCacheSnapshot(snapshotFile, MAC_KEY));
+		Date validationTime = restoredJob.getSummary().getLOTLInfos().get(0).getValidationCacheInfo().getLastStateTransitionTime();
+
+		// the keystore changes after the restoration : the LOTL is validated again
+		certificateSource.addCertificate(DSSUtils.loadCertificate(new File("src/test/resources/pe-signing-cert.cer")));
+
+		Thread.sleep(10);
+		restoredJob.offlineRefresh();
+
+		checks(restoredJob.getSummary(), Indication.TOTAL_PASSED);
+		assertNotEquals(validationTime, restoredJob.getSummary().getLOTLInfos().get(0).getValidationCacheInfo().getLastStateTransitionTime());
+	}
+
+	@Test
+	void trustedCertificatesChangedTest() {
+		File snapshotFile = new File(cacheDirectory, "tl-cache.snapshot");
+
+		TLValidationJob job = new TLValidationJob();
+		job.setListOfTrustedListSources(getLOTLSource(getCertificateSource()));
+		job.setOfflineDataLoader(getOfflineFileLoader());
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		job.offlineRefresh();
+		checks(job.getSummary(), Indication.TOTAL_PASSED);
+
+		job.saveCacheSnapshot(snapshotFile, MAC_KEY);
+
+		// the LOTL signing certificate is not provided : the validation result is not restored and the LOTL validation fails
+		TLValidationJob restoredJob = new TLValidationJob();
+		restoredJob.setListOfTrustedListSources(getLOTLSource(new CommonCertificateSource()));
+		restoredJob.setOfflineDataLoader(getOfflineFileLoader());
+		restoredJob.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		assertTrue(restoredJob.restoreCacheSnapshot(snapshotFile, MAC_KEY));
+		assertTrue(restoredJob.getSummary().getLOTLInfos().get(0).getValidationCacheInfo().isRefreshNeeded());
+
+		restoredJob.offlineRefresh();
+		checks(restoredJob.getSummary(), Indication.INDETERMINATE);
+	}
+
+	@Test
+	void wrongKeyTest() {
+		File snapshotFile = new File(cacheDirectory, "tl-cache.snapshot");
+
+		TLValidationJob job = new TLValidationJob();
+		job.setListOfTrustedListSources(getLOTLSource(getCertificateSource()));
+		job.setOfflineDataLoader(getOfflineFileLoader());
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		job.offlineRefresh();
+		job.saveCacheSnapshot(snapshotFile, MAC_KEY);
+
+		TLValidationJob restoredJob = new TLValidationJob();
+		restoredJob.setListOfTrustedListSources(getLOTLSource(getCertificateSource()));
+		restoredJob.setOfflineDataLoader(getOfflineFileLoader());
+		restoredJob.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		assertFalse(restoredJob.restoreCacheSnapshot(snapshotFile, "another key".getBytes()));
+		assertThrows(IllegalArgumentException.class, () -> restoredJob.restoreCacheSnapshot(snapshotFile, null));
+	}
+
+	@Test
+	void tamperedSnapshotTest() throws IOException {
+		File snapshotFile = new File(cacheDirectory, "tl-cache.snapshot");
+
+		TLValidationJob job = new TLValidationJob();
+		job.setListOfTrustedListSources(getLOTLSource(getCertificateSource()));
+		job.setOfflineDataLoader(getOfflineFileLoader());
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		job.offlineRefresh();
+		job.saveCacheSnapshot(snapshotFile, MAC_KEY);
+
+		byte[] content = Files.readAllBytes(snapshotFile.toPath());
+		content[content.length - 1] ^= 1;
+		Files.write(snapshotFile.toPath(), content);
+
+		TLValidationJob restoredJob = new TLValidationJob();
+		restoredJob.setListOfTrustedListSources(getLOTLSource(getCertificateSource()));
+		restoredJob.setOfflineDataLoader(getOfflineFileLoader());
+		restoredJob.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		assertFalse(restoredJob.restoreCacheSnapshot(snapshotFile, MAC_KEY));
+	}
+
+	@Test
+	void notAllowedClassTest() throws Exception {
+		File snapshotFile = new File(cacheDirectory, "tl-cache.snapshot");
+
+		// authentic snapshot containing an object of a class outside the allow-list
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+			oos.writeObject(new AtomicLong(1));
+		}
+		byte[] content = baos.toByteArray();
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(MAC_KEY, "HmacSHA256"));
+		try (OutputStream os = Files.newOutputStream(snapshotFile.toPath())) {
+			os.write(mac.doFinal(content));
+			os.write(content);
+		}
+
+		TLValidationJob job = new TLValidationJob();
+		job.setListOfTrustedListSources(getLOTLSource(getCertificateSource()));
+		job.setOfflineDataLoader(getOfflineFileLoader());
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		assertFalse(job.restoreCacheSnapshot(snapshotFile, MAC_KEY));
+	}
+
+	@Test
+	void trustedListTest() {
+		File snapshotFile = new File(cacheDirectory, "tl-cache.snapshot");
+
+		Map<String, DSSDocument> urlMap = new HashMap<>();
+		urlMap.put("CZ", new FileDocument("src/test/resources/lotlCache/CZ.xml"));
+		FileCacheDataLoader offlineFileLoader = new FileCacheDataLoader();
+		offlineFileLoader.setCacheExpirationTime(Long.MAX_VALUE);
+		offlineFileLoader.setDataLoader(new MockDataLoader(urlMap));
+		offlineFileLoader.setFileCacheDirectory(cacheDirectory);
+
+		TLSource tlSource = new TLSource();
+		tlSource.setUrl("CZ");
+		tlSource.setCertificateSource(new CommonCertificateSource());
+
+		TLValidationJob job = new TLValidationJob();
+		job.setTrustedListSources(tlSource);
+		job.setOfflineDataLoader(offlineFileLoader);
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		job.offlineRefresh();
+		job.saveCacheSnapshot(snapshotFile, MAC_KEY);
+
+		// the parsed trust service providers are accepted by the allow-list
+		TLValidationJob restoredJob = new TLValidationJob();
+		restoredJob.setTrustedListSources(tlSource);
+		assertTrue(restoredJob.restoreCacheSnapshot(snapshotFile, MAC_KEY));
+
+		ParsingInfoRecord parsingCacheInfo = restoredJob.getSummary().getOtherTLInfos().get(0).getParsingCacheInfo();
+		assertTrue(parsingCacheInfo.isResultExist());
+		assertEquals(job.getSummary().getOtherTLInfos().get(0).getParsingCacheInfo().getTSPNumber(), parsingCacheInfo.getTSPNumber());
+	}
+
+	@Test
+	void missingSnapshotTest() {
+		TLValidationJob job = new TLValidationJob();
+		job.setListOfTrustedListSources(getLOTLSource(getCertificateSource()));
+		job.setOfflineDataLoader(getOfflineFileLoader());
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		assertFalse(job.restoreCacheSnapshot(new File(cacheDirectory, "missing.snapshot"), MAC_KEY));
+
+		job.offlineRefresh();
+		checks(job.getSummary(), Indication.TOTAL_PASSED);
+	}
+
+	@Test
+	void corruptedSnapshotTest() throws IOException {
+		File snapshotFile = new File(cacheDirectory, "corrupted.snapshot");
+		Files.write(snapshotFile.toPath(), "Hello world!".getBytes());
+
+		TLValidationJob job = new TLValidationJob();
+		job.setListOfTrustedListSources(getLOTLSource(getCertificateSource()));
+		job.setOfflineDataLoader(getOfflineFileLoader());
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		assertFalse(job.restoreCacheSnapshot(snapshotFile, MAC_KEY));
+
+		job.offlineRefresh();
+		checks(job.getSummary(), Indication.TOTAL_PASSED);
+	}
+
+	private void checks(TLValidationJobSummary summary, Indication expectedIndication) {
+		assertNotNull(summary);
+		assertEquals(1, summary.getNumberOfProcessedLOTLs());
+		LOTLInfo lotlInfo = summary.getLOTLInfos().get(0);
+		assertTrue(lotlInfo.getDownloadCacheInfo().isSynchronized());
+
+		ParsingInfoRecord parsingCacheInfo = lotlInfo.getParsingCacheInfo();
+		assertTrue(parsingCacheInfo.isSynchronized());
+		assertEquals(5, parsingCacheInfo.getVersion());
+		assertEquals(248, parsingCacheInfo.getSequenceNumber());
+
+		ValidationInfoRecord validationCacheInfo = lotlInfo.getValidationCacheInfo();
+		assertTrue(validationCacheInfo.isSynchronized());
+		assertEquals(expectedIndication, validationCacheInfo.getIndication());
+	}
+
+	private FileCacheDataLoader getOfflineFileLoader() {
+		Map<String, DSSDocument> urlMap = new HashMap<>();
+		urlMap.put("EU", new FileDocument("src/test/resources/lotlCache/EU.xml"));
+
+		FileCacheDataLoader offlineFileLoader = new FileCacheDataLoader();
+		offlineFileLoader.setCacheExpirationTime(Long.MAX_VALUE);
+		offlineFileLoader.setDataLoader(new MockDataLoader(urlMap));
+		offlineFileLoader.setFileCacheDirectory(cacheDirectory);
+		return offlineFileLoader;
+	}
+
+	private LOTLSource getLOTLSource(CertificateSource certificateSource) {
+		LOTLSource lotl = new LOTLSource();
+		lotl.setUrl("EU");
+		lotl.setCertificateSource(certificateSource);
+		return lotl;
+	}
+
+	private CertificateSource getCertificateSource() {
+		CertificateSource certificateSource = new CommonCertificateSource();
+		certificateSource.addCertificate(DSSUtils.loadCertificateFromBase64EncodedString(
+				"MIIG7zCCBNegAwIBAgIQEAAAAAAAnuXHXttK9Tyf2zANBgkqhkiG9w0BAQsFADBkMQswCQYDVQQGEwJCRTERMA8GA1UEBxMIQnJ1c3NlbHMxHDAaBgNVBAoTE0NlcnRpcG9zdCBOLlYuL1MuQS4xEzARBgNVBAMTCkNpdGl6ZW4gQ0ExDzANBgNVBAUTBjIwMTgwMzAeFw0xODA2MDEyMjA0MTlaFw0yODA1MzAyMzU5NTlaMHAxCzAJBgNVBAYTAkJFMSMwIQYDVQQDExpQYXRyaWNrIEtyZW1lciAoU2lnbmF0dXJlKTEPMA0GA1UEBBMGS3JlbWVyMRUwEwYDVQQqEwxQYXRyaWNrIEplYW4xFDASBgNVBAUTCzcyMDIwMzI5OTcwMIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAr7g7VriDY4as3R4LPOg7uPH5inHzaVMOwFb/8YOW+9IVMHz/V5dJAzeTKvhLG5S4Pk6Kd2E+h18FlRonp70Gv2+ijtkPk7ZQkfez0ycuAbLXiNx2S7fc5GG9LGJafDJgBgTQuQm1aDVLDQ653mqR5tAO+gEf6vs4zRESL3MkYXAUq+S/WocEaGpIheNVAF3iPSkvEe3LvUjF/xXHWF4aMvqGK6kXGseaTcn9hgTbceuW2PAiEr+eDTNczkwGBDFXwzmnGFPMRez3ONk/jIKhha8TylDSfI/MX3ODt0dU3jvJEKPIfUJixBPehxMJMwWxTjFbNu/CK7tJ8qT2i1S4VQIDAQABo4ICjzCCAoswHwYDVR0jBBgwFoAU2TQhPjpCJW3hu7++R0z4Aq3jL1QwcwYIKwYBBQUHAQEEZzBlMDkGCCsGAQUFBzAChi1odHRwOi8vY2VydHMuZWlkLmJlbGdpdW0uYmUvY2l0aXplbjIwMTgwMy5jcnQwKAYIKwYBBQUHMAGGHGh0dHA6Ly9vY3NwLmVpZC5iZWxnaXVtLmJlLzIwggEjBgNVHSAEggEaMIIBFjCCAQcGB2A4DAEBAgEwgfswLAYIKwYBBQUHAgEWIGh0dHA6Ly9yZXBvc2l0b3J5LmVpZC5iZWxnaXVtLmJlMIHKBggrBgEFBQcCAjCBvQyBukdlYnJ1aWsgb25kZXJ3b3JwZW4gYWFuIGFhbnNwcmFrZWxpamtoZWlkc2JlcGVya2luZ2VuLCB6aWUgQ1BTIC0gVXNhZ2Ugc291bWlzIMOgIGRlcyBsaW1pdGF0aW9ucyBkZSByZXNwb25zYWJpbGl0w6ksIHZvaXIgQ1BTIC0gVmVyd2VuZHVuZyB1bnRlcmxpZWd0IEhhZnR1bmdzYmVzY2hyw6Rua3VuZ2VuLCBnZW3DpHNzIENQUzAJBgcEAIvsQAECMDkGA1UdHwQyMDAwLqAsoCqGKGh0dHA6Ly9jcmwuZWlkLmJlbGdpdW0uYmUvZWlkYzIwMTgwMy5jcmwwDgYDVR0PAQH/BAQDAgZAMBMGA1UdJQQMMAoGCCsGAQUFBwMEMGwGCCsGAQUFBwEDBGAwXjAIBgYEAI5GAQEwCAYGBACORgEEMDMGBgQAjkYBBTApMCcWIWh0dHBzOi8vcmVwb3NpdG9yeS5laWQuYmVsZ2l1bS5iZRMCZW4wEwYGBACORgEGMAkGBwQAjkYBBgEwDQYJKoZIhvcNAQELBQADggIBACBY+OLhM7BryzXWklDUh9UK1+cDVboPg+lN1Et1lAEoxV4y9zuXUWLco9t8M5WfDcWFfDxyhatLedku2GurSJ1t8O/knDwLLyoJE1r2Db9VrdG+jtST+j/TmJHAX3yNWjn/9dsjiGQQuTJcce86rlzbGdUqjFTt5mGMm4zy4l/wKy6XiDKiZT8cFcOTevsl+l/vxiLiDnghOwTztVZhmWExeHG9ypqMFYmIucHQ0SFZre8mv3c7Df+VhqV/sY9xLERK3Ffk4l6B5qRPygImXqGzNSWiDISdYeUf4XoZLXJBEP7/36r4mlnP2NWQ+c1ORjesuDAZ8tD/yhMvR4DVG95EScjpTYv1wOmVB2lQrWnEtygZIi60HXfozo8uOekBnqWyDc1kuizZsYRfVNlwhCu7RsOq4zN8gkael0fejuSNtBf2J9A+rc9LQeu6AcdPauWmbxtJV93H46pFptsR8zXo+IJn5m2P9QPZ3mvDkzldNTGLG+ukhN7IF2CCcagt/WoVZLq3qKC35WVcqeoSMEE/XeSrf3/mIJ1OyFQm+tsfhTceOFDXuUgl3E86bR/f8Ur/bapwXpWpFxGIpXLGaJXbzQGSTtyNEYrdENlh71I3OeYdw3xmzU2B3tbaWREOXtj2xjyW2tIv+vvHG6sloR1QkIkGMFfzsT7W5U6ILetv"));
+		return certificateSource;
+	}
+
+}
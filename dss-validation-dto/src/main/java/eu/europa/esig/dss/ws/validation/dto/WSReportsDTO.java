@@ -60,6 +60,9 @@ public class WSReportsDTO implements Serializable {
 	/** The ETSI validation report */
 	private transient ValidationReportType validationReport;
 
+	/** The error message, when the document of a batch failed to be validated */
+	private String errorMessage;
+
 	/**
 	 * Empty constructor
 	 */
@@ -192,4 +195,23 @@ public class WSReportsDTO implements Serializable {
 		this.validationReport = validationReport;
 	}
 
+	/**
+	 * Gets the error message, when the validation of the document within a batch failed.
+	 * In such a case, the reports are not defined.
+	 *
+	 * @return {@link String} error message, NULL when the document has been validated
+	 */
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	/**
+	 * Sets the error message, when the validation of the document within a batch failed
+	 *
+	 * @param errorMessage {@link String}
+	 */
+	public void setErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+	}
+
 }
@@ -57,6 +57,23 @@ public interface RestDocumentValidationService extends Serializable {
 	@Path("validateSignature")
 	WSReportsDTO validateSignature(DataToValidateDTO dataToValidate);
 
+	/**
+	 * This method returns the results of the validation of a batch of signed
+	 * files. Each result contains a Diagnostic Data, simple report, detailed
+	 * report and ETSI Validation report, or an error message when the file failed to
+	 * be validated. A batch exceeding the maximum batch size configured on the
+	 * server (5000 documents by default) is rejected
+	 * 
+	 * @param dataToValidateList
+	 *                       a list of {@code DataToValidateDTO}s, each containing
+	 *                       the signature, the optional original document(s) and
+	 *                       the optional validation policy
+	 * @return a List of {@code WSReportsDTO}, in the order of the requests
+	 */
+	@POST
+	@Path("validateSignatures")
+	List<WSReportsDTO> validateSignatures(List<DataToValidateDTO> dataToValidateList);
+
 	/**
 	 * This method returns the original document(s) for the given signed file and
 	 * optionally the signatureId.
@@ -58,6 +58,11 @@ public class RestDocumentValidationServiceImpl implements RestDocumentValidation
 		return validationService.validateDocument(dataToValidate);
 	}
 
+	@Override
+	public List<WSReportsDTO> validateSignatures(List<DataToValidateDTO> dataToValidateList) {
+		return validationService.validateDocuments(dataToValidateList);
+	}
+
 	@Override
 	public List<RemoteDocument> getOriginalDocuments(DataToValidateDTO dataToValidate) {
 		return validationService.getOriginalDocuments(dataToValidate);
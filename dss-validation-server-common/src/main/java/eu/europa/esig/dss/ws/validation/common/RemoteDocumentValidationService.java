@@ -23,6 +23,7 @@ package eu.europa.esig.dss.ws.validation.common;
 import eu.europa.esig.dss.spi.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.policy.ValidationPolicy;
+import eu.europa.esig.dss.policy.ValidationPolicyCache;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
@@ -39,7 +40,17 @@ import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 
 /**
  * The remote validation service
@@ -48,12 +59,21 @@ public class RemoteDocumentValidationService {
 
 	private static final Logger LOG = LoggerFactory.getLogger(RemoteDocumentValidationService.class);
 
+	/** The default maximum number of documents accepted within a batch */
+	private static final int DEFAULT_MAXIMUM_BATCH_SIZE = 5000;
+
 	/** The certificate verifier to use */
 	private CertificateVerifier verifier;
 
 	/** The validation policy to be used by default */
 	private ValidationPolicy defaultValidationPolicy;
 
+	/** The executor used to validate documents of a batch in parallel */
+	private ExecutorService executorService;
+
+	/** The maximum number of documents accepted within a batch */
+	private int maximumBatchSize = DEFAULT_MAXIMUM_BATCH_SIZE;
+
 	/**
 	 * Default construction instantiating object with null certificate verifier
 	 */
@@ -92,6 +112,38 @@ public class RemoteDocumentValidationService {
 		this.defaultValidationPolicy = validationPolicy;
 	}
 
+	/**
+	 * Sets the {@code ExecutorService} used to validate documents of a batch in parallel
+	 * (see {@code #validateDocuments}). When not defined, the documents of a batch are validated sequentially.
+	 * NOTE: it is recommended to provide a bounded executor (e.g. {@code Executors.newFixedThreadPool(...)}).
+	 *       The executor is not shut down by the service.
+	 * WARNING: the executor shall not be the one used by the {@code CertificateVerifier}
+	 *          (see {@code CommonCertificateVerifier#setExecutorService}). The validation tasks wait for the retrieval
+	 *          of revocation data and AIA certificates submitted to the latter, which would deadlock once all
+	 *          the threads of a shared bounded pool are busy validating documents.
+	 *
+	 * @param executorService {@link ExecutorService}
+	 * @throws IllegalArgumentException if the executor is the one used by the defined {@code CertificateVerifier}
+	 */
+	public void setExecutorService(ExecutorService executorService) {
+		assertExecutorServiceNotShared(executorService);
+		this.executorService = executorService;
+	}
+
+	/**
+	 * Sets the maximum number of documents accepted within a batch (see {@code #validateDocuments}).
+	 * A request containing more documents is rejected.
+	 * Default : 5000
+	 *
+	 * @param maximumBatchSize the maximum number of documents within a batch
+	 */
+	public void setMaximumBatchSize(int maximumBatchSize) {
+		if (maximumBatchSize < 1) {
+			throw new IllegalArgumentException("The maximum batch size shall be a positive number!");
+		}
+		this.maximumBatchSize = maximumBatchSize;
+	}
+
 	/**
 	 * Validates the document
 	 *
@@ -100,6 +152,123 @@ public class RemoteDocumentValidationService {
 	 */
 	public WSReportsDTO validateDocument(DataToValidateDTO dataToValidate) {
 		LOG.info("ValidateDocument in process...");
+		WSReportsDTO reportsDTO = validate(dataToValidate);
+		LOG.info("ValidateDocument is finished");
+		return reportsDTO;
+	}
+
+	/**
+	 * Validates a batch of documents. The documents are validated in parallel when an {@code ExecutorService}
+	 * is defined, sharing the certificate verifier (and its revocation, AIA and certificate caches) and
+	 * the loaded validation policies within the batch.
+	 *
+	 * A document failing to be validated does not interrupt the batch, its response containing
+	 * the error message instead of the reports (see {@code WSReportsDTO#getErrorMessage}).
+	 *
+	 * @param dataToValidateList a list of {@link DataToValidateDTO} requests
+	 * @return a list of {@link WSReportsDTO} responses, in the order of the requests
+	 * @throws DSSRemoteServiceException if the batch exceeds the maximum batch size
+	 */
+	public List<WSReportsDTO> validateDocuments(List<DataToValidateDTO> dataToValidateList) {
+		Objects.requireNonNull(dataToValidateList, "List of DataToValidateDTO shall be defined!");
+		assertBatchSizeAllowed(dataToValidateList);
+		final WSReportsDTO[] result = new WSReportsDTO[dataToValidateList.size()];
+		validateDocuments(dataToValidateList, (index, reportsDTO) -> result[index] = reportsDTO);
+		return Arrays.asList(result);
+	}
+
+	/**
+	 * Validates a batch of documents and provides each response to the {@code consumer} as soon as it is available.
+	 * The consumer is called from the current thread with the position of the request in the list
+	 * and the corresponding {@code WSReportsDTO}. When an {@code ExecutorService} is defined, the documents are
+	 * validated in parallel and the responses are provided in the order of completion.
+	 * A document failing to be validated does not interrupt the batch, the consumer receiving a response
+	 * containing the error message instead of the reports (see {@code WSReportsDTO#getErrorMessage}).
+	 *
+	 * @param dataToValidateList a list of {@link DataToValidateDTO} requests
+	 * @param consumer {@link BiConsumer} accepting the index of the request and its {@link WSReportsDTO} response
+	 * @throws DSSRemoteServiceException if the batch exceeds the maximum batch size
+	 * @throws IllegalArgumentException if the {@code ExecutorService} is the one used by the {@code CertificateVerifier}
+	 */
+	public void validateDocuments(List<DataToValidateDTO> dataToValidateList, BiConsumer<Integer, WSReportsDTO> consumer) {
+		Objects.requireNonNull(dataToValidateList, "List of DataToValidateDTO shall be defined!");
+		Objects.requireNonNull(consumer, "Consumer shall be defined!");
+		assertBatchSizeAllowed(dataToValidateList);
+		LOG.info("ValidateDocuments in process for {} document(s)...", dataToValidateList.size());
+		if (executorService == null) {
+			for (int i = 0; i < dataToValidateList.size(); i++) {
+				consumer.accept(i, validateBatchItem(dataToValidateList.get(i), i));
+			}
+
+		} else {
+			assertExecutorServiceNotShared(executorService);
+			validateInParallel(dataToValidateList, consumer);
+		}
+		LOG.info("ValidateDocuments is finished");
+	}
+
+	private void assertBatchSizeAllowed(List<DataToValidateDTO> dataToValidateList) {
+		if (dataToValidateList.size() > maximumBatchSize) {
+			throw new DSSRemoteServiceException(String.format("The number of documents to validate (%s) exceeds " +
+					"the maximum batch size (%s)!", dataToValidateList.size(), maximumBatchSize));
+		}
+	}
+
+	private void assertExecutorServiceNotShared(ExecutorService executorService) {
+		if (executorService != null && verifier != null && executorService == verifier.getExecutorService()) {
+			throw new IllegalArgumentException("The ExecutorService of the batch validation shall not be " +
+					"the one used by the CertificateVerifier!");
+		}
+	}
+
+	private void validateInParallel(List<DataToValidateDTO> dataToValidateList, BiConsumer<Integer, WSReportsDTO> consumer) {
+		final CompletionService<WSReportsDTO> completionService = new ExecutorCompletionService<>(executorService);
+		final Map<Future<WSReportsDTO>, Integer> futures = new IdentityHashMap<>();
+		try {
+			for (int i = 0; i < dataToValidateList.size(); i++) {
+				final DataToValidateDTO dataToValidate = dataToValidateList.get(i);
+				final int index = i;
+				futures.put(completionService.submit(() -> validateBatchItem(dataToValidate, index)), i);
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				final Future<WSReportsDTO> future = completionService.take();
+				final Integer index = futures.get(future);
+				WSReportsDTO reportsDTO;
+				try {
+					reportsDTO = future.get();
+				} catch (ExecutionException e) {
+					reportsDTO = toErrorReportsDTO(e.getCause(), index);
+				}
+				consumer.accept(index, reportsDTO);
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSRemoteServiceException(String.format("The validation process has been interrupted : %s", e.getMessage()), e);
+		} finally {
+			for (Future<WSReportsDTO> future : futures.keySet()) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	private WSReportsDTO validateBatchItem(DataToValidateDTO dataToValidate, int index) {
+		try {
+			return validate(dataToValidate);
+		} catch (Exception e) {
+			return toErrorReportsDTO(e, index);
+		}
+	}
+
+	private WSReportsDTO toErrorReportsDTO(Throwable e, int index) {
+		String errorMessage = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+		LOG.warn("Unable to validate the document at position {} of the batch : {}", index, errorMessage, e);
+		WSReportsDTO reportsDTO = new WSReportsDTO();
+		reportsDTO.setErrorMessage(errorMessage);
+		return reportsDTO;
+	}
+
+	private WSReportsDTO validate(DataToValidateDTO dataToValidate) {
 		SignedDocumentValidator validator = initValidator(dataToValidate);
 
 		Reports reports;
@@ -112,10 +281,8 @@ public class RemoteDocumentValidationService {
 			reports = validator.validateDocument();
 		}
 
-		WSReportsDTO reportsDTO = new WSReportsDTO(reports.getDiagnosticDataJaxb(), reports.getSimpleReportJaxb(), 
+		return new WSReportsDTO(reports.getDiagnosticDataJaxb(), reports.getSimpleReportJaxb(),
 				reports.getDetailedReportJaxb(), reports.getEtsiValidationReportJaxb());
-		LOG.info("ValidateDocument is finished");
-		return reportsDTO;
 	}
 
 	/**
@@ -145,7 +312,7 @@ public class RemoteDocumentValidationService {
 
 	private ValidationPolicy getValidationPolicy(RemoteDocument policy) {
 		try (ByteArrayInputStream bais = new ByteArrayInputStream(policy.getBytes())) {
-			return ValidationPolicyFacade.newFacade().getValidationPolicy(bais);
+			return ValidationPolicyCache.getInstance().getValidationPolicy(bais);
 		} catch (Exception e) {
 			throw new IllegalInputException(String.format("Unable to load the validation policy : %s", e.getMessage()), e);
 		}
@@ -41,6 +41,7 @@ import eu.europa.esig.dss.spi.validation.CommonCertificateVerifier;
 import eu.europa.esig.dss.validation.reports.Reports;
 import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
 import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
 import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
 import jakarta.xml.bind.JAXBElement;
@@ -48,14 +49,19 @@ import jakarta.xml.bind.Unmarshaller;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RemoteDocumentValidationServiceTest {
@@ -323,6 +329,144 @@ class RemoteDocumentValidationServiceTest {
 		assertEquals(SubIndication.NO_CERTIFICATE_CHAIN_FOUND, signatureEvidenceRecords.get(0).getSubIndication());
 	}
 
+	@Test
+	void testValidateDocuments() throws Exception {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		RemoteDocument detachedSignature = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
+		RemoteDocument originalFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/sample.png"));
+		RemoteDocument policy = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/constraint.xml"));
+
+		List<DataToValidateDTO> dtos = Arrays.asList(
+				new DataToValidateDTO(signedFile, (RemoteDocument) null, null),
+				new DataToValidateDTO(detachedSignature, originalFile, policy),
+				new DataToValidateDTO(detachedSignature, originalFile, null));
+
+		List<String> expectedSignatureIds = new ArrayList<>();
+		for (DataToValidateDTO dto : dtos) {
+			expectedSignatureIds.add(validationService.validateDocument(dto).getDiagnosticData().getSignatures().get(0).getId());
+		}
+
+		List<WSReportsDTO> sequentialResult = validationService.validateDocuments(dtos);
+		assertEquals(3, sequentialResult.size());
+
+		ExecutorService executorService = Executors.newFixedThreadPool(3);
+		try {
+			validationService.setExecutorService(executorService);
+
+			List<WSReportsDTO> result = validationService.validateDocuments(dtos);
+			assertEquals(3, result.size());
+			for (int i = 0; i < result.size(); i++) {
+				validateReports(result.get(i));
+				assertEquals(expectedSignatureIds.get(i), result.get(i).getDiagnosticData().getSignatures().get(0).getId());
+				assertEquals(expectedSignatureIds.get(i), sequentialResult.get(i).getDiagnosticData().getSignatures().get(0).getId());
+			}
+			assertEquals("QES AdESQC TL based", result.get(0).getSimpleReport().getValidationPolicy().getPolicyName());
+			assertEquals("QES AdESQC TL based (Test WebServices)", result.get(1).getSimpleReport().getValidationPolicy().getPolicyName());
+			assertEquals("QES AdESQC TL based", result.get(2).getSimpleReport().getValidationPolicy().getPolicyName());
+
+			List<Integer> completedIndexes = Collections.synchronizedList(new ArrayList<>());
+			validationService.validateDocuments(dtos, (index, reportsDTO) -> {
+				validateReports(reportsDTO);
+				completedIndexes.add(index);
+			});
+			assertEquals(3, completedIndexes.size());
+			assertTrue(completedIndexes.containsAll(Arrays.asList(0, 1, 2)));
+
+		} finally {
+			validationService.setExecutorService(null);
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	void testValidateDocumentsMaximumBatchSize() throws Exception {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		List<DataToValidateDTO> dtos = Arrays.asList(
+				new DataToValidateDTO(signedFile, (RemoteDocument) null, null),
+				new DataToValidateDTO(signedFile, (RemoteDocument) null, null));
+
+		validationService.setMaximumBatchSize(1);
+		Exception exception = assertThrows(DSSRemoteServiceException.class, () -> validationService.validateDocuments(dtos));
+		assertEquals("The number of documents to validate (2) exceeds the maximum batch size (1)!", exception.getMessage());
+		exception = assertThrows(DSSRemoteServiceException.class, () -> validationService.validateDocuments(dtos, (index, reportsDTO) -> {}));
+		assertEquals("The number of documents to validate (2) exceeds the maximum batch size (1)!", exception.getMessage());
+
+		validationService.setMaximumBatchSize(2);
+		assertEquals(2, validationService.validateDocuments(dtos).size());
+
+		assertThrows(IllegalArgumentException.class, () -> validationService.setMaximumBatchSize(0));
+	}
+
+	@Test
+	void testValidateDocumentsWithInvalidDocument() throws Exception {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		RemoteDocument invalidFile = new RemoteDocument("Hello world!".getBytes(), "invalid.txt");
+		List<DataToValidateDTO> dtos = Arrays.asList(
+				new DataToValidateDTO(signedFile, (RemoteDocument) null, null),
+				new DataToValidateDTO(invalidFile, (RemoteDocument) null, null),
+				new DataToValidateDTO(signedFile, (RemoteDocument) null, null));
+
+		List<WSReportsDTO> sequentialResult = validationService.validateDocuments(dtos);
+		assertEquals(3, sequentialResult.size());
+		validateReports(sequentialResult.get(0));
+		assertNull(sequentialResult.get(0).getErrorMessage());
+		assertNull(sequentialResult.get(1).getDiagnosticData());
+		assertNotNull(sequentialResult.get(1).getErrorMessage());
+		validateReports(sequentialResult.get(2));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(3);
+		try {
+			validationService.setExecutorService(executorService);
+
+			List<WSReportsDTO> result = validationService.validateDocuments(dtos);
+			assertEquals(3, result.size());
+			validateReports(result.get(0));
+			assertNull(result.get(1).getDiagnosticData());
+			assertEquals(sequentialResult.get(1).getErrorMessage(), result.get(1).getErrorMessage());
+			validateReports(result.get(2));
+
+			List<Integer> failedIndexes = Collections.synchronizedList(new ArrayList<>());
+			List<Integer> completedIndexes = Collections.synchronizedList(new ArrayList<>());
+			validationService.validateDocuments(dtos, (index, reportsDTO) -> {
+				if (reportsDTO.getErrorMessage() != null) {
+					failedIndexes.add(index);
+				} else {
+					validateReports(reportsDTO);
+				}
+				completedIndexes.add(index);
+			});
+			assertEquals(Collections.singletonList(1), failedIndexes);
+			assertEquals(3, completedIndexes.size());
+
+		} finally {
+			validationService.setExecutorService(null);
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	void testValidateDocumentsWithSharedExecutorService() throws Exception {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		List<DataToValidateDTO> dtos = Collections.singletonList(new DataToValidateDTO(signedFile, (RemoteDocument) null, null));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setExecutorService(executorService);
+			validationService.setVerifier(certificateVerifier);
+			assertThrows(IllegalArgumentException.class, () -> validationService.setExecutorService(executorService));
+
+			validationService.setVerifier(new CommonCertificateVerifier());
+			validationService.setExecutorService(executorService);
+			validationService.setVerifier(certificateVerifier);
+			assertThrows(IllegalArgumentException.class, () -> validationService.validateDocuments(dtos));
+
+		} finally {
+			validationService.setExecutorService(null);
+			executorService.shutdown();
+		}
+	}
+
 	private void validateReports(WSReportsDTO result) {
 		assertNotNull(result.getDiagnosticData());
 		assertNotNull(result.getDetailedReport());
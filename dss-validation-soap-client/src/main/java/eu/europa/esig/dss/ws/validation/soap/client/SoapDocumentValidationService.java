@@ -54,6 +54,22 @@ public interface SoapDocumentValidationService extends Serializable {
 	@WebResult(name = "WSReportsDTO")
 	WSReportsDTO validateSignature(@WebParam(name = "dataToValidateDTO") DataToValidateDTO dataToValidate);
 
+	/**
+	 * This method returns the results of the validation of a batch of signed
+	 * files. Each result contains a Diagnostic Data, simple report, detailed
+	 * report and ETSI validation report, or an error message when the file failed to
+	 * be validated. A batch exceeding the maximum batch size configured on the
+	 * server (5000 documents by default) is rejected
+	 * 
+	 * @param dataToValidateList
+	 *                       a list of {@code DataToValidateDTO}s, each containing
+	 *                       the signature, the optional original document(s) and
+	 *                       the optional validation policy
+	 * @return a List of {@code WSReportsDTO}, in the order of the requests
+	 */
+	@WebResult(name = "WSReportsDTOs")
+	List<WSReportsDTO> validateSignatures(@WebParam(name = "dataToValidateDTOs") List<DataToValidateDTO> dataToValidateList);
+
 	/**
 	 * This method returns the original document(s) for the given signed file and
 	 * optionally the signatureId.
@@ -0,0 +1,134 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.validation.soap;
+
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.spi.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
+import eu.europa.esig.dss.ws.validation.common.RemoteDocumentValidationService;
+import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
+import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SoapDocumentValidationServiceImplTest {
+
+	private RemoteDocumentValidationService validationService;
+
+	private SoapDocumentValidationServiceImpl soapValidationService;
+
+	@BeforeEach
+	void init() {
+		validationService = new RemoteDocumentValidationService();
+		validationService.setVerifier(new CommonCertificateVerifier());
+
+		soapValidationService = new SoapDocumentValidationServiceImpl();
+		soapValidationService.setValidationService(validationService);
+	}
+
+	@Test
+	void validateSignaturesTest() {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		DataToValidateDTO dto = new DataToValidateDTO(signedFile, (RemoteDocument) null, null);
+
+		WSReportsDTO singleResult = soapValidationService.validateSignature(dto);
+		validateReports(singleResult);
+
+		List<WSReportsDTO> result = soapValidationService.validateSignatures(Arrays.asList(dto, dto));
+		assertEquals(2, result.size());
+		for (WSReportsDTO reportsDTO : result) {
+			validateReports(reportsDTO);
+			assertEquals(singleResult.getDiagnosticData().getSignatures().get(0).getId(),
+					reportsDTO.getDiagnosticData().getSignatures().get(0).getId());
+		}
+	}
+
+	@Test
+	void validateSignaturesWithInvalidDocumentTest() {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		RemoteDocument invalidFile = new RemoteDocument("Hello world!".getBytes(), "invalid.txt");
+		List<DataToValidateDTO> dtos = Arrays.asList(
+				new DataToValidateDTO(signedFile, (RemoteDocument) null, null),
+				new DataToValidateDTO(invalidFile, (RemoteDocument) null, null),
+				new DataToValidateDTO(signedFile, (RemoteDocument) null, null));
+
+		List<WSReportsDTO> sequentialResult = soapValidationService.validateSignatures(dtos);
+		assertEquals(3, sequentialResult.size());
+		validateReports(sequentialResult.get(0));
+		assertNull(sequentialResult.get(1).getDiagnosticData());
+		assertNull(sequentialResult.get(1).getSimpleReport());
+		assertNotNull(sequentialResult.get(1).getErrorMessage());
+		validateReports(sequentialResult.get(2));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(3);
+		try {
+			validationService.setExecutorService(executorService);
+
+			List<WSReportsDTO> result = soapValidationService.validateSignatures(dtos);
+			assertEquals(3, result.size());
+			validateReports(result.get(0));
+			assertNull(result.get(1).getDiagnosticData());
+			assertEquals(sequentialResult.get(1).getErrorMessage(), result.get(1).getErrorMessage());
+			validateReports(result.get(2));
+
+		} finally {
+			validationService.setExecutorService(null);
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	void validateSignaturesMaximumBatchSizeTest() {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		List<DataToValidateDTO> dtos = Arrays.asList(
+				new DataToValidateDTO(signedFile, (RemoteDocument) null, null),
+				new DataToValidateDTO(signedFile, (RemoteDocument) null, null));
+
+		validationService.setMaximumBatchSize(1);
+		Exception exception = assertThrows(DSSRemoteServiceException.class, () -> soapValidationService.validateSignatures(dtos));
+		assertEquals("The number of documents to validate (2) exceeds the maximum batch size (1)!", exception.getMessage());
+	}
+
+	private void validateReports(WSReportsDTO result) {
+		assertNull(result.getErrorMessage());
+		assertNotNull(result.getDiagnosticData());
+		assertNotNull(result.getDetailedReport());
+		assertNotNull(result.getSimpleReport());
+		assertNotNull(result.getValidationReport());
+
+		assertEquals(1, result.getSimpleReport().getSignaturesCount());
+		assertEquals(Indication.INDETERMINATE, result.getSimpleReport().getSignatureOrTimestampOrEvidenceRecord().get(0).getIndication());
+	}
+
+}
@@ -27,7 +27,7 @@ import eu.europa.esig.dss.model.identifier.OriginalIdentifierProvider;
 import eu.europa.esig.dss.model.identifier.TokenIdentifierProvider;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.policy.ValidationPolicy;
-import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.policy.ValidationPolicyCache;
 import eu.europa.esig.dss.spi.exception.IllegalInputException;
 import eu.europa.esig.dss.spi.validation.CertificateVerifier;
 import eu.europa.esig.dss.spi.validation.CertificateVerifierBuilder;
@@ -181,7 +181,7 @@ public class CertificateValidator implements ProcessExecutorProvider<Certificate
 	public CertificateReports validate() {
 		ValidationPolicy defaultPolicy;
 		try {
-			defaultPolicy = ValidationPolicyFacade.newFacade().getCertificateValidationPolicy();
+			defaultPolicy = ValidationPolicyCache.getInstance().getCertificateValidationPolicy();
 		} catch (Exception e) {
 			throw new DSSException("Unable to load the default policy", e);
 		}
@@ -201,7 +201,7 @@ public class CertificateValidator implements ProcessExecutorProvider<Certificate
 				return validate();
 
 			} else {
-				ValidationPolicy validationPolicy = ValidationPolicyFacade.newFacade().getValidationPolicy(policyDataStream);
+				ValidationPolicy validationPolicy = ValidationPolicyCache.getInstance().getValidationPolicy(policyDataStream);
 				return validate(validationPolicy);
 			}
 
@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.validation;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 
 /**
  * This interface defines the factory to create a {@link DocumentValidator} for
@@ -38,6 +39,20 @@ public interface DocumentValidatorFactory {
 	 */
 	boolean isSupported(DSSDocument document);
 
+	/**
+	 * This method tests if the current implementation of {@link DocumentValidator}
+	 * supports the given document, using the {@code DocumentFormat} already detected for the document
+	 *
+	 * @param document
+	 *                 the document to be tested
+	 * @param format
+	 *                 {@link DocumentFormat} detected by {@code DocumentFormatDetector} for the document
+	 * @return true, if the {@link DocumentValidator} supports the given document
+	 */
+	default boolean isSupported(DSSDocument document, DocumentFormat format) {
+		return isSupported(document);
+	}
+
 	/**
 	 * This method instantiates a {@link DocumentValidator} with the given document
 	 * 
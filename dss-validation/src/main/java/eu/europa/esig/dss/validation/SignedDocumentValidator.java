@@ -31,9 +31,10 @@ import eu.europa.esig.dss.model.ManifestFile;
 import eu.europa.esig.dss.model.identifier.TokenIdentifierProvider;
 import eu.europa.esig.dss.policy.EtsiValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicy;
-import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.policy.ValidationPolicyCache;
 import eu.europa.esig.dss.policy.jaxb.ConstraintsParameters;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.ServiceLoaderUtils;
 import eu.europa.esig.dss.spi.exception.IllegalInputException;
 import eu.europa.esig.dss.spi.policy.SignaturePolicyProvider;
 import eu.europa.esig.dss.spi.policy.SignaturePolicyValidatorLoader;
@@ -43,6 +44,8 @@ import eu.europa.esig.dss.spi.validation.ValidationContext;
 import eu.europa.esig.dss.spi.validation.ValidationDataContainer;
 import eu.europa.esig.dss.spi.validation.analyzer.DefaultDocumentAnalyzer;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzer;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormatDetector;
 import eu.europa.esig.dss.spi.validation.executor.SkipValidationContextExecutor;
 import eu.europa.esig.dss.spi.validation.executor.ValidationContextExecutor;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
@@ -66,7 +69,6 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.ServiceLoader;
 
 /**
  * Validates a signed document. The content of the document is determined
@@ -148,9 +150,9 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 	 */
 	public static SignedDocumentValidator fromDocument(final DSSDocument dssDocument) {
 		Objects.requireNonNull(dssDocument, "DSSDocument is null");
-		ServiceLoader<DocumentValidatorFactory> serviceLoaders = ServiceLoader.load(DocumentValidatorFactory.class);
-		for (DocumentValidatorFactory factory : serviceLoaders) {
-			if (factory.isSupported(dssDocument)) {
+		final DocumentFormat format = DocumentFormatDetector.detect(dssDocument);
+		for (DocumentValidatorFactory factory : ServiceLoaderUtils.getServices(DocumentValidatorFactory.class)) {
+			if (factory.isSupported(dssDocument, format)) {
 				return factory.create(dssDocument);
 			}
 		}
@@ -167,6 +169,18 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 		return documentAnalyzer.isSupported(dssDocument);
 	}
 
+	/**
+	 * Checks if the document is supported by the current validator, using the {@code DocumentFormat}
+	 * already detected for the document
+	 *
+	 * @param dssDocument {@link DSSDocument} to check
+	 * @param format {@link DocumentFormat} detected by {@code DocumentFormatDetector} for the document
+	 * @return TRUE if the document is supported, FALSE otherwise
+	 */
+	public boolean isSupported(DSSDocument dssDocument, DocumentFormat format) {
+		return documentAnalyzer.isSupported(dssDocument, format);
+	}
+
 	/**
 	 * Returns the current instance of {@code DocumentAnalyzer}
 	 *
@@ -381,9 +395,9 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 		try {
 			if (policyDataStream == null) {
 				LOG.debug("No provided validation policy : use the default policy");
-				validationPolicy = ValidationPolicyFacade.newFacade().getDefaultValidationPolicy();
+				validationPolicy = ValidationPolicyCache.getInstance().getDefaultValidationPolicy();
 			} else {
-				validationPolicy = ValidationPolicyFacade.newFacade().getValidationPolicy(policyDataStream);
+				validationPolicy = ValidationPolicyCache.getInstance().getValidationPolicy(policyDataStream);
 			}
 		} catch (Exception e) {
 			throw new IllegalInputException("Unable to load the policy", e);
@@ -24,10 +24,11 @@ import eu.europa.esig.dss.enumerations.TimestampType;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.scope.SignatureScope;
-import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.validation.analyzer.DefaultDocumentAnalyzer;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormatDetector;
 import eu.europa.esig.dss.spi.validation.analyzer.timestamp.TimestampAnalyzer;
 import eu.europa.esig.dss.spi.validation.scope.DetachedTimestampScopeFinder;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
@@ -82,8 +83,12 @@ public class DetachedTimestampAnalyzer extends DefaultDocumentAnalyzer implement
 
     @Override
     public boolean isSupported(DSSDocument dssDocument) {
-        byte firstByte = DSSUtils.readFirstByte(dssDocument);
-        if (DSSASN1Utils.isASN1SequenceTag(firstByte)) {
+        return isSupported(dssDocument, DocumentFormatDetector.detect(dssDocument));
+    }
+
+    @Override
+    public boolean isSupported(DSSDocument dssDocument, DocumentFormat format) {
+        if (DocumentFormat.TIMESTAMP == format || DocumentFormat.ASN1 == format) {
             return DSSUtils.isTimestampToken(dssDocument);
         }
         return false;
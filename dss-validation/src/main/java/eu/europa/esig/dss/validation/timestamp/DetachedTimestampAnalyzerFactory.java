@@ -23,6 +23,7 @@ package eu.europa.esig.dss.validation.timestamp;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzer;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzerFactory;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 
 /**
  * This class analyzes conformance of a document to a timestamp format and creates
@@ -44,6 +45,12 @@ public class DetachedTimestampAnalyzerFactory implements DocumentAnalyzerFactory
         return reader.isSupported(document);
     }
 
+    @Override
+    public boolean isSupported(DSSDocument document, DocumentFormat format) {
+        DetachedTimestampAnalyzer reader = new DetachedTimestampAnalyzer();
+        return reader.isSupported(document, format);
+    }
+
     @Override
     public DocumentAnalyzer create(DSSDocument document) {
         return new DetachedTimestampAnalyzer(document);
@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.validation.timestamp;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.validation.DocumentValidatorFactory;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 
@@ -43,6 +44,12 @@ public class DetachedTimestampValidatorFactory implements DocumentValidatorFacto
         return validator.isSupported(document);
     }
 
+    @Override
+    public boolean isSupported(DSSDocument document, DocumentFormat format) {
+        DetachedTimestampValidator validator = new DetachedTimestampValidator();
+        return validator.isSupported(document, format);
+    }
+
     @Override
     public SignedDocumentValidator create(DSSDocument document) {
         return new DetachedTimestampValidator(document);
@@ -25,6 +25,8 @@ import eu.europa.esig.dss.spi.exception.IllegalInputException;
 import eu.europa.esig.dss.spi.policy.DefaultSignaturePolicyValidatorLoader;
 import eu.europa.esig.dss.spi.policy.SignaturePolicyValidatorLoader;
 import eu.europa.esig.dss.spi.validation.analyzer.DefaultDocumentAnalyzer;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormatDetector;
 import eu.europa.esig.dss.spi.validation.analyzer.evidencerecord.EvidenceRecordAnalyzerFactory;
 import eu.europa.esig.dss.spi.signature.AdvancedSignature;
 import eu.europa.esig.dss.xades.DSSXMLUtils;
@@ -102,7 +104,21 @@ public class XMLDocumentAnalyzer extends DefaultDocumentAnalyzer {
 
 	@Override
 	public boolean isSupported(DSSDocument dssDocument) {
-		return DomUtils.startsWithXmlPreamble(dssDocument) && !EvidenceRecordAnalyzerFactory.isSupportedDocument(dssDocument);
+		return isSupported(dssDocument, DocumentFormatDetector.detect(dssDocument));
+	}
+
+	@Override
+	public boolean isSupported(DSSDocument dssDocument, DocumentFormat format) {
+		switch (format) {
+			case XML:
+				return true;
+			case XML_EVIDENCE_RECORD:
+				return !EvidenceRecordAnalyzerFactory.isSupportedDocument(dssDocument, format);
+			case UNKNOWN:
+				return DomUtils.startsWithXmlPreamble(dssDocument) && !EvidenceRecordAnalyzerFactory.isSupportedDocument(dssDocument, format);
+			default:
+				return false;
+		}
 	}
 
 	/**
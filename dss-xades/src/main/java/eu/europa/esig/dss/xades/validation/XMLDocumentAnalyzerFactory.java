@@ -23,6 +23,7 @@ package eu.europa.esig.dss.xades.validation;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzer;
 import eu.europa.esig.dss.spi.validation.analyzer.DocumentAnalyzerFactory;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 
 /**
  * Loads the relevant class for an XML document validation
@@ -43,6 +44,12 @@ public class XMLDocumentAnalyzerFactory implements DocumentAnalyzerFactory {
 		return validator.isSupported(document);
 	}
 
+	@Override
+	public boolean isSupported(DSSDocument document, DocumentFormat format) {
+		XMLDocumentAnalyzer validator = new XMLDocumentAnalyzer();
+		return validator.isSupported(document, format);
+	}
+
 	@Override
 	public DocumentAnalyzer create(DSSDocument document) {
 		return new XMLDocumentAnalyzer(document);
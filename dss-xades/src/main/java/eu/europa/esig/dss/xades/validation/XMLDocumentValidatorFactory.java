@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.xades.validation;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.validation.analyzer.DocumentFormat;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 import eu.europa.esig.dss.validation.DocumentValidatorFactory;
 
@@ -42,6 +43,12 @@ public class XMLDocumentValidatorFactory implements DocumentValidatorFactory {
 		return validator.isSupported(document);
 	}
 
+	@Override
+	public boolean isSupported(DSSDocument document, DocumentFormat format) {
+		XMLDocumentValidator validator = new XMLDocumentValidator();
+		return validator.isSupported(document, format);
+	}
+
 	@Override
 	public SignedDocumentValidator create(DSSDocument document) {
 		return new XMLDocumentValidator(document);
@@ -41,6 +41,7 @@ import org.xml.sax.SAXException;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.OutputKeys;
@@ -72,6 +73,7 @@ import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The utils for dealing with {@code org.w3c.dom} objects
@@ -121,6 +123,12 @@ public final class DomUtils {
 		namespacePrefixMapper = new NamespaceContextMap();
 	}
 
+	/** Incremented on each namespace registration, invalidating the previously compiled XPath expressions */
+	private static final AtomicInteger namespaceVersion = new AtomicInteger();
+
+	/** Bounded cache of the compiled XPath expressions, shared between the threads */
+	private static final XPathExpressionCache xPathExpressionCache = new XPathExpressionCache();
+
 	/**
 	 * This method allows to register a namespace and associated prefix. If the prefix exists already it is replaced.
 	 *
@@ -137,7 +145,9 @@ public final class DomUtils {
 		if (XMLNS.equals(prefix)) {
 			throw new UnsupportedOperationException(String.format("The default namespace '%s' cannot be registered!", XMLNS));
 		}
-		return namespacePrefixMapper.registerNamespace(prefix, uri);
+		final boolean added = namespacePrefixMapper.registerNamespace(prefix, uri);
+		namespaceVersion.incrementAndGet();
+		return added;
 	}
 
 	/**
@@ -386,6 +396,40 @@ public final class DomUtils {
 		}
 	}
 
+	/**
+	 * Evaluates the XPath query against the given node, reusing a previously compiled expression when available.
+	 * The cached expression is used exclusively by the current thread during the evaluation.
+	 *
+	 * @param xmlNode
+	 *                    The node where the search should be performed.
+	 * @param xpathString
+	 *                    XPath query string
+	 * @param returnType
+	 *                    {@link QName} the expected result type (see {@code XPathConstants})
+	 * @return the result of the evaluation
+	 * @throws XPathExpressionException if the expression cannot be evaluated
+	 */
+	private static Object evaluate(final Node xmlNode, final String xpathString, final QName returnType)
+			throws XPathExpressionException {
+		final int currentNamespaceVersion = namespaceVersion.get();
+		XPathExpression xPathExpression = xPathExpressionCache.poll(xpathString, currentNamespaceVersion);
+		if (xPathExpression == null) {
+			xPathExpression = createXPathExpression(xpathString);
+		}
+		try {
+			return xPathExpression.evaluate(xmlNode, returnType);
+		} finally {
+			xPathExpressionCache.offer(xpathString, xPathExpression, currentNamespaceVersion);
+		}
+	}
+
+	/**
+	 * Removes all the compiled XPath expressions cached by the {@code DomUtils}
+	 */
+	public static void clearXPathExpressionCache() {
+		xPathExpressionCache.clear();
+	}
+
 	/**
 	 * Returns the String value of the corresponding to the XPath query.
 	 *
@@ -397,8 +441,7 @@ public final class DomUtils {
 	 */
 	public static String getValue(final Node xmlNode, final String xPathString) {
 		try {
-			final XPathExpression xPathExpression = createXPathExpression(xPathString);
-			final String string = (String) xPathExpression.evaluate(xmlNode, XPathConstants.STRING);
+			final String string = (String) evaluate(xmlNode, xPathString, XPathConstants.STRING);
 			return Utils.trim(string);
 		} catch (XPathExpressionException e) {
 			throw new DSSException(String.format("Unable to extract value of the node. Reason : %s", e.getMessage()), e);
@@ -415,15 +458,93 @@ public final class DomUtils {
 	 * @return the NodeList corresponding to the XPath query
 	 */
 	public static NodeList getNodeList(final Node xmlNode, final String xPathString) {
+		final List<Node> childElements = getChildElementsByPath(xmlNode, xPathString);
+		if (childElements != null) {
+			return new NodeListImpl(childElements);
+		}
 		try {
-			final XPathExpression expr = createXPathExpression(xPathString);
-			return (NodeList) expr.evaluate(xmlNode, XPathConstants.NODESET);
+			return (NodeList) evaluate(xmlNode, xPathString, XPathConstants.NODESET);
 		} catch (XPathExpressionException e) {
 			throw new DSSException(String.format("Unable to find a NodeList by the given xPathString '%s'. Reason : %s",
 					xPathString, e.getMessage()), e);
 		}
 	}
 
+	/**
+	 * Evaluates a relative child-axis path composed only of prefixed element names
+	 * (e.g. "./ds:SignedInfo/ds:Reference") by a direct traversal of the DOM tree.
+	 * Returns null when the path has another form or cannot be resolved that way,
+	 * in which case the XPath engine shall be used.
+	 *
+	 * @param xmlNode
+	 *                    The node where the search should be performed.
+	 * @param xPathString
+	 *                    XPath query string
+	 * @return a list of matching elements in document order, or null if the path is not supported
+	 */
+	private static List<Node> getChildElementsByPath(final Node xmlNode, final String xPathString) {
+		if (xmlNode == null || xPathString == null || !xPathString.startsWith("./") || xPathString.length() < 3) {
+			return null;
+		}
+		final String[] steps = xPathString.substring(2).split("/", -1);
+		final String[] namespaceURIs = new String[steps.length];
+		final String[] localNames = new String[steps.length];
+		for (int i = 0; i < steps.length; i++) {
+			final String step = steps[i];
+			final int colonIndex = step.indexOf(':');
+			if (colonIndex < 1 || !isNCName(step, 0, colonIndex) || !isNCName(step, colonIndex + 1, step.length())) {
+				return null;
+			}
+			final String namespaceURI = namespacePrefixMapper.getNamespaceURI(step.substring(0, colonIndex));
+			if (Utils.isStringEmpty(namespaceURI)) {
+				return null;
+			}
+			namespaceURIs[i] = namespaceURI;
+			localNames[i] = step.substring(colonIndex + 1);
+		}
+
+		List<Node> currentNodes = new ArrayList<>();
+		currentNodes.add(xmlNode);
+		for (int i = 0; i < steps.length; i++) {
+			final List<Node> nextNodes = new ArrayList<>();
+			for (Node currentNode : currentNodes) {
+				Node child = currentNode.getFirstChild();
+				while (child != null) {
+					if (Node.ELEMENT_NODE == child.getNodeType()) {
+						final String localName = child.getLocalName();
+						if (localName == null) {
+							// not a namespace-aware DOM, let the XPath engine decide
+							return null;
+						}
+						if (localNames[i].equals(localName) && namespaceURIs[i].equals(child.getNamespaceURI())) {
+							nextNodes.add(child);
+						}
+					}
+					child = child.getNextSibling();
+				}
+			}
+			if (nextNodes.isEmpty()) {
+				return nextNodes;
+			}
+			currentNodes = nextNodes;
+		}
+		return currentNodes;
+	}
+
+	private static boolean isNCName(final String str, final int beginIndex, final int endIndex) {
+		if (beginIndex >= endIndex) {
+			return false;
+		}
+		for (int i = beginIndex; i < endIndex; i++) {
+			final char c = str.charAt(i);
+			final boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+			if (!letter && (i == beginIndex || !((c >= '0' && c <= '9') || c == '-' || c == '.'))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Returns the Node corresponding to the XPath query.
 	 *
@@ -0,0 +1,59 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xml.utils;
+
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.util.List;
+
+/**
+ * A simple non-live {@code NodeList} backed by a list of nodes
+ *
+ */
+final class NodeListImpl implements NodeList {
+
+	/** The nodes */
+	private final List<Node> nodes;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param nodes a list of {@link Node}s
+	 */
+	NodeListImpl(final List<Node> nodes) {
+		this.nodes = nodes;
+	}
+
+	@Override
+	public Node item(int index) {
+		if (index < 0 || index >= nodes.size()) {
+			return null;
+		}
+		return nodes.get(index);
+	}
+
+	@Override
+	public int getLength() {
+		return nodes.size();
+	}
+
+}
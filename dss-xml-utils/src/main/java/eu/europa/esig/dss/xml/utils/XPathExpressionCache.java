@@ -0,0 +1,130 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xml.utils;
+
+import javax.xml.xpath.XPathExpression;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps a bounded number of compiled {@code XPathExpression}s shared between the threads,
+ * evicting the least recently released ones.
+ * <p>
+ * NOTE: {@code XPathExpression} instances are not thread-safe, therefore a cached expression is handed out
+ * to a single thread at a time : it is removed from the cache with {@code #poll} and returned
+ * with {@code #offer} once evaluated. A thread not finding the expression (e.g. being used by another thread)
+ * compiles its own one. No state is kept per thread.
+ *
+ */
+final class XPathExpressionCache {
+
+	/** The maximum number of compiled expressions kept by a cache */
+	static final int DEFAULT_MAX_SIZE = 256;
+
+	/** The compiled expressions, in access order */
+	private final Map<String, XPathExpression> expressions;
+
+	/** The version of the namespace registry the cached expressions have been compiled against */
+	private int namespaceVersion;
+
+	/**
+	 * Default constructor instantiating a cache with the {@code DEFAULT_MAX_SIZE}
+	 */
+	XPathExpressionCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor instantiating a cache keeping up to {@code maxSize} compiled expressions
+	 *
+	 * @param maxSize the maximum number of cached expressions
+	 */
+	XPathExpressionCache(final int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size of the cache cannot be negative!");
+		}
+		this.expressions = new LinkedHashMap<String, XPathExpression>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = -2465346396154716372L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+				return size() > maxSize;
+			}
+
+		};
+	}
+
+	/**
+	 * Removes and returns a compiled expression for the given {@code xpathString}, when present.
+	 * The expression shall be returned with {@code #offer} after its use.
+	 * All entries are dropped when the namespace registry has changed since they have been compiled,
+	 * as the prefixes are resolved on compilation.
+	 *
+	 * @param xpathString {@link String} XPath query
+	 * @param currentNamespaceVersion the current version of the namespace registry
+	 * @return {@link XPathExpression} if cached, null otherwise
+	 */
+	synchronized XPathExpression poll(final String xpathString, final int currentNamespaceVersion) {
+		if (namespaceVersion != currentNamespaceVersion) {
+			expressions.clear();
+			namespaceVersion = currentNamespaceVersion;
+			return null;
+		}
+		return expressions.remove(xpathString);
+	}
+
+	/**
+	 * Stores the compiled expression, not used anymore by the current thread.
+	 * The expression is dropped when compiled against an outdated namespace registry.
+	 *
+	 * @param xpathString {@link String} XPath query
+	 * @param xPathExpression {@link XPathExpression} compiled from the {@code xpathString}
+	 * @param compiledNamespaceVersion the version of the namespace registry the expression has been compiled against
+	 */
+	synchronized void offer(final String xpathString, final XPathExpression xPathExpression, final int compiledNamespaceVersion) {
+		if (namespaceVersion != compiledNamespaceVersion) {
+			if (compiledNamespaceVersion < namespaceVersion) {
+				return;
+			}
+			expressions.clear();
+			namespaceVersion = compiledNamespaceVersion;
+		}
+		expressions.put(xpathString, xPathExpression);
+	}
+
+	/**
+	 * Returns the number of cached expressions
+	 *
+	 * @return number of cached expressions
+	 */
+	synchronized int size() {
+		return expressions.size();
+	}
+
+	/**
+	 * Removes all cached expressions
+	 */
+	synchronized void clear() {
+		expressions.clear();
+	}
+
+}
@@ -29,10 +29,16 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
+import javax.xml.xpath.XPathExpression;
 import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -200,4 +206,110 @@ class DomUtilsTest {
 				DomUtils.buildDOM("<el ids=\"signedData\">Text</el>"), "signedData"));
 	}
 	
+	@Test
+	void childPathTest() {
+		DomUtils.registerNamespace(new DSSNamespace("urn:child:path:a", "cpa"));
+		DomUtils.registerNamespace(new DSSNamespace("urn:child:path:b", "cpb"));
+
+		Document document = DomUtils.buildDOM("<a:root xmlns:a=\"urn:child:path:a\" xmlns:b=\"urn:child:path:b\">" +
+				"<a:item><b:value>1</b:value><a:value>x</a:value><b:value>2</b:value></a:item>" +
+				"<b:item><b:value>y</b:value></b:item>" +
+				"<a:item>text<!-- comment --><b:value>3</b:value></a:item>" +
+				"</a:root>");
+		Element root = document.getDocumentElement();
+
+		NodeList values = DomUtils.getNodeList(root, "./cpa:item/cpb:value");
+		assertEquals(3, values.getLength());
+		assertEquals("1", values.item(0).getTextContent());
+		assertEquals("2", values.item(1).getTextContent());
+		assertEquals("3", values.item(2).getTextContent());
+		assertNull(values.item(3));
+		assertNull(values.item(-1));
+
+		// same result as the XPath engine
+		assertEquals(DomUtils.getNodesAmount(root, "./cpa:item[1]/cpb:value | ./cpa:item[2]/cpb:value"),
+				DomUtils.getNodesAmount(root, "./cpa:item/cpb:value"));
+		assertEquals(0, DomUtils.getNodesAmount(root, "./cpa:item/cpa:missing"));
+		assertEquals(1, DomUtils.getNodesAmount(document, "./cpa:root"));
+		assertEquals(root, DomUtils.getElement(document, "./cpa:root"));
+		assertEquals("y", DomUtils.getValue(root, "./cpb:item/cpb:value"));
+
+		Exception exception = assertThrows(DSSException.class, () -> DomUtils.getNodeList(root, "./unknown:item"));
+		assertTrue(exception.getMessage().contains("Unable to create an XPath expression"));
+	}
+
+	@Test
+	void compiledExpressionReuseTest() {
+		DomUtils.registerNamespace(new DSSNamespace("urn:reuse:first", "reuse"));
+
+		Document document = DomUtils.buildDOM("<root xmlns:f=\"urn:reuse:first\" xmlns:s=\"urn:reuse:second\">" +
+				"<f:el Id=\"first\"/><s:el Id=\"second\"/></root>");
+		Element root = document.getDocumentElement();
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals("first", DomUtils.getValue(root, "./reuse:el/@Id"));
+		}
+
+		// prefixes are resolved on compilation, the previously compiled expression shall not be reused
+		DomUtils.registerNamespace(new DSSNamespace("urn:reuse:second", "reuse"));
+		assertEquals("second", DomUtils.getValue(root, "./reuse:el/@Id"));
+
+		DomUtils.registerNamespace(new DSSNamespace("urn:reuse:first", "reuse"));
+		assertEquals("first", DomUtils.getValue(root, "./reuse:el/@Id"));
+	}
+
+	@Test
+	void xPathExpressionCacheTest() {
+		XPathExpressionCache cache = new XPathExpressionCache(2);
+		assertNull(cache.poll("./a", 0));
+
+		cache.offer("./a", DomUtils.createXPathExpression("./a"), 0);
+		cache.offer("./b", DomUtils.createXPathExpression("./b"), 0);
+		XPathExpression expressionA = cache.poll("./a", 0);
+		assertNotNull(expressionA);
+		// in use, not shared with another thread
+		assertNull(cache.poll("./a", 0));
+		cache.offer("./a", expressionA, 0);
+
+		cache.offer("./c", DomUtils.createXPathExpression("./c"), 0);
+		assertEquals(2, cache.size());
+		assertNull(cache.poll("./b", 0));
+		assertNotNull(cache.poll("./c", 0));
+		assertEquals(1, cache.size());
+
+		// compiled against an outdated namespace registry
+		assertNull(cache.poll("./a", 1));
+		assertEquals(0, cache.size());
+		cache.offer("./a", expressionA, 0);
+		assertEquals(0, cache.size());
+
+		cache.offer("./a", expressionA, 1);
+		assertEquals(1, cache.size());
+		cache.clear();
+		assertEquals(0, cache.size());
+
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> new XPathExpressionCache(-1));
+		assertEquals("The maximum size of the cache cannot be negative!", exception.getMessage());
+	}
+
+	@Test
+	void concurrentXPathEvaluationTest() throws Exception {
+		Document document = DomUtils.buildDOM("<root><a>1</a><a>2</a><b>text</b></root>");
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				futures.add(executorService.submit(() -> DomUtils.getNodeList(document, "//a").getLength() == 2
+						&& "text".equals(DomUtils.getValue(document, "//b"))));
+			}
+			for (Future<Boolean> future : futures) {
+				assertTrue(future.get());
+			}
+		} finally {
+			executorService.shutdown();
+		}
+		DomUtils.clearXPathExpressionCache();
+		assertEquals("text", DomUtils.getValue(document, "//b"));
+	}
+
 }